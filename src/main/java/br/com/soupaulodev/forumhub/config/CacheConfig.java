@@ -0,0 +1,133 @@
+package br.com.soupaulodev.forumhub.config;
+
+import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+import br.com.soupaulodev.forumhub.modules.pagination.ListHeadCache;
+import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicDetailsResponseDTO;
+import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
+import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
+import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache Configuration Class.
+ * <p>
+ * The details of forums, topics and users are served from {@link TwoLevelCache}s: a Caffeine cache on each node in
+ * front of a Redis cache shared by every node. Their entries are evicted when the cached item is updated, deleted or
+ * its highs count is flushed, and the details of a topic also when one of its comments changes. The counts of other
+ * items shown in the details, like the topics of a forum, are refreshed when the entry expires.
+ * </p>
+ * <p>
+ * The caching advice runs outside of the transaction of the use cases, so a cache hit does not begin one.
+ * </p>
+ * <p>
+ * The first pages of the forums and of the topics, read by almost every visitor, are cut from a
+ * {@link ListHeadCache} of the newest items of each list, kept on each node.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    /**
+     * Name of the cache of the forums, by ID.
+     */
+    public static final String FORUMS = "forums";
+
+    /**
+     * Name of the cache of the topic details, by topic ID.
+     */
+    public static final String TOPIC_DETAILS = "topic-details";
+
+    /**
+     * Name of the cache of the users, by ID.
+     */
+    public static final String USERS = "users";
+
+    private static final Map<String, Class<?>> VALUE_TYPES = Map.of(
+            FORUMS, ForumResponseDTO.class,
+            TOPIC_DETAILS, TopicDetailsResponseDTO.class,
+            USERS, UserResponseDTO.class);
+
+    /**
+     * Creates the cache manager of the application.
+     *
+     * @param redisTemplate     the template used by the Redis tier
+     * @param listenerContainer the container delivering the evictions of the other nodes
+     * @param objectMapper      the mapper used to store the values in Redis
+     * @param localMaximumSize  the number of entries each cache keeps in the memory of the node
+     * @param localTimeToLive   how long an entry is kept in the memory of the node
+     * @param sharedTimeToLive  how long an entry is kept in Redis
+     * @return the cache manager
+     */
+    @Bean
+    public TwoLevelCacheManager cacheManager(StringRedisTemplate redisTemplate,
+                                             RedisMessageListenerContainer listenerContainer,
+                                             ObjectMapper objectMapper,
+                                             @Value("${cache.local.maximum-size}") long localMaximumSize,
+                                             @Value("${cache.local.time-to-live}") Duration localTimeToLive,
+                                             @Value("${cache.shared.time-to-live}") Duration sharedTimeToLive) {
+        List<TwoLevelCache> caches = VALUE_TYPES.entrySet().stream()
+                .map(cache -> new TwoLevelCache(cache.getKey(), cache.getValue(),
+                        Caffeine.newBuilder()
+                                .maximumSize(localMaximumSize)
+                                .expireAfterWrite(localTimeToLive)
+                                .build(),
+                        redisTemplate, objectMapper, sharedTimeToLive))
+                .toList();
+        return new TwoLevelCacheManager(caches, listenerContainer);
+    }
+
+    /**
+     * Creates the cache of the newest forums.
+     *
+     * @param forumRepository the repository loading the newest forums
+     * @param maxItems        the number of forums kept
+     * @param refreshAfter    the age from which the forums are reloaded in the background
+     * @param timeToLive      how long the forums are kept at most
+     * @return the cache of the newest forums
+     */
+    @Bean
+    public ListHeadCache<ForumResponseDTO> forumsHeadCache(ForumRepository forumRepository,
+                                                           @Value("${cache.list-head.max-items}") int maxItems,
+                                                           @Value("${cache.list-head.refresh-after}") Duration refreshAfter,
+                                                           @Value("${cache.list-head.time-to-live}") Duration timeToLive) {
+        return new ListHeadCache<>(forumRepository::findFirstPage,
+                forum -> new Cursor(forum.createdAt(), forum.id()),
+                maxItems, refreshAfter, timeToLive);
+    }
+
+    /**
+     * Creates the cache of the newest topics.
+     *
+     * @param topicRepository the repository loading the newest topics
+     * @param maxItems        the number of topics kept
+     * @param refreshAfter    the age from which the topics are reloaded in the background
+     * @param timeToLive      how long the topics are kept at most
+     * @return the cache of the newest topics
+     */
+    @Bean
+    public ListHeadCache<TopicResponseDTO> topicsHeadCache(TopicRepository topicRepository,
+                                                           @Value("${cache.list-head.max-items}") int maxItems,
+                                                           @Value("${cache.list-head.refresh-after}") Duration refreshAfter,
+                                                           @Value("${cache.list-head.time-to-live}") Duration timeToLive) {
+        return new ListHeadCache<>(topicRepository::findFirstPage,
+                topic -> new Cursor(topic.createdAt(), topic.id()),
+                maxItems, refreshAfter, timeToLive);
+    }
+}
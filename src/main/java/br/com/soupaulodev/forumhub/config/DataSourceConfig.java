@@ -0,0 +1,94 @@
+package br.com.soupaulodev.forumhub.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Source Configuration Class.
+ * <p>
+ * Writes and read-write transactions use the primary database configured in {@code spring.datasource}. The
+ * connections of read-only transactions are taken from the {@link ReplicaRoutingDataSource}, which spreads them over
+ * the replicas listed in {@code datasource.replicas.urls}.
+ * </p>
+ * <p>
+ * The application data source is a {@link LazyConnectionDataSourceProxy}: the connection of a transaction is only
+ * fetched on its first statement, once the transaction has marked it read-only or not, so the proxy knows which of
+ * the two data sources to take it from.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * Creates the connection pool of the primary database.
+     *
+     * @param properties the {@code spring.datasource} properties
+     * @return the pool of the primary database
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Creates one read-only connection pool per replica, with the driver, the size and the connection timeout of
+     * the primary database pool.
+     *
+     * @param primaryDataSource the pool of the primary database
+     * @param properties        the {@code spring.datasource} properties
+     * @param urls              the JDBC URLs of the replicas
+     * @param username          the username of the replicas
+     * @param password          the password of the replicas
+     * @return the data source routing the read-only connections
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             @Value("${datasource.replicas.urls}") List<String> urls,
+                                                             @Value("${datasource.replicas.username}") String username,
+                                                             @Value("${datasource.replicas.password}") String password) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setJdbcUrl(url.strip());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setReadOnly(true);
+            replica.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+            replica.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    /**
+     * Creates the data source used by the application.
+     *
+     * @param primaryDataSource        the pool of the primary database
+     * @param replicaRoutingDataSource the data source of the read-only connections
+     * @return the data source choosing between the two
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+}
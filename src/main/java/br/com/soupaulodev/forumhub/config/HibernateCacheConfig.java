@@ -0,0 +1,115 @@
+package br.com.soupaulodev.forumhub.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate Second-Level Cache Configuration Class.
+ * <p>
+ * The users, the forums, the forums owned by each user and the users found by username are kept in the
+ * second-level cache of Hibernate, in Caffeine caches reached through JCache. Each region is created here with the
+ * maximum size and time to live set under {@code entity-cache.regions}, and Hibernate is told to fail rather than
+ * create a region that is not configured.
+ * </p>
+ * <p>
+ * The cache only sees the writes made through Hibernate. The highs counts, written with plain JDBC by the
+ * {@link br.com.soupaulodev.forumhub.modules.highs.HighsCounterBuffer}, are evicted by the
+ * {@link br.com.soupaulodev.forumhub.modules.highs.HighsCacheEvictor} once flushed.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Configuration
+@EnableConfigurationProperties(HibernateCacheConfig.EntityCacheProperties.class)
+public class HibernateCacheConfig {
+
+    /**
+     * Region of the users, by ID.
+     */
+    public static final String USERS_REGION = "users";
+
+    /**
+     * Region of the forums, by ID.
+     */
+    public static final String FORUMS_REGION = "forums";
+
+    /**
+     * Region of the forums owned by each user.
+     */
+    public static final String OWNED_FORUMS_REGION = "owned-forums";
+
+    /**
+     * Region of the results of the queries finding a user by username.
+     */
+    public static final String USERS_BY_USERNAME_REGION = "users-by-username";
+
+    /**
+     * Creates the JCache cache manager holding the regions of the second-level cache.
+     * Each application context gets a manager of its own, closed with the context.
+     *
+     * @param properties the maximum size and time to live of each region
+     * @return the cache manager
+     */
+    @Bean
+    public CacheManager entityCacheManager(EntityCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("entity-cache:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        properties.regions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.timeToLive().toNanos()));
+            cacheManager.createCache(name, configuration);
+        });
+
+        // Hibernate compares the results of cached queries with the last update of their tables, which must
+        // therefore never be evicted. There is one entry per table.
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    /**
+     * Hands the cache manager of the regions to Hibernate.
+     *
+     * @param entityCacheManager the cache manager holding the regions
+     * @return the customizer of the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+
+    /**
+     * Settings of the regions of the second-level cache.
+     *
+     * @param regions the settings of each region, by name
+     */
+    @ConfigurationProperties("entity-cache")
+    public record EntityCacheProperties(Map<String, Region> regions) {
+
+        /**
+         * Settings of a region of the second-level cache.
+         *
+         * @param maximumSize the maximum number of entries of the region
+         * @param timeToLive  how long an entry is kept after it was written
+         */
+        public record Region(long maximumSize, Duration timeToLive) {
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.soupaulodev.forumhub.config;
+
+import java.util.UUID;
+
+/**
+ * Strategies generating the IDs of new forums, topics, comments and users.
+ * <p>
+ * The entities assign their ID in their constructor, so the strategy is kept statically and chosen once at startup
+ * by the {@link IdStrategyConfig}. {@link #TIME_ORDERED} is the default: consecutive IDs land next to each other in
+ * the primary key index, instead of on a random page of it as with {@link #RANDOM}.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public enum IdStrategy {
+
+    /**
+     * Random version 4 UUIDs.
+     */
+    RANDOM {
+        @Override
+        public UUID generate() {
+            return UUID.randomUUID();
+        }
+    },
+
+    /**
+     * Version 7 UUIDs, ordered by their creation millisecond.
+     */
+    TIME_ORDERED {
+        @Override
+        public UUID generate() {
+            return UlidGenerator.generateUuid();
+        }
+    };
+
+    private static volatile IdStrategy current = TIME_ORDERED;
+
+    /**
+     * Generates a new ID with this strategy.
+     *
+     * @return the new ID
+     */
+    public abstract UUID generate();
+
+    /**
+     * Generates a new entity ID with the strategy in use.
+     *
+     * @return the new ID
+     */
+    public static UUID nextId() {
+        return current.generate();
+    }
+
+    /**
+     * Changes the strategy used for the IDs of new entities.
+     *
+     * @param strategy the strategy to use
+     */
+    public static void use(IdStrategy strategy) {
+        current = strategy;
+    }
+}
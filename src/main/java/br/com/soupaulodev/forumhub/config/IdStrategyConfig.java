@@ -0,0 +1,25 @@
+package br.com.soupaulodev.forumhub.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ID Strategy Configuration Class.
+ * <p>
+ * This class applies the {@link IdStrategy} set in {@code ids.strategy} before the entities are created.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Configuration
+public class IdStrategyConfig {
+
+    /**
+     * Constructs a new {@link IdStrategyConfig} and applies the strategy.
+     *
+     * @param strategy the strategy generating the IDs of new entities
+     */
+    public IdStrategyConfig(@Value("${ids.strategy}") IdStrategy strategy) {
+        IdStrategy.use(strategy);
+    }
+}
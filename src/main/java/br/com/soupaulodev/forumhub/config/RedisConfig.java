@@ -4,6 +4,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 /**
  * Redis Configuration Class.
@@ -14,6 +15,7 @@ import org.springframework.data.redis.core.StringRedisTemplate;
  *
  * Key features:
  * - Creates a {@link StringRedisTemplate} bean to handle Redis operations.
+ * - Creates a {@link RedisMessageListenerContainer} bean shared by the pub/sub listeners.
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
@@ -24,4 +26,11 @@ public class RedisConfig {
     public StringRedisTemplate redisTemplate(RedisConnectionFactory connectionFactory) {
         return new StringRedisTemplate(connectionFactory);
     }
-}
\ No newline at end of file
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
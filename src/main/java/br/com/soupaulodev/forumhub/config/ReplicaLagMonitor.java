@@ -0,0 +1,114 @@
+package br.com.soupaulodev.forumhub.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Measures how far behind the primary each read replica is.
+ * <p>
+ * The replay lag of every replica is published as the {@code datasource.replica.lag} gauge, tagged with the index of
+ * the replica. A replica whose lag goes past {@code datasource.replicas.max-lag}, or that cannot be reached, is taken
+ * out of the {@link ReplicaRoutingDataSource} rotation until a later check finds it caught up again.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    /**
+     * Seconds since the last replayed transaction, or zero when the replica replayed everything it received, so an
+     * idle primary does not look like a lagging replica.
+     */
+    private static final String LAG_QUERY = """
+            SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END
+            """;
+
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+    private final List<JdbcTemplate> replicas;
+    private final double maxLagSeconds;
+    private final AtomicLongArray lags;
+
+    /**
+     * Constructs a new {@link ReplicaLagMonitor}.
+     *
+     * @param replicaRoutingDataSource the data source routing the reads to the replicas
+     * @param meterRegistry            the registry the lag of the replicas is published to
+     * @param maxLag                   the lag past which a replica stops serving reads
+     */
+    public ReplicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+                             MeterRegistry meterRegistry,
+                             @Value("${datasource.replicas.max-lag}") Duration maxLag) {
+        this.replicaRoutingDataSource = replicaRoutingDataSource;
+        this.replicas = replicaRoutingDataSource.getReplicas().stream().map(JdbcTemplate::new).toList();
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.lags = new AtomicLongArray(replicas.size());
+
+        for (int i = 0; i < replicas.size(); i++) {
+            int replica = i;
+            Gauge.builder("datasource.replica.lag", this, monitor -> monitor.getLagSeconds(replica))
+                    .description("Replay lag of the read replica behind the primary")
+                    .tag("replica", String.valueOf(replica))
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Measures the lag of every replica and updates the replicas serving reads.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${datasource.replicas.lag-check-interval}")
+    public void checkLag() {
+        for (int i = 0; i < replicas.size(); i++) {
+            double lagSeconds = measureLag(replicas.get(i));
+            lags.set(i, Double.doubleToLongBits(lagSeconds));
+
+            boolean available = lagSeconds <= maxLagSeconds;
+            if (!available) {
+                logger.warn("Read replica {} is {} seconds behind, reads go to the primary", i, lagSeconds);
+            }
+            replicaRoutingDataSource.setAvailable(i, available);
+        }
+    }
+
+    /**
+     * Gets the lag of a replica as of the last check.
+     *
+     * @param replica the index of the replica
+     * @return the lag in seconds, or {@link Double#NaN} if the replica could not be reached
+     */
+    public double getLagSeconds(int replica) {
+        return Double.longBitsToDouble(lags.get(replica));
+    }
+
+    /**
+     * Queries the replay lag of a replica.
+     *
+     * @param replica the template of the replica
+     * @return the lag in seconds, or {@link Double#NaN} if the replica could not be reached
+     */
+    double measureLag(JdbcTemplate replica) {
+        try {
+            Double lagSeconds = replica.queryForObject(LAG_QUERY, Double.class);
+            return lagSeconds != null ? lagSeconds : Double.NaN;
+        } catch (DataAccessException e) {
+            logger.error("Could not check the lag of a read replica: {}", e.getMessage());
+            return Double.NaN;
+        }
+    }
+}
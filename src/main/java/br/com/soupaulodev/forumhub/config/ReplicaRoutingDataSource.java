@@ -0,0 +1,152 @@
+package br.com.soupaulodev.forumhub.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Data source of the read-only connections, spreading them over the read replicas.
+ * <p>
+ * It is only asked for the connections of read-only transactions, by the {@code LazyConnectionDataSourceProxy}
+ * configured in the {@link DataSourceConfig}. A replica is only used when the current request allowed it through
+ * {@link #allowReplicaReads()}, which the {@code ReplicaRoutingFilter} does for the reads of clients that did not
+ * write recently. Any other connection, including the ones of scheduled jobs, comes from the primary.
+ * </p>
+ * <p>
+ * The replicas are picked in turn, skipping the ones the {@link ReplicaLagMonitor} found too far behind. When none is
+ * available the primary is used.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA_READS_ATTRIBUTE = ReplicaRoutingDataSource.class.getName() + ".replicaReads";
+
+    private final List<DataSource> replicas;
+    private final AtomicIntegerArray available;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Constructs a new {@link ReplicaRoutingDataSource}.
+     *
+     * @param primary  the data source of the primary database
+     * @param replicas the data sources of the replicas, possibly none
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        this.replicas = List.copyOf(replicas);
+        this.available = new AtomicIntegerArray(replicas.size());
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+            available.set(i, 1);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Allows the read-only transactions of the current request to read from a replica.
+     */
+    public static void allowReplicaReads() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(REPLICA_READS_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * Checks whether the read-only transactions of the current request may read from a replica.
+     *
+     * @return {@code true} if {@link #allowReplicaReads()} was called during the current request
+     */
+    public static boolean replicaReadsAllowed() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                && attributes.getAttribute(REPLICA_READS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+
+    /**
+     * Runs an action with the replica reads of the current request suspended, so its read-only transactions read
+     * from the primary.
+     * <p>
+     * Used for the loads whose result outlives the request, like the cache entries, which must not be filled with
+     * what a lagging replica returns. The permission is restored once the action completes.
+     * </p>
+     *
+     * @param action the action to run
+     * @param <T>    the type of the result of the action
+     * @return the result of the action
+     * @throws Exception if the action throws one
+     */
+    public static <T> T callOnPrimary(Callable<T> action) throws Exception {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null
+                || attributes.getAttribute(REPLICA_READS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) == null) {
+            return action.call();
+        }
+        attributes.removeAttribute(REPLICA_READS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        try {
+            return action.call();
+        } finally {
+            attributes.setAttribute(REPLICA_READS_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * Gets the data sources of the replicas.
+     *
+     * @return the replicas, in the order of their indexes
+     */
+    public List<DataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Takes a replica out of the rotation, or puts it back.
+     *
+     * @param replica   the index of the replica
+     * @param available whether the replica can serve reads
+     */
+    public void setAvailable(int replica, boolean available) {
+        this.available.set(replica, available ? 1 : 0);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty() || !replicaReadsAllowed()) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            int replica = (start + i) % replicas.size();
+            if (available.get(replica) == 1) {
+                return replica;
+            }
+        }
+        return PRIMARY;
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> {
+            if (replica instanceof HikariDataSource pool) {
+                pool.close();
+            }
+        });
+    }
+}
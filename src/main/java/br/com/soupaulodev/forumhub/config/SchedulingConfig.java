@@ -0,0 +1,18 @@
+package br.com.soupaulodev.forumhub.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration Class.
+ * <p>
+ * This class enables the execution of the {@link org.springframework.scheduling.annotation.Scheduled} methods
+ * of the application, such as the periodic rebuild of the token revocation filter.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
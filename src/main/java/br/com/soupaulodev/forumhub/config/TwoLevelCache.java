@@ -0,0 +1,246 @@
+package br.com.soupaulodev.forumhub.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Read-through cache keeping its entries in the memory of the node, backed by a Redis tier shared by every node.
+ * <p>
+ * A lookup is answered by the local Caffeine cache when it can, then by Redis, where the entries are stored as JSON,
+ * and the value found in Redis is kept locally for the next lookups. Only when both miss is the value loaded, and it
+ * is then written to both tiers. The concurrent misses of the same key on a node share a single load: the first
+ * thread runs it on its own thread, so it keeps its transaction and request context, and the others wait for its
+ * result. The load reads from the primary even when the request may read from a replica, since a value read from a
+ * lagging replica would be served by every node until the entry expires.
+ * </p>
+ * <p>
+ * An eviction removes the entry from Redis and from the memory of the node, and publishes the key on the
+ * {@value #CHANNEL} channel so the {@link TwoLevelCacheManager} of every other node removes its local copy too. The
+ * local entries also expire on their own, which bounds how long a node that missed a message serves a stale entry.
+ * </p>
+ * <p>
+ * Redis is an optimization here: when it cannot be reached the cache keeps working from the memory of the node and
+ * the loader.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    /**
+     * Name of the Redis channel on which the evicted keys are published.
+     */
+    public static final String CHANNEL = "cache-invalidations";
+
+    /**
+     * Key published alone to tell that every entry of a cache was evicted.
+     */
+    static final String ALL_KEYS = "*";
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoLevelCache.class);
+
+    private final String name;
+    private final Class<?> type;
+    private final Cache<String, Object> local;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration sharedTimeToLive;
+    private final ConcurrentMap<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@link TwoLevelCache}.
+     *
+     * @param name             the name of the cache, also the prefix of its keys in Redis
+     * @param type             the type of the cached values
+     * @param local            the cache holding the entries in the memory of the node
+     * @param redisTemplate    the template used to read, write and evict the entries in Redis
+     * @param objectMapper     the mapper used to store the values in Redis
+     * @param sharedTimeToLive how long an entry is kept in Redis
+     */
+    public TwoLevelCache(String name,
+                         Class<?> type,
+                         Cache<String, Object> local,
+                         StringRedisTemplate redisTemplate,
+                         ObjectMapper objectMapper,
+                         Duration sharedTimeToLive) {
+        super(false);
+        this.name = name;
+        this.type = type;
+        this.local = local;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.sharedTimeToLive = sharedTimeToLive;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String id = key.toString();
+        Object value = local.getIfPresent(id);
+        if (value == null) {
+            value = readShared(id);
+            if (value != null) {
+                local.put(id, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String id = key.toString();
+        Object value = local.getIfPresent(id);
+        if (value != null) {
+            return (T) value;
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inProgress = loading.putIfAbsent(id, load);
+        if (inProgress != null) {
+            return (T) await(inProgress, key, valueLoader);
+        }
+        try {
+            value = readShared(id);
+            if (value == null) {
+                value = ReplicaRoutingDataSource.callOnPrimary(valueLoader);
+                if (value != null) {
+                    writeShared(id, value);
+                }
+            }
+            if (value != null) {
+                local.put(id, value);
+            }
+            load.complete(value);
+            return (T) value;
+        } catch (Exception e) {
+            load.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            loading.remove(id, load);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String id = key.toString();
+        Object storeValue = toStoreValue(value);
+        local.put(id, storeValue);
+        writeShared(id, storeValue);
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictAll(List.of(key));
+    }
+
+    /**
+     * Evicts several entries, from Redis and from the memory of every node, with a single message.
+     *
+     * @param keys the keys of the entries
+     */
+    public void evictAll(Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> ids = keys.stream().map(Object::toString).toList();
+        local.invalidateAll(ids);
+        try {
+            redisTemplate.delete(ids.stream().map(this::sharedKey).toList());
+            redisTemplate.convertAndSend(CHANNEL, message(ids));
+        } catch (DataAccessException e) {
+            logger.error("Entries of the {} cache only evicted on this node: {}", name, e.getMessage());
+        }
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(sharedKey(ALL_KEYS)).count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+            if (!keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+            redisTemplate.convertAndSend(CHANNEL, message(List.of(ALL_KEYS)));
+        } catch (DataAccessException e) {
+            logger.error("The {} cache was only cleared on this node: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * Removes entries from the memory of this node only, as told by an eviction on another node.
+     *
+     * @param ids the keys of the entries, or {@value #ALL_KEYS} alone for every entry
+     */
+    void evictLocal(List<String> ids) {
+        if (ids.equals(List.of(ALL_KEYS))) {
+            local.invalidateAll();
+        } else {
+            local.invalidateAll(ids);
+        }
+    }
+
+    private Object readShared(String id) {
+        try {
+            String json = redisTemplate.opsForValue().get(sharedKey(id));
+            return json != null ? objectMapper.readValue(json, type) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            logger.warn("Entry {} of the {} cache not read from Redis: {}", id, name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeShared(String id, Object value) {
+        try {
+            redisTemplate.opsForValue().set(sharedKey(id), objectMapper.writeValueAsString(value), sharedTimeToLive);
+        } catch (DataAccessException | JsonProcessingException e) {
+            logger.warn("Entry {} of the {} cache not written to Redis: {}", id, name, e.getMessage());
+        }
+    }
+
+    private String sharedKey(String id) {
+        return "cache:" + name + ":" + id;
+    }
+
+    private String message(List<String> ids) {
+        return name + "\n" + String.join("\n", ids);
+    }
+
+    private static Object await(CompletableFuture<Object> load, Object key, Callable<?> valueLoader) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            // The waiters fail like the thread that ran the load, with the exception of the loader
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+}
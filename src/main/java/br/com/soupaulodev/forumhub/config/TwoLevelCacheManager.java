@@ -0,0 +1,72 @@
+package br.com.soupaulodev.forumhub.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Cache manager of the {@link TwoLevelCache}s, which also applies the evictions published by the other nodes.
+ * <p>
+ * The caches are transaction aware: a put or an eviction made inside a transaction only happens once it commits, so
+ * a concurrent read can not load the old value back into the cache between the eviction and the commit.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+    private final Map<String, TwoLevelCache> caches;
+
+    /**
+     * Constructs a new {@link TwoLevelCacheManager} and subscribes it to the {@value TwoLevelCache#CHANNEL} channel.
+     *
+     * @param caches            the caches managed
+     * @param listenerContainer the container delivering the evictions published by every node
+     */
+    public TwoLevelCacheManager(Collection<TwoLevelCache> caches, RedisMessageListenerContainer listenerContainer) {
+        this.caches = caches.stream().collect(Collectors.toMap(TwoLevelCache::getName, Function.identity()));
+        setTransactionAware(true);
+        listenerContainer.addMessageListener(this, new ChannelTopic(TwoLevelCache.CHANNEL));
+    }
+
+    /**
+     * Gets a managed cache without the transaction aware decoration.
+     *
+     * @param name the name of the cache
+     * @return the cache, or {@code null} if no cache has this name
+     */
+    public TwoLevelCache getTwoLevelCache(String name) {
+        return caches.get(name);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return caches.values();
+    }
+
+    /**
+     * Receives the keys evicted by any node, the name of the cache on the first line and one key per line after it.
+     *
+     * @param message the message carrying the keys
+     * @param pattern the pattern matching the channel
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        List<String> lines = Arrays.asList(new String(message.getBody(), StandardCharsets.UTF_8).split("\n"));
+        TwoLevelCache cache = caches.get(lines.getFirst());
+        if (cache != null && lines.size() > 1) {
+            cache.evictLocal(lines.subList(1, lines.size()));
+        }
+    }
+}
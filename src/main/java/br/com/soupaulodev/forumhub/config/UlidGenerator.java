@@ -1,12 +1,122 @@
 package br.com.soupaulodev.forumhub.config;
 
-import de.huxhorn.sulky.ulid.ULID;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Generates ULIDs: a 48-bit millisecond timestamp followed by 80 random bits, sorted by creation time.
+ * <p>
+ * Every thread keeps its own state and draws from {@link ThreadLocalRandom}, so generating an ID takes no lock and
+ * allocates nothing but its result. IDs generated by the same thread are strictly increasing: within a millisecond,
+ * or if the clock goes back, the random part of the previous ID is incremented instead of drawn again. IDs of
+ * different threads are only ordered by millisecond.
+ * </p>
+ * <p>
+ * The random part is incremented in steps of 64, so it still increases once truncated to the 74 random bits of a
+ * version 7 UUID, and {@link #generateUuid()} is as monotonic as {@link #generate()}.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
 public class UlidGenerator {
 
-    private static final ULID ulid = new ULID();
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final long STEP = 1L << 6;
 
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private UlidGenerator() {}
+
+    /**
+     * Generates a ULID in its canonical form, 26 characters of Crockford's base 32.
+     *
+     * @return a new ULID
+     */
     public static String generate() {
-        return ulid.nextULID();
+        State state = next();
+        char[] chars = new char[26];
+        long millis = state.millis;
+        for (int i = 9; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (millis & 31)];
+            millis >>>= 5;
+        }
+        long low = state.low;
+        for (int i = 25; i >= 14; i--) {
+            chars[i] = ALPHABET[(int) (low & 31)];
+            low >>>= 5;
+        }
+        chars[13] = ALPHABET[(int) (low | (state.high & 1) << 4)];
+        int high = state.high >>> 1;
+        for (int i = 12; i >= 10; i--) {
+            chars[i] = ALPHABET[high & 31];
+            high >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Generates a ULID in the layout of a version 7 {@link UUID}.
+     * <p>
+     * A ULID starts with the same 48-bit millisecond timestamp as a version 7 UUID. The version and variant bits are
+     * inserted after it and the last 6 random bits are dropped. The UUIDs sort by creation time in the byte order
+     * used by the database.
+     * </p>
+     *
+     * @return a new time-ordered UUID
+     */
+    public static UUID generateUuid() {
+        State state = next();
+        return new UUID(
+                state.millis << 16 | 0x7000L | state.high >>> 4,
+                0x8000000000000000L | (long) (state.high & 0xF) << 58 | state.low >>> 6);
+    }
+
+    /**
+     * Generates a ULID in its 128-bit binary form, big-endian, to be stored as 16 bytes.
+     *
+     * @return a new ULID
+     */
+    public static byte[] generateBytes() {
+        State state = next();
+        byte[] bytes = new byte[16];
+        long high = state.millis << 16 | state.high;
+        long low = state.low;
+        for (int i = 7; i >= 0; i--) {
+            bytes[i] = (byte) high;
+            bytes[i + 8] = (byte) low;
+            high >>>= 8;
+            low >>>= 8;
+        }
+        return bytes;
+    }
+
+    private static State next() {
+        State state = STATE.get();
+        long now = System.currentTimeMillis();
+        if (now > state.millis) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            state.millis = now;
+            state.high = random.nextInt() & 0xFFFF;
+            state.low = random.nextLong();
+        } else {
+            state.low += STEP;
+            if (Long.compareUnsigned(state.low, STEP) < 0) {
+                state.high = (state.high + 1) & 0xFFFF;
+                if (state.high == 0) {
+                    // All the random values of the millisecond were used, borrow the next one
+                    state.millis++;
+                }
+            }
+        }
+        return state;
+    }
+
+    /**
+     * The last ULID generated by a thread.
+     */
+    private static final class State {
+        private long millis = -1;
+        private int high;
+        private long low;
     }
 }
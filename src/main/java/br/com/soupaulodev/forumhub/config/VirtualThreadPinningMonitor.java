@@ -0,0 +1,142 @@
+package br.com.soupaulodev.forumhub.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports the virtual threads pinning their carrier thread, when the requests are served on virtual threads.
+ * <p>
+ * A virtual thread blocking inside a {@code synchronized} block or a native call keeps its carrier, one of the few
+ * platform threads running every virtual thread, so enough of them at once stall the whole application. The
+ * {@code jdk.VirtualThreadPinned} events of Java Flight Recorder longer than {@code virtual-threads.pinning.threshold}
+ * are streamed in process and counted in the {@code jvm.threads.virtual.pinned} counter, tagged with the code path
+ * they happened in: {@code hibernate}, {@code jwt} or {@code other}. Each place pinning a carrier is also logged,
+ * with its stack trace, the first time it does.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /**
+     * Packages and classes issuing, verifying and revoking the tokens.
+     */
+    private static final List<String> JWT_TYPES = List.of(
+            "com.auth0.jwt.",
+            "br.com.soupaulodev.forumhub.security.filters.",
+            "br.com.soupaulodev.forumhub.security.utils.",
+            "br.com.soupaulodev.forumhub.security.RefreshTokenService",
+            "br.com.soupaulodev.forumhub.security.TokenRevocationService");
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream recordingStream;
+
+    /**
+     * Constructs a new {@link VirtualThreadPinningMonitor}.
+     *
+     * @param meterRegistry the registry the pinning counts are published to
+     * @param threshold     the duration from which a pinned carrier is reported
+     */
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${virtual-threads.pinning.threshold}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Starts streaming the pinning events.
+     */
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withStackTrace().withThreshold(threshold);
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    /**
+     * Stops streaming the pinning events.
+     */
+    @PreDestroy
+    public void close() {
+        recordingStream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        List<String> types = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName())
+                .toList();
+
+        String path = pathOf(types);
+        Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads that pinned their carrier thread past the threshold")
+                .tag("path", path)
+                .register(meterRegistry)
+                .increment();
+
+        List<String> lines = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .toList();
+        String site = lines.stream()
+                .filter(line -> !isPlatformType(line))
+                .findFirst()
+                .orElse("unknown");
+        if (reportedSites.add(site)) {
+            logger.warn("Virtual thread pinned its carrier for {} ms at {} ({} path):\n\tat {}",
+                    event.getDuration().toMillis(), site, path, String.join("\n\tat ", lines));
+        }
+    }
+
+    /**
+     * Finds the code path of a pinning event from the types of its stack frames, the innermost first.
+     * The innermost frame of Hibernate or of the token handling decides, so a query run while checking a token is
+     * counted as Hibernate.
+     *
+     * @param types the types of the stack frames
+     * @return {@code hibernate}, {@code jwt} or {@code other}
+     */
+    static String pathOf(List<String> types) {
+        for (String type : types) {
+            if (type.startsWith("org.hibernate.")) {
+                return "hibernate";
+            }
+            if (JWT_TYPES.stream().anyMatch(type::startsWith)) {
+                return "jwt";
+            }
+        }
+        return "other";
+    }
+
+    private static boolean isPlatformType(String type) {
+        return type.startsWith("java.") || type.startsWith("jdk.") || type.startsWith("sun.");
+    }
+}
@@ -1,10 +1,13 @@
 package br.com.soupaulodev.forumhub.filters;
 
-import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
+import br.com.soupaulodev.forumhub.security.utils.JwtClaimsResolver;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
 
 /**
  * Filter Configurations.
@@ -16,25 +19,57 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 @Configuration
 public class FilterConfig {
 
-    private final JwtUtil jwtUtil;
-    private final StringRedisTemplate redisTemplate;
+    private final JwtClaimsResolver jwtClaimsResolver;
+    private final NearCacheRateLimiter rateLimiter;
 
-    public FilterConfig(JwtUtil jwtUtil, StringRedisTemplate redisTemplate) {
-        this.jwtUtil = jwtUtil;
-        this.redisTemplate = redisTemplate;
+    public FilterConfig(JwtClaimsResolver jwtClaimsResolver, NearCacheRateLimiter rateLimiter) {
+        this.jwtClaimsResolver = jwtClaimsResolver;
+        this.rateLimiter = rateLimiter;
     }
 
     @Bean
     public RateLimitFilter rateLimitFilter() {
-        return new RateLimitFilter(jwtUtil, redisTemplate);
+        return new RateLimitFilter(jwtClaimsResolver, rateLimiter);
     }
 
     @Bean
     public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
         FilterRegistrationBean<RateLimitFilter> registrationBean = new FilterRegistrationBean<>();
         registrationBean.setFilter(rateLimitFilter);
-        registrationBean.addUrlPatterns("/api/v1/**");
+        registrationBean.addUrlPatterns("/api/v1/*");
         registrationBean.setOrder(1);
         return registrationBean;
     }
+
+    /**
+     * Registers the {@link ReplicaRoutingFilter}.
+     * <p>
+     * A replica keeps serving reads until a lag check finds it past the maximum lag, so it can be up to the maximum
+     * lag plus the interval between the checks behind. The read-your-writes window must cover that, or a client could
+     * read from a replica that does not have its last write yet.
+     * </p>
+     *
+     * @param readYourWritesWindow how long the reads of a client go to the primary after it writes
+     * @param maxLag               the replay lag past which a replica stops serving reads
+     * @param lagCheckInterval     how often the lag of the replicas is checked
+     * @return the registration of the filter
+     * @throws IllegalStateException if the window is shorter than the maximum lag plus the check interval
+     */
+    @Bean
+    public FilterRegistrationBean<ReplicaRoutingFilter> replicaRoutingFilterRegistration(
+            @Value("${datasource.replicas.read-your-writes-window}") Duration readYourWritesWindow,
+            @Value("${datasource.replicas.max-lag}") Duration maxLag,
+            @Value("${datasource.replicas.lag-check-interval}") Duration lagCheckInterval) {
+        Duration maxStaleness = maxLag.plus(lagCheckInterval);
+        if (readYourWritesWindow.compareTo(maxStaleness) < 0) {
+            throw new IllegalStateException("datasource.replicas.read-your-writes-window (" + readYourWritesWindow
+                    + ") must be at least datasource.replicas.max-lag plus datasource.replicas.lag-check-interval ("
+                    + maxStaleness + ").");
+        }
+        FilterRegistrationBean<ReplicaRoutingFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new ReplicaRoutingFilter(readYourWritesWindow, Clock.systemUTC()));
+        registrationBean.addUrlPatterns("/api/v1/*");
+        registrationBean.setOrder(2);
+        return registrationBean;
+    }
 }
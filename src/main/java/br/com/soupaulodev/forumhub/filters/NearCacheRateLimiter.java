@@ -0,0 +1,245 @@
+package br.com.soupaulodev.forumhub.filters;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Two-tier rate limiter with a local Caffeine tier in front of the shared {@link RedisRateLimiter}.
+ * <p>
+ * Instead of paying a Redis round trip on every request, each node pre-claims a small batch of tokens per key
+ * and serves requests from that local budget. Unused tokens are given back to Redis when the local entry
+ * expires after the configured sync interval or is evicted, so the shared bucket is reconciled periodically.
+ * Rejections are cached locally until the bucket is expected to have tokens again, which keeps abusive
+ * clients from reaching Redis at all. The local tier is bounded by size, keeping memory flat no matter how
+ * many distinct keys are seen.
+ * </p>
+ * <p>
+ * The batch size controls the trade-off between accuracy and latency: a larger batch saves more round trips,
+ * but up to {@code batch-size} tokens per node may be parked locally and unavailable to the other nodes.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class NearCacheRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearCacheRateLimiter.class);
+
+    private final RedisRateLimiter redisRateLimiter;
+    private final boolean enabled;
+    private final long batchSize;
+    private final Cache<String, TokenLease> leases;
+    private final ConcurrentHashMap<String, CompletableFuture<TokenLease>> claims = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@link NearCacheRateLimiter}.
+     *
+     * @param redisRateLimiter the shared Redis backed rate limiter
+     * @param enabled          whether the local tier is enabled, when disabled every check goes to Redis
+     * @param batchSize        the number of tokens claimed from Redis at once
+     * @param syncInterval     how long local tokens are kept before being reconciled with Redis
+     * @param maximumSize      the maximum number of keys kept in the local tier
+     */
+    @Autowired
+    public NearCacheRateLimiter(RedisRateLimiter redisRateLimiter,
+                                @Value("${rate-limit.local-cache.enabled}") boolean enabled,
+                                @Value("${rate-limit.local-cache.batch-size}") long batchSize,
+                                @Value("${rate-limit.local-cache.sync-interval}") Duration syncInterval,
+                                @Value("${rate-limit.local-cache.maximum-size}") long maximumSize) {
+        this(redisRateLimiter, enabled, batchSize, syncInterval, maximumSize, ForkJoinPool.commonPool());
+    }
+
+    NearCacheRateLimiter(RedisRateLimiter redisRateLimiter,
+                         boolean enabled,
+                         long batchSize,
+                         Duration syncInterval,
+                         long maximumSize,
+                         Executor executor) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Rate limit batch size must be positive.");
+        }
+        this.redisRateLimiter = redisRateLimiter;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(syncInterval)
+                .scheduler(Scheduler.systemScheduler())
+                .executor(executor)
+                .<String, TokenLease>removalListener((key, lease, cause) -> {
+                    if (lease != null && cause != RemovalCause.REPLACED) {
+                        refund(lease);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Tries to consume a single token for the given key.
+     *
+     * @param key          the bucket key
+     * @param capacity     the maximum number of tokens in the bucket
+     * @param refillPeriod the period in which the whole capacity is refilled
+     * @return the {@link RedisRateLimiter.Probe} describing the outcome of the consumption
+     * @throws DataAccessException if new tokens had to be claimed and Redis could not be reached
+     */
+    public RedisRateLimiter.Probe tryConsume(String key, long capacity, Duration refillPeriod) {
+        if (!enabled) {
+            return redisRateLimiter.tryConsume(key, capacity, refillPeriod, 1);
+        }
+
+        TokenLease lease = leases.getIfPresent(key);
+        if (lease != null) {
+            if (lease.tryTake()) {
+                return lease.granted();
+            }
+            if (lease.isDenied()) {
+                return lease.denied();
+            }
+        }
+
+        TokenLease renewed = renew(key, capacity, refillPeriod);
+        if (renewed.tryTake()) {
+            return renewed.granted();
+        }
+        if (renewed.isDenied()) {
+            return renewed.denied();
+        }
+        return redisRateLimiter.tryConsume(key, capacity, refillPeriod, 1);
+    }
+
+    /**
+     * Gives every locally held token back to Redis and clears the local tier.
+     */
+    public void flush() {
+        leases.invalidateAll();
+        leases.cleanUp();
+    }
+
+    /**
+     * Gets a lease with tokens, or denying the key, claiming a new batch from Redis if needed.
+     * <p>
+     * A single request per key claims at a time, and the others wait for its lease. The claim is made outside the
+     * cache, so the Redis round trip never holds a lock of the cache other keys may need.
+     * </p>
+     */
+    private TokenLease renew(String key, long capacity, Duration refillPeriod) {
+        CompletableFuture<TokenLease> claiming = new CompletableFuture<>();
+        CompletableFuture<TokenLease> pending = claims.putIfAbsent(key, claiming);
+        if (pending != null) {
+            try {
+                return pending.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            TokenLease current = leases.getIfPresent(key);
+            TokenLease renewed = current != null && (current.hasTokens() || current.isDenied())
+                    ? current
+                    : claim(key, capacity, refillPeriod);
+            if (renewed != current) {
+                TokenLease replaced = leases.asMap().put(key, renewed);
+                if (replaced != null) {
+                    refund(replaced);
+                }
+            }
+            claiming.complete(renewed);
+            return renewed;
+        } catch (RuntimeException e) {
+            claiming.completeExceptionally(e);
+            throw e;
+        } finally {
+            claims.remove(key, claiming);
+        }
+    }
+
+    private TokenLease claim(String key, long capacity, Duration refillPeriod) {
+        RedisRateLimiter.Probe probe =
+                redisRateLimiter.claim(key, capacity, refillPeriod, Math.min(batchSize, capacity));
+        return new TokenLease(key, capacity, refillPeriod, probe.consumedTokens(), probe.retryAfterMillis());
+    }
+
+    private void refund(TokenLease lease) {
+        long unused = lease.drain();
+        if (unused <= 0) {
+            return;
+        }
+        try {
+            redisRateLimiter.refund(lease.key, lease.capacity, lease.refillPeriod, unused);
+        } catch (DataAccessException e) {
+            logger.warn("Could not give {} tokens back for key {}: {}", unused, lease.key, e.getMessage());
+        }
+    }
+
+    /**
+     * Tokens claimed from Redis and held locally for a single key.
+     */
+    private static final class TokenLease {
+
+        private final String key;
+        private final long capacity;
+        private final Duration refillPeriod;
+        private final AtomicLong tokens;
+        private final long retryAfterMillis;
+        private final long deniedUntilNanos;
+
+        private TokenLease(String key, long capacity, Duration refillPeriod, long tokens, long retryAfterMillis) {
+            this.key = key;
+            this.capacity = capacity;
+            this.refillPeriod = refillPeriod;
+            this.tokens = new AtomicLong(tokens);
+            this.retryAfterMillis = retryAfterMillis;
+            this.deniedUntilNanos = tokens > 0 ? 0 : System.nanoTime() + Duration.ofMillis(retryAfterMillis).toNanos();
+        }
+
+        private boolean tryTake() {
+            long current;
+            do {
+                current = tokens.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!tokens.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        private boolean hasTokens() {
+            return tokens.get() > 0;
+        }
+
+        private boolean isDenied() {
+            return deniedUntilNanos != 0 && System.nanoTime() - deniedUntilNanos < 0;
+        }
+
+        private long drain() {
+            return tokens.getAndSet(0);
+        }
+
+        private RedisRateLimiter.Probe granted() {
+            return new RedisRateLimiter.Probe(1, tokens.get(), 0);
+        }
+
+        private RedisRateLimiter.Probe denied() {
+            long remainingMillis = Duration.ofNanos(deniedUntilNanos - System.nanoTime()).toMillis();
+            return new RedisRateLimiter.Probe(0, 0, Math.max(0, Math.min(retryAfterMillis, remainingMillis)));
+        }
+    }
+}
@@ -1,18 +1,18 @@
 package br.com.soupaulodev.forumhub.filters;
 
 import br.com.soupaulodev.forumhub.modules.exception.usecase.RateLimitExceededException;
-import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
-import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import br.com.soupaulodev.forumhub.security.utils.JwtClaims;
+import br.com.soupaulodev.forumhub.security.utils.JwtClaimsResolver;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -22,14 +22,30 @@ import java.util.Optional;
 
 /**
  * Rate Limit Filter.
+ * <p>
+ * Applies a per IP token bucket to every request and a per user token bucket to authenticated requests.
+ * Anonymous requests are left to Spring Security, and the login and signup endpoints are further limited by the
+ * {@link br.com.soupaulodev.forumhub.security.LoginAttemptLimiter}. The buckets are kept in Redis and served
+ * through the {@link NearCacheRateLimiter}, so the limits are shared by every node of the application. If Redis cannot be
+ * reached the request is let through, since the rate limiter must not take the API down with it.
+ * </p>
+ * <p>
+ * The user is identified through the {@link JwtClaimsResolver}, reusing the claims already verified by the
+ * authentication filter instead of parsing the token a second time.
+ * </p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Component
 public class RateLimitFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
-    private final StringRedisTemplate redisTemplate;
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private static final String IP_KEY_PREFIX = "rate-limit:ip:";
+    private static final String USER_KEY_PREFIX = "rate-limit:user:";
+
+    private final JwtClaimsResolver jwtClaimsResolver;
+    private final NearCacheRateLimiter rateLimiter;
 
     @Value("${rate-limit.ip-limit}")
     private int ipRateLimit;
@@ -37,9 +53,13 @@ public class RateLimitFilter extends OncePerRequestFilter {
     private int userRateLimit;
     private final Duration refillDuration = Duration.ofMinutes(1);
 
-    public RateLimitFilter(JwtUtil jwtUtil, StringRedisTemplate redisTemplate) {
-        this.jwtUtil = jwtUtil;
-        this.redisTemplate = redisTemplate;
+    public RateLimitFilter(JwtClaimsResolver jwtClaimsResolver, NearCacheRateLimiter rateLimiter) {
+        this.jwtClaimsResolver = jwtClaimsResolver;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected void initFilterBean() {
         validateRateLimits();
     }
 
@@ -53,54 +73,44 @@ public class RateLimitFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         String clientIp = request.getRemoteAddr();
-        if (rateLimitCheck(clientIp, ipRateLimit, response)) {
+        if (rateLimitCheck(IP_KEY_PREFIX + clientIp, ipRateLimit, response)) {
             return;
         }
 
-        Optional<String> jwtToken = extractJwtFromCookies(request);
-        if (jwtToken.isEmpty()) {
-            throw new UnauthorizedException("Unauthorized: Missing or invalid token.");
-        }
-
-        String userId;
-        try {
-            userId = jwtUtil.extractUserId(jwtToken.get());
-        } catch (Exception e) {
-            throw new UnauthorizedException("Unauthorized: Invalid token.");
-        }
-
-        if (rateLimitCheck(userId, userRateLimit, response)) {
+        Optional<JwtClaims> claims = jwtClaimsResolver.resolve(request);
+        if (claims.isPresent() && rateLimitCheck(USER_KEY_PREFIX + claims.get().userId(), userRateLimit, response)) {
             return;
         }
 
         chain.doFilter(request, response);
     }
 
-    protected boolean rateLimitCheck(String key, int limit, HttpServletResponse response) {
-        Bucket bucket = createOrGetBucket(key, limit);
-
-        if (bucket.tryConsume(1)) {
+    /**
+     * Consumes a token from the bucket identified by the given key and rejects the request when it is empty.
+     *
+     * @param key      the bucket key
+     * @param limit    the bucket capacity per refill period
+     * @param response the response used to reject the request
+     * @return {@code true} if the request was rejected, {@code false} otherwise
+     * @throws IOException if the rejection cannot be written to the response
+     */
+    protected boolean rateLimitCheck(String key, int limit, HttpServletResponse response) throws IOException {
+        RedisRateLimiter.Probe probe;
+        try {
+            probe = rateLimiter.tryConsume(key, limit, refillDuration);
+        } catch (DataAccessException e) {
+            logger.error("Rate limit check skipped for key {}: {}", key, e.getMessage());
             return false;
-        } else {
-            throw new RateLimitExceededException();
         }
-    }
-
-    protected Bucket createOrGetBucket(String key, int capacity) {
-        Bandwidth limit = Bandwidth.classic(capacity, Refill.greedy(capacity, refillDuration));
 
-        return Bucket.builder()
-                .addLimit(limit)
-                .build();
-    }
-
-    private Optional<String> extractJwtFromCookies(HttpServletRequest request) {
-        if (request.getCookies() == null) return Optional.empty();
-        for (Cookie cookie : request.getCookies()) {
-            if ("Authorization".equals(cookie.getName())) {
-                return Optional.of(cookie.getValue());
-            }
+        if (probe.consumed()) {
+            return false;
         }
-        return Optional.empty();
+
+        long retryAfterSeconds = Math.max(1, Math.ceilDiv(probe.retryAfterMillis(), 1000));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.getWriter().write(new RateLimitExceededException().getMessage());
+        return true;
     }
 }
@@ -0,0 +1,121 @@
+package br.com.soupaulodev.forumhub.filters;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Distributed token bucket rate limiter backed by Redis.
+ * <p>
+ * The bucket state lives in Redis and is updated by a single server-side Lua script, so every check costs
+ * exactly one round trip and all application nodes share the same quota for a given key. The refill clock is
+ * taken from the Redis server, which keeps the buckets consistent even if the nodes' clocks drift.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class RedisRateLimiter {
+
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/token-bucket.lua"), List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * Constructs a new {@link RedisRateLimiter}.
+     *
+     * @param redisTemplate the template used to execute the token bucket script
+     */
+    public RedisRateLimiter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Tries to consume tokens from the bucket identified by the given key.
+     * Either all the requested tokens are consumed or none is.
+     *
+     * @param key          the bucket key
+     * @param capacity     the maximum number of tokens in the bucket
+     * @param refillPeriod the period in which the whole capacity is refilled
+     * @param tokens       the number of tokens to consume
+     * @return the {@link Probe} describing the outcome of the consumption
+     */
+    public Probe tryConsume(String key, long capacity, Duration refillPeriod, long tokens) {
+        return execute(key, capacity, refillPeriod, tokens, tokens);
+    }
+
+    /**
+     * Claims up to {@code maxTokens} tokens from the bucket identified by the given key.
+     * As long as at least one token is available, as many tokens as possible are granted.
+     *
+     * @param key          the bucket key
+     * @param capacity     the maximum number of tokens in the bucket
+     * @param refillPeriod the period in which the whole capacity is refilled
+     * @param maxTokens    the maximum number of tokens to claim
+     * @return the {@link Probe} describing how many tokens were granted
+     */
+    public Probe claim(String key, long capacity, Duration refillPeriod, long maxTokens) {
+        return execute(key, capacity, refillPeriod, maxTokens, 1);
+    }
+
+    /**
+     * Gives unused tokens back to the bucket identified by the given key.
+     *
+     * @param key          the bucket key
+     * @param capacity     the maximum number of tokens in the bucket
+     * @param refillPeriod the period in which the whole capacity is refilled
+     * @param tokens       the number of tokens to give back
+     */
+    public void refund(String key, long capacity, Duration refillPeriod, long tokens) {
+        if (tokens > 0) {
+            execute(key, capacity, refillPeriod, -tokens, 0);
+        }
+    }
+
+    private Probe execute(String key, long capacity, Duration refillPeriod, long requested, long minimum) {
+        List<?> result = redisTemplate.execute(
+                TOKEN_BUCKET_SCRIPT,
+                List.of(key),
+                String.valueOf(capacity),
+                String.valueOf(refillPeriod.toMillis()),
+                String.valueOf(requested),
+                String.valueOf(minimum));
+
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("Unexpected response from the token bucket script.");
+        }
+
+        return new Probe(
+                toLong(result.get(0)),
+                toLong(result.get(1)),
+                toLong(result.get(2)));
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+
+    /**
+     * Outcome of a token consumption attempt.
+     *
+     * @param consumedTokens   the number of tokens taken from the bucket
+     * @param remainingTokens  the number of tokens left in the bucket
+     * @param retryAfterMillis the time to wait before the request could succeed, {@code 0} when consumed
+     */
+    public record Probe(long consumedTokens, long remainingTokens, long retryAfterMillis) {
+
+        /**
+         * Indicates whether any token was taken from the bucket.
+         *
+         * @return {@code true} if at least one token was consumed
+         */
+        public boolean consumed() {
+            return consumedTokens > 0;
+        }
+    }
+}
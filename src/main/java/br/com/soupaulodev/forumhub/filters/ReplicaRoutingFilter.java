@@ -0,0 +1,96 @@
+package br.com.soupaulodev.forumhub.filters;
+
+import br.com.soupaulodev.forumhub.config.ReplicaRoutingDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Replica Routing Filter.
+ * <p>
+ * Decides which requests may read from the replicas. Only {@code GET} and {@code HEAD} requests do, since they never
+ * write, and only when the client did not write during the last {@code datasource.replicas.read-your-writes-window}:
+ * every other request marks the client with a cookie holding the end of that window, and the reads made before it
+ * ends go to the primary, so a client always sees its own writes even when the replicas are behind.
+ * </p>
+ * <p>
+ * Keeping the window in a cookie rather than in the application lets any node of the application serve the next
+ * request of the client.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public class ReplicaRoutingFilter extends OncePerRequestFilter {
+
+    /**
+     * Name of the cookie holding the time, in epoch milliseconds, until which the reads of the client go to the
+     * primary.
+     */
+    public static final String READ_PRIMARY_COOKIE_NAME = "READ_PRIMARY_UNTIL";
+
+    private final Duration readYourWritesWindow;
+    private final Clock clock;
+
+    /**
+     * Constructs a new {@link ReplicaRoutingFilter}.
+     *
+     * @param readYourWritesWindow how long the reads of a client go to the primary after it writes
+     * @param clock                the clock the window is measured with
+     */
+    public ReplicaRoutingFilter(Duration readYourWritesWindow, Clock clock) {
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        String method = request.getMethod();
+        if (HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)) {
+            if (!readsPrimary(request)) {
+                ReplicaRoutingDataSource.allowReplicaReads();
+            }
+        } else if (!HttpMethod.OPTIONS.matches(method)) {
+            // Set before the request is handled, since the response may be committed by the time it returns
+            response.addCookie(readPrimaryCookie());
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    private boolean readsPrimary(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (READ_PRIMARY_COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > clock.millis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Cookie readPrimaryCookie() {
+        Cookie cookie = new Cookie(READ_PRIMARY_COOKIE_NAME,
+                String.valueOf(clock.millis() + readYourWritesWindow.toMillis()));
+        cookie.setHttpOnly(true);
+        cookie.setSecure(true);
+        cookie.setPath("/");
+        cookie.setMaxAge((int) Math.max(1, readYourWritesWindow.toSeconds()));
+        return cookie;
+    }
+}
@@ -3,19 +3,23 @@ package br.com.soupaulodev.forumhub.modules.auth.controller;
 import br.com.soupaulodev.forumhub.modules.auth.controller.dto.LoginRequestDTO;
 import br.com.soupaulodev.forumhub.modules.auth.usecase.LoginUseCase;
 import br.com.soupaulodev.forumhub.modules.auth.usecase.LogoutUseCase;
+import br.com.soupaulodev.forumhub.modules.auth.usecase.RefreshTokenUseCase;
 import br.com.soupaulodev.forumhub.modules.auth.usecase.SignUpUseCase;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserDetailsResponseDTO;
+import br.com.soupaulodev.forumhub.security.utils.CookieUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -25,13 +29,14 @@ import java.util.Map;
 
 /**
  * Controller for handling authentication-related endpoints.
- * This controller provides endpoints for user login, registration (signup), and logout.
+ * This controller provides endpoints for user login, registration (signup), token refresh, and logout.
  * The authentication process is managed by interacting with the use cases for login, signup, and logout.
  *
  * <p>
  * The {@link AuthController} is responsible for:
  * - Handling user login requests and generating JWT tokens upon successful authentication.
  * - Handling user registration requests, ensuring the username is unique and then creating the user.
+ * - Handling refresh requests, exchanging a refresh token for a new JWT token and a new refresh token.
  * - Handling logout requests, invalidating the JWT token by clearing the associated cookie.
  * </p>
  *
@@ -47,6 +52,7 @@ public class AuthController {
     private final LoginUseCase loginUseCase;
     private final SignUpUseCase signUpUseCase;
     private final LogoutUseCase logoutUseCase;
+    private final RefreshTokenUseCase refreshTokenUseCase;
 
     /**
      * Constructor for the AuthController.
@@ -55,13 +61,16 @@ public class AuthController {
      * @param loginUseCase  the use case for handling login operations
      * @param signUpUseCase the use case for handling user signup operations
      * @param logoutUseCase the use case for handling logout operations
+     * @param refreshTokenUseCase the use case for handling token refresh operations
      */
     public AuthController(LoginUseCase loginUseCase,
                           SignUpUseCase signUpUseCase,
-                          LogoutUseCase logoutUseCase) {
+                          LogoutUseCase logoutUseCase,
+                          RefreshTokenUseCase refreshTokenUseCase) {
         this.loginUseCase = loginUseCase;
         this.signUpUseCase = signUpUseCase;
         this.logoutUseCase = logoutUseCase;
+        this.refreshTokenUseCase = refreshTokenUseCase;
     }
 
     /**
@@ -70,6 +79,7 @@ public class AuthController {
      * The token is set in the response as a cookie.
      *
      * @param requestDTO the login request containing username and password
+     * @param request    the HTTP request, used to identify the client
      * @param response   the HTTP response to which the JWT token will be added as a cookie
      * @return a ResponseEntity with status 200 (OK) if login is successful
      */
@@ -78,10 +88,13 @@ public class AuthController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User logged in successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request data"),
-            @ApiResponse(responseCode = "401", description = "Invalid credentials")
+            @ApiResponse(responseCode = "401", description = "Invalid credentials"),
+            @ApiResponse(responseCode = "429", description = "Too many login attempts")
     })
-    public ResponseEntity<String> login(@Valid @RequestBody LoginRequestDTO requestDTO, HttpServletResponse response) {
-        response.addCookie(loginUseCase.execute(requestDTO));
+    public ResponseEntity<String> login(@Valid @RequestBody LoginRequestDTO requestDTO,
+                                        HttpServletRequest request,
+                                        HttpServletResponse response) {
+        loginUseCase.execute(requestDTO, request.getRemoteAddr()).forEach(response::addCookie);
 
         logger.info("User {} logged in successfully", requestDTO.username());
         return ResponseEntity.ok("User logged in successfully");
@@ -93,6 +106,7 @@ public class AuthController {
      * A JWT token is generated and added to the response as a cookie.
      *
      * @param signUpRequest the user details for signup
+     * @param request       the HTTP request, used to identify the client
      * @param response      the HTTP response to which the JWT token will be added as a cookie
      * @return a ResponseEntity with status 200 (OK) if registration is successful
      */
@@ -101,21 +115,51 @@ public class AuthController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User registered successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request data"),
-            @ApiResponse(responseCode = "409", description = "Username already exists")
+            @ApiResponse(responseCode = "409", description = "Username already exists"),
+            @ApiResponse(responseCode = "429", description = "Too many signup attempts")
     })
-    public ResponseEntity<UserDetailsResponseDTO> signUp(@Valid @RequestBody UserCreateRequestDTO signUpRequest, HttpServletResponse response) {
-        Map<String, Object> result = signUpUseCase.execute(signUpRequest);
+    public ResponseEntity<UserDetailsResponseDTO> signUp(@Valid @RequestBody UserCreateRequestDTO signUpRequest,
+                                                         HttpServletRequest request,
+                                                         HttpServletResponse response) {
+        Map<String, Object> result = signUpUseCase.execute(signUpRequest, request.getRemoteAddr());
         response.addCookie((Cookie) result.get("cookie"));
+        response.addCookie((Cookie) result.get("refreshCookie"));
 
         logger.info("User {} registered successfully", signUpRequest.username());
         return ResponseEntity.ok((UserDetailsResponseDTO) result.get("user"));
     }
 
+    /**
+     * Endpoint for renewing the JWT token.
+     * This method exchanges the refresh token for a new JWT token and a new refresh token, both set as cookies.
+     * The refresh token that was sent cannot be used again.
+     *
+     * @param refreshToken the refresh token sent by the client
+     * @param response     the HTTP response to which the new tokens will be added as cookies
+     * @return a ResponseEntity with status 200 (OK) if the token was renewed
+     */
+    @PostMapping("/refresh")
+    @Operation(summary = "Refresh", description = "Exchange the refresh token for a new JWT token")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Token refreshed successfully"),
+            @ApiResponse(responseCode = "401", description = "Missing, invalid, revoked or reused refresh token")
+    })
+    public ResponseEntity<Void> refresh(
+            @CookieValue(name = CookieUtil.REFRESH_COOKIE_NAME, required = false) String refreshToken,
+            HttpServletResponse response) {
+        refreshTokenUseCase.execute(refreshToken).forEach(response::addCookie);
+
+        logger.debug("Token refreshed successfully");
+        return ResponseEntity.ok().build();
+    }
+
     /**
      * Endpoint for handling user logout.
-     * This method invalidates the user's JWT token by clearing the associated cookie.
+     * This method invalidates the user's JWT token and refresh token by clearing the associated cookies.
      *
-     * @param response the HTTP response in which the JWT cookie will be removed
+     * @param token        the JWT token sent by the client, if any
+     * @param refreshToken the refresh token sent by the client, if any
+     * @param response     the HTTP response in which the cookies will be removed
      * @return a ResponseEntity with status 200 (OK) indicating the user has been logged out
      */
     @PostMapping("/logout")
@@ -123,8 +167,11 @@ public class AuthController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User logged out successfully")
     })
-    public ResponseEntity<Void> logout(HttpServletResponse response) {
-        response.addCookie(logoutUseCase.execute());
+    public ResponseEntity<Void> logout(
+            @CookieValue(name = CookieUtil.JWT_COOKIE_NAME, required = false) String token,
+            @CookieValue(name = CookieUtil.REFRESH_COOKIE_NAME, required = false) String refreshToken,
+            HttpServletResponse response) {
+        logoutUseCase.execute(token, refreshToken).forEach(response::addCookie);
 
         logger.info("User logged out successfully");
         return ResponseEntity.ok().build();
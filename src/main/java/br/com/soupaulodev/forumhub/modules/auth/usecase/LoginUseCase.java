@@ -1,8 +1,12 @@
 package br.com.soupaulodev.forumhub.modules.auth.usecase;
 
 import br.com.soupaulodev.forumhub.modules.auth.controller.dto.LoginRequestDTO;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.RateLimitExceededException;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.security.LoginAttemptLimiter;
+import br.com.soupaulodev.forumhub.security.RefreshTokenService;
+import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
 import br.com.soupaulodev.forumhub.security.utils.CookieUtil;
 import jakarta.servlet.http.Cookie;
 import org.slf4j.Logger;
@@ -14,15 +18,20 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 
 /**
  * Use case responsible for handling the login process for the application.
  * <p>
  * This class processes login requests by authenticating user credentials.
- * If successful, it generates and returns a cookie containing a JWT token.
+ * If successful, it generates and returns a cookie containing a short-lived JWT token
+ * and a cookie containing the refresh token used to renew it.
  * It interacts with the AuthenticationManager for authentication and
  * UserRepository to retrieve user data. If authentication succeeds,
  * a JWT token is generated using the CookieUtil class.
+ * Every attempt goes through the LoginAttemptLimiter before the password is checked,
+ * and failed attempts make the client and the username back off exponentially.
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
@@ -34,29 +43,53 @@ public class LoginUseCase {
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final CookieUtil cookieUtil;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final RefreshTokenService refreshTokenService;
+    private final JwtUtil jwtUtil;
 
-    public LoginUseCase(UserRepository userRepository, AuthenticationManager authenticationManager, CookieUtil cookieUtil) {
+    public LoginUseCase(UserRepository userRepository,
+                        AuthenticationManager authenticationManager,
+                        CookieUtil cookieUtil,
+                        LoginAttemptLimiter loginAttemptLimiter,
+                        RefreshTokenService refreshTokenService,
+                        JwtUtil jwtUtil) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.cookieUtil = cookieUtil;
+        this.loginAttemptLimiter = loginAttemptLimiter;
+        this.refreshTokenService = refreshTokenService;
+        this.jwtUtil = jwtUtil;
     }
 
     /**
      * Executes the login process by authenticating the provided credentials
-     * and generating a JWT cookie if successful.
+     * and generating the JWT and refresh token cookies if successful.
      *
      * @param requestDTO The login request containing username and password.
-     * @return A Cookie containing the JWT token for the authenticated user.
-     * @throws BadCredentialsException   If authentication fails due to invalid credentials.
-     * @throws UsernameNotFoundException If the user is not found in the database.
+     * @param clientIp   The IP address of the client attempting to log in.
+     * @return The cookies containing the JWT token and the refresh token for the authenticated user.
+     * @throws BadCredentialsException    If authentication fails due to invalid credentials.
+     * @throws UsernameNotFoundException  If the user is not found in the database.
+     * @throws RateLimitExceededException If the client or the username made too many attempts.
      */
-    public Cookie execute(LoginRequestDTO requestDTO) {
-        authenticateUser(requestDTO.username(), requestDTO.password());
+    public List<Cookie> execute(LoginRequestDTO requestDTO, String clientIp) {
+        loginAttemptLimiter.checkAllowed(clientIp, requestDTO.username());
+        try {
+            authenticateUser(requestDTO.username(), requestDTO.password());
+        } catch (BadCredentialsException ex) {
+            loginAttemptLimiter.recordFailure(clientIp, requestDTO.username());
+            throw ex;
+        }
+        loginAttemptLimiter.recordSuccess(requestDTO.username());
+
         UserEntity user = getUserEntity(requestDTO.username());
         Cookie jwtCookie = cookieUtil.generateCookieWithToken(user);
+        Cookie refreshCookie = cookieUtil.generateRefreshCookie(
+                refreshTokenService.issue(user.getId().toString(), user.getUsername()),
+                jwtUtil.getRefreshExpiration());
 
         logger.info("User {} successfully authenticated and cookie generated.", requestDTO.username());
-        return jwtCookie;
+        return List.of(jwtCookie, refreshCookie);
     }
 
     /**
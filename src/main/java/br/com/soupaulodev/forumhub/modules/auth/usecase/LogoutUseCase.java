@@ -1,10 +1,17 @@
 package br.com.soupaulodev.forumhub.modules.auth.usecase;
 
+import br.com.soupaulodev.forumhub.security.RefreshTokenService;
+import br.com.soupaulodev.forumhub.security.TokenRevocationService;
+import br.com.soupaulodev.forumhub.security.utils.CookieUtil;
+import br.com.soupaulodev.forumhub.security.utils.JwtClaims;
+import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
 import jakarta.servlet.http.Cookie;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * Handles the logout process by invalidating the user's JWT token.
  * <p>
@@ -15,13 +22,18 @@ import org.springframework.stereotype.Service;
  * The generated cookie is marked as HttpOnly and Secure to enhance security,
  * ensuring it is transmitted only over HTTPS and cannot be accessed via JavaScript.
  * </p>
+ * <p>
+ * The token being logged out is also revoked through the {@link TokenRevocationService}, so it is rejected by
+ * every node even if it was copied before the logout, and the family of the refresh token is revoked and its
+ * cookie cleared, so the login cannot be renewed anymore.
+ * </p>
  *
  * <p><strong>Usage:</strong></p>
  * <pre>
- * LogoutUseCase logoutUseCase = new LogoutUseCase();
- * Cookie logoutCookie = logoutUseCase.execute();
+ * LogoutUseCase logoutUseCase = new LogoutUseCase(jwtUtil, tokenRevocationService, refreshTokenService);
+ * List&lt;Cookie&gt; logoutCookies = logoutUseCase.execute(token, refreshToken);
  * </pre>
- * <p>This cookie can then be added to the HTTP response to log the user out.</p>
+ * <p>These cookies can then be added to the HTTP response to log the user out.</p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
@@ -30,24 +42,69 @@ public class LogoutUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(LogoutUseCase.class);
 
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
+
+    /**
+     * Constructs a new {@link LogoutUseCase}.
+     *
+     * @param jwtUtil The utility class used to verify the token being logged out.
+     * @param tokenRevocationService The service revoking the access tokens.
+     * @param refreshTokenService The service revoking the refresh tokens.
+     */
+    public LogoutUseCase(JwtUtil jwtUtil,
+                         TokenRevocationService tokenRevocationService,
+                         RefreshTokenService refreshTokenService) {
+        this.jwtUtil = jwtUtil;
+        this.tokenRevocationService = tokenRevocationService;
+        this.refreshTokenService = refreshTokenService;
+    }
+
     /**
-     * Generates an expired cookie to invalidate the JWT token.
+     * Generates expired cookies to invalidate the JWT token and the refresh token.
      * <p>
-     * This method creates a new {@link Cookie} with the name "JWT_TOKEN",
-     * null value, and an expiration time of 0 seconds, effectively removing it
+     * This method creates a new {@link Cookie} with the name "JWT_TOKEN" and another one with the name
+     * "REFRESH_TOKEN", both with a null value and an expiration time of 0 seconds, effectively removing them
      * from the client's browser upon inclusion in the HTTP response.
      * </p>
      *
-     * @return A {@link Cookie} configured to log the user out.
+     * @param token The JWT token being logged out, or {@code null} if the request carried none.
+     * @param refreshToken The refresh token being logged out, or {@code null} if the request carried none.
+     * @return The cookies configured to log the user out.
      */
-    public Cookie execute() {
-        Cookie cookie = new Cookie("JWT_TOKEN", null);
+    public List<Cookie> execute(String token, String refreshToken) {
+        if (token != null && !token.isBlank()) {
+            revoke(token);
+        }
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
+        }
+
+        Cookie cookie = expiredCookie(CookieUtil.JWT_COOKIE_NAME, "/");
+        Cookie refreshCookie = expiredCookie(CookieUtil.REFRESH_COOKIE_NAME, CookieUtil.REFRESH_COOKIE_PATH);
+
+        logger.info("User logged out successfully. JWT token invalidated.");
+        return List.of(cookie, refreshCookie);
+    }
+
+    private void revoke(String token) {
+        JwtClaims claims;
+        try {
+            claims = jwtUtil.verify(token);
+        } catch (RuntimeException e) {
+            logger.debug("JWT token not revoked: {}", e.getMessage());
+            return;
+        }
+        tokenRevocationService.revoke(token, claims);
+    }
+
+    private static Cookie expiredCookie(String name, String path) {
+        Cookie cookie = new Cookie(name, null);
         cookie.setHttpOnly(true);
         cookie.setSecure(true);
         cookie.setMaxAge(0);
-        cookie.setPath("/");
-
-        logger.info("User logged out successfully. JWT token invalidated.");
+        cookie.setPath(path);
         return cookie;
     }
 }
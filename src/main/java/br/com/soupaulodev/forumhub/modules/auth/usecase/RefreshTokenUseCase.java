@@ -0,0 +1,61 @@
+package br.com.soupaulodev.forumhub.modules.auth.usecase;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
+import br.com.soupaulodev.forumhub.security.RefreshTokenService;
+import br.com.soupaulodev.forumhub.security.utils.CookieUtil;
+import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
+import jakarta.servlet.http.Cookie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Use case responsible for renewing the access token of a logged in user.
+ * <p>
+ * The refresh token is exchanged through the {@link RefreshTokenService}, which rotates it and detects reuse.
+ * The renewal does not touch the password encoder nor the user table, so access tokens can be short-lived
+ * without forcing users to log in again.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Service
+public class RefreshTokenUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenUseCase.class);
+
+    private final RefreshTokenService refreshTokenService;
+    private final CookieUtil cookieUtil;
+    private final JwtUtil jwtUtil;
+
+    /**
+     * Constructs a {@link RefreshTokenUseCase} instance with the required dependencies.
+     *
+     * @param refreshTokenService Service rotating the refresh tokens.
+     * @param cookieUtil          Utility class for generating the cookies.
+     * @param jwtUtil             Utility class providing the refresh token expiration.
+     */
+    public RefreshTokenUseCase(RefreshTokenService refreshTokenService, CookieUtil cookieUtil, JwtUtil jwtUtil) {
+        this.refreshTokenService = refreshTokenService;
+        this.cookieUtil = cookieUtil;
+        this.jwtUtil = jwtUtil;
+    }
+
+    /**
+     * Exchanges the refresh token for a new JWT token and a new refresh token.
+     *
+     * @param refreshToken The refresh token sent by the client.
+     * @return The cookies containing the new JWT token and the new refresh token.
+     * @throws UnauthorizedException If the refresh token is missing, invalid, revoked or was already used.
+     */
+    public List<Cookie> execute(String refreshToken) {
+        RefreshTokenService.TokenPair tokens = refreshTokenService.rotate(refreshToken);
+
+        logger.debug("Access token renewed from refresh token");
+        return List.of(
+                cookieUtil.generateCookieWithJwt(tokens.accessToken()),
+                cookieUtil.generateRefreshCookie(tokens.refreshToken(), jwtUtil.getRefreshExpiration()));
+    }
+}
@@ -1,10 +1,14 @@
 package br.com.soupaulodev.forumhub.modules.auth.usecase;
 
+import br.com.soupaulodev.forumhub.modules.exception.usecase.RateLimitExceededException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceAlreadyExistsException;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.mapper.UserMapper;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.security.LoginAttemptLimiter;
+import br.com.soupaulodev.forumhub.security.RefreshTokenService;
+import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
 import br.com.soupaulodev.forumhub.security.utils.CookieUtil;
 import jakarta.servlet.http.Cookie;
 import org.slf4j.Logger;
@@ -12,6 +16,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -19,11 +24,16 @@ import java.util.Map;
  * <p>
  * This use case ensures that new users can register in the system by checking
  * if the username is available, securely hashing their password, saving the user,
- * and generating a JWT token as a cookie upon successful registration.
+ * and generating a JWT token and a refresh token as cookies upon successful registration.
  * </p>
  * <p>
  * If the username already exists, a {@link ResourceAlreadyExistsException} is thrown.
  * </p>
+ * <p>
+ * Signups are limited by the {@link LoginAttemptLimiter} before the password is hashed, and attempts on
+ * existing usernames count as failures, so enumerating usernames backs off like guessing passwords. Those
+ * failures are kept apart from the login ones, so they never delay the logins of the owner of the username.
+ * </p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
@@ -35,20 +45,32 @@ public class SignUpUseCase {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final CookieUtil cookieUtil;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final RefreshTokenService refreshTokenService;
+    private final JwtUtil jwtUtil;
 
     /**
      * Constructs a {@link SignUpUseCase} instance with the required dependencies.
      *
-     * @param userRepository  Repository for interacting with user data.
-     * @param passwordEncoder Encoder for securely hashing passwords.
-     * @param cookieUtil      Utility class for generating JWT cookies.
+     * @param userRepository      Repository for interacting with user data.
+     * @param passwordEncoder     Encoder for securely hashing passwords.
+     * @param cookieUtil          Utility class for generating JWT cookies.
+     * @param loginAttemptLimiter Limiter protecting the password encoder from signup bursts.
+     * @param refreshTokenService Service issuing the refresh token of the new user.
+     * @param jwtUtil             Utility class providing the refresh token expiration.
      */
     public SignUpUseCase(UserRepository userRepository,
                          PasswordEncoder passwordEncoder,
-                         CookieUtil cookieUtil) {
+                         CookieUtil cookieUtil,
+                         LoginAttemptLimiter loginAttemptLimiter,
+                         RefreshTokenService refreshTokenService,
+                         JwtUtil jwtUtil) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.cookieUtil = cookieUtil;
+        this.loginAttemptLimiter = loginAttemptLimiter;
+        this.refreshTokenService = refreshTokenService;
+        this.jwtUtil = jwtUtil;
     }
 
     /**
@@ -59,22 +81,34 @@ public class SignUpUseCase {
      * </p>
      *
      * @param requestDTO The registration details (username, password, name, email).
-     * @return A map containing the created user details and a JWT cookie.
+     * @param clientIp   The IP address of the client signing up.
+     * @return A map containing the created user details, a JWT cookie and a refresh token cookie.
      * @throws ResourceAlreadyExistsException If the username is already taken.
+     * @throws RateLimitExceededException     If the client or the username made too many attempts.
      */
-    public Map<String, Object> execute(UserCreateRequestDTO requestDTO) {
-        validateUsernameAvailability(requestDTO.username());
+    public Map<String, Object> execute(UserCreateRequestDTO requestDTO, String clientIp) {
+        loginAttemptLimiter.checkSignupAllowed(clientIp, requestDTO.username());
+        try {
+            validateUsernameAvailability(requestDTO.username());
+        } catch (ResourceAlreadyExistsException ex) {
+            loginAttemptLimiter.recordSignupFailure(clientIp, requestDTO.username());
+            throw ex;
+        }
 
         UserEntity user = createUserEntity(requestDTO);
         userRepository.save(user);
 
         Cookie jwtCookie = cookieUtil.generateCookieWithToken(user);
+        Cookie refreshCookie = cookieUtil.generateRefreshCookie(
+                refreshTokenService.issue(user.getId().toString(), user.getUsername()),
+                jwtUtil.getRefreshExpiration());
 
         logger.info("User {} registered successfully", requestDTO.username());
 
         return Map.of(
-                "user", UserMapper.toDetailsResponseDTO(user),
-                "cookie", jwtCookie
+                "user", UserMapper.toDetailsResponseDTO(user, List.of()),
+                "cookie", jwtCookie,
+                "refreshCookie", refreshCookie
         );
     }
 
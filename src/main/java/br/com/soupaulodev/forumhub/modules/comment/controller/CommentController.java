@@ -4,17 +4,20 @@ import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentCreateR
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentUpdateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.comment.usecase.*;
+import br.com.soupaulodev.forumhub.modules.etag.ETags;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
+import br.com.soupaulodev.forumhub.modules.validation.ResourceId;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -31,6 +34,7 @@ public class CommentController {
     private final DeleteCommentUseCase deleteCommentUseCase;
     private final HighCommentUseCase highCommentUseCase;
     private final UnHighCommentUseCase unHighCommentUseCase;
+    private final int maxPageSize;
 
     /**
      * Constructs a new CommentController with the specified use cases.
@@ -41,19 +45,22 @@ public class CommentController {
      * @param deleteCommentUseCase the use case for deleting comments
      * @param highCommentUseCase   the use case for highing comments
      * @param unHighCommentUseCase the use case for unhighing comments
+     * @param maxPageSize          the largest page of comments listed at once
      */
     public CommentController(CreateCommentUseCase createCommentUseCase,
                              ListCommentsUseCase listCommentsUseCase,
                              UpdateCommentUseCase updateCommentUseCase,
                              DeleteCommentUseCase deleteCommentUseCase,
                              HighCommentUseCase highCommentUseCase,
-                             UnHighCommentUseCase unHighCommentUseCase) {
+                             UnHighCommentUseCase unHighCommentUseCase,
+                             @Value("${pagination.max-page-size}") int maxPageSize) {
         this.createCommentUseCase = createCommentUseCase;
         this.listCommentsUseCase = listCommentsUseCase;
         this.updateCommentUseCase = updateCommentUseCase;
         this.deleteCommentUseCase = deleteCommentUseCase;
         this.highCommentUseCase = highCommentUseCase;
         this.unHighCommentUseCase = unHighCommentUseCase;
+        this.maxPageSize = maxPageSize;
     }
 
     /**
@@ -79,16 +86,18 @@ public class CommentController {
 
     /**
      * Endpoint for handling comment listing operations.
-     * This method lists all comments.
+     * This method lists the root comments created before the cursor, with the cursor of the next page.
      *
-     * @return the response entity of CommentResponseDTO with status 200 (OK) and the list of comments
+     * @param cursor the cursor returned with the previous page, absent for the first page
+     * @param size the number of comments to retrieve per page
+     * @return the response entity of the page of CommentResponseDTO with status 200 (OK)
      */
     @GetMapping("/all")
     @Operation(summary = "List all comments")
     @ApiResponse(responseCode = "200", description = "Comments listed successfully")
-    public ResponseEntity<List<CommentResponseDTO>> listComments(@Valid @RequestParam(defaultValue = "0") @Min(0) int page,
-                                                                 @Valid @RequestParam(defaultValue = "5") @Min(5) int size) {
-        return ResponseEntity.ok(listCommentsUseCase.execute(page, size));
+    public ResponseEntity<CursorPage<CommentResponseDTO>> listComments(@RequestParam(required = false) String cursor,
+                                                                       @Valid @RequestParam(defaultValue = "5") @Min(5) int size) {
+        return ETags.ok(listCommentsUseCase.execute(cursor, Math.min(size, maxPageSize)));
     }
 
     /**
@@ -108,7 +117,7 @@ public class CommentController {
             @ApiResponse(responseCode = "404", description = "Comment not found")
     })
     public ResponseEntity<CommentResponseDTO> updateComment(@Valid @PathVariable
-                                                            @org.hibernate.validator.constraints.UUID String id,
+                                                            @ResourceId String id,
                                                             @RequestBody CommentUpdateRequestDTO requestDTO) {
         UUID authenticatedUserId = getAuthenticatedUserId();
         return ResponseEntity.ok(updateCommentUseCase.execute(UUID.fromString(id), requestDTO, authenticatedUserId));
@@ -128,7 +137,7 @@ public class CommentController {
             @ApiResponse(responseCode = "403", description = "Forbidden"),
             @ApiResponse(responseCode = "404", description = "Comment not found")
     })
-    public ResponseEntity<Void> deleteComment(@Valid @PathVariable @org.hibernate.validator.constraints.UUID String id) {
+    public ResponseEntity<Void> deleteComment(@Valid @PathVariable @ResourceId String id) {
         UUID authenticatedUserId = getAuthenticatedUserId();
         deleteCommentUseCase.execute(UUID.fromString(id), authenticatedUserId);
         return ResponseEntity.noContent().build();
@@ -149,7 +158,7 @@ public class CommentController {
     })
     @PostMapping("/high/{id}")
     public ResponseEntity<Void> highComment(@Valid @PathVariable("id")
-                                                          @org.hibernate.validator.constraints.UUID String commentId) {
+                                                          @ResourceId String commentId) {
         UUID authenticatedUserId = getAuthenticatedUserId();
         highCommentUseCase.execute(UUID.fromString(commentId), authenticatedUserId);
         return ResponseEntity.noContent().build();
@@ -170,7 +179,7 @@ public class CommentController {
     })
     @DeleteMapping("/unhigh/{id}")
     public ResponseEntity<Void> unHighComment(@Valid @PathVariable("id")
-                                             @org.hibernate.validator.constraints.UUID String commentId) {
+                                             @ResourceId String commentId) {
         UUID authenticatedUserId = getAuthenticatedUserId();
         unHighCommentUseCase.execute(UUID.fromString(commentId), authenticatedUserId);
         return ResponseEntity.noContent().build();
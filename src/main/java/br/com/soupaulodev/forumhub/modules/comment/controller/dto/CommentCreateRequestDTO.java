@@ -1,8 +1,8 @@
 package br.com.soupaulodev.forumhub.modules.comment.controller.dto;
 
+import br.com.soupaulodev.forumhub.modules.validation.ResourceId;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
-import org.hibernate.validator.constraints.UUID;
 
 /**
  * DTO (Data Transfer Object) representing the request body for comment creation.
@@ -21,7 +21,7 @@ public record CommentCreateRequestDTO(
         @NotBlank
         @Size(max = 500)
         String content,
-        @UUID
+        @ResourceId
         String topicId,
         String parentCommentId
 ) {
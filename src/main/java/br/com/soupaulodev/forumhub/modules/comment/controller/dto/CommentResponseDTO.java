@@ -1,6 +1,10 @@
 package br.com.soupaulodev.forumhub.modules.comment.controller.dto;
 
+import br.com.soupaulodev.forumhub.modules.etag.Versioned;
+
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,4 +27,14 @@ public record CommentResponseDTO (
     List<CommentResponseDTO> replies,
     Instant createdAt,
     Instant updatedAt
-) {}
+) implements Versioned {
+
+    @Override
+    public List<Object> version() {
+        List<Object> version = new ArrayList<>(Arrays.asList(id, updatedAt, highs));
+        if (replies != null) {
+            replies.forEach(reply -> version.addAll(reply.version()));
+        }
+        return version;
+    }
+}
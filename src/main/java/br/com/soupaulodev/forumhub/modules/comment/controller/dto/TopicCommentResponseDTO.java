@@ -0,0 +1,40 @@
+package br.com.soupaulodev.forumhub.modules.comment.controller.dto;
+
+import br.com.soupaulodev.forumhub.modules.etag.Versioned;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO (Data Transfer Object) representing a root comment in the comments page of a topic.
+ * <p>
+ *     Only the first replies of the comment are included, without their own replies. The number of direct replies
+ *     tells the client whether the rest of the thread has to be loaded.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record TopicCommentResponseDTO(
+    UUID id,
+    String content,
+    UUID user,
+    UUID topic,
+    Long highs,
+    Long repliesCount,
+    List<CommentResponseDTO> replies,
+    Instant createdAt,
+    Instant updatedAt
+) implements Versioned {
+
+    @Override
+    public List<Object> version() {
+        List<Object> version = new ArrayList<>(Arrays.asList(id, updatedAt, highs, repliesCount));
+        if (replies != null) {
+            replies.forEach(reply -> version.addAll(reply.version()));
+        }
+        return version;
+    }
+}
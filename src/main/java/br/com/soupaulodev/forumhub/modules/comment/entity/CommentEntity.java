@@ -1,5 +1,11 @@
 package br.com.soupaulodev.forumhub.modules.comment.entity;
 
+import br.com.soupaulodev.forumhub.config.IdStrategy;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRow;
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounted;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
+import br.com.soupaulodev.forumhub.modules.highs.PendingHighsListener;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import jakarta.persistence.*;
@@ -22,12 +28,33 @@ import java.util.UUID;
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Entity
-@Table(name = "tb_comment")
-public class CommentEntity implements Serializable {
+@EntityListeners(PendingHighsListener.class)
+@SqlResultSetMapping(name = CommentEntity.ROW_MAPPING, classes = @ConstructorResult(targetClass = CommentRow.class,
+        columns = {
+                @ColumnResult(name = "id", type = UUID.class),
+                @ColumnResult(name = "content", type = String.class),
+                @ColumnResult(name = "user_id", type = UUID.class),
+                @ColumnResult(name = "topic_id", type = UUID.class),
+                @ColumnResult(name = "highs_count", type = Long.class),
+                @ColumnResult(name = "parent_comment_id", type = UUID.class),
+                @ColumnResult(name = "created_at", type = Instant.class),
+                @ColumnResult(name = "updated_at", type = Instant.class)
+        }))
+@Table(name = "tb_comment", indexes = {
+        @Index(name = "idx_comment_parent_created_at_id", columnList = "parent_comment_id, created_at, id"),
+        @Index(name = "idx_comment_topic_parent_created_at_id", columnList = "topic_id, parent_comment_id, created_at, id")
+})
+public class CommentEntity implements Serializable, HighsCounted {
 
     @Serial
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Name of the mapping of the columns selected by the native queries of {@link CommentRepository} to a
+     * {@link CommentRow}, converting each column to the type of its component.
+     */
+    public static final String ROW_MAPPING = "CommentRow";
+
 
     @Id
     private UUID id;
@@ -35,7 +62,7 @@ public class CommentEntity implements Serializable {
     @Column(nullable = false, length = 500)
     private String content;
 
-    @Column(name = "highs_count", nullable = false)
+    @Column(name = "highs_count", nullable = false, updatable = false)
     private Long highsCount = 0L;
 
 
@@ -74,7 +101,7 @@ public class CommentEntity implements Serializable {
     public CommentEntity() {
         Instant now = Instant.now();
 
-        this.id = UUID.randomUUID();
+        this.id = IdStrategy.nextId();
         this.createdAt = now;
         this.updatedAt = now;
     }
@@ -165,6 +192,26 @@ public class CommentEntity implements Serializable {
         this.highsCount--;
     }
 
+    /**
+     * Gets the kind of item this entity is, for the highs count buffer.
+     *
+     * @return {@link HighsTarget#COMMENT}
+     */
+    @Override
+    public HighsTarget getHighsTarget() {
+        return HighsTarget.COMMENT;
+    }
+
+    /**
+     * Adds a delta to the highs count, without persisting it.
+     *
+     * @param delta the value added to the highs count, negative to subtract
+     */
+    @Override
+    public void addToHighsCount(long delta) {
+        this.highsCount = (highsCount == null ? 0L : highsCount) + delta;
+    }
+
     /**
      * Gets the user who made the comment.
      *
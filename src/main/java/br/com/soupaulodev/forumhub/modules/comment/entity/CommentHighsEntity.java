@@ -1,6 +1,5 @@
 package br.com.soupaulodev.forumhub.modules.comment.entity;
 
-import br.com.soupaulodev.forumhub.config.UlidGenerator;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import jakarta.persistence.*;
@@ -19,17 +18,19 @@ import java.util.Objects;
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Entity
-@Table(name = "tb_comment_highs")
+@Table(name = "tb_comment_highs", indexes = @Index(name = "idx_comment_highs_user_id", columnList = "user_id"))
 public class CommentHighsEntity {
 
-    @Id
-    private String id;
+    @EmbeddedId
+    private CommentHighsId id;
 
 
+    @MapsId("commentId")
     @ManyToOne
     @JoinColumn(name = "comment_id", nullable = false)
     private CommentEntity comment;
 
+    @MapsId("userId")
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     private UserEntity user;
@@ -45,18 +46,17 @@ public class CommentHighsEntity {
 
     /**
      * Default constructor.
-     * Initializes the id
+     * Initializes the createdAt and updatedAt fields.
      */
     public CommentHighsEntity() {
         Instant now = Instant.now();
-        this.id = UlidGenerator.generate();
         this.createdAt = now;
         this.updatedAt = now;
     }
 
     /**
      * Constructs a new CommentHighsEntity with the specified user and comment.
-     * Initializes the id, createdAt and updatedAt fields.
+     * Initializes the composite id, createdAt and updatedAt fields.
      *
      * @param comment      the comment that was liked
      * @param user       the user who liked the comment
@@ -65,6 +65,7 @@ public class CommentHighsEntity {
         this();
         this.comment = comment;
         this.user = user;
+        this.id = new CommentHighsId(comment.getId(), user.getId());
     }
 
     /**
@@ -72,7 +73,7 @@ public class CommentHighsEntity {
 
      * @return the unique identifier of the comment high
      */
-    public String getId() {
+    public CommentHighsId getId() {
         return id;
     }
 
@@ -81,7 +82,7 @@ public class CommentHighsEntity {
      *
      * @param id the unique identifier of the comment high
      */
-    public void setId(String id) {
+    public void setId(CommentHighsId id) {
         this.id = id;
     }
 
@@ -165,7 +166,7 @@ public class CommentHighsEntity {
     @Override
     public String toString() {
         return "CommentHighsEntity{" +
-                "id='" + id + '\'' +
+                "id=" + id +
                 ", comment=" + comment +
                 ", user=" + user +
                 ", createdAt=" + createdAt +
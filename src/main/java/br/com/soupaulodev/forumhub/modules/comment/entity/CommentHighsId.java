@@ -0,0 +1,84 @@
+package br.com.soupaulodev.forumhub.modules.comment.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Composite primary key of the {@link CommentHighsEntity}.
+ * <p>
+ * A user can high the same comment only once, so the pair of IDs identifies the high on its own and the
+ * uniqueness is enforced by the primary key itself.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Embeddable
+public class CommentHighsId implements Serializable {
+
+    @Column(name = "comment_id", nullable = false)
+    private UUID commentId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    /**
+     * Default constructor.
+     */
+    public CommentHighsId() {
+    }
+
+    /**
+     * Constructs a new CommentHighsId.
+     *
+     * @param commentId the ID of the comment
+     * @param userId the ID of the user who highed the comment
+     */
+    public CommentHighsId(UUID commentId, UUID userId) {
+        this.commentId = commentId;
+        this.userId = userId;
+    }
+
+    /**
+     * Gets the ID of the comment.
+     *
+     * @return the ID of the comment
+     */
+    public UUID getCommentId() {
+        return commentId;
+    }
+
+    /**
+     * Gets the ID of the user who highed the comment.
+     *
+     * @return the ID of the user who highed the comment
+     */
+    public UUID getUserId() {
+        return userId;
+    }
+
+    @Override
+    public String toString() {
+        return "CommentHighsId{" +
+                "commentId=" + commentId +
+                ", userId=" + userId +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        CommentHighsId that = (CommentHighsId) obj;
+        return Objects.equals(this.commentId, that.commentId) && Objects.equals(this.userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(commentId, userId);
+    }
+}
@@ -2,7 +2,12 @@ package br.com.soupaulodev.forumhub.modules.comment.mapper;
 
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.TopicCommentResponseDTO;
 import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRow;
+import br.com.soupaulodev.forumhub.modules.comment.repository.RootCommentRow;
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounterBuffer;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.topic.mapper.TopicMapper;
@@ -12,6 +17,7 @@ import br.com.soupaulodev.forumhub.modules.user.mapper.UserMapper;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -22,13 +28,26 @@ import java.util.UUID;
  * These transformations help decouple the domain model from the API layer, ensuring proper data transfer
  * between different components of the application.
  * </p>
+ * <p>
+ * The rows projected from the database do not go through the {@code PendingHighsListener} of the entities, so the
+ * highs not written to the database yet are added to them here.
+ * </p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Component
 public class CommentMapper {
 
-    private CommentMapper() {}
+    private final HighsCounterBuffer highsCounterBuffer;
+
+    /**
+     * Constructs a new {@link CommentMapper}.
+     *
+     * @param highsCounterBuffer the buffer holding the highs not written to the database yet
+     */
+    public CommentMapper(HighsCounterBuffer highsCounterBuffer) {
+        this.highsCounterBuffer = highsCounterBuffer;
+    }
 
     /**
      * Converts a {@link CommentCreateRequestDTO} to a {@link CommentEntity}.
@@ -102,4 +121,48 @@ public class CommentMapper {
                 commentEntity.getCreatedAt(),
                 commentEntity.getUpdatedAt());
     }
-}
\ No newline at end of file
+
+    /**
+     * Converts a {@link CommentRow} to a {@link CommentResponseDTO}, along with its replies.
+     *
+     * @param row              the {@link CommentRow} to be converted
+     * @param repliesByParent  the rows of the replies, grouped by the ID of the comment they reply to
+     * @return a new {@link CommentResponseDTO} with the data from the {@link CommentRow}
+     */
+    public CommentResponseDTO toResponseDTO(CommentRow row, Map<UUID, List<CommentRow>> repliesByParent) {
+        List<CommentResponseDTO> replies = repliesByParent.getOrDefault(row.id(), List.of()).stream()
+                .map(reply -> toResponseDTO(reply, repliesByParent))
+                .toList();
+
+        return new CommentResponseDTO(
+                row.id(),
+                row.content(),
+                row.userId(),
+                row.topicId(),
+                row.highs() + highsCounterBuffer.pending(HighsTarget.COMMENT, row.id()),
+                row.parentCommentId(),
+                replies,
+                row.createdAt(),
+                row.updatedAt());
+    }
+
+    /**
+     * Converts a {@link RootCommentRow} to a {@link TopicCommentResponseDTO}, along with its first replies.
+     *
+     * @param row     the {@link RootCommentRow} to be converted
+     * @param replies the rows of the first direct replies of the comment, listed without their own replies
+     * @return a new {@link TopicCommentResponseDTO} with the data from the {@link RootCommentRow}
+     */
+    public TopicCommentResponseDTO toTopicCommentResponseDTO(RootCommentRow row, List<CommentRow> replies) {
+        return new TopicCommentResponseDTO(
+                row.id(),
+                row.content(),
+                row.userId(),
+                row.topicId(),
+                row.highs() + highsCounterBuffer.pending(HighsTarget.COMMENT, row.id()),
+                row.repliesCount(),
+                replies.stream().map(reply -> toResponseDTO(reply, Map.of())).toList(),
+                row.createdAt(),
+                row.updatedAt());
+    }
+}
@@ -1,12 +1,10 @@
 package br.com.soupaulodev.forumhub.modules.comment.repository;
 
 import br.com.soupaulodev.forumhub.modules.comment.entity.CommentHighsEntity;
+import br.com.soupaulodev.forumhub.modules.comment.entity.CommentHighsId;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
-import java.util.UUID;
-
 /**
  * Repository interface for {@link CommentHighsEntity}.
  * Extends {@link JpaRepository} to provide CRUD operations for {@link CommentHighsEntity}.
@@ -14,6 +12,5 @@ import java.util.UUID;
  * @author <a href="http://soupaulodev.com.br">soupaulodev</a>
  */
 @Repository
-public interface CommentHighsRepository extends JpaRepository<CommentHighsEntity, String> {
-    Optional<CommentHighsEntity> findByComment_IdAndUser_Id(UUID commentId, UUID userId);
+public interface CommentHighsRepository extends JpaRepository<CommentHighsEntity, CommentHighsId> {
 }
@@ -1,9 +1,16 @@
 package br.com.soupaulodev.forumhub.modules.comment.repository;
 
 import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.NativeQuery;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -11,4 +18,177 @@ import java.util.UUID;
  */
 @Repository
 public interface CommentRepository extends JpaRepository<CommentEntity, UUID> {
-}
\ No newline at end of file
+
+    /**
+     * Constructor expression of the {@link CommentRow} of a comment aliased {@code c}. The author, topic and parent
+     * IDs are read from the foreign keys, without joining their tables.
+     */
+    String ROW = """
+            new br.com.soupaulodev.forumhub.modules.comment.repository.CommentRow(
+                c.id, c.content, c.user.id, c.topic.id, c.highsCount, c.parentComment.id, c.createdAt, c.updatedAt)""";
+
+    /**
+     * Finds the first page of root comments, the most recent first.
+     *
+     * @param limit the maximum number of root comments to return
+     * @return the most recent root comments
+     */
+    @Query("SELECT " + ROW + " FROM CommentEntity c WHERE c.parentComment IS NULL ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentRow> findFirstPage(Limit limit);
+
+    /**
+     * Finds the page of root comments created right before the given position, the most recent first.
+     *
+     * @param createdAt the creation date of the last item of the previous page
+     * @param id the ID of the last item of the previous page
+     * @param limit the maximum number of root comments to return
+     * @return the root comments after the given position
+     */
+    @Query("SELECT " + ROW + """
+             FROM CommentEntity c
+            WHERE c.parentComment IS NULL AND (c.createdAt, c.id) < (:createdAt, :id)
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<CommentRow> findPageAfter(@Param("createdAt") Instant createdAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Finds the direct replies of the given comments, the oldest first.
+     *
+     * @param parentIds the IDs of the comments replied to
+     * @return the replies of the comments
+     */
+    @Query("SELECT " + ROW + """
+             FROM CommentEntity c
+            WHERE c.parentComment.id IN :parentIds
+            ORDER BY c.createdAt, c.id
+            """)
+    List<CommentRow> findRepliesOf(@Param("parentIds") Collection<UUID> parentIds);
+
+    /**
+     * Start of the recursive query of a thread, selecting the comments it starts at with a depth of 0, numbered from
+     * the oldest like the replies of a comment, so that only the {@code :maxReplies} oldest ones are kept. Followed by
+     * the condition on those comments and {@link #THREAD_REPLIES}.
+     */
+    String THREAD_START = """
+            WITH RECURSIVE thread (
+                id, content, user_id, topic_id, highs_count, parent_comment_id, created_at, updated_at, depth, position
+            ) AS (
+                SELECT c.id, c.content, c.user_id, c.topic_id, c.highs_count, c.parent_comment_id, c.created_at,
+                       c.updated_at, 0, ROW_NUMBER() OVER (ORDER BY c.created_at, c.id)
+                  FROM tb_comment c
+                 WHERE\s""";
+
+    /**
+     * Recursive part of the thread queries: walks the replies of the comments already in the thread, down to
+     * {@code :maxDepth} levels below the starting comments, numbering the replies of each comment from the oldest.
+     * Only the {@code :maxReplies} oldest replies of each comment are selected, and the walk does not go below the
+     * others, so their replies are never read. The rows are selected level by level, each level in creation order,
+     * so every parent comes before its replies. Each level is one index lookup on the parent column.
+     */
+    String THREAD_REPLIES = """
+
+                 UNION ALL
+                SELECT r.id, r.content, r.user_id, r.topic_id, r.highs_count, r.parent_comment_id, r.created_at,
+                       r.updated_at, t.depth + 1,
+                       ROW_NUMBER() OVER (PARTITION BY r.parent_comment_id ORDER BY r.created_at, r.id)
+                  FROM tb_comment r
+                  JOIN thread t ON r.parent_comment_id = t.id
+                 WHERE t.depth < :maxDepth AND t.position <= :maxReplies
+            )
+            SELECT id, content, user_id, topic_id, highs_count, parent_comment_id, created_at, updated_at
+              FROM thread
+             WHERE position <= :maxReplies
+             ORDER BY depth, created_at, id
+            """;
+
+    /**
+     * Finds every comment of a topic with a single recursive query, down to the given depth.
+     *
+     * @param topicId the ID of the topic
+     * @param maxDepth the number of levels of replies to load below the root comments
+     * @param maxReplies the number of root comments, and of replies of each comment, to load, the oldest first
+     * @return the comments of the topic, every parent before its replies
+     */
+    @NativeQuery(value = THREAD_START + "c.topic_id = :topicId AND c.parent_comment_id IS NULL" + THREAD_REPLIES,
+            sqlResultSetMapping = CommentEntity.ROW_MAPPING)
+    List<CommentRow> findThread(@Param("topicId") UUID topicId,
+                                @Param("maxDepth") int maxDepth,
+                                @Param("maxReplies") int maxReplies);
+
+    /**
+     * Finds a comment of a topic and its replies with a single recursive query, down to the given depth.
+     *
+     * @param topicId the ID of the topic
+     * @param commentId the ID of the comment the subtree starts at
+     * @param maxDepth the number of levels of replies to load below the comment
+     * @param maxReplies the number of replies loaded for each comment, the oldest first
+     * @return the comment and its replies, every parent before its replies, or an empty list if the comment does
+     * not belong to the topic
+     */
+    @NativeQuery(value = THREAD_START + "c.topic_id = :topicId AND c.id = :commentId" + THREAD_REPLIES,
+            sqlResultSetMapping = CommentEntity.ROW_MAPPING)
+    List<CommentRow> findSubtree(@Param("topicId") UUID topicId,
+                                 @Param("commentId") UUID commentId,
+                                 @Param("maxDepth") int maxDepth,
+                                 @Param("maxReplies") int maxReplies);
+
+    /**
+     * Constructor expression of the {@link RootCommentRow} of a comment aliased {@code c}. The replies are counted
+     * with a lookup on the parent index for each comment of the page.
+     */
+    String ROOT_ROW = """
+            new br.com.soupaulodev.forumhub.modules.comment.repository.RootCommentRow(
+                c.id, c.content, c.user.id, c.topic.id, c.highsCount,
+                (SELECT COUNT(r) FROM CommentEntity r WHERE r.parentComment.id = c.id), c.createdAt, c.updatedAt)""";
+
+    /**
+     * Finds the first page of root comments of a topic, the most recent first.
+     *
+     * @param topicId the ID of the topic
+     * @param limit the maximum number of root comments to return
+     * @return the most recent root comments of the topic
+     */
+    @Query("SELECT " + ROOT_ROW + """
+             FROM CommentEntity c
+            WHERE c.topic.id = :topicId AND c.parentComment IS NULL
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<RootCommentRow> findFirstPageOfTopic(@Param("topicId") UUID topicId, Limit limit);
+
+    /**
+     * Finds the page of root comments of a topic created right before the given position, the most recent first.
+     *
+     * @param topicId the ID of the topic
+     * @param createdAt the creation date of the last item of the previous page
+     * @param id the ID of the last item of the previous page
+     * @param limit the maximum number of root comments to return
+     * @return the root comments of the topic after the given position
+     */
+    @Query("SELECT " + ROOT_ROW + """
+             FROM CommentEntity c
+            WHERE c.topic.id = :topicId AND c.parentComment IS NULL AND (c.createdAt, c.id) < (:createdAt, :id)
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<RootCommentRow> findPageOfTopicAfter(@Param("topicId") UUID topicId,
+                                              @Param("createdAt") Instant createdAt,
+                                              @Param("id") UUID id,
+                                              Limit limit);
+
+    /**
+     * Finds the oldest direct replies of each of the given comments, in a single query.
+     *
+     * @param parentIds the IDs of the comments replied to
+     * @param limit the maximum number of replies of each comment
+     * @return the first replies of the comments, the oldest first
+     */
+    @NativeQuery(value = """
+            SELECT id, content, user_id, topic_id, highs_count, parent_comment_id, created_at, updated_at
+              FROM (SELECT c.*,
+                           ROW_NUMBER() OVER (PARTITION BY c.parent_comment_id ORDER BY c.created_at, c.id) AS position
+                      FROM tb_comment c
+                     WHERE c.parent_comment_id IN (:parentIds)) replies
+             WHERE position <= :limit
+             ORDER BY created_at, id
+            """, sqlResultSetMapping = CommentEntity.ROW_MAPPING)
+    List<CommentRow> findFirstRepliesOf(@Param("parentIds") Collection<UUID> parentIds, @Param("limit") int limit);
+}
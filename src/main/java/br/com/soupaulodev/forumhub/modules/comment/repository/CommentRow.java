@@ -0,0 +1,28 @@
+package br.com.soupaulodev.forumhub.modules.comment.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Columns of a comment selected by the read queries of {@link CommentRepository}, without its replies.
+ *
+ * @param id the ID of the comment
+ * @param content the content of the comment
+ * @param userId the ID of the author of the comment
+ * @param topicId the ID of the topic of the comment
+ * @param highs the number of highs of the comment
+ * @param parentCommentId the ID of the comment replied to, or {@code null} for a root comment
+ * @param createdAt the creation date of the comment
+ * @param updatedAt the last update date of the comment
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record CommentRow(UUID id,
+                         String content,
+                         UUID userId,
+                         UUID topicId,
+                         Long highs,
+                         UUID parentCommentId,
+                         Instant createdAt,
+                         Instant updatedAt) {
+}
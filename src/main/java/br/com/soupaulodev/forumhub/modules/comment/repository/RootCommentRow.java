@@ -0,0 +1,29 @@
+package br.com.soupaulodev.forumhub.modules.comment.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Columns of a root comment selected by the topic comments queries of {@link CommentRepository}, with the number of
+ * its direct replies.
+ *
+ * @param id the ID of the comment
+ * @param content the content of the comment
+ * @param userId the ID of the author of the comment
+ * @param topicId the ID of the topic of the comment
+ * @param highs the number of highs of the comment
+ * @param repliesCount the number of direct replies of the comment
+ * @param createdAt the creation date of the comment
+ * @param updatedAt the last update date of the comment
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record RootCommentRow(UUID id,
+                             String content,
+                             UUID userId,
+                             UUID topicId,
+                             Long highs,
+                             Long repliesCount,
+                             Instant createdAt,
+                             Instant updatedAt) {
+}
@@ -1,5 +1,6 @@
 package br.com.soupaulodev.forumhub.modules.comment.usecase;
 
+import br.com.soupaulodev.forumhub.config.CacheConfig;
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
 import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
@@ -7,10 +8,12 @@ import br.com.soupaulodev.forumhub.modules.comment.mapper.CommentMapper;
 import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumParticipantRepository;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
@@ -30,15 +33,18 @@ public class CreateCommentUseCase {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final TopicRepository topicRepository;
+    private final ForumParticipantRepository forumParticipantRepository;
 
     public CreateCommentUseCase(CommentMapper commentMapper,
                                 CommentRepository commentRepository,
                                 UserRepository userRepository,
-                                TopicRepository topicRepository) {
+                                TopicRepository topicRepository,
+                                ForumParticipantRepository forumParticipantRepository) {
         this.commentMapper = commentMapper;
         this.commentRepository = commentRepository;
         this.userRepository = userRepository;
         this.topicRepository = topicRepository;
+        this.forumParticipantRepository = forumParticipantRepository;
     }
 
     /**
@@ -55,6 +61,7 @@ public class CreateCommentUseCase {
      * @throws ForbiddenException if the user is not authorized to comment on the topic
      * @throws IllegalArgumentException if the parent comment is not from the specified topic
      */
+    @CacheEvict(cacheNames = CacheConfig.TOPIC_DETAILS, key = "#result.topic")
     public CommentResponseDTO execute(CommentCreateRequestDTO requestDTO, UUID authenticatedUserId) {
 
         UserEntity user = userRepository.findById(authenticatedUserId)
@@ -63,7 +70,7 @@ public class CreateCommentUseCase {
         TopicEntity topic = topicRepository.findById(UUID.fromString(requestDTO.topicId()))
                 .orElseThrow(() -> new ResourceNotFoundException("Topic not found."));
 
-        if (!user.participatingInForum(topic.getForum())) {
+        if (!forumParticipantRepository.isParticipant(topic.getForum().getId(), authenticatedUserId)) {
             throw new ForbiddenException("You are not allowed to create a comment for this topic.");
         }
 
@@ -1,13 +1,16 @@
 package br.com.soupaulodev.forumhub.modules.comment.usecase;
 
+import br.com.soupaulodev.forumhub.config.CacheConfig;
 import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
 import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumParticipantRepository;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
@@ -23,6 +26,8 @@ public class DeleteCommentUseCase {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final TopicRepository topicRepository;
+    private final ForumParticipantRepository forumParticipantRepository;
+    private final Cache topicDetailsCache;
 
     /**
      * Constructs a new DeleteCommentUsecase with the specified repository.
@@ -30,13 +35,19 @@ public class DeleteCommentUseCase {
      * @param commentRepository the repository for managing comments
      * @param userRepository    the repository for managing users
      * @param topicRepository   the repository for managing topics
+     * @param forumParticipantRepository the repository for checking forum participation
+     * @param cacheManager      the manager of the cache of the topic details, which embed the comments
      */
     public DeleteCommentUseCase(CommentRepository commentRepository,
                                 UserRepository userRepository,
-                                TopicRepository topicRepository) {
+                                TopicRepository topicRepository,
+                                ForumParticipantRepository forumParticipantRepository,
+                                CacheManager cacheManager) {
         this.commentRepository = commentRepository;
         this.userRepository = userRepository;
         this.topicRepository = topicRepository;
+        this.forumParticipantRepository = forumParticipantRepository;
+        this.topicDetailsCache = cacheManager.getCache(CacheConfig.TOPIC_DETAILS);
     }
 
     /**
@@ -55,17 +66,20 @@ public class DeleteCommentUseCase {
             throw new ForbiddenException("You are not allowed to delete a comment for another user");
         }
 
-        UserEntity user = userRepository.findById(getAuthenticatedUserId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found."));
+        if (!userRepository.existsById(getAuthenticatedUserId)) {
+            throw new ResourceNotFoundException("User not found.");
+        }
 
         TopicEntity topic = topicRepository.findById(commentFound.getTopic().getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Topic not found."));
-        if (!user.participatingInForum(topic.getForum())) {
+        if (!forumParticipantRepository.isParticipant(topic.getForum().getId(), getAuthenticatedUserId)) {
             throw new ForbiddenException("You are not allowed to update a comment in a topic you do not participate in");
         }
 
         commentRepository.delete(commentFound);
         topic.decrementComments();
         topicRepository.save(topic);
+        // The topic is only known once the comment is loaded, so it can not be evicted through @CacheEvict
+        topicDetailsCache.evict(topic.getId());
     }
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package br.com.soupaulodev.forumhub.modules.comment.usecase;
+
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.mapper.CommentMapper;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRow;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Service class for loading the whole comment thread of a topic, or the subtree of one of its comments.
+ * <p>
+ * The comments are loaded with a single recursive query, whatever the shape of the thread, and the tree is assembled
+ * in one pass over the rows. Replies deeper than the maximum depth are not loaded, and neither are the replies of a
+ * comment past its oldest ones up to the maximum fan-out, along with their own replies. The same fan-out bounds the
+ * root comments of the topic, the oldest first.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Service
+public class GetCommentThreadUseCase {
+
+    private final CommentMapper commentMapper;
+    private final CommentRepository commentRepository;
+    private final TopicRepository topicRepository;
+    private final int maxDepth;
+    private final int maxReplies;
+
+    /**
+     * Constructs a new {@link GetCommentThreadUseCase}.
+     *
+     * @param commentMapper     the mapper of the comments
+     * @param commentRepository the repository the thread is loaded from
+     * @param topicRepository   the repository used to check the topic exists
+     * @param maxDepth          the number of levels of replies loaded below the first comments of the thread
+     * @param maxReplies        the number of replies loaded for each comment, and of root comments of the topic
+     */
+    public GetCommentThreadUseCase(CommentMapper commentMapper,
+                                   CommentRepository commentRepository,
+                                   TopicRepository topicRepository,
+                                   @Value("${comments.thread.max-depth}") int maxDepth,
+                                   @Value("${comments.thread.max-replies}") int maxReplies) {
+        this.commentMapper = commentMapper;
+        this.commentRepository = commentRepository;
+        this.topicRepository = topicRepository;
+        this.maxDepth = maxDepth;
+        this.maxReplies = maxReplies;
+    }
+
+    /**
+     * Executes the use case to load the thread of a topic.
+     *
+     * @param topicId   the ID of the topic
+     * @param commentId the ID of the comment the thread starts at, or {@code null} for every root comment of the topic
+     * @return the root comments of the topic, or the given comment, with their replies
+     * @throws ResourceNotFoundException if the topic does not exist, or the comment does not belong to it
+     */
+    @Transactional(readOnly = true)
+    public List<CommentResponseDTO> execute(UUID topicId, UUID commentId) {
+        List<CommentRow> rows;
+        if (commentId == null) {
+            if (!topicRepository.existsById(topicId)) {
+                throw new ResourceNotFoundException("Topic not found.");
+            }
+            rows = commentRepository.findThread(topicId, maxDepth, maxReplies);
+        } else {
+            rows = commentRepository.findSubtree(topicId, commentId, maxDepth, maxReplies);
+            if (rows.isEmpty()) {
+                throw new ResourceNotFoundException("Comment not found.");
+            }
+        }
+
+        // The rows come level by level, so the parent of a reply is always seen before it
+        List<CommentRow> roots = new ArrayList<>();
+        Map<UUID, List<CommentRow>> repliesByParent = new HashMap<>();
+        for (CommentRow row : rows) {
+            if (row.parentCommentId() == null || row.id().equals(commentId)) {
+                roots.add(row);
+            } else {
+                repliesByParent.get(row.parentCommentId()).add(row);
+            }
+            repliesByParent.put(row.id(), new ArrayList<>());
+        }
+
+        return roots.stream()
+                .map(root -> commentMapper.toResponseDTO(root, repliesByParent))
+                .toList();
+    }
+}
@@ -1,40 +1,37 @@
 package br.com.soupaulodev.forumhub.modules.comment.usecase;
 
-import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
-import br.com.soupaulodev.forumhub.modules.comment.entity.CommentHighsEntity;
-import br.com.soupaulodev.forumhub.modules.comment.repository.CommentHighsRepository;
 import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
-import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.modules.highs.HighsStore;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
 
 /**
  * Use case to high a Comment
+ * <p>
+ * The high is recorded in the {@link HighsStore}, which answers whether the user already highed the comment without
+ * touching the database, and is written to the highs table and counted in the background.
+ * </p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Service
 public class HighCommentUseCase {
 
-    private final CommentHighsRepository commentHighsRepository;
     private final CommentRepository commentRepository;
-    private final UserRepository userRepository;
+    private final HighsStore highsStore;
 
     /**
      * Constructor
      *
-     * @param commentHighsRepository comment highs repository
      * @param commentRepository comment repository
-     * @param userRepository user repository
+     * @param highsStore store of the highs
      */
-    public HighCommentUseCase(CommentHighsRepository commentHighsRepository,
-                              CommentRepository commentRepository,
-                              UserRepository userRepository) {
-        this.commentHighsRepository = commentHighsRepository;
+    public HighCommentUseCase(CommentRepository commentRepository,
+                              HighsStore highsStore) {
         this.commentRepository = commentRepository;
-        this.userRepository = userRepository;
+        this.highsStore = highsStore;
     }
 
     /**
@@ -42,22 +39,14 @@ public class HighCommentUseCase {
      *
      * @param commentId comment id
      * @param authenticatedUserId authenticated user id
+     * @throws IllegalArgumentException if the comment does not exist or was already highed by the user
      */
     public void execute(UUID commentId, UUID authenticatedUserId) {
-        commentHighsRepository.findByComment_IdAndUser_Id(commentId, authenticatedUserId)
-                .ifPresent(commentHighsEntity -> {
-                    throw new IllegalArgumentException("Comment already highed");
-                });
-
-        CommentEntity commentFound = commentRepository.findById(commentId).orElseThrow(
-                () -> new IllegalArgumentException("Comment not found")
-        );
-
-        UserEntity authenticatedUserEntity = userRepository.findById(authenticatedUserId).orElseThrow(
-                () -> new IllegalArgumentException("Comment not found")
-        );
-
-        commentFound.incrementHighs();
-        commentHighsRepository.save(new CommentHighsEntity(commentFound, authenticatedUserEntity));
+        if (!commentRepository.existsById(commentId)) {
+            throw new IllegalArgumentException("Comment not found");
+        }
+        if (!highsStore.high(HighsTarget.COMMENT, commentId, authenticatedUserId)) {
+            throw new IllegalArgumentException("Comment already highed");
+        }
     }
 }
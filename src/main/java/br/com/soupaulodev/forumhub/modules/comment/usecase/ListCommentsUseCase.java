@@ -1,16 +1,19 @@
 package br.com.soupaulodev.forumhub.modules.comment.usecase;
 
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
-import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
 import br.com.soupaulodev.forumhub.modules.comment.mapper.CommentMapper;
 import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRow;
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * Service class for listing comments.
@@ -30,15 +33,40 @@ public class ListCommentsUseCase {
     }
 
     /**
-     * Executes the use case to list all comments.
+     * Executes the use case to list the root comments, replies are listed with their parent.
+     * <p>
+     * The replies are loaded one level at a time, so a page costs one query per level of the deepest thread.
+     * </p>
      *
-     * @return the list of comments
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the number of comments to retrieve
+     * @return the page of comments
+     * @throws IllegalArgumentException if the cursor is invalid
      */
-    public List<CommentResponseDTO> execute(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<CommentEntity> entities = commentRepository.findAll(pageable);
-        return entities.getContent().stream().filter(comment -> comment.getParentComment() == null)
-                .map(commentMapper::toResponseDTO)
-                .toList();
+    @Transactional(readOnly = true)
+    public CursorPage<CommentResponseDTO> execute(String cursor, int size) {
+        List<CommentRow> roots;
+        if (cursor == null) {
+            roots = commentRepository.findFirstPage(CursorPage.limit(size));
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            roots = commentRepository.findPageAfter(after.createdAt(), after.id(), CursorPage.limit(size));
+        }
+        Map<UUID, List<CommentRow>> repliesByParent = findReplies(roots.stream().limit(size).toList());
+        return CursorPage.of(roots, size,
+                comment -> new Cursor(comment.createdAt(), comment.id()),
+                comment -> commentMapper.toResponseDTO(comment, repliesByParent));
+    }
+
+    private Map<UUID, List<CommentRow>> findReplies(List<CommentRow> roots) {
+        Map<UUID, List<CommentRow>> repliesByParent = new HashMap<>();
+        List<UUID> parentIds = roots.stream().map(CommentRow::id).toList();
+        while (!parentIds.isEmpty()) {
+            List<CommentRow> replies = commentRepository.findRepliesOf(parentIds);
+            replies.forEach(reply ->
+                    repliesByParent.computeIfAbsent(reply.parentCommentId(), id -> new ArrayList<>()).add(reply));
+            parentIds = replies.stream().map(CommentRow::id).toList();
+        }
+        return repliesByParent;
     }
 }
@@ -0,0 +1,99 @@
+package br.com.soupaulodev.forumhub.modules.comment.usecase;
+
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.TopicCommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.mapper.CommentMapper;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRow;
+import br.com.soupaulodev.forumhub.modules.comment.repository.RootCommentRow;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
+import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for listing the root comments of a topic.
+ * <p>
+ * The root comments are paged in the database, with the number of their replies, and the first replies of the whole
+ * page are loaded with one more query. A page therefore costs two queries, or one when the topic has no comments.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Service
+public class ListTopicCommentsUseCase {
+
+    private final CommentMapper commentMapper;
+    private final CommentRepository commentRepository;
+    private final TopicRepository topicRepository;
+    private final int repliesPerComment;
+
+    /**
+     * Constructs a new {@link ListTopicCommentsUseCase}.
+     *
+     * @param commentMapper     the mapper of the comments
+     * @param commentRepository the repository the comments are loaded from
+     * @param topicRepository   the repository used to check the topic exists
+     * @param repliesPerComment the number of replies listed with each root comment
+     */
+    public ListTopicCommentsUseCase(CommentMapper commentMapper,
+                                    CommentRepository commentRepository,
+                                    TopicRepository topicRepository,
+                                    @Value("${comments.topic.replies-per-comment}") int repliesPerComment) {
+        this.commentMapper = commentMapper;
+        this.commentRepository = commentRepository;
+        this.topicRepository = topicRepository;
+        this.repliesPerComment = repliesPerComment;
+    }
+
+    /**
+     * Executes the use case to list the root comments of a topic, the most recent first.
+     *
+     * @param topicId the ID of the topic
+     * @param cursor  the cursor returned with the previous page, or {@code null} for the first page
+     * @param size    the number of root comments to retrieve
+     * @return the page of root comments, each one with its first replies
+     * @throws ResourceNotFoundException if the topic does not exist
+     * @throws IllegalArgumentException if the cursor is invalid
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TopicCommentResponseDTO> execute(UUID topicId, String cursor, int size) {
+        List<RootCommentRow> roots;
+        if (cursor == null) {
+            roots = commentRepository.findFirstPageOfTopic(topicId, CursorPage.limit(size));
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            roots = commentRepository.findPageOfTopicAfter(topicId, after.createdAt(), after.id(), CursorPage.limit(size));
+        }
+
+        // An empty page is the only case where the topic may not exist, so it is only checked then
+        if (roots.isEmpty()) {
+            if (!topicRepository.existsById(topicId)) {
+                throw new ResourceNotFoundException("Topic not found.");
+            }
+            return new CursorPage<>(List.of(), null);
+        }
+
+        List<UUID> withReplies = roots.stream()
+                .limit(size)
+                .filter(root -> root.repliesCount() > 0)
+                .map(RootCommentRow::id)
+                .toList();
+        Map<UUID, List<CommentRow>> repliesByParent = withReplies.isEmpty() || repliesPerComment == 0
+                ? Map.of()
+                : commentRepository.findFirstRepliesOf(withReplies, repliesPerComment).stream()
+                        .collect(Collectors.groupingBy(CommentRow::parentCommentId));
+
+        return CursorPage.of(roots, size,
+                root -> new Cursor(root.createdAt(), root.id()),
+                root -> commentMapper.toTopicCommentResponseDTO(
+                        root, repliesByParent.getOrDefault(root.id(), List.of())));
+    }
+}
@@ -1,52 +1,44 @@
 package br.com.soupaulodev.forumhub.modules.comment.usecase;
 
-import br.com.soupaulodev.forumhub.modules.comment.repository.CommentHighsRepository;
-import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
+import br.com.soupaulodev.forumhub.modules.highs.HighsStore;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
 
 /**
  * Use case to unhigh a Comment
+ * <p>
+ * The high is removed from the {@link HighsStore} and, only if it existed, deleted from the highs table and
+ * discounted in the background.
+ * </p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Service
 public class UnHighCommentUseCase {
 
-    private final CommentHighsRepository commentHighsRepository;
-    private final CommentRepository commentRepository;
+    private final HighsStore highsStore;
 
     /**
      * Constructor
      *
-     * @param commentHighsRepository comment highs repository
-     * @param commentRepository comment repository
+     * @param highsStore store of the highs
      */
-    public UnHighCommentUseCase(CommentHighsRepository commentHighsRepository,
-                                CommentRepository commentRepository) {
-        this.commentHighsRepository = commentHighsRepository;
-        this.commentRepository = commentRepository;
+    public UnHighCommentUseCase(HighsStore highsStore) {
+        this.highsStore = highsStore;
     }
 
     /**
-     * Execute the use case
+     * Use case to unhigh a Comment
      *
      * @param commentId comment id
      * @param authenticatedUserId authenticated user id
+     * @throws IllegalArgumentException if the user had not highed the comment
      */
     public void execute(UUID commentId, UUID authenticatedUserId) {
-        commentHighsRepository.findByComment_IdAndUser_Id(commentId, authenticatedUserId)
-                .ifPresentOrElse(
-                        commentHighsRepository::delete,
-                    () -> {
-                        throw new IllegalArgumentException("Comment not highed");
-                    }
-                );
-
-        commentRepository.findById(commentId).ifPresent((comment) -> {
-            comment.decrementHighs();
-            commentRepository.save(comment);
-        });
+        if (!highsStore.unhigh(HighsTarget.COMMENT, commentId, authenticatedUserId)) {
+            throw new IllegalArgumentException("Comment not highed");
+        }
     }
 }
@@ -1,5 +1,6 @@
 package br.com.soupaulodev.forumhub.modules.comment.usecase;
 
+import br.com.soupaulodev.forumhub.config.CacheConfig;
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentUpdateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
@@ -7,10 +8,11 @@ import br.com.soupaulodev.forumhub.modules.comment.mapper.CommentMapper;
 import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumParticipantRepository;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -26,15 +28,18 @@ public class UpdateCommentUseCase {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final TopicRepository topicRepository;
+    private final ForumParticipantRepository forumParticipantRepository;
 
     public UpdateCommentUseCase(CommentMapper commentMapper,
                                 CommentRepository commentRepository,
                                 UserRepository userRepository,
-                                TopicRepository topicRepository) {
+                                TopicRepository topicRepository,
+                                ForumParticipantRepository forumParticipantRepository) {
         this.commentMapper = commentMapper;
         this.commentRepository = commentRepository;
         this.userRepository = userRepository;
         this.topicRepository = topicRepository;
+        this.forumParticipantRepository = forumParticipantRepository;
     }
 
     /**
@@ -47,6 +52,7 @@ public class UpdateCommentUseCase {
      * @throws IllegalArgumentException  if the new content is the same as the old content or if the content is empty
      * @throws ForbiddenException        if the user is not allowed to update the comment
      */
+    @CacheEvict(cacheNames = CacheConfig.TOPIC_DETAILS, key = "#result.topic")
     public CommentResponseDTO execute(UUID id, CommentUpdateRequestDTO requestDTO, UUID authenticatedUserId) {
 
         CommentEntity commentFound = commentRepository.findById(id)
@@ -63,12 +69,13 @@ public class UpdateCommentUseCase {
             throw new ForbiddenException("You are not allowed to update a comment for another user");
         }
 
-        UserEntity user = userRepository.findById(authenticatedUserId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found."));
+        if (!userRepository.existsById(authenticatedUserId)) {
+            throw new ResourceNotFoundException("User not found.");
+        }
 
         TopicEntity topic = topicRepository.findById(commentFound.getTopic().getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Topic not found."));
-        if (!user.participatingInForum(topic.getForum())) {
+        if (!forumParticipantRepository.isParticipant(topic.getForum().getId(), authenticatedUserId)) {
             throw new ForbiddenException("You are not allowed to update a comment for this topic");
         }
 
@@ -0,0 +1,99 @@
+package br.com.soupaulodev.forumhub.modules.etag;
+
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Weak entity tags of the items and pages returned by the API, computed from the {@link Versioned#version()} of the
+ * items instead of a hash of the serialized body.
+ * <p>
+ * A response built with {@link #ok(Versioned)} or {@link #ok(CursorPage)} carries the tag, and Spring MVC answers a
+ * {@code GET} whose {@code If-None-Match} header holds the same tag with {@code 304 Not Modified}, without writing the
+ * body. The responses may be kept, but must be revalidated with their tag before being reused.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public final class ETags {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final byte SEPARATOR = 0x1f;
+
+    private ETags() {
+    }
+
+    /**
+     * Builds the {@code 200 OK} response of an item, tagged with its version.
+     *
+     * @param item the item
+     * @param <T>  the type of the item
+     * @return the response
+     */
+    public static <T extends Versioned> ResponseEntity<T> ok(T item) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(of(item))
+                .body(item);
+    }
+
+    /**
+     * Builds the {@code 200 OK} response of a page, tagged with the versions of its items.
+     *
+     * @param page the page
+     * @param <T>  the type of the items
+     * @return the response
+     */
+    public static <T extends Versioned> ResponseEntity<CursorPage<T>> ok(CursorPage<T> page) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(of(page))
+                .body(page);
+    }
+
+    /**
+     * Computes the tag of an item.
+     *
+     * @param item the item
+     * @return the weak entity tag of the item
+     */
+    public static String of(Versioned item) {
+        return weak(hash(FNV_OFFSET_BASIS, item.version()));
+    }
+
+    /**
+     * Computes the tag of a page, which changes when any of its items does or when it gets a next page.
+     *
+     * @param page the page
+     * @return the weak entity tag of the page
+     */
+    public static String of(CursorPage<? extends Versioned> page) {
+        long hash = FNV_OFFSET_BASIS;
+        for (Versioned item : page.content()) {
+            hash = hash(hash, item.version());
+        }
+        return weak(hash(hash, Collections.singletonList(page.nextCursor())));
+    }
+
+    /**
+     * Feeds the values to a 64-bit FNV-1a hash, each one followed by a separator.
+     */
+    private static long hash(long hash, Collection<Object> values) {
+        for (Object value : values) {
+            for (byte b : String.valueOf(value).getBytes(StandardCharsets.UTF_8)) {
+                hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+            }
+            hash = (hash ^ SEPARATOR) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static String weak(long hash) {
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+}
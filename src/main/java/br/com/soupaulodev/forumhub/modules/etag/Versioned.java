@@ -0,0 +1,19 @@
+package br.com.soupaulodev.forumhub.modules.etag;
+
+import java.util.List;
+
+/**
+ * Representation of an item whose version can be told without serializing it.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public interface Versioned {
+
+    /**
+     * Gets the values that change whenever the representation of the item does: its ID, its last update and the
+     * counts and values of other items it shows, which change without updating it.
+     *
+     * @return the values versioning the item
+     */
+    List<Object> version();
+}
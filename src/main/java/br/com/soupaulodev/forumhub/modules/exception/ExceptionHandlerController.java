@@ -3,12 +3,14 @@ package br.com.soupaulodev.forumhub.modules.exception;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.*;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -80,11 +82,28 @@ public class ExceptionHandlerController {
      * Handles RateLimitExceededException.
      *
      * @param e the exception to handle
-     * @return a ResponseEntity with a too many requests status and the exception message
+     * @return a ResponseEntity with a too many requests status, the retry hint if known and the exception message
      */
     @ExceptionHandler(RateLimitExceededException.class)
     public ResponseEntity<?> handleRateLimitExceededException(RateLimitExceededException e) {
-        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(e.getMessage());
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS);
+        if (e.getRetryAfterSeconds() > 0) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        }
+        return response.body(e.getMessage());
+    }
+
+    /**
+     * Handles ServiceOverloadedException.
+     *
+     * @param e the exception to handle
+     * @return a ResponseEntity with a service unavailable status, a retry hint and the exception message
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<?> handleServiceOverloadedException(ServiceOverloadedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
     }
 
     /**
@@ -140,6 +159,27 @@ public class ExceptionHandlerController {
         return new ResponseEntity<>(dto, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles HandlerMethodValidationException, raised when a constrained path variable or request parameter, such
+     * as a malformed ID, is invalid.
+     *
+     * @param e the exception to handle
+     * @return a ResponseEntity with a bad request status and the error messages of the invalid parameters
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<List<ErrorMessageDTO>> handleHandlerMethodValidationException(
+            HandlerMethodValidationException e) {
+
+        List<ErrorMessageDTO> dto = new ArrayList<>();
+
+        e.getParameterValidationResults().forEach(result -> result.getResolvableErrors().forEach(err -> {
+            String message = messageSource.getMessage(err, LocaleContextHolder.getLocale());
+            dto.add(new ErrorMessageDTO(message, result.getMethodParameter().getParameterName()));
+        }));
+
+        return new ResponseEntity<>(dto, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Handles generic exceptions.
      *
@@ -2,11 +2,22 @@ package br.com.soupaulodev.forumhub.modules.exception.usecase;
 
 public class RateLimitExceededException extends RuntimeException {
 
-    public RateLimitExceededException(String message) {
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
         super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public RateLimitExceededException(String message) {
+        this(message, 0);
     }
 
     public RateLimitExceededException() {
-        super("Rate limit exceeded. Try again later.");
+        this("Rate limit exceeded. Try again later.");
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
     }
 }
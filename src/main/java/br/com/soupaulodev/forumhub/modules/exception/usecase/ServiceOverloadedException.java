@@ -0,0 +1,12 @@
+package br.com.soupaulodev.forumhub.modules.exception.usecase;
+
+public class ServiceOverloadedException extends RuntimeException {
+
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+
+    public ServiceOverloadedException() {
+        super("Service is overloaded. Try again later.");
+    }
+}
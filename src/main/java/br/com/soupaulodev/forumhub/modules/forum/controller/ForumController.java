@@ -1,20 +1,24 @@
 package br.com.soupaulodev.forumhub.modules.forum.controller;
 
+import br.com.soupaulodev.forumhub.modules.etag.ETags;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumUpdateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.forum.usecase.*;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
+import br.com.soupaulodev.forumhub.modules.validation.ResourceId;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -31,6 +35,7 @@ import java.util.UUID;
  *         <li>Handling forum listing requests.</li>
  *         <li>Handling forum update requests.</li>
  *         <li>Handling forum deletion requests.</li>
+ *         <li>Handling forum join and leave requests.</li>
  *     </ul>
  * </p>
  *
@@ -48,6 +53,9 @@ public class ForumController {
     private final DeleteForumUseCase deleteForumUseCase;
     private final HighForumUseCase highForumUseCase;
     private final UnHighForumUseCase unHighForumUseCase;
+    private final JoinForumUseCase joinForumUseCase;
+    private final LeaveForumUseCase leaveForumUseCase;
+    private final int maxPageSize;
 
     /**
      * Constructs a new {@link ForumController} with the specified use cases.
@@ -59,6 +67,9 @@ public class ForumController {
      * @param deleteForumUseCase {@link DeleteForumUseCase} the use case for deleting forums
      * @param highForumUseCase {@link HighForumUseCase} the use case for high forums
      * @param unHighForumUseCase {@link UnHighForumUseCase} the use case for unhigh forums
+     * @param joinForumUseCase {@link JoinForumUseCase} the use case for joining forums
+     * @param leaveForumUseCase {@link LeaveForumUseCase} the use case for leaving forums
+     * @param maxPageSize the largest page of forums listed at once
      */
     public ForumController(CreateForumUseCase createForumUseCase,
                            ListForumsUseCase listForumsUseCase,
@@ -66,7 +77,10 @@ public class ForumController {
                            UpdateForumUseCase updateForumUseCase,
                            DeleteForumUseCase deleteForumUseCase,
                            HighForumUseCase highForumUseCase,
-                           UnHighForumUseCase unHighForumUseCase) {
+                           UnHighForumUseCase unHighForumUseCase,
+                           JoinForumUseCase joinForumUseCase,
+                           LeaveForumUseCase leaveForumUseCase,
+                           @Value("${pagination.max-page-size}") int maxPageSize) {
         this.createForumUseCase = createForumUseCase;
         this.listForumsUseCase = listForumsUseCase;
         this.getForumUseCase = getForumUseCase;
@@ -74,6 +88,9 @@ public class ForumController {
         this.deleteForumUseCase = deleteForumUseCase;
         this.highForumUseCase = highForumUseCase;
         this.unHighForumUseCase = unHighForumUseCase;
+        this.joinForumUseCase = joinForumUseCase;
+        this.leaveForumUseCase = leaveForumUseCase;
+        this.maxPageSize = maxPageSize;
     }
 
     /**
@@ -99,20 +116,20 @@ public class ForumController {
     }
 
     /**
-     * Endpoint for handling listing of forums with pagination support.
-     * This method lists forums with pagination support and returns the list of forums.
+     * Endpoint for handling listing of forums with cursor pagination support.
+     * This method lists the forums created before the cursor and returns them with the cursor of the next page.
      *
-     * @param page {@link Integer} the page number to retrieve
+     * @param cursor {@link String} the cursor returned with the previous page, absent for the first page
      * @param size {@link Integer} the number of forums to retrieve per page
-     * @return a {@link ResponseEntity} of {@link List} of {@link ForumResponseDTO} with status 200 (OK) and the list of forums
+     * @return a {@link ResponseEntity} of {@link CursorPage} of {@link ForumResponseDTO} with status 200 (OK) and the page of forums
      */
     @GetMapping("/all")
     @Operation(summary = "List all forums")
     @ApiResponse(responseCode = "200", description = "Forums listed")
-    public ResponseEntity<List<ForumResponseDTO>> listForums(@RequestParam(defaultValue = "0") int page,
-                                                             @RequestParam(defaultValue = "10") int size) {
+    public ResponseEntity<CursorPage<ForumResponseDTO>> listForums(@RequestParam(required = false) String cursor,
+                                                                   @RequestParam(defaultValue = "10") @Min(1) int size) {
 
-        return ResponseEntity.ok(listForumsUseCase.execute(page, size));
+        return ETags.ok(listForumsUseCase.execute(cursor, Math.min(size, maxPageSize)));
     }
 
     /**
@@ -120,18 +137,20 @@ public class ForumController {
      * This method retrieves a forum by its unique identifier and returns the forum data.
      *
      * @param id the forum's unique identifier of type {@link UUID}
-     * @return a {@link ResponseEntity} of {@link ForumResponseDTO} with status 200 (OK) and the forum data
+     * @return a {@link ResponseEntity} of {@link ForumResponseDTO} with status 200 (OK) and the forum data, tagged
+     *         with its {@link ETags weak ETag}
      */
     @GetMapping("/{id}")
     @Operation(summary = "Get forum by ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Forum retrieved"),
+            @ApiResponse(responseCode = "304", description = "Forum not modified since the ETag sent"),
             @ApiResponse(responseCode = "404", description = "Forum not found")
     })
     public ResponseEntity<ForumResponseDTO> getForum(@PathVariable
                                                      UUID id) {
 
-        return ResponseEntity.ok(getForumUseCase.execute(id));
+        return ETags.ok(getForumUseCase.execute(id));
     }
 
     /**
@@ -152,7 +171,7 @@ public class ForumController {
     })
     public ResponseEntity<ForumResponseDTO> updateForum(@Valid
                                                         @PathVariable
-                                                        @org.hibernate.validator.constraints.UUID
+                                                        @ResourceId
                                                         String id,
                                                         @Valid
                                                         @RequestBody
@@ -177,7 +196,7 @@ public class ForumController {
     })
     public ResponseEntity<Void> deleteForum(@Valid
                                             @PathVariable
-                                            @org.hibernate.validator.constraints.UUID
+                                            @ResourceId
                                             String id) {
         UUID authenticatedUserId = getAuthenticatedUserId();
         deleteForumUseCase.execute(UUID.fromString(id), authenticatedUserId);
@@ -199,7 +218,7 @@ public class ForumController {
     })
     @PostMapping("/high/{id}")
     public ResponseEntity<Void> highForum(@Valid @PathVariable("id")
-                                          @org.hibernate.validator.constraints.UUID String id) {
+                                          @ResourceId String id) {
         UUID authenticatedUserId = getAuthenticatedUserId();
         highForumUseCase.execute(UUID.fromString(id), authenticatedUserId);
         return ResponseEntity.noContent().build();
@@ -220,12 +239,54 @@ public class ForumController {
     })
     @DeleteMapping("/unhigh/{id}")
     public ResponseEntity<Void> unHighForum(@Valid @PathVariable("id")
-                                          @org.hibernate.validator.constraints.UUID String id) {
+                                          @ResourceId String id) {
         UUID authenticatedUserId = getAuthenticatedUserId();
         unHighForumUseCase.execute(UUID.fromString(id), authenticatedUserId);
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Endpoint for handling forum join operations.
+     * This method makes the authenticated user a participant of a forum.
+     *
+     * @param id the forum's unique identifier to be joined
+     * @return a response entity with status 204 (No Content)
+     */
+    @Operation(summary = "Join forum by ID", description = "Join a forum by its unique identifier")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Forum joined"),
+            @ApiResponse(responseCode = "400", description = "Already participating in the forum"),
+            @ApiResponse(responseCode = "404", description = "Forum not found")
+    })
+    @PostMapping("/join/{id}")
+    public ResponseEntity<Void> joinForum(@Valid @PathVariable("id")
+                                          @ResourceId String id) {
+        UUID authenticatedUserId = getAuthenticatedUserId();
+        joinForumUseCase.execute(UUID.fromString(id), authenticatedUserId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Endpoint for handling forum leave operations.
+     * This method removes the authenticated user from the participants of a forum.
+     *
+     * @param id the forum's unique identifier to be left
+     * @return a response entity with status 204 (No Content)
+     */
+    @Operation(summary = "Leave forum by ID", description = "Leave a forum by its unique identifier")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Forum left"),
+            @ApiResponse(responseCode = "400", description = "Not participating in the forum"),
+            @ApiResponse(responseCode = "403", description = "The owner cannot leave the forum")
+    })
+    @DeleteMapping("/leave/{id}")
+    public ResponseEntity<Void> leaveForum(@Valid @PathVariable("id")
+                                           @ResourceId String id) {
+        UUID authenticatedUserId = getAuthenticatedUserId();
+        leaveForumUseCase.execute(UUID.fromString(id), authenticatedUserId);
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Retrieves the authenticated user's unique identifier.
      *
@@ -2,7 +2,6 @@ package br.com.soupaulodev.forumhub.modules.forum.controller.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import org.hibernate.validator.constraints.Length;
-import org.hibernate.validator.constraints.UUID;
 
 
 /**
@@ -1,6 +1,10 @@
 package br.com.soupaulodev.forumhub.modules.forum.controller.dto;
 
+import br.com.soupaulodev.forumhub.modules.etag.Versioned;
+
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -16,7 +20,7 @@ import java.util.UUID;
  * @param description  the description of the forum
  * @param owner        the owner of the forum
  * @param highs        the number of highs in the forum
- * @param participants the participants of the forum
+ * @param participants the number of participants of the forum
  * @param topicCount   the number of topics in the forum
  * @param createdAt    the creation date of the forum
  * @param updatedAt    the last update date of the forum
@@ -27,8 +31,27 @@ public record ForumResponseDTO(UUID id,
                                String description,
                                UUID owner,
                                Long highs,
-                               int participants,
+                               Long participants,
                                Long topicCount,
                                Instant createdAt,
-                               Instant updatedAt) {
+                               Instant updatedAt) implements Versioned {
+
+    /**
+     * Returns a copy of this forum with a delta added to its highs count.
+     *
+     * @param delta the value added to the highs count, negative to subtract
+     * @return this forum if the delta is 0, or a copy with the new highs count
+     */
+    public ForumResponseDTO plusHighs(long delta) {
+        if (delta == 0) {
+            return this;
+        }
+        return new ForumResponseDTO(
+                id, name, description, owner, highs + delta, participants, topicCount, createdAt, updatedAt);
+    }
+
+    @Override
+    public List<Object> version() {
+        return Arrays.asList(id, updatedAt, highs, participants, topicCount);
+    }
 }
\ No newline at end of file
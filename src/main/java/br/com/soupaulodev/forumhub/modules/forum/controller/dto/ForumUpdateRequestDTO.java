@@ -1,7 +1,6 @@
 package br.com.soupaulodev.forumhub.modules.forum.controller.dto;
 
 import jakarta.validation.constraints.Size;
-import org.hibernate.validator.constraints.UUID;
 
 /**
  * DTO (Data Transfer Object) representing the request body for forum update.
@@ -1,9 +1,16 @@
 package br.com.soupaulodev.forumhub.modules.forum.entity;
 
+import br.com.soupaulodev.forumhub.config.HibernateCacheConfig;
+import br.com.soupaulodev.forumhub.config.IdStrategy;
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounted;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
+import br.com.soupaulodev.forumhub.modules.highs.PendingHighsListener;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import jakarta.persistence.*;
-import jakarta.transaction.Transactional;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -24,9 +31,11 @@ import java.util.UUID;
  * @author <a href="http://soupaulodev.com.br">soupaulodev</a>
  */
 @Entity
-@Table(name = "tb_forum")
-@Transactional
-public class ForumEntity implements Serializable {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.FORUMS_REGION)
+@EntityListeners(PendingHighsListener.class)
+@Table(name = "tb_forum", indexes = @Index(name = "idx_forum_created_at_id", columnList = "created_at, id"))
+public class ForumEntity implements Serializable, HighsCounted {
 
     @Serial
     private static final long serialVersionUID = 1L;
@@ -40,12 +49,16 @@ public class ForumEntity implements Serializable {
     @Column(nullable = false, length = 50)
     private String description;
 
-    @Column(name = "highs_count", nullable = false)
+    @Column(name = "highs_count", nullable = false, updatable = false)
     private Long highsCount = 0L;
 
     @Column(name = "topics_count", nullable = false)
     private Long topicsCount = 0L;
 
+    @ColumnDefault("0")
+    @Column(name = "participants_count", nullable = false, updatable = false)
+    private Long participantsCount = 0L;
+
 
 
     @ManyToOne
@@ -55,9 +68,6 @@ public class ForumEntity implements Serializable {
     @OneToMany(mappedBy = "forum", cascade = CascadeType.ALL, orphanRemoval = true)
     private final List<ForumHighsEntity> highs = new ArrayList<>();
 
-    @ManyToMany(mappedBy = "participatingForums", fetch = FetchType.EAGER)
-    private final List<UserEntity> participants = new ArrayList<>();
-
     @OneToMany(mappedBy = "forum", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private final List<TopicEntity> topics = new ArrayList<>();
 
@@ -80,7 +90,7 @@ public class ForumEntity implements Serializable {
     public ForumEntity() {
         Instant now = Instant.now();
 
-        this.id = UUID.randomUUID();
+        this.id = IdStrategy.nextId();
         this.createdAt = now;
         this.updatedAt = now;
     }
@@ -171,6 +181,26 @@ public class ForumEntity implements Serializable {
      */
     public void decrementHighs() { this.highsCount--; }
 
+    /**
+     * Gets the kind of item this entity is, for the highs count buffer.
+     *
+     * @return {@link HighsTarget#FORUM}
+     */
+    @Override
+    public HighsTarget getHighsTarget() {
+        return HighsTarget.FORUM;
+    }
+
+    /**
+     * Adds a delta to the highs count, without persisting it.
+     *
+     * @param delta the value added to the highs count, negative to subtract
+     */
+    @Override
+    public void addToHighsCount(long delta) {
+        this.highsCount = (highsCount == null ? 0L : highsCount) + delta;
+    }
+
     /**
      * Gets the number of topics in the forum.
      *
@@ -232,37 +262,21 @@ public class ForumEntity implements Serializable {
     }
 
     /**
-     * Gets the participants of the forum.
-     *
-     * @return the participants of the forum.
-     */
-    public List<UserEntity> getParticipants() {
-        return participants;
-    }
-
-    /**
-     * Adds a participant to the forum.
+     * Gets the number of participants of the forum.
+     * <p>
+     * The column is not updatable: once the forum is saved, joins and leaves change it with atomic updates.
+     * </p>
      *
-     * @param user the user to add as a participant.
+     * @return the number of participants of the forum.
      */
-    public void addParticipant(UserEntity user) {
-        if (!participants.contains(user)) {
-            participants.add(user);
-            user.addParticipatingForum(this);
-        }
-    }
+    public Long getParticipantsCount() { return participantsCount; }
 
     /**
-     * Removes a participant from the forum.
+     * Sets the number of participants of the forum, before it is first saved.
      *
-     * @param user the user to remove as a participant.
+     * @param participantsCount the number of participants of the forum.
      */
-    public void removeParticipant(UserEntity user) {
-        if (participants.contains(user)) {
-            participants.remove(user);
-            user.removeParticipatingForum(this);
-        }
-    }
+    public void setParticipantsCount(Long participantsCount) { this.participantsCount = participantsCount; }
 
     /**
      * Gets the topics in the forum.
@@ -351,7 +365,7 @@ public class ForumEntity implements Serializable {
                 ", highsCount=" + highsCount +
                 ", topicsCount=" + topicsCount +
                 ", owner=" + owner +
-                ", participants=" + participants +
+                ", participantsCount=" + participantsCount +
                 ", topics=" + topics +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
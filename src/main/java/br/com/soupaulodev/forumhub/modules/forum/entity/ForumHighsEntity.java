@@ -1,6 +1,5 @@
 package br.com.soupaulodev.forumhub.modules.forum.entity;
 
-import br.com.soupaulodev.forumhub.config.UlidGenerator;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -18,17 +17,19 @@ import java.util.Objects;
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Entity
-@Table(name = "tb_forum_highs")
+@Table(name = "tb_forum_highs", indexes = @Index(name = "idx_forum_highs_user_id", columnList = "user_id"))
 public class ForumHighsEntity {
 
-    @Id
-    private String id;
+    @EmbeddedId
+    private ForumHighsId id;
 
 
+    @MapsId("forumId")
     @ManyToOne
     @JoinColumn(name = "forum_id", nullable = false)
     private ForumEntity forum;
 
+    @MapsId("userId")
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     private UserEntity user;
@@ -44,18 +45,17 @@ public class ForumHighsEntity {
 
     /**
      * Default constructor.
-     * Initializes the id
+     * Initializes the createdAt and updatedAt fields.
      */
     public ForumHighsEntity() {
         Instant now = Instant.now();
-        this.id = UlidGenerator.generate();
         this.createdAt = now;
         this.updatedAt = now;
     }
 
     /**
      * Constructs a new ForumHighsEntity with the specified user and forum.
-     * Initializes the id, createdAt and updatedAt fields.
+     * Initializes the composite id, createdAt and updatedAt fields.
      *
      * @param forum      the forum that was liked
      * @param user       the user who liked the forum
@@ -64,6 +64,7 @@ public class ForumHighsEntity {
         this();
         this.forum = forum;
         this.user = user;
+        this.id = new ForumHighsId(forum.getId(), user.getId());
     }
 
     /**
@@ -71,7 +72,7 @@ public class ForumHighsEntity {
 
      * @return the unique identifier of the forum high
      */
-    public String getId() {
+    public ForumHighsId getId() {
         return id;
     }
 
@@ -80,7 +81,7 @@ public class ForumHighsEntity {
      *
      * @param id the unique identifier of the forum high
      */
-    public void setId(String id) {
+    public void setId(ForumHighsId id) {
         this.id = id;
     }
 
@@ -164,7 +165,7 @@ public class ForumHighsEntity {
     @Override
     public String toString() {
         return "ForumHighsEntity{" +
-                "id='" + id + '\'' +
+                "id=" + id +
                 ", forum=" + forum +
                 ", user=" + user +
                 ", createdAt=" + createdAt +
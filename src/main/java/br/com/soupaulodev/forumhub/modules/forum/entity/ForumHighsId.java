@@ -0,0 +1,84 @@
+package br.com.soupaulodev.forumhub.modules.forum.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Composite primary key of the {@link ForumHighsEntity}.
+ * <p>
+ * A user can high the same forum only once, so the pair of IDs identifies the high on its own and the
+ * uniqueness is enforced by the primary key itself.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Embeddable
+public class ForumHighsId implements Serializable {
+
+    @Column(name = "forum_id", nullable = false)
+    private UUID forumId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    /**
+     * Default constructor.
+     */
+    public ForumHighsId() {
+    }
+
+    /**
+     * Constructs a new ForumHighsId.
+     *
+     * @param forumId the ID of the forum
+     * @param userId the ID of the user who highed the forum
+     */
+    public ForumHighsId(UUID forumId, UUID userId) {
+        this.forumId = forumId;
+        this.userId = userId;
+    }
+
+    /**
+     * Gets the ID of the forum.
+     *
+     * @return the ID of the forum
+     */
+    public UUID getForumId() {
+        return forumId;
+    }
+
+    /**
+     * Gets the ID of the user who highed the forum.
+     *
+     * @return the ID of the user who highed the forum
+     */
+    public UUID getUserId() {
+        return userId;
+    }
+
+    @Override
+    public String toString() {
+        return "ForumHighsId{" +
+                "forumId=" + forumId +
+                ", userId=" + userId +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        ForumHighsId that = (ForumHighsId) obj;
+        return Objects.equals(this.forumId, that.forumId) && Objects.equals(this.userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(forumId, userId);
+    }
+}
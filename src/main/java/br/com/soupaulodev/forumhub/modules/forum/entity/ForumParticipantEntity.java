@@ -0,0 +1,121 @@
+package br.com.soupaulodev.forumhub.modules.forum.entity;
+
+import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Represents the participation of a user in a forum.
+ * <p>
+ * Participations are rows of their own instead of a collection of the forum, so reading a forum never loads its
+ * participants: their number is kept in {@link ForumEntity#getParticipantsCount()}. The rows are removed by the
+ * database along with their forum or user.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Entity
+@Table(name = "tb_forum_participants", indexes = @Index(name = "idx_forum_participants_user_id", columnList = "user_id"))
+public class ForumParticipantEntity {
+
+    @EmbeddedId
+    private ForumParticipantId id;
+
+    @MapsId("forumId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "forum_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private ForumEntity forum;
+
+    @MapsId("userId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private UserEntity user;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    /**
+     * Default constructor.
+     */
+    public ForumParticipantEntity() {
+    }
+
+    /**
+     * Constructs a new ForumParticipantEntity for the specified forum and user.
+     *
+     * @param forum the forum the user participates in
+     * @param user  the participant
+     */
+    public ForumParticipantEntity(ForumEntity forum, UserEntity user) {
+        this.forum = forum;
+        this.user = user;
+        this.id = new ForumParticipantId(forum.getId(), user.getId());
+        this.createdAt = Instant.now();
+    }
+
+    /**
+     * Gets the identifier of the participation.
+     *
+     * @return the identifier of the participation
+     */
+    public ForumParticipantId getId() {
+        return id;
+    }
+
+    /**
+     * Gets the forum the user participates in.
+     *
+     * @return the forum the user participates in
+     */
+    public ForumEntity getForum() {
+        return forum;
+    }
+
+    /**
+     * Gets the participant.
+     *
+     * @return the participant
+     */
+    public UserEntity getUser() {
+        return user;
+    }
+
+    /**
+     * Gets the date and time when the user joined the forum.
+     *
+     * @return the date and time when the user joined the forum
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ForumParticipantEntity{" +
+                "id=" + id +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        ForumParticipantEntity that = (ForumParticipantEntity) obj;
+        return Objects.equals(this.id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.soupaulodev.forumhub.modules.forum.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Composite primary key of the {@link ForumParticipantEntity}.
+ * <p>
+ * The forum comes first, so the primary key index also serves the lookups of a forum's participants, while checking
+ * whether a user participates in a forum is a single index probe.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Embeddable
+public class ForumParticipantId implements Serializable {
+
+    @Column(name = "forum_id", nullable = false)
+    private UUID forumId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    /**
+     * Default constructor.
+     */
+    public ForumParticipantId() {
+    }
+
+    /**
+     * Constructs a new ForumParticipantId.
+     *
+     * @param forumId the ID of the forum
+     * @param userId the ID of the participant
+     */
+    public ForumParticipantId(UUID forumId, UUID userId) {
+        this.forumId = forumId;
+        this.userId = userId;
+    }
+
+    /**
+     * Gets the ID of the forum.
+     *
+     * @return the ID of the forum
+     */
+    public UUID getForumId() {
+        return forumId;
+    }
+
+    /**
+     * Gets the ID of the participant.
+     *
+     * @return the ID of the participant
+     */
+    public UUID getUserId() {
+        return userId;
+    }
+
+    @Override
+    public String toString() {
+        return "ForumParticipantId{" +
+                "forumId=" + forumId +
+                ", userId=" + userId +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        ForumParticipantId that = (ForumParticipantId) obj;
+        return Objects.equals(this.forumId, that.forumId) && Objects.equals(this.userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(forumId, userId);
+    }
+}
@@ -85,7 +85,7 @@ public class ForumMapper {
                 entity.getDescription(),
                 entity.getOwner().getId(),
                 entity.getHighsCount(),
-                entity.getParticipants().size(),
+                entity.getParticipantsCount(),
                 entity.getTopicsCount(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
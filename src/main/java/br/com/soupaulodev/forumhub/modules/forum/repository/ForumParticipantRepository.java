@@ -0,0 +1,63 @@
+package br.com.soupaulodev.forumhub.modules.forum.repository;
+
+import br.com.soupaulodev.forumhub.modules.forum.entity.ForumParticipantEntity;
+import br.com.soupaulodev.forumhub.modules.forum.entity.ForumParticipantId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repository interface for {@link ForumParticipantEntity}.
+ * Extends {@link JpaRepository} to provide CRUD operations for {@link ForumParticipantEntity}.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Repository
+public interface ForumParticipantRepository extends JpaRepository<ForumParticipantEntity, ForumParticipantId> {
+
+    /**
+     * Checks whether the user participates in the forum, with a lookup on the primary key.
+     *
+     * @param forumId the ID of the forum
+     * @param userId the ID of the user
+     * @return {@code true} if the user participates in the forum
+     */
+    default boolean isParticipant(UUID forumId, UUID userId) {
+        return existsById(new ForumParticipantId(forumId, userId));
+    }
+
+    /**
+     * Inserts the participation of the user in the forum, unless it already exists.
+     * The table written is declared so Hibernate does not clear the whole second-level cache after this statement.
+     *
+     * @param forumId the ID of the forum
+     * @param userId the ID of the user
+     * @return 1 if the participation was inserted, 0 if the user already participates in the forum
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_forum_participants"))
+    @Query(value = """
+            INSERT INTO tb_forum_participants (forum_id, user_id, created_at)
+            VALUES (:forumId, :userId, now())
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("forumId") UUID forumId, @Param("userId") UUID userId);
+
+    /**
+     * Deletes the participation of the user in the forum.
+     *
+     * @param forumId the ID of the forum
+     * @param userId the ID of the user
+     * @return 1 if the participation was deleted, 0 if the user did not participate in the forum
+     */
+    @Modifying
+    @Query("DELETE FROM ForumParticipantEntity p WHERE p.id.forumId = :forumId AND p.id.userId = :userId")
+    int deleteByIds(@Param("forumId") UUID forumId, @Param("userId") UUID userId);
+}
@@ -1,9 +1,17 @@
 package br.com.soupaulodev.forumhub.modules.forum.repository;
 
+import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -13,6 +21,15 @@ import java.util.UUID;
 @Repository
 public interface ForumRepository extends JpaRepository<ForumEntity, UUID> {
 
+    /**
+     * Constructor expression of the {@link ForumResponseDTO} of a forum aliased {@code f}. The owner ID is read from
+     * the foreign key, so the owner is not loaded.
+     */
+    String RESPONSE = """
+            new br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO(
+                f.id, f.name, f.description, f.owner.id, f.highsCount, f.participantsCount, f.topicsCount,
+                f.createdAt, f.updatedAt)""";
+
     /**
      * Checks if a forum with the specified name exists.
      *
@@ -20,4 +37,58 @@ public interface ForumRepository extends JpaRepository<ForumEntity, UUID> {
      * @return a {@link Boolean} indicating whether a forum with the specified name exists
      */
     Boolean existsByName(String name);
+
+    /**
+     * Checks if the forum is owned by the specified user.
+     *
+     * @param id the ID of the forum
+     * @param ownerId the ID of the user
+     * @return {@code true} if the forum exists and is owned by the user
+     */
+    @Query("SELECT COUNT(f) > 0 FROM ForumEntity f WHERE f.id = :id AND f.owner.id = :ownerId")
+    boolean isOwnedBy(@Param("id") UUID id, @Param("ownerId") UUID ownerId);
+
+    /**
+     * Atomically adds a delta to the participants count of the forum, without loading it.
+     *
+     * @param id    the ID of the forum
+     * @param delta the value added to the participants count, negative to subtract
+     * @return 1 if the forum was updated, 0 if it does not exist
+     */
+    @Modifying
+    @Query("UPDATE ForumEntity f SET f.participantsCount = f.participantsCount + :delta WHERE f.id = :id")
+    int addToParticipantsCount(@Param("id") UUID id, @Param("delta") long delta);
+
+    /**
+     * Finds a forum by its ID, selecting only the columns of its response.
+     *
+     * @param id the ID of the forum
+     * @return the forum, or an empty {@link Optional} if it does not exist
+     */
+    @Query("SELECT " + RESPONSE + " FROM ForumEntity f WHERE f.id = :id")
+    Optional<ForumResponseDTO> findResponseById(@Param("id") UUID id);
+
+    /**
+     * Finds the first page of forums, the most recent first.
+     *
+     * @param limit the maximum number of forums to return
+     * @return the most recent forums
+     */
+    @Query("SELECT " + RESPONSE + " FROM ForumEntity f ORDER BY f.createdAt DESC, f.id DESC")
+    List<ForumResponseDTO> findFirstPage(Limit limit);
+
+    /**
+     * Finds the page of forums created right before the given position, the most recent first.
+     *
+     * @param createdAt the creation date of the last item of the previous page
+     * @param id the ID of the last item of the previous page
+     * @param limit the maximum number of forums to return
+     * @return the forums after the given position
+     */
+    @Query("SELECT " + RESPONSE + """
+             FROM ForumEntity f
+            WHERE (f.createdAt, f.id) < (:createdAt, :id)
+            ORDER BY f.createdAt DESC, f.id DESC
+            """)
+    List<ForumResponseDTO> findPageAfter(@Param("createdAt") Instant createdAt, @Param("id") UUID id, Limit limit);
 }
@@ -6,11 +6,13 @@ import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumCreateReque
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
 import br.com.soupaulodev.forumhub.modules.forum.mapper.ForumMapper;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumParticipantRepository;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.pagination.ListHeadCache;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
-import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -21,15 +23,21 @@ import java.util.UUID;
 public class CreateForumUseCase {
 
     private final ForumRepository forumRepository;
+    private final ForumParticipantRepository forumParticipantRepository;
     private final UserRepository userRepository;
     private final ForumMapper forumMapper;
+    private final ListHeadCache<ForumResponseDTO> forumsHeadCache;
 
     public CreateForumUseCase(ForumRepository forumRepository,
+                              ForumParticipantRepository forumParticipantRepository,
                               UserRepository userRepository,
-                              ForumMapper forumMapper) {
+                              ForumMapper forumMapper,
+                              ListHeadCache<ForumResponseDTO> forumsHeadCache) {
         this.forumRepository = forumRepository;
+        this.forumParticipantRepository = forumParticipantRepository;
         this.userRepository = userRepository;
         this.forumMapper = forumMapper;
+        this.forumsHeadCache = forumsHeadCache;
     }
 
     /**
@@ -50,10 +58,18 @@ public class CreateForumUseCase {
         }
 
         ForumEntity forum = forumMapper.toEntity(requestDTO, user);
-        forum.addParticipant(user);
+        forum.setParticipantsCount(1L);
         user.addOwnedForum(forum);
 
-        userRepository.save(user);
-        return forumMapper.toResponseDTO(forum);
+        userRepository.saveAndFlush(user);
+        forumParticipantRepository.insertIfAbsent(forum.getId(), user.getId());
+
+        // The forum was merged through its owner, so the copy managed by the persistence context holds the creation
+        // date written to the database
+        ForumEntity saved = forumRepository.findById(forum.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Forum not found."));
+        ForumResponseDTO created = forumMapper.toResponseDTO(saved);
+        forumsHeadCache.add(created);
+        return created;
     }
 }
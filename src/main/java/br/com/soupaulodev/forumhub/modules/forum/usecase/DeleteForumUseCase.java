@@ -1,11 +1,16 @@
 package br.com.soupaulodev.forumhub.modules.forum.usecase;
 
+import br.com.soupaulodev.forumhub.config.CacheConfig;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.pagination.ListHeadCache;
+import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
@@ -18,16 +23,24 @@ public class DeleteForumUseCase {
 
     private final ForumRepository forumRepository;
     private final UserRepository userRepository;
+    private final ListHeadCache<ForumResponseDTO> forumsHeadCache;
+    private final ListHeadCache<TopicResponseDTO> topicsHeadCache;
 
     /**
      * Constructs a new DeleteForumUsecase with the specified repository.
      *
      * @param forumRepository the repository for managing forums
+     * @param forumsHeadCache the cache of the newest forums
+     * @param topicsHeadCache the cache of the newest topics, which loses the topics of the forum
      */
     public DeleteForumUseCase(ForumRepository forumRepository,
-                              UserRepository userRepository) {
+                              UserRepository userRepository,
+                              ListHeadCache<ForumResponseDTO> forumsHeadCache,
+                              ListHeadCache<TopicResponseDTO> topicsHeadCache) {
         this.forumRepository = forumRepository;
         this.userRepository = userRepository;
+        this.forumsHeadCache = forumsHeadCache;
+        this.topicsHeadCache = topicsHeadCache;
     }
 
     /**
@@ -38,6 +51,7 @@ public class DeleteForumUseCase {
      * @throws ResourceNotFoundException if the forum with the specified ID is not found
      * @throws ForbiddenException        if the authenticated user is not the owner of the forum
      */
+    @CacheEvict(cacheNames = CacheConfig.FORUMS, key = "#id")
     public void execute(UUID id, UUID authenticatedUserId) {
         ForumEntity forumDB = forumRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Forum not found."));
@@ -50,9 +64,10 @@ public class DeleteForumUseCase {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found."));
 
         owner.removeOwnedForum(forumDB);
-        owner.removeParticipatingForum(forumDB);
         forumDB.removeOwner();
-        forumDB.removeParticipant(owner);
         forumRepository.delete(forumDB);
+
+        forumsHeadCache.removeIf(forum -> forum.id().equals(id));
+        topicsHeadCache.removeIf(topic -> topic.forumId().equals(id));
     }
 }
@@ -1,11 +1,14 @@
 package br.com.soupaulodev.forumhub.modules.forum.usecase;
 
+import br.com.soupaulodev.forumhub.config.CacheConfig;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
-import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
-import br.com.soupaulodev.forumhub.modules.forum.mapper.ForumMapper;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounterBuffer;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -16,12 +19,11 @@ import java.util.UUID;
 public class GetForumUseCase {
 
     private final ForumRepository forumRepository;
-    private final ForumMapper forumMapper;
+    private final HighsCounterBuffer highsCounterBuffer;
 
-    public GetForumUseCase(ForumRepository forumRepository,
-                           ForumMapper forumMapper) {
+    public GetForumUseCase(ForumRepository forumRepository, HighsCounterBuffer highsCounterBuffer) {
         this.forumRepository = forumRepository;
-        this.forumMapper = forumMapper;
+        this.highsCounterBuffer = highsCounterBuffer;
     }
 
     /**
@@ -31,11 +33,12 @@ public class GetForumUseCase {
      * @return the response data transfer object containing the forum details
      * @throws ResourceNotFoundException if the forum with the specified ID is not found
      */
+    @Cacheable(cacheNames = CacheConfig.FORUMS, key = "#id", sync = true)
+    @Transactional(readOnly = true)
     public ForumResponseDTO execute(UUID id) {
 
-        ForumEntity forumFound = forumRepository.findById(id)
+        return forumRepository.findResponseById(id)
+                .map(forum -> forum.plusHighs(highsCounterBuffer.pending(HighsTarget.FORUM, id)))
                 .orElseThrow(() -> new ResourceNotFoundException("Forum not found."));
-
-        return forumMapper.toResponseDTO(forumFound);
     }
 }
@@ -1,50 +1,52 @@
 package br.com.soupaulodev.forumhub.modules.forum.usecase;
 
-import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
-import br.com.soupaulodev.forumhub.modules.forum.entity.ForumHighsEntity;
-import br.com.soupaulodev.forumhub.modules.forum.repository.ForumHighsRepository;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
-import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.modules.highs.HighsStore;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
 
 /**
- * Use case to high a forum
+ * Use case to high a Forum
+ * <p>
+ * The high is recorded in the {@link HighsStore}, which answers whether the user already highed the forum without
+ * touching the database, and is written to the highs table and counted in the background.
+ * </p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Service
 public class HighForumUseCase {
 
-    private final ForumHighsRepository forumHighsRepository;
     private final ForumRepository forumRepository;
-    private final UserRepository userRepository;
-
-    public HighForumUseCase(ForumHighsRepository forumHighsRepository,
-                            ForumRepository forumRepository,
-                            UserRepository userRepository) {
-        this.forumHighsRepository = forumHighsRepository;
+    private final HighsStore highsStore;
+
+    /**
+     * Constructor
+     *
+     * @param forumRepository forum repository
+     * @param highsStore store of the highs
+     */
+    public HighForumUseCase(ForumRepository forumRepository,
+                            HighsStore highsStore) {
         this.forumRepository = forumRepository;
-        this.userRepository = userRepository;
+        this.highsStore = highsStore;
     }
 
+    /**
+     * Use case to high a Forum
+     *
+     * @param forumId forum id
+     * @param authenticatedUserId authenticated user id
+     * @throws IllegalArgumentException if the forum does not exist or was already highed by the user
+     */
     public void execute(UUID forumId, UUID authenticatedUserId) {
-        forumHighsRepository.findByForum_IdAndUser_Id(forumId, authenticatedUserId)
-                .ifPresent(userHighsEntity -> {
-                    throw new IllegalArgumentException("Forum already highed");
-                });
-
-        ForumEntity forumFound = forumRepository.findById(forumId).orElseThrow(
-                () -> new IllegalArgumentException("Forum not found")
-        );
-
-        UserEntity authenticatedUserEntity = userRepository.findById(authenticatedUserId).orElseThrow(
-                () -> new IllegalArgumentException("Forum not found")
-        );
-
-        forumFound.incrementHighs();
-        forumHighsRepository.save(new ForumHighsEntity(forumFound, authenticatedUserEntity));
+        if (!forumRepository.existsById(forumId)) {
+            throw new IllegalArgumentException("Forum not found");
+        }
+        if (!highsStore.high(HighsTarget.FORUM, forumId, authenticatedUserId)) {
+            throw new IllegalArgumentException("Forum already highed");
+        }
     }
 }
@@ -0,0 +1,59 @@
+package br.com.soupaulodev.forumhub.modules.forum.usecase;
+
+import br.com.soupaulodev.forumhub.config.CacheConfig;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumParticipantRepository;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Use case to join a Forum
+ * <p>
+ * Joining runs two statements and loads no entity: the participants count of the forum is incremented by an atomic
+ * {@code UPDATE}, and the participation is inserted unless it already exists. Joining twice rolls the increment
+ * back, so the count always matches the participation rows.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Service
+public class JoinForumUseCase {
+
+    private final ForumParticipantRepository forumParticipantRepository;
+    private final ForumRepository forumRepository;
+
+    /**
+     * Constructor
+     *
+     * @param forumParticipantRepository forum participant repository
+     * @param forumRepository forum repository
+     */
+    public JoinForumUseCase(ForumParticipantRepository forumParticipantRepository,
+                            ForumRepository forumRepository) {
+        this.forumParticipantRepository = forumParticipantRepository;
+        this.forumRepository = forumRepository;
+    }
+
+    /**
+     * Use case to join a Forum
+     *
+     * @param forumId forum id
+     * @param authenticatedUserId authenticated user id
+     * @throws ResourceNotFoundException if the forum does not exist
+     * @throws IllegalArgumentException if the user already participates in the forum
+     */
+    @CacheEvict(cacheNames = CacheConfig.FORUMS, key = "#forumId")
+    @Transactional
+    public void execute(UUID forumId, UUID authenticatedUserId) {
+        if (forumRepository.addToParticipantsCount(forumId, 1) == 0) {
+            throw new ResourceNotFoundException("Forum not found.");
+        }
+        if (forumParticipantRepository.insertIfAbsent(forumId, authenticatedUserId) == 0) {
+            throw new IllegalArgumentException("You already participate in this forum.");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.soupaulodev.forumhub.modules.forum.usecase;
+
+import br.com.soupaulodev.forumhub.config.CacheConfig;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumParticipantRepository;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Use case to leave a Forum
+ * <p>
+ * The participation is deleted by its key and, only if it existed, the participants count of the forum is
+ * decremented by an atomic {@code UPDATE}. The owner of a forum cannot leave it.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Service
+public class LeaveForumUseCase {
+
+    private final ForumParticipantRepository forumParticipantRepository;
+    private final ForumRepository forumRepository;
+
+    /**
+     * Constructor
+     *
+     * @param forumParticipantRepository forum participant repository
+     * @param forumRepository forum repository
+     */
+    public LeaveForumUseCase(ForumParticipantRepository forumParticipantRepository,
+                             ForumRepository forumRepository) {
+        this.forumParticipantRepository = forumParticipantRepository;
+        this.forumRepository = forumRepository;
+    }
+
+    /**
+     * Use case to leave a Forum
+     *
+     * @param forumId forum id
+     * @param authenticatedUserId authenticated user id
+     * @throws ForbiddenException if the user is the owner of the forum
+     * @throws IllegalArgumentException if the user does not participate in the forum
+     */
+    @CacheEvict(cacheNames = CacheConfig.FORUMS, key = "#forumId")
+    @Transactional
+    public void execute(UUID forumId, UUID authenticatedUserId) {
+        if (forumRepository.isOwnedBy(forumId, authenticatedUserId)) {
+            throw new ForbiddenException("The owner cannot leave the forum.");
+        }
+        if (forumParticipantRepository.deleteByIds(forumId, authenticatedUserId) == 0) {
+            throw new IllegalArgumentException("You do not participate in this forum.");
+        }
+        forumRepository.addToParticipantsCount(forumId, -1);
+    }
+}
@@ -1,45 +1,53 @@
 package br.com.soupaulodev.forumhub.modules.forum.usecase;
 
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
-import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
-import br.com.soupaulodev.forumhub.modules.forum.mapper.ForumMapper;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounterBuffer;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
+import br.com.soupaulodev.forumhub.modules.pagination.ListHeadCache;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 /**
- * Use case for listing forums with pagination support.
+ * Use case for listing forums with cursor pagination support.
+ * The pages falling within the newest forums are served from the {@link ListHeadCache} of the forums.
  */
 @Service
 public class ListForumsUseCase {
 
     private final ForumRepository forumRepository;
-    private final ForumMapper forumMapper;
+    private final ListHeadCache<ForumResponseDTO> headCache;
+    private final HighsCounterBuffer highsCounterBuffer;
 
     public ListForumsUseCase(ForumRepository forumRepository,
-                             ForumMapper forumMapper) {
+                             ListHeadCache<ForumResponseDTO> headCache,
+                             HighsCounterBuffer highsCounterBuffer) {
         this.forumRepository = forumRepository;
-        this.forumMapper = forumMapper;
+        this.headCache = headCache;
+        this.highsCounterBuffer = highsCounterBuffer;
     }
 
     /**
-     * Executes the use case to list forums with pagination support.
+     * Executes the use case to list forums with cursor pagination support.
      *
-     * @param page the page number to retrieve
-     * @return a list of ForumResponseDTO containing the forum data
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the number of forums to retrieve
+     * @return a {@link CursorPage} of ForumResponseDTO containing the forum data
+     * @throws IllegalArgumentException if the cursor is invalid
      */
-    public List<ForumResponseDTO> execute(int page, int size) {
-
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<ForumEntity> entities = forumRepository.findAll(pageable);
-
-        return entities.getContent().stream()
-                .map(forumMapper::toResponseDTO)
-                .toList();
+    @Transactional(readOnly = true)
+    public CursorPage<ForumResponseDTO> execute(String cursor, int size) {
+        Cursor after = cursor != null ? Cursor.decode(cursor) : null;
+        List<ForumResponseDTO> forums = headCache.rows(after, size).orElseGet(() -> after == null
+                ? forumRepository.findFirstPage(CursorPage.limit(size))
+                : forumRepository.findPageAfter(after.createdAt(), after.id(), CursorPage.limit(size)));
+
+        return CursorPage.of(forums, size,
+                forum -> new Cursor(forum.createdAt(), forum.id()),
+                forum -> forum.plusHighs(highsCounterBuffer.pending(HighsTarget.FORUM, forum.id())));
     }
 }
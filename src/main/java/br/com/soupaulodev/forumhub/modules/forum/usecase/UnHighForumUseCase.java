@@ -1,45 +1,44 @@
 package br.com.soupaulodev.forumhub.modules.forum.usecase;
 
-import br.com.soupaulodev.forumhub.modules.forum.repository.ForumHighsRepository;
-import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.highs.HighsStore;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
 
 /**
- * Use case to unhigh a forum
+ * Use case to unhigh a Forum
+ * <p>
+ * The high is removed from the {@link HighsStore} and, only if it existed, deleted from the highs table and
+ * discounted in the background.
+ * </p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Service
 public class UnHighForumUseCase {
 
-    private final ForumHighsRepository forumHighsRepository;
-    private final ForumRepository forumRepository;
+    private final HighsStore highsStore;
 
-    public UnHighForumUseCase(ForumHighsRepository forumHighsRepository,
-                            ForumRepository forumRepository) {
-        this.forumHighsRepository = forumHighsRepository;
-        this.forumRepository = forumRepository;
+    /**
+     * Constructor
+     *
+     * @param highsStore store of the highs
+     */
+    public UnHighForumUseCase(HighsStore highsStore) {
+        this.highsStore = highsStore;
     }
 
     /**
-     * Use case to unhigh a forum
+     * Use case to unhigh a Forum
      *
      * @param forumId forum id
      * @param authenticatedUserId authenticated user id
+     * @throws IllegalArgumentException if the user had not highed the forum
      */
     public void execute(UUID forumId, UUID authenticatedUserId) {
-        forumHighsRepository.findByForum_IdAndUser_Id(forumId, authenticatedUserId)
-                .ifPresentOrElse(
-                        forumHighsRepository::delete,
-                    () -> {
-                        throw new IllegalArgumentException("Forum not highed");
-                    }
-                );
-        forumRepository.findById(forumId).ifPresent((forum) -> {
-            forum.decrementHighs();
-            forumRepository.save(forum);
-        });
+        if (!highsStore.unhigh(HighsTarget.FORUM, forumId, authenticatedUserId)) {
+            throw new IllegalArgumentException("Forum not highed");
+        }
     }
 }
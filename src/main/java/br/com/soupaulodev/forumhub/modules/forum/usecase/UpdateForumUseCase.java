@@ -1,5 +1,6 @@
 package br.com.soupaulodev.forumhub.modules.forum.usecase;
 
+import br.com.soupaulodev.forumhub.config.CacheConfig;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
@@ -7,6 +8,7 @@ import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumUpdateReque
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
 import br.com.soupaulodev.forumhub.modules.forum.mapper.ForumMapper;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -38,6 +40,7 @@ public class UpdateForumUseCase {
      * @throws IllegalArgumentException  if the provided data is invalid
      * @throws ForbiddenException        if the authenticated user is not the owner of the forum
      */
+    @CacheEvict(cacheNames = CacheConfig.FORUMS, key = "#id")
     public ForumResponseDTO execute(UUID id, ForumUpdateRequestDTO requestDTO, UUID authenticatedUserId) {
         ForumEntity forumFound = forumRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Forum not found."));
@@ -0,0 +1,72 @@
+package br.com.soupaulodev.forumhub.modules.highs;
+
+import br.com.soupaulodev.forumhub.config.CacheConfig;
+import br.com.soupaulodev.forumhub.config.TwoLevelCache;
+import br.com.soupaulodev.forumhub.config.TwoLevelCacheManager;
+import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
+import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts the cached details of the items whose highs count was just written to the database.
+ * <p>
+ * A high only changes the count once the {@link HighsCounterBuffer} flushes it, so evicting the details when the
+ * high is given would let the next read cache the old count again. The comments have no cache of their own, and the
+ * topic they belong to is not known here, so the details of their topic keep the old count until they expire.
+ * </p>
+ * <p>
+ * The counts are written with plain JDBC, which Hibernate does not see, so the forums and users are also evicted
+ * from its second-level cache.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class HighsCacheEvictor {
+
+    private final TwoLevelCacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Constructs a new {@link HighsCacheEvictor}.
+     *
+     * @param cacheManager         the manager of the caches holding the details of the items
+     * @param entityManagerFactory the factory whose second-level cache holds the entities
+     */
+    public HighsCacheEvictor(TwoLevelCacheManager cacheManager, EntityManagerFactory entityManagerFactory) {
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Evicts the details of the flushed items, with one eviction per cache, and their entities.
+     *
+     * @param event the items whose highs count changed
+     */
+    @EventListener
+    public void onHighsCountsFlushed(HighsCountsFlushed event) {
+        event.items().forEach((target, ids) -> {
+            Class<?> entityType = switch (target) {
+                case FORUM -> ForumEntity.class;
+                case USER -> UserEntity.class;
+                case TOPIC, COMMENT -> null;
+            };
+            if (entityType != null) {
+                ids.forEach(id -> entityManagerFactory.getCache().evict(entityType, id));
+            }
+
+            String cacheName = switch (target) {
+                case FORUM -> CacheConfig.FORUMS;
+                case TOPIC -> CacheConfig.TOPIC_DETAILS;
+                case USER -> CacheConfig.USERS;
+                case COMMENT -> null;
+            };
+            TwoLevelCache cache = cacheName != null ? cacheManager.getTwoLevelCache(cacheName) : null;
+            if (cache != null) {
+                cache.evictAll(ids);
+            }
+        });
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.soupaulodev.forumhub.modules.highs;
+
+import java.util.UUID;
+
+/**
+ * Entity whose highs count is updated through the {@link HighsCounterBuffer}.
+ * <p>
+ * The {@code highs_count} column of these entities is never written by JPA. It only changes through the batched
+ * updates of the buffer, and the {@link PendingHighsListener} adds the deltas not flushed yet to the loaded value.
+ * The queries projecting these items straight into rows or DTOs bypass the listener, so the code mapping them adds
+ * {@link HighsCounterBuffer#pending} itself.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public interface HighsCounted {
+
+    /**
+     * Gets the unique identifier of the entity.
+     *
+     * @return the unique identifier of the entity
+     */
+    UUID getId();
+
+    /**
+     * Gets the kind of item the entity is.
+     *
+     * @return the {@link HighsTarget} of the entity
+     */
+    HighsTarget getHighsTarget();
+
+    /**
+     * Adds a delta to the highs count held by the entity, without persisting it.
+     *
+     * @param delta the value added to the highs count, negative to subtract
+     */
+    void addToHighsCount(long delta);
+}
@@ -0,0 +1,253 @@
+package br.com.soupaulodev.forumhub.modules.highs;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind buffer of the highs count deltas of forums, topics, comments and users.
+ * <p>
+ * Updating the {@code highs_count} column on every high makes concurrent highs of a popular item queue on the lock
+ * of its row. Instead, the deltas are summed in memory and written periodically, one batched {@code UPDATE} per
+ * item type inside a single transaction, so a burst of highs on one item costs a single row update per flush.
+ * </p>
+ * <p>
+ * Like a {@link java.util.concurrent.atomic.LongAdder}, the buffer is split into stripes and each thread adds to its
+ * own stripe, so highs of the same item from different threads rarely contend. A flush atomically removes every
+ * entry from the stripes, and the deltas of a failed flush are added back and retried by the next one. The buffer
+ * is flushed a last time when the application shuts down.
+ * </p>
+ * <p>
+ * The buffer publishes the following metrics:
+ * - {@code highs.counter.pending}: the number of items with deltas waiting to be flushed.
+ * - {@code highs.counter.lag}: the age in seconds of the oldest delta waiting to be flushed.
+ * - {@code highs.counter.flush.duration}: the time spent writing a batch.
+ * - {@code highs.counter.flush.failures}: the number of batches that could not be written.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class HighsCounterBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(HighsCounterBuffer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ConcurrentHashMap<Key, Long>[] stripes;
+    private final AtomicLong oldestPendingNanos = new AtomicLong();
+    private final Timer flushTimer;
+    private final Counter failureCounter;
+    // Not a monitor: a flush writes to the database, which would pin the carrier of a virtual thread
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private volatile Map<Key, Long> inFlight = Map.of();
+
+    /**
+     * Constructs a new {@link HighsCounterBuffer}.
+     *
+     * @param jdbcTemplate          the template used to write the batches
+     * @param transactionOperations the transaction template each flush runs in
+     * @param eventPublisher        the publisher of the {@link HighsCountsFlushed} events
+     * @param meterRegistry         the registry the buffer metrics are published to
+     */
+    @SuppressWarnings("unchecked")
+    public HighsCounterBuffer(JdbcTemplate jdbcTemplate,
+                              TransactionOperations transactionOperations,
+                              ApplicationEventPublisher eventPublisher,
+                              MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.eventPublisher = eventPublisher;
+
+        int stripeCount = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1;
+        this.stripes = new ConcurrentHashMap[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+
+        Gauge.builder("highs.counter.pending", this, HighsCounterBuffer::pendingItems)
+                .description("Items with highs count deltas waiting to be flushed")
+                .register(meterRegistry);
+        Gauge.builder("highs.counter.lag", this, HighsCounterBuffer::lagSeconds)
+                .description("Age of the oldest highs count delta waiting to be flushed")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("highs.counter.flush.duration")
+                .description("Time spent writing a batch of highs count deltas")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("highs.counter.flush.failures")
+                .description("Batches of highs count deltas that could not be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Adds a delta to the highs count of an item.
+     * <p>
+     * When called inside a transaction, the delta is only buffered once the transaction commits, so a high that is
+     * rolled back is never counted.
+     * </p>
+     *
+     * @param target the kind of item
+     * @param id     the ID of the item
+     * @param delta  the value added to the highs count, negative to subtract
+     */
+    public void add(HighsTarget target, UUID id, long delta) {
+        Key key = new Key(target, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    buffer(key, delta);
+                }
+            });
+        } else {
+            buffer(key, delta);
+        }
+    }
+
+    /**
+     * Returns the delta of the highs count of an item that is not written to the database yet.
+     *
+     * @param target the kind of item
+     * @param id     the ID of the item
+     * @return the sum of the buffered deltas of the item
+     */
+    public long pending(HighsTarget target, UUID id) {
+        Key key = new Key(target, id);
+        long pending = inFlight.getOrDefault(key, 0L);
+        for (ConcurrentHashMap<Key, Long> stripe : stripes) {
+            pending += stripe.getOrDefault(key, 0L);
+        }
+        return pending;
+    }
+
+    /**
+     * Writes the buffered deltas to the database.
+     * If the batch cannot be written, the deltas are buffered again and retried by the next flush.
+     */
+    @Scheduled(fixedDelayString = "${highs.counter.flush-interval}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            long oldest = oldestPendingNanos.getAndSet(0);
+            Map<Key, Long> batch = drain();
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            inFlight = batch;
+            try {
+                flushTimer.record(() -> write(batch));
+                logger.debug("Flushed the highs count of {} items", batch.size());
+            } catch (DataAccessException e) {
+                failureCounter.increment();
+                logger.error("Highs count of {} items not flushed, retrying later: {}", batch.size(), e.getMessage());
+                batch.forEach(this::buffer);
+                oldestPendingNanos.accumulateAndGet(oldest, (current, previous) ->
+                        current == 0 ? previous : Math.min(current, previous));
+                return;
+            } finally {
+                inFlight = Map.of();
+            }
+            // Published outside of the try block, so a failing listener can not have the batch counted twice
+            eventPublisher.publishEvent(flushed(batch));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Flushes the deltas still buffered when the application shuts down.
+     */
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private void buffer(Key key, long delta) {
+        if (oldestPendingNanos.get() == 0) {
+            oldestPendingNanos.compareAndSet(0, System.nanoTime());
+        }
+        int index = (int) Thread.currentThread().threadId() & (stripes.length - 1);
+        stripes[index].merge(key, delta, Long::sum);
+    }
+
+    private Map<Key, Long> drain() {
+        Map<Key, Long> batch = new HashMap<>();
+        for (ConcurrentHashMap<Key, Long> stripe : stripes) {
+            for (Key key : stripe.keySet()) {
+                Long delta = stripe.remove(key);
+                if (delta != null) {
+                    batch.merge(key, delta, Long::sum);
+                }
+            }
+        }
+        batch.values().removeIf(delta -> delta == 0);
+        return batch;
+    }
+
+    private void write(Map<Key, Long> batch) {
+        Map<HighsTarget, Map<UUID, Long>> byTarget = new EnumMap<>(HighsTarget.class);
+        batch.forEach((key, delta) -> byTarget
+                .computeIfAbsent(key.target(), target -> new TreeMap<>())
+                .put(key.id(), delta));
+
+        transactionOperations.executeWithoutResult(status -> byTarget.forEach((target, deltas) -> {
+            List<Object[]> args = new ArrayList<>(deltas.size());
+            deltas.forEach((id, delta) -> args.add(new Object[]{delta, id}));
+            jdbcTemplate.batchUpdate(
+                    "UPDATE " + target.getTable() + " SET highs_count = COALESCE(highs_count, 0) + ? WHERE id = ?",
+                    args);
+        }));
+    }
+
+    private static HighsCountsFlushed flushed(Map<Key, Long> batch) {
+        Map<HighsTarget, Set<UUID>> items = new EnumMap<>(HighsTarget.class);
+        batch.keySet().forEach(key -> items.computeIfAbsent(key.target(), target -> new TreeSet<>()).add(key.id()));
+        return new HighsCountsFlushed(items);
+    }
+
+    private double pendingItems() {
+        long items = 0;
+        for (ConcurrentHashMap<Key, Long> stripe : stripes) {
+            items += stripe.size();
+        }
+        return items;
+    }
+
+    private double lagSeconds() {
+        long oldest = oldestPendingNanos.get();
+        return oldest == 0 ? 0 : (double) (System.nanoTime() - oldest) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private record Key(HighsTarget target, UUID id) {
+    }
+}
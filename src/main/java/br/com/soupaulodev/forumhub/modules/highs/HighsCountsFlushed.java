@@ -0,0 +1,15 @@
+package br.com.soupaulodev.forumhub.modules.highs;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Event published by the {@link HighsCounterBuffer} once the highs count of some items has been written to the
+ * database.
+ *
+ * @param items the IDs of the items whose highs count changed, by kind of item
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record HighsCountsFlushed(Map<HighsTarget, Set<UUID>> items) {
+}
@@ -0,0 +1,194 @@
+package br.com.soupaulodev.forumhub.modules.highs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes the highs recorded by the {@link HighsStore} to the highs tables, and loads the sets back from the
+ * database when Redis starts empty.
+ * <p>
+ * Every run first moves the hash of pending changes aside, then inserts and deletes the changed highs with one
+ * batched statement per table and kind of change, all in a single transaction. Only the rows that were actually
+ * inserted or deleted are added to the {@link HighsCounterBuffer}, so a run that is retried after a failure never
+ * counts a high twice. The changes are removed from Redis once the transaction commits; if anything fails they stay
+ * aside and are retried by the next run before any newer change.
+ * </p>
+ * <p>
+ * When the marker written after loading the sets is missing, Redis was restarted without its data: the pending
+ * changes left are reconciled first, then every set is loaded from the highs tables and the marker is written. The
+ * {@link HighsStore} rejects highs until then. A lock in Redis makes sure a single instance reconciles at a time.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class HighsReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(HighsReconciler.class);
+
+    private static final String LOCK_KEY = HighsStore.KEY_PREFIX + "reconcile-lock";
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private static final RedisScript<Long> DRAIN_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/highs-drain.lua"), Long.class);
+    private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final HighsCounterBuffer highsCounterBuffer;
+    private final Duration lockTimeout;
+    private final String lockOwner = UUID.randomUUID().toString();
+
+    /**
+     * Constructs a new {@link HighsReconciler}.
+     *
+     * @param redisTemplate         the template used to read the highs
+     * @param jdbcTemplate          the template used to write the batches
+     * @param transactionOperations the transaction template each run writes in
+     * @param highsCounterBuffer    the buffer of the highs count updates
+     * @param lockTimeout           the time after which the lock of an instance that stopped is released
+     */
+    public HighsReconciler(StringRedisTemplate redisTemplate,
+                           JdbcTemplate jdbcTemplate,
+                           TransactionOperations transactionOperations,
+                           HighsCounterBuffer highsCounterBuffer,
+                           @Value("${highs.reconcile.lock-timeout}") Duration lockTimeout) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.highsCounterBuffer = highsCounterBuffer;
+        this.lockTimeout = lockTimeout;
+    }
+
+    /**
+     * Writes the pending changes to the database, and loads the sets from the database if Redis lost them.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${highs.reconcile.interval}")
+    public void reconcile() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockOwner, lockTimeout))) {
+                return;
+            }
+            try {
+                applyPendingChanges();
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(HighsStore.READY_KEY))) {
+                    load();
+                }
+            } finally {
+                redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), lockOwner);
+            }
+        } catch (DataAccessException e) {
+            logger.error("Highs not reconciled, retrying later: {}", e.getMessage());
+        }
+    }
+
+    private void applyPendingChanges() {
+        Long drained = redisTemplate.execute(
+                DRAIN_SCRIPT, List.of(HighsStore.CHANGES_KEY, HighsStore.RECONCILING_KEY));
+        if (drained == null || drained == 0) {
+            return;
+        }
+
+        Map<HighsTarget, List<UUID[]>> highs = new EnumMap<>(HighsTarget.class);
+        Map<HighsTarget, List<UUID[]>> unhighs = new EnumMap<>(HighsTarget.class);
+        Map<Object, Object> changes = redisTemplate.opsForHash().entries(HighsStore.RECONCILING_KEY);
+        changes.forEach((field, state) -> {
+            String[] parts = field.toString().split(":");
+            UUID[] ids = {UUID.fromString(parts[1]), UUID.fromString(parts[2])};
+            (state.equals("1") ? highs : unhighs)
+                    .computeIfAbsent(HighsTarget.valueOf(parts[0]), target -> new ArrayList<>())
+                    .add(ids);
+        });
+
+        transactionOperations.executeWithoutResult(status -> {
+            highs.forEach(this::insert);
+            unhighs.forEach(this::delete);
+        });
+        redisTemplate.delete(HighsStore.RECONCILING_KEY);
+        logger.debug("Reconciled {} highs changes", changes.size());
+    }
+
+    private void insert(HighsTarget target, List<UUID[]> rows) {
+        // Highs of items or by users deleted in the meantime are skipped instead of failing the whole batch
+        int[] inserted = jdbcTemplate.batchUpdate(
+                "INSERT INTO " + target.getHighsTable()
+                        + " (" + target.getItemColumn() + ", " + target.getUserColumn() + ", created_at, updated_at)"
+                        + " SELECT i.id, u.id, now(), now() FROM " + target.getTable() + " i"
+                        + " JOIN tb_user u ON u.id = ? WHERE i.id = ? ON CONFLICT DO NOTHING",
+                rows.stream().map(ids -> new Object[]{ids[1], ids[0]}).toList());
+        count(target, rows, inserted, 1);
+    }
+
+    private void delete(HighsTarget target, List<UUID[]> rows) {
+        int[] deleted = jdbcTemplate.batchUpdate(
+                "DELETE FROM " + target.getHighsTable()
+                        + " WHERE " + target.getItemColumn() + " = ? AND " + target.getUserColumn() + " = ?",
+                rows.stream().map(ids -> new Object[]{ids[0], ids[1]}).toList());
+        count(target, rows, deleted, -1);
+    }
+
+    private void count(HighsTarget target, List<UUID[]> rows, int[] updated, long delta) {
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] > 0) {
+                highsCounterBuffer.add(target, rows.get(i)[0], delta);
+            }
+        }
+    }
+
+    private void load() {
+        for (HighsTarget target : HighsTarget.values()) {
+            Map<String, List<String>> batch = new HashMap<>();
+            int[] size = {0};
+            jdbcTemplate.query(
+                    "SELECT " + target.getItemColumn() + ", " + target.getUserColumn() + " FROM " + target.getHighsTable(),
+                    rs -> {
+                        batch.computeIfAbsent(HighsStore.setKey(target, rs.getString(1)), key -> new ArrayList<>())
+                                .add(rs.getString(2));
+                        if (++size[0] == LOAD_BATCH_SIZE) {
+                            addToSets(batch);
+                            size[0] = 0;
+                        }
+                    });
+            addToSets(batch);
+        }
+        redisTemplate.opsForValue().set(HighsStore.READY_KEY, "1");
+        logger.info("Loaded the highs sets from the database");
+    }
+
+    private void addToSets(Map<String, List<String>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                batch.forEach((key, users) -> operations.opsForSet().add(key, users.toArray()));
+                return null;
+            }
+        });
+        batch.clear();
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.soupaulodev.forumhub.modules.highs;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ServiceOverloadedException;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps who highed each forum, topic, comment and user in Redis, one set of user IDs per item.
+ * <p>
+ * Highing and unhighing is a single atomic script: the user is added to or removed from the set of the item and,
+ * only if the set changed, the change is recorded in a hash of pending changes. Checking whether a user already
+ * highed an item is therefore O(1) and no database row is locked. The {@link HighsReconciler} writes the pending
+ * changes to the highs tables in batches and loads the sets from the database when Redis starts empty.
+ * </p>
+ * <p>
+ * The sets have no expiration, so the Redis instance must not evict keys ({@code maxmemory-policy noeviction}).
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class HighsStore {
+
+    static final String KEY_PREFIX = "highs:";
+    static final String CHANGES_KEY = KEY_PREFIX + "changes";
+    static final String RECONCILING_KEY = KEY_PREFIX + "changes:reconciling";
+    static final String READY_KEY = KEY_PREFIX + "ready";
+
+    private static final RedisScript<Long> TOGGLE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/highs-toggle.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * Constructs a new {@link HighsStore}.
+     *
+     * @param redisTemplate the template used to store the highs
+     */
+    public HighsStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Records a high of an item by a user.
+     *
+     * @param target the kind of item
+     * @param itemId the ID of the item
+     * @param userId the ID of the user
+     * @return {@code true} if the high was recorded, {@code false} if the user had already highed the item
+     * @throws ServiceOverloadedException if the highs are still being loaded from the database
+     */
+    public boolean high(HighsTarget target, UUID itemId, UUID userId) {
+        return toggle(target, itemId, userId, true);
+    }
+
+    /**
+     * Removes the high of an item by a user.
+     *
+     * @param target the kind of item
+     * @param itemId the ID of the item
+     * @param userId the ID of the user
+     * @return {@code true} if the high was removed, {@code false} if the user had not highed the item
+     * @throws ServiceOverloadedException if the highs are still being loaded from the database
+     */
+    public boolean unhigh(HighsTarget target, UUID itemId, UUID userId) {
+        return toggle(target, itemId, userId, false);
+    }
+
+    static String setKey(HighsTarget target, String itemId) {
+        return KEY_PREFIX + target.name().toLowerCase() + ":" + itemId;
+    }
+
+    static String changeField(HighsTarget target, String itemId, String userId) {
+        return target.name() + ":" + itemId + ":" + userId;
+    }
+
+    private boolean toggle(HighsTarget target, UUID itemId, UUID userId, boolean highed) {
+        Long result = redisTemplate.execute(
+                TOGGLE_SCRIPT,
+                List.of(setKey(target, itemId.toString()), CHANGES_KEY, READY_KEY),
+                userId.toString(),
+                changeField(target, itemId.toString(), userId.toString()),
+                highed ? "1" : "0");
+
+        if (result == null || result < 0) {
+            throw new ServiceOverloadedException("Highs are being loaded. Try again later.");
+        }
+        return result == 1;
+    }
+}
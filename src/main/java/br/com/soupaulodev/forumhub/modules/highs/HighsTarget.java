@@ -0,0 +1,63 @@
+package br.com.soupaulodev.forumhub.modules.highs;
+
+/**
+ * Kinds of items that can receive highs, each one keeping its own {@code highs_count} column and its own table of
+ * highs.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public enum HighsTarget {
+
+    FORUM("tb_forum", "tb_forum_highs", "forum_id", "user_id"),
+    TOPIC("tb_topic", "tb_topic_highs", "topic_id", "user_id"),
+    COMMENT("tb_comment", "tb_comment_highs", "comment_id", "user_id"),
+    USER("tb_user", "tb_user_highs", "highed_user_id", "highing_user_id");
+
+    private final String table;
+    private final String highsTable;
+    private final String itemColumn;
+    private final String userColumn;
+
+    HighsTarget(String table, String highsTable, String itemColumn, String userColumn) {
+        this.table = table;
+        this.highsTable = highsTable;
+        this.itemColumn = itemColumn;
+        this.userColumn = userColumn;
+    }
+
+    /**
+     * Gets the table holding the highs count of the items.
+     *
+     * @return the name of the table
+     */
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Gets the table holding one row per high of an item by a user.
+     *
+     * @return the name of the table
+     */
+    public String getHighsTable() {
+        return highsTable;
+    }
+
+    /**
+     * Gets the column of the highs table referencing the highed item.
+     *
+     * @return the name of the column
+     */
+    public String getItemColumn() {
+        return itemColumn;
+    }
+
+    /**
+     * Gets the column of the highs table referencing the user who gave the high.
+     *
+     * @return the name of the column
+     */
+    public String getUserColumn() {
+        return userColumn;
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.soupaulodev.forumhub.modules.highs;
+
+import jakarta.persistence.PostLoad;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * JPA entity listener adding the highs not flushed yet to the highs count of every loaded {@link HighsCounted}
+ * entity, so the counts returned by the API include the highs still waiting in the {@link HighsCounterBuffer}.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public class PendingHighsListener {
+
+    private final ObjectProvider<HighsCounterBuffer> highsCounterBuffer;
+
+    /**
+     * Constructs a new {@link PendingHighsListener}.
+     * Instances are created by Hibernate through the Spring bean container, while the entity manager factory is
+     * being built. The buffer depends on that factory through its transaction template, so it is only looked up
+     * when the first entity is loaded.
+     *
+     * @param highsCounterBuffer the provider of the buffer holding the highs not flushed yet
+     */
+    public PendingHighsListener(ObjectProvider<HighsCounterBuffer> highsCounterBuffer) {
+        this.highsCounterBuffer = highsCounterBuffer;
+    }
+
+    @PostLoad
+    void mergePendingHighs(Object entity) {
+        if (entity instanceof HighsCounted counted) {
+            long pending = highsCounterBuffer.getObject().pending(counted.getHighsTarget(), counted.getId());
+            if (pending != 0) {
+                counted.addToHighsCount(pending);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.soupaulodev.forumhub.modules.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last item of a page in a list ordered by creation date and ID, both descending.
+ * <p>
+ * The next page starts right after this position, so fetching it costs a seek on the {@code (created_at, id)}
+ * index no matter how deep the page is, instead of scanning and discarding every previous row like an
+ * {@code OFFSET} does. The ID breaks the ties between items created at the same instant.
+ * </p>
+ *
+ * @param createdAt the creation date of the last item of the page
+ * @param id        the ID of the last item of the page
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record Cursor(Instant createdAt, UUID id) {
+
+    private static final char SEPARATOR = '_';
+
+    /**
+     * Encodes the cursor as the opaque string handed to the clients.
+     *
+     * @return the cursor encoded in URL-safe Base64
+     */
+    public String encode() {
+        String value = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor received from a client.
+     *
+     * @param value the cursor returned with the previous page
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the value is not a valid cursor
+     */
+    public static Cursor decode(String value) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            return new Cursor(
+                    Instant.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.soupaulodev.forumhub.modules.pagination;
+
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Page of a list paginated with a {@link Cursor}.
+ * <p>
+ * Pages are fetched with one extra row: if it is there, it is dropped and the cursor of the last item kept is
+ * returned, otherwise this is the last page and {@code nextCursor} is {@code null}. No count query is needed.
+ * </p>
+ *
+ * @param content    the items of the page
+ * @param nextCursor the cursor to request the next page with, or {@code null} if this is the last page
+ * @param <T>        the type of the items
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record CursorPage<T>(List<T> content, String nextCursor) {
+
+    /**
+     * Gets the limit to fetch a page of the given size with.
+     *
+     * @param size the number of items of the page
+     * @return a limit of one more row than the page size
+     * @throws IllegalArgumentException if the size is not positive, or too large for the extra row
+     */
+    public static Limit limit(int size) {
+        if (size < 1 || size == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid page size: " + size);
+        }
+        return Limit.of(size + 1);
+    }
+
+    /**
+     * Builds a page from the rows fetched with {@link #limit(int)}.
+     *
+     * @param rows     the rows fetched, ordered by creation date and ID, both descending
+     * @param size     the number of items of the page
+     * @param cursorOf the function giving the cursor of a row
+     * @param mapper   the function mapping a row to an item of the page
+     * @param <E>      the type of the rows
+     * @param <T>      the type of the items
+     * @return the page
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows,
+                                          int size,
+                                          Function<E, Cursor> cursorOf,
+                                          Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.getLast()).encode() : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,193 @@
+package br.com.soupaulodev.forumhub.modules.pagination;
+
+import br.com.soupaulodev.forumhub.config.ReplicaRoutingDataSource;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Cache of the newest rows of a list paginated with a {@link Cursor}, serving its first pages from memory.
+ * <p>
+ * The head of the list, its {@code maxItems} newest rows, is loaded with a single query and kept as one entry. Any
+ * page that falls entirely within the head, whatever its size, is cut from it. Once the head was loaded more than
+ * {@code refreshAfter} ago, the next read still gets it but triggers a reload in the background, so the hot pages
+ * never wait for the database. Only one load or reload of the head runs at a time, and a head loaded more than
+ * {@code timeToLive} ago, because nothing read it since it had to be reloaded, is dropped. The head is always loaded
+ * from the primary, since it is served to every client until its next reload.
+ * </p>
+ * <p>
+ * The rows created or deleted on this node are added to or removed from the head once their transaction commits,
+ * keeping it a prefix of the list without reloading it. These changes do not make the head any younger, and a
+ * reload started before one of them is discarded. The changes made on other nodes, and those of the counts shown in
+ * the rows, are seen at the next reload.
+ * </p>
+ *
+ * @param <T> the type of the rows
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public class ListHeadCache<T> {
+
+    private static final String KEY = "head";
+
+    private final Function<T, Cursor> cursorOf;
+    private final Comparator<T> order;
+    private final int maxItems;
+    private final long refreshAfterNanos;
+    private final LoadingCache<String, Head<T>> cache;
+
+    /**
+     * Constructs a new {@link ListHeadCache}.
+     *
+     * @param firstRows    the query of the first rows of the list, ordered by creation date and ID, both descending
+     * @param cursorOf     the function giving the cursor of a row
+     * @param maxItems     the number of rows kept
+     * @param refreshAfter the age from which the head is reloaded in the background when read
+     * @param timeToLive   how long after its load the head is kept at most
+     */
+    public ListHeadCache(Function<Limit, List<T>> firstRows,
+                         Function<T, Cursor> cursorOf,
+                         int maxItems,
+                         Duration refreshAfter,
+                         Duration timeToLive) {
+        this.cursorOf = cursorOf;
+        this.order = Comparator.comparing(cursorOf, Comparator.comparing(Cursor::createdAt)
+                .thenComparing(Cursor::id, ListHeadCache::compareUnsigned)
+                .reversed());
+        this.maxItems = maxItems;
+        this.refreshAfterNanos = refreshAfter.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .expireAfter(Expiry.<String, Head<T>>writing((key, head) -> timeToLive.minusNanos(head.age())))
+                .build(key -> ReplicaRoutingDataSource.callOnPrimary(
+                        () -> Head.of(firstRows.apply(CursorPage.limit(maxItems)), maxItems)));
+    }
+
+    /**
+     * Gets the rows of a page from the head, as they would be fetched with {@link CursorPage#limit(int)}.
+     *
+     * @param after the cursor of the previous page, or {@code null} for the first page
+     * @param size  the number of items of the page
+     * @return the rows of the page, or empty if the page does not fall within the head
+     */
+    public Optional<List<T>> rows(Cursor after, int size) {
+        Head<T> head = cache.get(KEY);
+        if (head.age() > refreshAfterNanos) {
+            cache.refresh(KEY);
+        }
+
+        int start = 0;
+        if (after != null) {
+            start = head.indexOf(row -> cursorOf.apply(row).id().equals(after.id())) + 1;
+            if (start == 0) {
+                return Optional.empty();
+            }
+        }
+
+        long end = (long) start + size + 1;
+        if (end > head.rows().size() && !head.complete()) {
+            return Optional.empty();
+        }
+        return Optional.of(head.rows().subList(start, (int) Math.min(end, head.rows().size())));
+    }
+
+    /**
+     * Adds a created row to the head, once the current transaction commits.
+     *
+     * @param row the row created
+     */
+    public void add(T row) {
+        afterCommit(() -> cache.asMap().computeIfPresent(KEY, (key, head) -> head.with(row, order, maxItems)));
+    }
+
+    /**
+     * Removes the deleted rows from the head, once the current transaction commits.
+     *
+     * @param deleted the condition matching the rows deleted
+     */
+    public void removeIf(Predicate<T> deleted) {
+        afterCommit(() -> cache.asMap().computeIfPresent(KEY, (key, head) -> head.without(deleted)));
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    /**
+     * Compares two IDs byte by byte like the database does, unlike {@link UUID#compareTo}.
+     */
+    private static int compareUnsigned(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    /**
+     * Newest rows of a list.
+     *
+     * @param rows     the rows, in the order of the list
+     * @param complete whether the rows are the whole list
+     * @param loadedAt the {@link System#nanoTime()} at which the rows were loaded
+     * @param <T>      the type of the rows
+     */
+    record Head<T>(List<T> rows, boolean complete, long loadedAt) {
+
+        static <T> Head<T> of(List<T> rows, int maxItems) {
+            long loadedAt = System.nanoTime();
+            return rows.size() > maxItems
+                    ? new Head<>(List.copyOf(rows.subList(0, maxItems)), false, loadedAt)
+                    : new Head<>(List.copyOf(rows), true, loadedAt);
+        }
+
+        long age() {
+            return System.nanoTime() - loadedAt;
+        }
+
+        int indexOf(Predicate<T> condition) {
+            for (int i = 0; i < rows.size(); i++) {
+                if (condition.test(rows.get(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        Head<T> with(T row, Comparator<T> order, int maxItems) {
+            int index = 0;
+            while (index < rows.size() && order.compare(rows.get(index), row) < 0) {
+                index++;
+            }
+            if (index == rows.size() && !complete) {
+                // The row falls past the head, which stays a prefix of the list without it
+                return this;
+            }
+            List<T> updated = new ArrayList<>(rows);
+            updated.add(index, row);
+            return updated.size() > maxItems
+                    ? new Head<>(List.copyOf(updated.subList(0, maxItems)), false, loadedAt)
+                    : new Head<>(List.copyOf(updated), complete, loadedAt);
+        }
+
+        Head<T> without(Predicate<T> deleted) {
+            return new Head<>(rows.stream().filter(deleted.negate()).toList(), complete, loadedAt);
+        }
+    }
+}
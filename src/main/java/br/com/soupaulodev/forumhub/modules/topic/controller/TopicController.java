@@ -1,17 +1,25 @@
 package br.com.soupaulodev.forumhub.modules.topic.controller;
 
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.TopicCommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.usecase.GetCommentThreadUseCase;
+import br.com.soupaulodev.forumhub.modules.comment.usecase.ListTopicCommentsUseCase;
+import br.com.soupaulodev.forumhub.modules.etag.ETags;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicDetailsResponseDTO;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicUpdateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.topic.usecase.*;
+import br.com.soupaulodev.forumhub.modules.validation.ResourceId;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
@@ -51,6 +59,9 @@ public class TopicController {
     private final DeleteTopicUseCase deleteTopicUseCase;
     private final HighTopicUseCase highTopicUseCase;
     private final UnHighTopicUseCase unHighTopicUseCase;
+    private final GetCommentThreadUseCase getCommentThreadUseCase;
+    private final ListTopicCommentsUseCase listTopicCommentsUseCase;
+    private final int maxPageSize;
 
     /**
      * Constructs a new {@link TopicController} with the specified use cases.
@@ -62,6 +73,9 @@ public class TopicController {
      * @param deleteTopicUseCase     the use case for deleting a topic
      * @param highTopicUseCase       the use case for high a topic
      * @param unHighTopicUseCase     the use case for unHigh a topic
+     * @param getCommentThreadUseCase the use case for loading the comment thread of a topic
+     * @param listTopicCommentsUseCase the use case for listing the root comments of a topic
+     * @param maxPageSize            the largest page the list endpoints return
      */
     public TopicController(CreateTopicUseCase createTopicUseCase,
                            ListTopicsUseCase listTopicsUseCase,
@@ -69,7 +83,10 @@ public class TopicController {
                            UpdateTopicUseCase updateTopicUseCase,
                            DeleteTopicUseCase deleteTopicUseCase,
                            HighTopicUseCase highTopicUseCase,
-                           UnHighTopicUseCase unHighTopicUseCase) {
+                           UnHighTopicUseCase unHighTopicUseCase,
+                           GetCommentThreadUseCase getCommentThreadUseCase,
+                           ListTopicCommentsUseCase listTopicCommentsUseCase,
+                           @Value("${pagination.max-page-size}") int maxPageSize) {
         this.createTopicUseCase = createTopicUseCase;
         this.getTopicDetailsUseCase = getTopicDetailsUseCase;
         this.listTopicsUseCase = listTopicsUseCase;
@@ -77,6 +94,9 @@ public class TopicController {
         this.deleteTopicUseCase = deleteTopicUseCase;
         this.highTopicUseCase = highTopicUseCase;
         this.unHighTopicUseCase = unHighTopicUseCase;
+        this.getCommentThreadUseCase = getCommentThreadUseCase;
+        this.listTopicCommentsUseCase = listTopicCommentsUseCase;
+        this.maxPageSize = maxPageSize;
     }
 
     /**
@@ -105,38 +125,86 @@ public class TopicController {
      * Retrieves a topic details by its unique identifier.
      *
      * @param id the unique identifier of the topic
-     * @return the response entity containing the topic
+     * @return the response entity containing the topic, tagged with its {@link ETags weak ETag}
      */
     @GetMapping("/{id}")
     @Operation(summary = "Get topic details by ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Topic found"),
+            @ApiResponse(responseCode = "304", description = "Topic not modified since the ETag sent"),
             @ApiResponse(responseCode = "404", description = "Topic not found")
     })
     public ResponseEntity<TopicDetailsResponseDTO> getTopicDetails(@Valid @PathVariable
-                                                                   @org.hibernate.validator.constraints.UUID String id) {
-        return ResponseEntity.ok(getTopicDetailsUseCase.execute(UUID.fromString(id)));
+                                                                   @ResourceId String id) {
+        return ETags.ok(getTopicDetailsUseCase.execute(UUID.fromString(id)));
     }
 
     /**
-     * Endpoint for handling listing of topics with pagination support.
-     * This method lists topics with pagination support and returns the list of topics.
+     * Retrieves the comment thread of a topic, or the subtree of one of its comments, with a single query.
      *
-     * @param page {@link Integer} the page number to retrieve
+     * @param id the unique identifier of the topic
+     * @param comment the unique identifier of the comment the thread starts at, absent for the whole thread
+     * @return the response entity containing the root comments, or the given comment, with their replies
+     */
+    @GetMapping("/{id}/thread")
+    @Operation(summary = "Get the comment thread of a topic")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Thread found"),
+            @ApiResponse(responseCode = "404", description = "Topic or comment not found")
+    })
+    public ResponseEntity<List<CommentResponseDTO>> getCommentThread(@Valid @PathVariable
+                                                                     @ResourceId String id,
+                                                                     @Valid @RequestParam(required = false)
+                                                                     @ResourceId String comment) {
+        UUID commentId = comment != null ? UUID.fromString(comment) : null;
+        return ResponseEntity.ok(getCommentThreadUseCase.execute(UUID.fromString(id), commentId));
+    }
+
+    /**
+     * Endpoint for handling listing of the comments of a topic with cursor pagination support.
+     * This method lists the root comments of the topic created before the cursor, each one with its number of replies
+     * and its first replies, and returns them with the cursor of the next page.
+     *
+     * @param id the unique identifier of the topic
+     * @param cursor the cursor returned with the previous page, absent for the first page
+     * @param size the number of root comments to retrieve per page
+     * @return the response entity of the page of TopicCommentResponseDTO with status 200 (OK)
+     */
+    @GetMapping("/{id}/comments")
+    @Operation(summary = "List the comments of a topic with pagination support")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Comments listed successfully"),
+            @ApiResponse(responseCode = "404", description = "Topic not found")
+    })
+    public ResponseEntity<CursorPage<TopicCommentResponseDTO>> listTopicComments(@Valid @PathVariable
+                                                                                 @ResourceId String id,
+                                                                                 @RequestParam(required = false)
+                                                                                 String cursor,
+                                                                                 @Valid
+                                                                                 @RequestParam(defaultValue = "10")
+                                                                                 @Min(value = 1, message = "Page size must be greater than 0")
+                                                                                 int size) {
+        return ETags.ok(listTopicCommentsUseCase.execute(UUID.fromString(id), cursor, Math.min(size, maxPageSize)));
+    }
+
+    /**
+     * Endpoint for handling listing of topics with cursor pagination support.
+     * This method lists the topics created before the cursor and returns them with the cursor of the next page.
+     *
+     * @param cursor {@link String} the cursor returned with the previous page, absent for the first page
      * @param size {@link Integer} the number of topics to retrieve per page
-     * @return a {@link ResponseEntity} of {@link List} of {@link ForumResponseDTO} with status 200 (OK) and the list of topics
+     * @return a {@link ResponseEntity} of {@link CursorPage} of {@link TopicResponseDTO} with status 200 (OK) and the page of topics
      */
     @GetMapping("/all")
     @Operation(summary = "List all topics with pagination support")
     @ApiResponse(responseCode = "200", description = "Topics found")
-    public ResponseEntity<List<TopicResponseDTO>> listForumsPageable(@Valid
-                                                                     @RequestParam(defaultValue = "0")
-                                                                     @Min(value = 0, message = "Page number must be greater than or equal to 0")
-                                                                     int page,
-                                                                     @Valid
-                                                                     @RequestParam(defaultValue = "10")
-                                                                     int size) {
-        return ResponseEntity.ok(listTopicsUseCase.execute(page, size));
+    public ResponseEntity<CursorPage<TopicResponseDTO>> listForumsPageable(@RequestParam(required = false)
+                                                                           String cursor,
+                                                                           @Valid
+                                                                           @RequestParam(defaultValue = "10")
+                                                                           @Min(value = 1, message = "Page size must be greater than 0")
+                                                                           int size) {
+        return ETags.ok(listTopicsUseCase.execute(cursor, Math.min(size, maxPageSize)));
     }
 
     /**
@@ -156,7 +224,7 @@ public class TopicController {
             @ApiResponse(responseCode = "404", description = "Topic not found")
     })
     public ResponseEntity<TopicResponseDTO> updateTopic(@Valid @PathVariable
-                                                        @org.hibernate.validator.constraints.UUID String id,
+                                                        @ResourceId String id,
                                                         @Valid @RequestBody
                                                         TopicUpdateRequestDTO requestDTO) {
         UUID authenticatedUserId = getAuthenticatedUserId();
@@ -178,7 +246,7 @@ public class TopicController {
             @ApiResponse(responseCode = "403", description = "Forbidden"),
             @ApiResponse(responseCode = "404", description = "Topic not found")
     })
-    public ResponseEntity<Void> deleteTopic(@Valid @PathVariable @org.hibernate.validator.constraints.UUID String id) {
+    public ResponseEntity<Void> deleteTopic(@Valid @PathVariable @ResourceId String id) {
         UUID authenticatedUserId = getAuthenticatedUserId();
         deleteTopicUseCase.execute(UUID.fromString(id), authenticatedUserId);
         return ResponseEntity.noContent().build();
@@ -198,7 +266,7 @@ public class TopicController {
             @ApiResponse(responseCode = "404", description = "Topic not found")
     })
     @PostMapping("/high/{id}")
-    public ResponseEntity<Void> highTopic(@Valid @PathVariable("id") @org.hibernate.validator.constraints.UUID String topicId) {
+    public ResponseEntity<Void> highTopic(@Valid @PathVariable("id") @ResourceId String topicId) {
         UUID authenticatedUserId = getAuthenticatedUserId();
         highTopicUseCase.execute(UUID.fromString(topicId), authenticatedUserId);
         return ResponseEntity.noContent().build();
@@ -218,7 +286,7 @@ public class TopicController {
             @ApiResponse(responseCode = "404", description = "Topic not found")
     })
     @DeleteMapping("/unhigh/{id}")
-    public ResponseEntity<Void> unHighTopic(@Valid @PathVariable("id") @org.hibernate.validator.constraints.UUID String topicId) {
+    public ResponseEntity<Void> unHighTopic(@Valid @PathVariable("id") @ResourceId String topicId) {
         UUID authenticatedUserId = getAuthenticatedUserId();
         unHighTopicUseCase.execute(UUID.fromString(topicId), authenticatedUserId);
         return ResponseEntity.noContent().build();
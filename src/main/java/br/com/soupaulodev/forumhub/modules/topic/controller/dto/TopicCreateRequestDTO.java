@@ -1,8 +1,8 @@
 package br.com.soupaulodev.forumhub.modules.topic.controller.dto;
 
+import br.com.soupaulodev.forumhub.modules.validation.ResourceId;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
-import org.hibernate.validator.constraints.UUID;
 
 /**
  * DTO (Data Transfer Object) representing the request body for topic creation.
@@ -26,6 +26,6 @@ public record TopicCreateRequestDTO(
         @Size(max = 500)
         String content,
 
-        @UUID String forumId
+        @ResourceId String forumId
 ) {
 }
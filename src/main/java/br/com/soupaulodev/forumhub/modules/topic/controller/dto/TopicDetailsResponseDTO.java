@@ -1,8 +1,12 @@
 package br.com.soupaulodev.forumhub.modules.topic.controller.dto;
 
-import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.TopicCommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.etag.Versioned;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,6 +25,7 @@ import java.util.UUID;
  * @param creatorId    the user who created the topic
  * @param highs        the number of highs the topic has
  * @param commentCount the number of comments the topic has
+ * @param comments     the first page of root comments of the topic, with the cursor of the next one
  * @param createdAt    the creation date of the topic
  * @param updatedAt    the last update date of the topic
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
@@ -34,8 +39,18 @@ public record TopicDetailsResponseDTO(
         String creatorUsername,
         Long highs,
         Long commentCount,
-        List<CommentResponseDTO> comments,
+        CursorPage<TopicCommentResponseDTO> comments,
         Instant createdAt,
         Instant updatedAt
-) {
+) implements Versioned {
+
+    @Override
+    public List<Object> version() {
+        List<Object> version = new ArrayList<>(Arrays.asList(id, updatedAt, highs, commentCount, creatorUsername));
+        if (comments != null) {
+            comments.content().forEach(comment -> version.addAll(comment.version()));
+            version.add(comments.nextCursor());
+        }
+        return version;
+    }
 }
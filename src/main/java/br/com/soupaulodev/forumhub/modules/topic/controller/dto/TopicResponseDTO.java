@@ -1,6 +1,10 @@
 package br.com.soupaulodev.forumhub.modules.topic.controller.dto;
 
+import br.com.soupaulodev.forumhub.modules.etag.Versioned;
+
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -34,5 +38,25 @@ public record TopicResponseDTO(
         Long commentCount,
         Instant createdAt,
         Instant updatedAt
-) {
+) implements Versioned {
+
+    /**
+     * Returns a copy of this topic with a delta added to its highs count.
+     *
+     * @param delta the value added to the highs count, negative to subtract
+     * @return this topic if the delta is 0, or a copy with the new highs count
+     */
+    public TopicResponseDTO plusHighs(long delta) {
+        if (delta == 0) {
+            return this;
+        }
+        return new TopicResponseDTO(
+                id, title, content, forumId, creatorId, creatorUsername, highs + delta, commentCount, createdAt,
+                updatedAt);
+    }
+
+    @Override
+    public List<Object> version() {
+        return Arrays.asList(id, updatedAt, highs, commentCount, creatorUsername);
+    }
 }
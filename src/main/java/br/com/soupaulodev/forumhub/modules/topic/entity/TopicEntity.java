@@ -1,7 +1,11 @@
 package br.com.soupaulodev.forumhub.modules.topic.entity;
 
+import br.com.soupaulodev.forumhub.config.IdStrategy;
 import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounted;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
+import br.com.soupaulodev.forumhub.modules.highs.PendingHighsListener;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -24,8 +28,9 @@ import java.util.UUID;
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Entity
-@Table(name = "tb_topic")
-public class TopicEntity implements Serializable {
+@EntityListeners(PendingHighsListener.class)
+@Table(name = "tb_topic", indexes = @Index(name = "idx_topic_created_at_id", columnList = "created_at, id"))
+public class TopicEntity implements Serializable, HighsCounted {
 
     @Serial
     private static final long serialVersionUID = 1L;
@@ -39,7 +44,7 @@ public class TopicEntity implements Serializable {
     @Column(nullable = false, length = 500)
     private String content;
 
-    @Column(name = "highs_count")
+    @Column(name = "highs_count", updatable = false)
     private Long highsCount = 0L;
 
     @Column(name = "comments_count")
@@ -77,7 +82,7 @@ public class TopicEntity implements Serializable {
     public TopicEntity() {
         Instant now = Instant.now();
 
-        this.id = UUID.randomUUID();
+        this.id = IdStrategy.nextId();
         this.createdAt = now;
         this.updatedAt = now;
     }
@@ -187,6 +192,26 @@ public class TopicEntity implements Serializable {
         this.highsCount--;
     }
 
+    /**
+     * Gets the kind of item this entity is, for the highs count buffer.
+     *
+     * @return {@link HighsTarget#TOPIC}
+     */
+    @Override
+    public HighsTarget getHighsTarget() {
+        return HighsTarget.TOPIC;
+    }
+
+    /**
+     * Adds a delta to the highs count, without persisting it.
+     *
+     * @param delta the value added to the highs count, negative to subtract
+     */
+    @Override
+    public void addToHighsCount(long delta) {
+        this.highsCount = (highsCount == null ? 0L : highsCount) + delta;
+    }
+
     /**
      * Gets the number of comments count.
      *
@@ -1,6 +1,5 @@
 package br.com.soupaulodev.forumhub.modules.topic.entity;
 
-import br.com.soupaulodev.forumhub.config.UlidGenerator;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -18,17 +17,19 @@ import java.util.Objects;
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Entity
-@Table(name = "tb_topic_highs")
+@Table(name = "tb_topic_highs", indexes = @Index(name = "idx_topic_highs_user_id", columnList = "user_id"))
 public class TopicHighsEntity {
 
-    @Id
-    private String id;
+    @EmbeddedId
+    private TopicHighsId id;
 
 
+    @MapsId("topicId")
     @ManyToOne
     @JoinColumn(name = "topic_id", nullable = false)
     private TopicEntity topic;
 
+    @MapsId("userId")
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     private UserEntity user;
@@ -44,18 +45,17 @@ public class TopicHighsEntity {
 
     /**
      * Default constructor.
-     * Initializes the id
+     * Initializes the createdAt and updatedAt fields.
      */
     public TopicHighsEntity() {
         Instant now = Instant.now();
-        this.id = UlidGenerator.generate();
         this.createdAt = now;
         this.updatedAt = now;
     }
 
     /**
      * Constructs a new TopicHighsEntity with the specified user and topic.
-     * Initializes the id, createdAt and updatedAt fields.
+     * Initializes the composite id, createdAt and updatedAt fields.
      *
      * @param topic      the topic that was liked
      * @param user       the user who liked the topic
@@ -64,6 +64,7 @@ public class TopicHighsEntity {
         this();
         this.topic = topic;
         this.user = user;
+        this.id = new TopicHighsId(topic.getId(), user.getId());
     }
 
     /**
@@ -71,7 +72,7 @@ public class TopicHighsEntity {
 
      * @return the unique identifier of the topic high
      */
-    public String getId() {
+    public TopicHighsId getId() {
         return id;
     }
 
@@ -80,7 +81,7 @@ public class TopicHighsEntity {
      *
      * @param id the unique identifier of the topic high
      */
-    public void setId(String id) {
+    public void setId(TopicHighsId id) {
         this.id = id;
     }
 
@@ -164,7 +165,7 @@ public class TopicHighsEntity {
     @Override
     public String toString() {
         return "TopicHighsEntity{" +
-                "id='" + id + '\'' +
+                "id=" + id +
                 ", topic=" + topic +
                 ", user=" + user +
                 ", createdAt=" + createdAt +
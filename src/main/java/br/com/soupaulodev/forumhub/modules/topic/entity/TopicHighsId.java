@@ -0,0 +1,84 @@
+package br.com.soupaulodev.forumhub.modules.topic.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Composite primary key of the {@link TopicHighsEntity}.
+ * <p>
+ * A user can high the same topic only once, so the pair of IDs identifies the high on its own and the
+ * uniqueness is enforced by the primary key itself.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Embeddable
+public class TopicHighsId implements Serializable {
+
+    @Column(name = "topic_id", nullable = false)
+    private UUID topicId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    /**
+     * Default constructor.
+     */
+    public TopicHighsId() {
+    }
+
+    /**
+     * Constructs a new TopicHighsId.
+     *
+     * @param topicId the ID of the topic
+     * @param userId the ID of the user who highed the topic
+     */
+    public TopicHighsId(UUID topicId, UUID userId) {
+        this.topicId = topicId;
+        this.userId = userId;
+    }
+
+    /**
+     * Gets the ID of the topic.
+     *
+     * @return the ID of the topic
+     */
+    public UUID getTopicId() {
+        return topicId;
+    }
+
+    /**
+     * Gets the ID of the user who highed the topic.
+     *
+     * @return the ID of the user who highed the topic
+     */
+    public UUID getUserId() {
+        return userId;
+    }
+
+    @Override
+    public String toString() {
+        return "TopicHighsId{" +
+                "topicId=" + topicId +
+                ", userId=" + userId +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        TopicHighsId that = (TopicHighsId) obj;
+        return Objects.equals(this.topicId, that.topicId) && Objects.equals(this.userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(topicId, userId);
+    }
+}
@@ -1,6 +1,8 @@
 package br.com.soupaulodev.forumhub.modules.topic.mapper;
 
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.TopicCommentResponseDTO;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicDetailsResponseDTO;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
@@ -8,8 +10,6 @@ import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicUpdateReque
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 
-import java.util.List;
-
 /**
  * Mapper class for converting between TopicEntity and various DTOs.
  *
@@ -69,25 +69,26 @@ public class TopicMapper {
     }
 
     /**
-     * Converts a TopicEntity to a TopicDetailsResponseDTO.
+     * Converts a TopicResponseDTO and the first page of comments of the topic to a TopicDetailsResponseDTO.
      *
-     * @param topic the TopicEntity to be converted
-     * @return the TopicDetailsResponseDTO created from the entity
+     * @param topic the TopicResponseDTO to be converted
+     * @param comments the first page of root comments of the topic
+     * @return the TopicDetailsResponseDTO created from the topic and its comments
      */
-    public static TopicDetailsResponseDTO toDetailsResponseDTO(TopicEntity topic) {
+    public static TopicDetailsResponseDTO toDetailsResponseDTO(TopicResponseDTO topic,
+                                                               CursorPage<TopicCommentResponseDTO> comments) {
         return new TopicDetailsResponseDTO(
-                topic.getId(),
-                topic.getTitle(),
-                topic.getContent(),
-                topic.getForum().getId(),
-                topic.getCreator().getId(),
-                topic.getCreator().getUsername(),
-                topic.getHighsCount(),
-                topic.getCommentsCount(),
-                List.of(), //TODO - Convert TopicMapper to Spring Component and inject CommentMapper
-//                topic.getComments().stream().map(CommentMapper::toResponseDTO).toList(),
-                topic.getCreatedAt(),
-                topic.getUpdatedAt()
+                topic.id(),
+                topic.title(),
+                topic.content(),
+                topic.forumId(),
+                topic.creatorId(),
+                topic.creatorUsername(),
+                topic.highs(),
+                topic.commentCount(),
+                comments,
+                topic.createdAt(),
+                topic.updatedAt()
         );
     }
 }
@@ -1,9 +1,16 @@
 package br.com.soupaulodev.forumhub.modules.topic.repository;
 
+import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -14,4 +21,46 @@ import java.util.UUID;
  */
 @Repository
 public interface TopicRepository extends JpaRepository<TopicEntity, UUID> {
+
+    /**
+     * Constructor expression of the {@link TopicResponseDTO} of a topic aliased {@code t} joined with its creator
+     * aliased {@code c}.
+     */
+    String RESPONSE = """
+            new br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO(
+                t.id, t.title, t.content, t.forum.id, c.id, c.username, t.highsCount, t.commentsCount,
+                t.createdAt, t.updatedAt)""";
+
+    /**
+     * Finds a topic by its ID, selecting only the columns of its response.
+     *
+     * @param id the ID of the topic
+     * @return the topic, or an empty {@link Optional} if it does not exist
+     */
+    @Query("SELECT " + RESPONSE + " FROM TopicEntity t JOIN t.creator c WHERE t.id = :id")
+    Optional<TopicResponseDTO> findResponseById(@Param("id") UUID id);
+
+    /**
+     * Finds the first page of topics, the most recent first.
+     *
+     * @param limit the maximum number of topics to return
+     * @return the most recent topics
+     */
+    @Query("SELECT " + RESPONSE + " FROM TopicEntity t JOIN t.creator c ORDER BY t.createdAt DESC, t.id DESC")
+    List<TopicResponseDTO> findFirstPage(Limit limit);
+
+    /**
+     * Finds the page of topics created right before the given position, the most recent first.
+     *
+     * @param createdAt the creation date of the last item of the previous page
+     * @param id the ID of the last item of the previous page
+     * @param limit the maximum number of topics to return
+     * @return the topics after the given position
+     */
+    @Query("SELECT " + RESPONSE + """
+             FROM TopicEntity t JOIN t.creator c
+            WHERE (t.createdAt, t.id) < (:createdAt, :id)
+            ORDER BY t.createdAt DESC, t.id DESC
+            """)
+    List<TopicResponseDTO> findPageAfter(@Param("createdAt") Instant createdAt, @Param("id") UUID id, Limit limit);
 }
@@ -3,6 +3,7 @@ package br.com.soupaulodev.forumhub.modules.topic.usecase;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.pagination.ListHeadCache;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
@@ -25,6 +26,7 @@ public class CreateTopicUseCase {
     private final TopicRepository topicRepository;
     private final ForumRepository forumRepository;
     private final UserRepository userRepository;
+    private final ListHeadCache<TopicResponseDTO> topicsHeadCache;
 
     /**
      * Constructs a new CreateTopicUsecase with the specified repositories.
@@ -32,13 +34,16 @@ public class CreateTopicUseCase {
      * @param topicRepository the repository for managing topics
      * @param forumRepository the repository for managing forums
      * @param userRepository  the repository for managing users
+     * @param topicsHeadCache the cache of the newest topics
      */
     public CreateTopicUseCase(TopicRepository topicRepository,
                               ForumRepository forumRepository,
-                              UserRepository userRepository) {
+                              UserRepository userRepository,
+                              ListHeadCache<TopicResponseDTO> topicsHeadCache) {
         this.topicRepository = topicRepository;
         this.forumRepository = forumRepository;
         this.userRepository = userRepository;
+        this.topicsHeadCache = topicsHeadCache;
     }
 
     /**
@@ -64,6 +69,8 @@ public class CreateTopicUseCase {
         forum.incrementTopicsCount();
         forumRepository.save(forum);
 
-        return TopicMapper.toResponseDTO(topicSaved);
+        TopicResponseDTO created = TopicMapper.toResponseDTO(topicSaved);
+        topicsHeadCache.add(created);
+        return created;
     }
 }
@@ -1,12 +1,16 @@
 package br.com.soupaulodev.forumhub.modules.topic.usecase;
 
+import br.com.soupaulodev.forumhub.config.CacheConfig;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.pagination.ListHeadCache;
+import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
@@ -22,6 +26,7 @@ public class DeleteTopicUseCase {
     private final TopicRepository topicRepository;
     private final ForumRepository forumRepository;
     private final UserRepository userRepository;
+    private final ListHeadCache<TopicResponseDTO> topicsHeadCache;
 
     /**
      * Constructs a new DeleteTopicUsecase with the specified repository.
@@ -29,14 +34,17 @@ public class DeleteTopicUseCase {
      * @param topicRepository the repository for managing topics
      * @param forumRepository the repository for managing forums
      * @param userRepository   the repository for managing users
+     * @param topicsHeadCache  the cache of the newest topics
      *
      */
     public DeleteTopicUseCase(TopicRepository topicRepository,
                               ForumRepository forumRepository,
-                              UserRepository userRepository) {
+                              UserRepository userRepository,
+                              ListHeadCache<TopicResponseDTO> topicsHeadCache) {
         this.topicRepository = topicRepository;
         this.forumRepository = forumRepository;
         this.userRepository = userRepository;
+        this.topicsHeadCache = topicsHeadCache;
     }
 
     /**
@@ -47,6 +55,7 @@ public class DeleteTopicUseCase {
      * @throws ResourceNotFoundException if the topic specified by the id does not exist
      * @throws ForbiddenException        if the authenticated user is not the creator of the topic
      */
+    @CacheEvict(cacheNames = CacheConfig.TOPIC_DETAILS, key = "#id")
     public void execute(UUID id, UUID authenticatedUserId) {
         TopicEntity topicDB = topicRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Topic not found."));
@@ -62,5 +71,7 @@ public class DeleteTopicUseCase {
 
         topicRepository.delete(topicDB);
         forumRepository.save(forumFound);
+
+        topicsHeadCache.removeIf(topic -> topic.id().equals(id));
     }
 }
@@ -1,16 +1,30 @@
 package br.com.soupaulodev.forumhub.modules.topic.usecase;
 
+import br.com.soupaulodev.forumhub.config.CacheConfig;
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.TopicCommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.usecase.ListTopicCommentsUseCase;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounterBuffer;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicDetailsResponseDTO;
-import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
+import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
 import br.com.soupaulodev.forumhub.modules.topic.mapper.TopicMapper;
 import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
- * Use case for retrieving a specific topic by its unique identifier.
+ * Use case for retrieving a specific topic by its unique identifier, along with the first page of its comments.
+ * <p>
+ * The topic and its creator are read with one query, and the comments page with at most two more: one for the root
+ * comments and one for their first replies. A topic without comments costs a single query.
+ * </p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
@@ -18,31 +32,47 @@ import java.util.UUID;
 public class GetTopicDetailsUseCase {
 
     private final TopicRepository topicRepository;
+    private final ListTopicCommentsUseCase listTopicCommentsUseCase;
+    private final HighsCounterBuffer highsCounterBuffer;
+    private final int commentsPageSize;
 
     /**
      * Constructs a new GetTopicUsecase with the specified repository.
      *
-     * @param topicRepository the repository for managing topics
+     * @param topicRepository          the repository for managing topics
+     * @param listTopicCommentsUseCase the use case listing the comments of the topic
+     * @param highsCounterBuffer       the buffer holding the highs not written to the database yet
+     * @param commentsPageSize         the number of root comments embedded in the details
      */
-    public GetTopicDetailsUseCase(TopicRepository topicRepository) {
+    public GetTopicDetailsUseCase(TopicRepository topicRepository,
+                                  ListTopicCommentsUseCase listTopicCommentsUseCase,
+                                  HighsCounterBuffer highsCounterBuffer,
+                                  @Value("${comments.topic.details-page-size}") int commentsPageSize) {
         this.topicRepository = topicRepository;
+        this.listTopicCommentsUseCase = listTopicCommentsUseCase;
+        this.highsCounterBuffer = highsCounterBuffer;
+        this.commentsPageSize = commentsPageSize;
     }
 
     /**
      * Executes the use case to retrieve a topic by its unique identifier.
      *
      * @param id the unique identifier of the topic to be retrieved
-     * @return the response data transfer object containing the topic data
+     * @return the response data transfer object containing the topic data and the first page of its comments
      * @throws ResourceNotFoundException if the topic specified by the id does not exist
      */
+    @Cacheable(cacheNames = CacheConfig.TOPIC_DETAILS, key = "#id", sync = true)
+    @Transactional(readOnly = true)
     public TopicDetailsResponseDTO execute(UUID id) {
 
-        TopicEntity topicFound = topicRepository.findById(id)
+        TopicResponseDTO topicFound = topicRepository.findResponseById(id)
+                .map(topic -> topic.plusHighs(highsCounterBuffer.pending(HighsTarget.TOPIC, id)))
                 .orElseThrow(() -> new ResourceNotFoundException("Topic not found."));
-        topicFound.getHighsCount();
-        topicFound.getComments();
-        topicFound.getCreator();
 
-        return TopicMapper.toDetailsResponseDTO(topicFound);
+        CursorPage<TopicCommentResponseDTO> comments = topicFound.commentCount() > 0
+                ? listTopicCommentsUseCase.execute(id, null, commentsPageSize)
+                : new CursorPage<>(List.of(), null);
+
+        return TopicMapper.toDetailsResponseDTO(topicFound, comments);
     }
 }
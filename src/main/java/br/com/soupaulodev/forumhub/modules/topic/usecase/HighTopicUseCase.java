@@ -1,40 +1,37 @@
 package br.com.soupaulodev.forumhub.modules.topic.usecase;
 
-import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
-import br.com.soupaulodev.forumhub.modules.topic.entity.TopicHighsEntity;
-import br.com.soupaulodev.forumhub.modules.topic.repository.TopicHighsRepository;
+import br.com.soupaulodev.forumhub.modules.highs.HighsStore;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
 import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
-import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
 
 /**
  * Use case to high a Topic
+ * <p>
+ * The high is recorded in the {@link HighsStore}, which answers whether the user already highed the topic without
+ * touching the database, and is written to the highs table and counted in the background.
+ * </p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Service
 public class HighTopicUseCase {
 
-    private final TopicHighsRepository topicHighsRepository;
     private final TopicRepository topicRepository;
-    private final UserRepository userRepository;
+    private final HighsStore highsStore;
 
     /**
      * Constructor
      *
-     * @param topicHighsRepository topic highs repository
      * @param topicRepository topic repository
-     * @param userRepository user repository
+     * @param highsStore store of the highs
      */
-    public HighTopicUseCase(TopicHighsRepository topicHighsRepository,
-                            TopicRepository topicRepository,
-                            UserRepository userRepository) {
-        this.topicHighsRepository = topicHighsRepository;
+    public HighTopicUseCase(TopicRepository topicRepository,
+                            HighsStore highsStore) {
         this.topicRepository = topicRepository;
-        this.userRepository = userRepository;
+        this.highsStore = highsStore;
     }
 
     /**
@@ -42,22 +39,14 @@ public class HighTopicUseCase {
      *
      * @param topicId topic id
      * @param authenticatedUserId authenticated user id
+     * @throws IllegalArgumentException if the topic does not exist or was already highed by the user
      */
     public void execute(UUID topicId, UUID authenticatedUserId) {
-        topicHighsRepository.findByTopic_IdAndUser_Id(topicId, authenticatedUserId)
-                .ifPresent(userHighsEntity -> {
-                    throw new IllegalArgumentException("Topic already highed");
-                });
-
-        TopicEntity topicFound = topicRepository.findById(topicId).orElseThrow(
-                () -> new IllegalArgumentException("Topic not found")
-        );
-
-        UserEntity authenticatedUserEntity = userRepository.findById(authenticatedUserId).orElseThrow(
-                () -> new IllegalArgumentException("Topic not found")
-        );
-
-        topicFound.incrementHighs();
-        topicHighsRepository.save(new TopicHighsEntity(topicFound, authenticatedUserEntity));
+        if (!topicRepository.existsById(topicId)) {
+            throw new IllegalArgumentException("Topic not found");
+        }
+        if (!highsStore.high(HighsTarget.TOPIC, topicId, authenticatedUserId)) {
+            throw new IllegalArgumentException("Topic already highed");
+        }
     }
 }
@@ -1,19 +1,20 @@
 package br.com.soupaulodev.forumhub.modules.topic.usecase;
 
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounterBuffer;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
+import br.com.soupaulodev.forumhub.modules.pagination.ListHeadCache;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
-import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
-import br.com.soupaulodev.forumhub.modules.topic.mapper.TopicMapper;
 import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 /**
- * Use case for listing topics with pagination support.
+ * Use case for listing topics with cursor pagination support.
+ * The pages falling within the newest topics are served from the {@link ListHeadCache} of the topics.
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
@@ -21,29 +22,41 @@ import java.util.List;
 public class ListTopicsUseCase {
 
     private final TopicRepository topicRepository;
+    private final ListHeadCache<TopicResponseDTO> headCache;
+    private final HighsCounterBuffer highsCounterBuffer;
 
     /**
      * Constructs a new {@link ListTopicsUseCase} with the specified repository.
      *
-     * @param topicRepository the repository for managing topics
+     * @param topicRepository    the repository for managing topics
+     * @param headCache          the cache of the newest topics
+     * @param highsCounterBuffer the buffer holding the highs not written to the database yet
      */
-    public ListTopicsUseCase(TopicRepository topicRepository) {
+    public ListTopicsUseCase(TopicRepository topicRepository,
+                             ListHeadCache<TopicResponseDTO> headCache,
+                             HighsCounterBuffer highsCounterBuffer) {
         this.topicRepository = topicRepository;
+        this.headCache = headCache;
+        this.highsCounterBuffer = highsCounterBuffer;
     }
 
     /**
-     * Executes the use case to list topics with pagination support.
+     * Executes the use case to list topics with cursor pagination support.
      *
-     * @param page the page number to retrieve
-     * @return a {@link List} of {@link TopicResponseDTO} containing the topic data
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the number of topics to retrieve
+     * @return a {@link CursorPage} of {@link TopicResponseDTO} containing the topic data
+     * @throws IllegalArgumentException if the cursor is invalid
      */
-    public List<TopicResponseDTO> execute(int page, int size) {
-
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<TopicEntity> entities = topicRepository.findAll(pageable);
-
-        return entities.getContent().stream()
-                .map(TopicMapper::toResponseDTO)
-                .toList();
+    @Transactional(readOnly = true)
+    public CursorPage<TopicResponseDTO> execute(String cursor, int size) {
+        Cursor after = cursor != null ? Cursor.decode(cursor) : null;
+        List<TopicResponseDTO> topics = headCache.rows(after, size).orElseGet(() -> after == null
+                ? topicRepository.findFirstPage(CursorPage.limit(size))
+                : topicRepository.findPageAfter(after.createdAt(), after.id(), CursorPage.limit(size)));
+
+        return CursorPage.of(topics, size,
+                topic -> new Cursor(topic.createdAt(), topic.id()),
+                topic -> topic.plusHighs(highsCounterBuffer.pending(HighsTarget.TOPIC, topic.id())));
     }
 }
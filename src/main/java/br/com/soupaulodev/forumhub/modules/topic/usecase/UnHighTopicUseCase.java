@@ -1,51 +1,44 @@
 package br.com.soupaulodev.forumhub.modules.topic.usecase;
 
-import br.com.soupaulodev.forumhub.modules.topic.repository.TopicHighsRepository;
-import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
+import br.com.soupaulodev.forumhub.modules.highs.HighsStore;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
 
 /**
- * Use case to unhigh a topic
+ * Use case to unhigh a Topic
+ * <p>
+ * The high is removed from the {@link HighsStore} and, only if it existed, deleted from the highs table and
+ * discounted in the background.
+ * </p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Service
 public class UnHighTopicUseCase {
 
-    private final TopicHighsRepository topicHighsRepository;
-    private final TopicRepository topicRepository;
+    private final HighsStore highsStore;
 
     /**
      * Constructor
      *
-     * @param topicHighsRepository topic highs repository
-     * @param topicRepository      topic repository
+     * @param highsStore store of the highs
      */
-    public UnHighTopicUseCase(TopicHighsRepository topicHighsRepository,
-                              TopicRepository topicRepository) {
-        this.topicHighsRepository = topicHighsRepository;
-        this.topicRepository = topicRepository;
+    public UnHighTopicUseCase(HighsStore highsStore) {
+        this.highsStore = highsStore;
     }
 
     /**
-     * Execute the use case
+     * Use case to unhigh a Topic
      *
-     * @param topicId             topic id
+     * @param topicId topic id
      * @param authenticatedUserId authenticated user id
+     * @throws IllegalArgumentException if the user had not highed the topic
      */
     public void execute(UUID topicId, UUID authenticatedUserId) {
-        topicHighsRepository.findByTopic_IdAndUser_Id(topicId, authenticatedUserId)
-                .ifPresentOrElse(
-                        topicHighsRepository::delete,
-                        () -> {
-                            throw new IllegalArgumentException("Topic not highed");
-                        }
-                );
-        topicRepository.findById(topicId).ifPresent((topicEntity) -> {
-            topicEntity.decrementHighs();
-            topicRepository.save(topicEntity);
-        });
+        if (!highsStore.unhigh(HighsTarget.TOPIC, topicId, authenticatedUserId)) {
+            throw new IllegalArgumentException("Topic not highed");
+        }
     }
 }
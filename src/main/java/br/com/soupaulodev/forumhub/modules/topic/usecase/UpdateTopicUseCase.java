@@ -1,5 +1,6 @@
 package br.com.soupaulodev.forumhub.modules.topic.usecase;
 
+import br.com.soupaulodev.forumhub.config.CacheConfig;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
@@ -7,6 +8,7 @@ import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicUpdateReque
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.topic.mapper.TopicMapper;
 import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -42,6 +44,7 @@ public class UpdateTopicUseCase {
      * @throws IllegalArgumentException  if neither title nor content is provided for update
      * @throws ForbiddenException        if the authenticated user is not the creator of the topic
      */
+    @CacheEvict(cacheNames = CacheConfig.TOPIC_DETAILS, key = "#id")
     public TopicResponseDTO execute(UUID id, TopicUpdateRequestDTO requestDTO, UUID autheticatedUserId) {
 
         TopicEntity topicFound = topicRepository.findById(id)
@@ -1,5 +1,7 @@
 package br.com.soupaulodev.forumhub.modules.user.controller;
 
+import br.com.soupaulodev.forumhub.modules.etag.ETags;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserUpdateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.user.usecase.*;
@@ -9,11 +11,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -33,39 +35,43 @@ public class UserController {
     private final DeleteUserUseCase deleteUserUseCase;
     private final HighUserUseCase highUserUseCase;
     private final UnHighUserUseCase unHighUserUseCase;
+    private final int maxPageSize;
 
     public UserController(ListUsersUseCase listUsersUseCase,
                           GetUserDetailsUseCase getUserUseCase,
                           UpdateUserUseCase updateUserUseCase,
                           DeleteUserUseCase deleteUserUseCase,
                           HighUserUseCase highUserUseCase,
-                          UnHighUserUseCase unHighUserUseCase) {
+                          UnHighUserUseCase unHighUserUseCase,
+                          @Value("${pagination.max-page-size}") int maxPageSize) {
         this.listUsersUseCase = listUsersUseCase;
         this.getUserDetailsUseCase = getUserUseCase;
         this.updateUserUseCase = updateUserUseCase;
         this.deleteUserUseCase = deleteUserUseCase;
         this.highUserUseCase = highUserUseCase;
         this.unHighUserUseCase = unHighUserUseCase;
+        this.maxPageSize = maxPageSize;
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get user by ID", description = "Retrieve user details by their unique identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User data retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "User not modified since the ETag sent"),
             @ApiResponse(responseCode = "404", description = "User not found")
     })
     public ResponseEntity<UserResponseDTO> getUserById(@PathVariable("id") String id) {
-        return ResponseEntity.ok(getUserDetailsUseCase.execute(UUID.fromString(id)));
+        return ETags.ok(getUserDetailsUseCase.execute(UUID.fromString(id)));
     }
 
     @GetMapping("/all")
-    @Operation(summary = "Get all users", description = "Retrieve all users data with pagination")
+    @Operation(summary = "Get all users", description = "Retrieve all users data with cursor pagination")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Users data retrieved successfully"),
     })
-    public ResponseEntity<List<UserResponseDTO>> listUsers(@RequestParam(defaultValue = "0") @Min(0) int page,
-                                                           @RequestParam(defaultValue = "10") @Min(5) int size) {
-        return ResponseEntity.ok(listUsersUseCase.execute(page, size));
+    public ResponseEntity<CursorPage<UserResponseDTO>> listUsers(@RequestParam(required = false) String cursor,
+                                                                 @RequestParam(defaultValue = "10") @Min(5) int size) {
+        return ETags.ok(listUsersUseCase.execute(cursor, Math.min(size, maxPageSize)));
     }
 
     @PutMapping("/{id}")
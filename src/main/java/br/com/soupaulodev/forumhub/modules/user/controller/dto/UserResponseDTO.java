@@ -1,6 +1,10 @@
 package br.com.soupaulodev.forumhub.modules.user.controller.dto;
 
+import br.com.soupaulodev.forumhub.modules.etag.Versioned;
+
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -23,5 +27,23 @@ public record UserResponseDTO(UUID id,
                               String username,
                               Long highs,
                               Instant createdAt,
-                              Instant updatedAt) {
+                              Instant updatedAt) implements Versioned {
+
+    /**
+     * Returns a copy of this user with a delta added to its highs count.
+     *
+     * @param delta the value added to the highs count, negative to subtract
+     * @return this user if the delta is 0, or a copy with the new highs count
+     */
+    public UserResponseDTO plusHighs(long delta) {
+        if (delta == 0) {
+            return this;
+        }
+        return new UserResponseDTO(id, name, username, highs + delta, createdAt, updatedAt);
+    }
+
+    @Override
+    public List<Object> version() {
+        return Arrays.asList(id, updatedAt, highs);
+    }
 }
@@ -1,12 +1,19 @@
 package br.com.soupaulodev.forumhub.modules.user.entity;
 
+import br.com.soupaulodev.forumhub.config.HibernateCacheConfig;
+import br.com.soupaulodev.forumhub.config.IdStrategy;
 import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
 import br.com.soupaulodev.forumhub.modules.comment.entity.CommentHighsEntity;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumHighsEntity;
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounted;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
+import br.com.soupaulodev.forumhub.modules.highs.PendingHighsListener;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicHighsEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -28,8 +35,11 @@ import java.util.UUID;
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Entity
-@Table(name = "tb_user")
-public class UserEntity implements Serializable {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.USERS_REGION)
+@EntityListeners(PendingHighsListener.class)
+@Table(name = "tb_user", indexes = @Index(name = "idx_user_created_at_id", columnList = "created_at, id"))
+public class UserEntity implements Serializable, HighsCounted {
 
     @Serial
     private static final long serialVersionUID = 1L;
@@ -49,17 +59,14 @@ public class UserEntity implements Serializable {
     @Column(nullable = false)
     private String password;
 
-    @Column(name = "highs_count")
+    @Column(name = "highs_count", updatable = false)
     private Long highsCount = 0L;
 
 
     @OneToMany(mappedBy = "owner", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.OWNED_FORUMS_REGION)
     private final List<ForumEntity> ownedForums = new ArrayList<>();
 
-    @ManyToMany(fetch = FetchType.LAZY)
-    @JoinTable(name = "forum_participants", joinColumns = @JoinColumn(name = "user_id"), inverseJoinColumns = @JoinColumn(name = "forum_id"))
-    private final List<ForumEntity> participatingForums = new ArrayList<>();
-
     @OneToMany(mappedBy = "highingUser", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private final List<UserHighsEntity> highsInUsers = new ArrayList<>();
 
@@ -97,7 +104,7 @@ public class UserEntity implements Serializable {
     public UserEntity() {
         Instant now = Instant.now();
 
-        this.id = UUID.randomUUID();
+        this.id = IdStrategy.nextId();
         this.createdAt = now;
         this.updatedAt = now;
     }
@@ -228,6 +235,26 @@ public class UserEntity implements Serializable {
      */
     public void decrementHighs() { this.highsCount--; }
 
+    /**
+     * Gets the kind of item this entity is, for the highs count buffer.
+     *
+     * @return {@link HighsTarget#USER}
+     */
+    @Override
+    public HighsTarget getHighsTarget() {
+        return HighsTarget.USER;
+    }
+
+    /**
+     * Adds a delta to the highs count, without persisting it.
+     *
+     * @param delta the value added to the highs count, negative to subtract
+     */
+    @Override
+    public void addToHighsCount(long delta) {
+        this.highsCount = (highsCount == null ? 0L : highsCount) + delta;
+    }
+
     /**
      * Gets the list of forums owned by the user.
      *
@@ -265,45 +292,6 @@ public class UserEntity implements Serializable {
         }
     }
 
-    /**
-     * Checks if the user owns a specific forum.
-     *
-     * @param forum the forum to check for ownership.
-     * @return true if the user owns the forum, false otherwise.
-     */
-    public boolean participatingInForum(ForumEntity forum) { return participatingForums.contains(forum); }
-
-    /**
-     * Gets the list of forums in which the user is a participant.
-     *
-     * @return {@link List} of {@link ForumEntity} the list of forums in which the user is a participant.
-     */
-    public List<ForumEntity> getParticipatingForums() { return participatingForums; }
-
-    /**
-     * Adds a forum to the user's participating forums collection.
-     *
-     * @param forum {@link ForumEntity} the forum to add to the user's participating forums.
-     */
-    public void addParticipatingForum(ForumEntity forum) {
-        if (!participatingForums.contains(forum)) {
-            participatingForums.add(forum);
-            forum.addParticipant(this);
-        }
-    }
-
-    /**
-     * Removes a forum from the user's participating forums collection.
-     *
-     * @param forum {@link ForumEntity} the forum to remove from the user's participating forums.
-     */
-    public void removeParticipatingForum(ForumEntity forum) {
-        if (!participatingForums.contains(forum)) {
-            participatingForums.remove(forum);
-            forum.removeParticipant(this);
-        }
-    }
-
     /**
      * Gets the list of highs made by the user in other users.
      *
@@ -1,6 +1,5 @@
 package br.com.soupaulodev.forumhub.modules.user.entity;
 
-import br.com.soupaulodev.forumhub.config.UlidGenerator;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -23,17 +22,19 @@ import java.util.Objects;
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
 @Entity
-@Table(name = "tb_user_highs")
+@Table(name = "tb_user_highs", indexes = @Index(name = "idx_user_highs_highing_user_id", columnList = "highing_user_id"))
 public class UserHighsEntity {
 
-    @Id
-    private String id;
+    @EmbeddedId
+    private UserHighsId id;
 
 
+    @MapsId("highedUserId")
     @ManyToOne
     @JoinColumn(name = "highed_user_id", nullable = false)
     private UserEntity highedUser;
 
+    @MapsId("highingUserId")
     @ManyToOne
     @JoinColumn(name = "highing_user_id", nullable = false)
     private UserEntity highingUser;
@@ -49,18 +50,17 @@ public class UserHighsEntity {
 
     /**
      * Default constructor.
-     * Initializes the id, createdAt and updatedAt fields.
+     * Initializes the createdAt and updatedAt fields.
      */
     public UserHighsEntity() {
         Instant now = Instant.now();
-        this.id = UlidGenerator.generate();
         this.createdAt = now;
         this.updatedAt = now;
     }
 
     /**
      * Constructs a new UserHighsEntity with the specified highedUser and highingUser.
-     * Initializes the id, createdAt and updatedAt fields.
+     * Initializes the composite id, createdAt and updatedAt fields.
      *
      * @param highedUser
      * @param highingUser
@@ -69,6 +69,7 @@ public class UserHighsEntity {
         this();
         this.highedUser = highedUser;
         this.highingUser = highingUser;
+        this.id = new UserHighsId(highedUser.getId(), highingUser.getId());
     }
 
     /**
@@ -76,7 +77,7 @@ public class UserHighsEntity {
 
      * @return the unique identifier of the userHighed high
      */
-    public String getId() {
+    public UserHighsId getId() {
         return id;
     }
 
@@ -85,7 +86,7 @@ public class UserHighsEntity {
      *
      * @param id the unique identifier of the userHighed high
      */
-    public void setId(String id) {
+    public void setId(UserHighsId id) {
         this.id = id;
     }
 
@@ -169,7 +170,7 @@ public class UserHighsEntity {
     @Override
     public String toString() {
         return "UserHighsEntity{" +
-                "id='" + id + '\'' +
+                "id=" + id +
                 ", highedUser=" + highedUser +
                 ", highingUser=" + highingUser +
                 ", createdAt=" + createdAt +
@@ -0,0 +1,84 @@
+package br.com.soupaulodev.forumhub.modules.user.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Composite primary key of the {@link UserHighsEntity}.
+ * <p>
+ * A user can high the same highed user only once, so the pair of IDs identifies the high on its own and the
+ * uniqueness is enforced by the primary key itself.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Embeddable
+public class UserHighsId implements Serializable {
+
+    @Column(name = "highed_user_id", nullable = false)
+    private UUID highedUserId;
+
+    @Column(name = "highing_user_id", nullable = false)
+    private UUID highingUserId;
+
+    /**
+     * Default constructor.
+     */
+    public UserHighsId() {
+    }
+
+    /**
+     * Constructs a new UserHighsId.
+     *
+     * @param highedUserId the ID of the highed user
+     * @param highingUserId the ID of the user who highed the highed user
+     */
+    public UserHighsId(UUID highedUserId, UUID highingUserId) {
+        this.highedUserId = highedUserId;
+        this.highingUserId = highingUserId;
+    }
+
+    /**
+     * Gets the ID of the highed user.
+     *
+     * @return the ID of the highed user
+     */
+    public UUID getHighedUserId() {
+        return highedUserId;
+    }
+
+    /**
+     * Gets the ID of the user who highed the highed user.
+     *
+     * @return the ID of the user who highed the highed user
+     */
+    public UUID getHighingUserId() {
+        return highingUserId;
+    }
+
+    @Override
+    public String toString() {
+        return "UserHighsId{" +
+                "highedUserId=" + highedUserId +
+                ", highingUserId=" + highingUserId +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        UserHighsId that = (UserHighsId) obj;
+        return Objects.equals(this.highedUserId, that.highedUserId) && Objects.equals(this.highingUserId, that.highingUserId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(highedUserId, highingUserId);
+    }
+}
@@ -3,6 +3,8 @@ package br.com.soupaulodev.forumhub.modules.user.mapper;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.*;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 
+import java.util.List;
+
 /**
  * Mapper class for converting between {@link UserEntity} and Data Transfer Objects (DTOs).
  * <p>
@@ -76,14 +78,21 @@ public class UserMapper {
         );
     }
 
-    public static UserDetailsResponseDTO toDetailsResponseDTO(UserEntity entity) {
+    /**
+     * Converts a {@link UserEntity} and the forums the user participates in to a {@link UserDetailsResponseDTO}.
+     *
+     * @param entity the {@link UserEntity} object containing user data to be converted.
+     * @param participatesIn the forums the user participates in.
+     * @return the corresponding {@link UserDetailsResponseDTO} with the user's details.
+     */
+    public static UserDetailsResponseDTO toDetailsResponseDTO(UserEntity entity, List<ParticipatesInDTO> participatesIn) {
         return new UserDetailsResponseDTO(
                 entity.getId(),
                 entity.getName(),
                 entity.getUsername(),
                 entity.getEmail(),
                 entity.getOwnedForums().stream().map(OwnerOfDTO::from).toList(),
-                entity.getParticipatingForums().stream().map(ParticipatesInDTO::from).toList(),
+                participatesIn,
                 entity.getHighsCount(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
@@ -1,9 +1,19 @@
 package br.com.soupaulodev.forumhub.modules.user.repository;
 
+import br.com.soupaulodev.forumhub.config.HibernateCacheConfig;
+import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,12 +26,25 @@ import java.util.UUID;
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, UUID> {
 
+    /**
+     * Constructor expression of the {@link UserResponseDTO} of a user aliased {@code u}.
+     */
+    String RESPONSE = """
+            new br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO(
+                u.id, u.name, u.username, u.highsCount, u.createdAt, u.updatedAt)""";
+
     /**
      * Finds a user by their username.
+     * The ID found is kept in the {@value HibernateCacheConfig#USERS_BY_USERNAME_REGION} region, and the user itself
+     * in the region of the users, until a user is written.
      *
      * @param username the username to search for
      * @return an Optional containing the {@link UserEntity} if found, or empty if not
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.USERS_BY_USERNAME_REGION)
+    })
     Optional<UserEntity> findByUsername(String username);
 
     /**
@@ -31,4 +54,37 @@ public interface UserRepository extends JpaRepository<UserEntity, UUID> {
      * @return true if a user with the given username exists, otherwise false
      */
     boolean existsByUsername(String username);
+
+    /**
+     * Finds a user by their ID, selecting only the columns of their public response.
+     *
+     * @param id the ID of the user
+     * @return the user, or an empty {@link Optional} if they do not exist
+     */
+    @Query("SELECT " + RESPONSE + " FROM UserEntity u WHERE u.id = :id")
+    Optional<UserResponseDTO> findResponseById(@Param("id") UUID id);
+
+    /**
+     * Finds the first page of users, the most recent first.
+     *
+     * @param limit the maximum number of users to return
+     * @return the most recent users
+     */
+    @Query("SELECT " + RESPONSE + " FROM UserEntity u ORDER BY u.createdAt DESC, u.id DESC")
+    List<UserResponseDTO> findFirstPage(Limit limit);
+
+    /**
+     * Finds the page of users created right before the given position, the most recent first.
+     *
+     * @param createdAt the creation date of the last item of the previous page
+     * @param id the ID of the last item of the previous page
+     * @param limit the maximum number of users to return
+     * @return the users after the given position
+     */
+    @Query("SELECT " + RESPONSE + """
+             FROM UserEntity u
+            WHERE (u.createdAt, u.id) < (:createdAt, :id)
+            ORDER BY u.createdAt DESC, u.id DESC
+            """)
+    List<UserResponseDTO> findPageAfter(@Param("createdAt") Instant createdAt, @Param("id") UUID id, Limit limit);
 }
@@ -1,11 +1,14 @@
 package br.com.soupaulodev.forumhub.modules.user.usecase;
 
+import br.com.soupaulodev.forumhub.config.CacheConfig;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.security.RefreshTokenService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
@@ -14,7 +17,7 @@ import java.util.UUID;
  * Use case responsible for handling the deletion of a user by their ID.
  * <p>
  * The {@link DeleteUserUseCase} class processes requests to delete a user by their unique identifier.
- * If successful, the user is deleted from the database.
+ * If successful, the user is deleted from the database and their refresh tokens are revoked.
  * </p>
  * <p>
  * It interacts with the {@link UserRepository} to delete user data from the database.
@@ -29,21 +32,25 @@ public class DeleteUserUseCase {
     private static final Logger logger = LoggerFactory.getLogger(DeleteUserUseCase.class);
 
     private final UserRepository userRepository;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * Constructs a new {@link DeleteUserUseCase}.
      *
-     * @param userRepository the repository responsible for deleting user data from the database
+     * @param userRepository      the repository responsible for deleting user data from the database
+     * @param refreshTokenService the service revoking the refresh tokens of the deleted user
      */
-    public DeleteUserUseCase(UserRepository userRepository) {
+    public DeleteUserUseCase(UserRepository userRepository, RefreshTokenService refreshTokenService) {
         this.userRepository = userRepository;
+        this.refreshTokenService = refreshTokenService;
     }
 
     /**
      * Executes the use case to delete a user by their ID.
      * <p>
      * This method deletes a user from the database using the provided unique identifier.
-     * If the user is found and user is authenticated, the user is deleted from the database.
+     * If the user is found and user is authenticated, the user is deleted from the database and every refresh
+     * token family of the user is revoked.
      * If no user with the given ID is found, a {@link ResourceNotFoundException} is thrown.
      * </p>
      *
@@ -52,6 +59,7 @@ public class DeleteUserUseCase {
      * @throws ResourceNotFoundException if no user with the given ID is found
      * @throws ForbiddenException        if the authenticated user is not allowed to delete the user
      */
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#id")
     public void execute(UUID id, UUID authenticatedUserId) {
         UserEntity userDB = userRepository.findById(id)
                 .orElseThrow(() -> {
@@ -66,5 +74,6 @@ public class DeleteUserUseCase {
 
         logger.info("Deleting user with ID {}", id);
         userRepository.delete(userDB);
+        refreshTokenService.revokeAll(id);
     }
 }
@@ -1,13 +1,16 @@
 package br.com.soupaulodev.forumhub.modules.user.usecase;
 
+import br.com.soupaulodev.forumhub.config.CacheConfig;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounterBuffer;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
-import br.com.soupaulodev.forumhub.modules.user.mapper.UserMapper;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -33,9 +36,11 @@ public class GetUserDetailsUseCase {
     private static final Logger logger =  LoggerFactory.getLogger(GetUserDetailsUseCase.class);
 
     private final UserRepository userRepository;
+    private final HighsCounterBuffer highsCounterBuffer;
 
-    public GetUserDetailsUseCase(UserRepository userRepository) {
+    public GetUserDetailsUseCase(UserRepository userRepository, HighsCounterBuffer highsCounterBuffer) {
         this.userRepository = userRepository;
+        this.highsCounterBuffer = highsCounterBuffer;
     }
 
     /**
@@ -50,14 +55,17 @@ public class GetUserDetailsUseCase {
      * @return {@link UserResponseDTO} containing the user's details
      * @throws ResourceNotFoundException if no user is found with the provided ID
      */
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#id", sync = true)
+    @Transactional(readOnly = true)
     public UserResponseDTO execute(UUID id) {
-        UserEntity userEntity = userRepository.findById(id)
+        UserResponseDTO user = userRepository.findResponseById(id)
+                .map(found -> found.plusHighs(highsCounterBuffer.pending(HighsTarget.USER, id)))
                 .orElseThrow(() -> {
                     logger.warn("User with ID {} not found.", id);
                     return new ResourceNotFoundException("User with ID " + id + " not found.");
                 });
 
         logger.info("User with ID {} found.", id);
-        return UserMapper.toResponseDTO(userEntity);
+        return user;
     }
 }
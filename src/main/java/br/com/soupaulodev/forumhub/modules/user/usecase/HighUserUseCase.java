@@ -3,9 +3,8 @@ package br.com.soupaulodev.forumhub.modules.user.usecase;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceAlreadyExistsException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserHighsEntity;
-import br.com.soupaulodev.forumhub.modules.user.repository.UserHighsRepository;
+import br.com.soupaulodev.forumhub.modules.highs.HighsStore;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,6 +15,10 @@ import java.util.UUID;
 /**
  * Service responsible for handling the logic of "highing" a user.
  * A user can give a "high" to another user as long as certain conditions are met.
+ * <p>
+ * The high is recorded in the {@link HighsStore}, which answers whether it already exists without touching the
+ * database, and is written to the highs table and counted in the background.
+ * </p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
  */
@@ -24,13 +27,13 @@ public class HighUserUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(HighUserUseCase.class);
 
-    private final UserHighsRepository userHighsRepository;
     private final UserRepository userRepository;
+    private final HighsStore highsStore;
 
-    public HighUserUseCase(UserHighsRepository userHighsRepository,
-                           UserRepository userRepository) {
-        this.userHighsRepository = userHighsRepository;
+    public HighUserUseCase(UserRepository userRepository,
+                           HighsStore highsStore) {
         this.userRepository = userRepository;
+        this.highsStore = highsStore;
     }
 
     /**
@@ -40,9 +43,7 @@ public class HighUserUseCase {
      * @param authenticatedUserId the UUID of the authenticated user giving the "high"
      * @throws IllegalArgumentException if the user tries to "high" themselves,
      * @throws ResourceAlreadyExistsException if the user has already "highed" the user to be "highed"
-     * @throws ResourceNotFoundException if:
-     *              - the user to be "highed" is not found,
-     *              - the authenticated user is not found
+     * @throws ResourceNotFoundException if the user to be "highed" is not found
      * @throws UnauthorizedException if the user is not authenticated.
      */
     public void execute(UUID highedUser, UUID authenticatedUserId) {
@@ -56,24 +57,16 @@ public class HighUserUseCase {
             throw new IllegalArgumentException("User cannot high himself");
         }
 
-        userHighsRepository.findByHighedUser_IdAndHighingUser_Id(highedUser, authenticatedUserId)
-                .ifPresent(userHighsEntity -> {
-                    logger.warn("User with ID {} already highed", authenticatedUserId);
-                    throw new ResourceAlreadyExistsException("User already highed");
-                });
-
-        UserEntity highedUserEntity = userRepository.findById(highedUser).orElseThrow(() -> {
-                    logger.error("User to be highed with ID {} not found", highedUser);
-                    return new ResourceNotFoundException("User not found");
-                });
+        if (!userRepository.existsById(highedUser)) {
+            logger.error("User to be highed with ID {} not found", highedUser);
+            throw new ResourceNotFoundException("User not found");
+        }
 
-        UserEntity authenticatedUserEntity = userRepository.findById(authenticatedUserId).orElseThrow(() -> {
-            logger.error("User with ID {} not found", authenticatedUserId);
-            return new ResourceNotFoundException("User not found");
-        });
+        if (!highsStore.high(HighsTarget.USER, highedUser, authenticatedUserId)) {
+            logger.warn("User with ID {} already highed", authenticatedUserId);
+            throw new ResourceAlreadyExistsException("User already highed");
+        }
 
-        highedUserEntity.incrementHighs();
         logger.info("User with ID {} highed user with ID {}", authenticatedUserId, highedUser);
-        userHighsRepository.save(new UserHighsEntity(highedUserEntity, authenticatedUserEntity));
     }
 }
@@ -1,24 +1,22 @@
 package br.com.soupaulodev.forumhub.modules.user.usecase;
 
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounterBuffer;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
-import br.com.soupaulodev.forumhub.modules.user.mapper.UserMapper;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Use case for retrieving a paginated list of all users.
  * <p>
- * This service fetches users from the repository with pagination and sorting based on creation date.
+ * This service fetches users from the repository with cursor pagination and sorting based on creation date.
  * The returned list excludes sensitive information, such as emails, and provides a structured response.
  * </p>
  *
@@ -30,36 +28,44 @@ public class ListUsersUseCase {
     private static final Logger logger = LoggerFactory.getLogger(ListUsersUseCase.class);
 
     private final UserRepository userRepository;
+    private final HighsCounterBuffer highsCounterBuffer;
 
-    public ListUsersUseCase(UserRepository userRepository) {
+    public ListUsersUseCase(UserRepository userRepository, HighsCounterBuffer highsCounterBuffer) {
         this.userRepository = userRepository;
+        this.highsCounterBuffer = highsCounterBuffer;
     }
 
     /**
-     * Retrieves a paginated list of users.
+     * Retrieves a page of users.
      * <p>
-     * This method retrieves users from the repository, paginated by the given parameters (page, size),
-     * and sorted by the creation date in descending order. It returns a list of user data transfer objects (DTOs),
-     * with email information excluded.
+     * This method retrieves the users created right before the given cursor, sorted by the creation date in
+     * descending order. It returns a page of user data transfer objects (DTOs), with email information excluded,
+     * and the cursor of the next page.
      * </p>
      *
-     * @param page the page number to retrieve (0-based index)
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
      * @param size the number of users per page
-     * @return a list of {@link UserResponseDTO} containing user details, excluding emails
-     * @throws IllegalArgumentException if the page or size parameters are invalid (negative or zero)
+     * @return a {@link CursorPage} of {@link UserResponseDTO} containing user details, excluding emails
+     * @throws IllegalArgumentException if the size is not positive or the cursor is invalid
      */
-    public List<UserResponseDTO> execute(int page, int size) {
-        if (page < 0 || size <= 0) {
-            logger.error("Invalid page or size parameters: page={}, size={}", page, size);
-            throw new IllegalArgumentException("Page and size must be positive numbers.");
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponseDTO> execute(String cursor, int size) {
+        if (size <= 0) {
+            logger.error("Invalid size parameter: size={}", size);
+            throw new IllegalArgumentException("Size must be a positive number.");
         }
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<UserEntity> entities = userRepository.findAll(pageable);
+        List<UserResponseDTO> users;
+        if (cursor == null) {
+            users = userRepository.findFirstPage(CursorPage.limit(size));
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            users = userRepository.findPageAfter(after.createdAt(), after.id(), CursorPage.limit(size));
+        }
 
-        logger.info("Retrieved {} users from page {} with size {}", entities.getNumberOfElements(), page, size);
-        return entities.getContent().stream()
-                .map(UserMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        logger.info("Retrieved {} users with size {}", Math.min(users.size(), size), size);
+        return CursorPage.of(users, size,
+                user -> new Cursor(user.createdAt(), user.id()),
+                user -> user.plusHighs(highsCounterBuffer.pending(HighsTarget.USER, user.id())));
     }
 }
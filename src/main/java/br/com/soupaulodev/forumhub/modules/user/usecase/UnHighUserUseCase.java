@@ -2,8 +2,8 @@ package br.com.soupaulodev.forumhub.modules.user.usecase;
 
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
-import br.com.soupaulodev.forumhub.modules.user.repository.UserHighsRepository;
-import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.modules.highs.HighsStore;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -21,13 +21,10 @@ public class UnHighUserUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(UnHighUserUseCase.class);
 
-    private final UserHighsRepository userHighsRepository;
-    private final UserRepository userRepository;
+    private final HighsStore highsStore;
 
-    public UnHighUserUseCase(UserHighsRepository userHighsRepository,
-                             UserRepository userRepository) {
-        this.userHighsRepository = userHighsRepository;
-        this.userRepository = userRepository;
+    public UnHighUserUseCase(HighsStore highsStore) {
+        this.highsStore = highsStore;
     }
 
     /**
@@ -50,19 +47,11 @@ public class UnHighUserUseCase {
             throw new IllegalArgumentException("User cannot unhigh himself");
         }
 
-        userHighsRepository.findByHighedUser_IdAndHighingUser_Id(unHighedUser, authenticatedUserId)
-                .ifPresentOrElse(
-                    (userHighsEntity) -> {
-                        logger.info("User with ID {} unhighed", unHighedUser);
-                        userHighsRepository.delete(userHighsEntity);
-                    }, () -> {
-                        logger.warn("User with ID {} not highed", unHighedUser);
-                        throw new ResourceNotFoundException("User not highed");
-                    }
-                );
-        userRepository.findById(unHighedUser).ifPresent(userEntity -> {
-            userEntity.decrementHighs();
-            userRepository.save(userEntity);
-        });
+        if (!highsStore.unhigh(HighsTarget.USER, unHighedUser, authenticatedUserId)) {
+            logger.warn("User with ID {} not highed", unHighedUser);
+            throw new ResourceNotFoundException("User not highed");
+        }
+
+        logger.info("User with ID {} unhighed", unHighedUser);
     }
 }
@@ -1,5 +1,6 @@
 package br.com.soupaulodev.forumhub.modules.user.usecase;
 
+import br.com.soupaulodev.forumhub.config.CacheConfig;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
@@ -7,8 +8,10 @@ import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserUpdateRequest
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.mapper.UserMapper;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.security.RefreshTokenService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -25,6 +28,7 @@ import java.util.UUID;
  * It interacts with the {@link UserRepository} to update user data in the database.
  * If no user with the given ID is found, a {@link ResourceNotFoundException} is thrown.
  * If no fields to update are provided, a {@link IllegalArgumentException} is thrown.
+ * Changing the password revokes the refresh tokens of the user, so every session has to log in again.
  * </p>
  *
  * @author <a href="http://soupaulodev.com.br>soupaulodev</a>
@@ -36,16 +40,21 @@ public class UpdateUserUseCase {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * Constructs a new {@link UpdateUserUseCase}.
      *
-     * @param userRepository  the repository responsible for updating user data in the database
-     * @param passwordEncoder the password encoder used to securely hash user passwords
+     * @param userRepository      the repository responsible for updating user data in the database
+     * @param passwordEncoder     the password encoder used to securely hash user passwords
+     * @param refreshTokenService the service revoking the refresh tokens when the password changes
      */
-    public UpdateUserUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UpdateUserUseCase(UserRepository userRepository,
+                             PasswordEncoder passwordEncoder,
+                             RefreshTokenService refreshTokenService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.refreshTokenService = refreshTokenService;
     }
 
 
@@ -64,6 +73,7 @@ public class UpdateUserUseCase {
      * @throws IllegalArgumentException  if no fields to update are provided
      * @throws ForbiddenException        if the authenticated user is not allowed to update the user
      */
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#id")
     public UserResponseDTO execute(UUID id, UserUpdateRequestDTO requestDTO, UUID authenticatedUserId) {
         UserEntity userDB = userRepository.findById(id).orElseThrow(() -> {
             logger.warn("User with ID {} not found", id);
@@ -96,7 +106,12 @@ public class UpdateUserUseCase {
         userDB.setPassword(requestDTO.password() != null ? passwordEncoder.encode(requestDTO.password()) : userDB.getPassword());
         userDB.setUpdatedAt(Instant.now());
 
+        UserEntity updated = userRepository.save(userDB);
+        if (requestDTO.password() != null) {
+            refreshTokenService.revokeAll(id);
+        }
+
         logger.info("User with ID {} updated successfully", id);
-        return UserMapper.toResponseDTO(userRepository.save(userDB));
+        return UserMapper.toResponseDTO(updated);
     }
 }
@@ -0,0 +1,36 @@
+package br.com.soupaulodev.forumhub.modules.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import jakarta.validation.ReportAsSingleViolation;
+import org.hibernate.validator.constraints.UUID;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated string must be the ID of a forum, topic, comment or user.
+ * <p>
+ * The IDs are random version 4 UUIDs or, with the {@code time-ordered} strategy of
+ * {@link br.com.soupaulodev.forumhub.config.IdStrategy}, version 7 UUIDs, which {@link UUID} rejects by default.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Documented
+@UUID(version = {1, 2, 3, 4, 5, 7})
+@ReportAsSingleViolation
+@Constraint(validatedBy = {})
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ResourceId {
+
+    String message() default "{org.hibernate.validator.constraints.UUID.message}";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
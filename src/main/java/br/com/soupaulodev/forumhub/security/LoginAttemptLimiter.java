@@ -0,0 +1,208 @@
+package br.com.soupaulodev.forumhub.security;
+
+import br.com.soupaulodev.forumhub.filters.RedisRateLimiter;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.RateLimitExceededException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limiter dedicated to the login and signup endpoints.
+ * <p>
+ * These endpoints hash a password on every call, which makes them the most expensive ones of the API and the
+ * target of credential stuffing. Every attempt is checked here before it reaches the password encoder:
+ * - Each client IP gets its own token bucket, much smaller than the one of the general rate limiter.
+ * - Failed attempts are counted per client IP and per attempted username. After the free attempts, each new
+ *   failure blocks the key for an exponentially growing period, up to the configured maximum.
+ * A successful login clears the backoff of the username. All the state lives in Redis, so the limits are shared
+ * by every node, and the attempts are let through when Redis cannot be reached.
+ * </p>
+ * <p>
+ * The signups are limited the same way under keys of their own, so a failed signup for a taken username never
+ * delays the logins of its owner.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginAttemptLimiter.class);
+
+    private static final Duration REFILL_PERIOD = Duration.ofMinutes(1);
+
+    private final RedisRateLimiter rateLimiter;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${rate-limit.auth.ip-limit}")
+    private int ipLimit;
+    @Value("${rate-limit.auth.free-attempts}")
+    private int freeAttempts;
+    @Value("${rate-limit.auth.base-backoff}")
+    private Duration baseBackoff;
+    @Value("${rate-limit.auth.max-backoff}")
+    private Duration maxBackoff;
+    @Value("${rate-limit.auth.failure-window}")
+    private Duration failureWindow;
+
+    public LoginAttemptLimiter(RedisRateLimiter rateLimiter, StringRedisTemplate redisTemplate) {
+        this.rateLimiter = rateLimiter;
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Checks whether a login attempt from the given IP for the given username may proceed.
+     *
+     * @param clientIp the IP address of the client
+     * @param username the attempted username
+     * @throws RateLimitExceededException if the IP ran out of attempts or the IP or username is backing off
+     */
+    public void checkAllowed(String clientIp, String username) {
+        checkAllowed(Attempt.LOGIN, clientIp, username);
+    }
+
+    /**
+     * Records a failed login attempt, blocking the IP and the username once their free attempts are used up.
+     *
+     * @param clientIp the IP address of the client
+     * @param username the attempted username
+     */
+    public void recordFailure(String clientIp, String username) {
+        recordFailure(Attempt.LOGIN, clientIp, username);
+    }
+
+    /**
+     * Checks whether a signup attempt from the given IP for the given username may proceed.
+     *
+     * @param clientIp the IP address of the client
+     * @param username the username asked for
+     * @throws RateLimitExceededException if the IP ran out of signup attempts or the IP or username is backing off
+     */
+    public void checkSignupAllowed(String clientIp, String username) {
+        checkAllowed(Attempt.SIGNUP, clientIp, username);
+    }
+
+    /**
+     * Records a failed signup attempt, blocking the signups of the IP and the username once their free attempts are
+     * used up. The logins are not affected.
+     *
+     * @param clientIp the IP address of the client
+     * @param username the username asked for
+     */
+    public void recordSignupFailure(String clientIp, String username) {
+        recordFailure(Attempt.SIGNUP, clientIp, username);
+    }
+
+    private void checkAllowed(Attempt attempt, String clientIp, String username) {
+        try {
+            for (String key : backoffKeys(clientIp, username)) {
+                Long blockedMillis = redisTemplate.getExpire(attempt.blockKey(key), TimeUnit.MILLISECONDS);
+                if (blockedMillis != null && blockedMillis > 0) {
+                    throw attempt.rejection(blockedMillis);
+                }
+            }
+
+            RedisRateLimiter.Probe probe = rateLimiter.tryConsume(attempt.ipKey(clientIp), ipLimit, REFILL_PERIOD, 1);
+            if (!probe.consumed()) {
+                throw attempt.rejection(probe.retryAfterMillis());
+            }
+        } catch (DataAccessException e) {
+            logger.error("Check of the {} attempt skipped for {}: {}", attempt.label, clientIp, e.getMessage());
+        }
+    }
+
+    private void recordFailure(Attempt attempt, String clientIp, String username) {
+        try {
+            for (String key : backoffKeys(clientIp, username)) {
+                Long failures = redisTemplate.opsForValue().increment(attempt.failuresKey(key));
+                redisTemplate.expire(attempt.failuresKey(key), failureWindow);
+                if (failures != null && failures > freeAttempts) {
+                    Duration backoff = backoff(failures - freeAttempts);
+                    redisTemplate.opsForValue().set(attempt.blockKey(key), String.valueOf(failures), backoff);
+                    logger.warn("Blocking {} attempts for {} during {} after {} failures",
+                            attempt.label, key, backoff, failures);
+                }
+            }
+        } catch (DataAccessException e) {
+            logger.error("Failed {} attempt not recorded for {}: {}", attempt.label, clientIp, e.getMessage());
+        }
+    }
+
+    /**
+     * Clears the failures and the backoff of a username after a successful login.
+     *
+     * @param username the username that logged in
+     */
+    public void recordSuccess(String username) {
+        String key = usernameKey(username);
+        try {
+            redisTemplate.delete(List.of(Attempt.LOGIN.failuresKey(key), Attempt.LOGIN.blockKey(key)));
+        } catch (DataAccessException e) {
+            logger.error("Login failures not cleared for {}: {}", username, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the backoff for the given failure past the free attempts: the base backoff doubled for every
+     * additional failure, capped at the maximum backoff.
+     *
+     * @param excessFailures the number of failures past the free attempts, starting at 1
+     * @return the period during which new attempts are rejected
+     */
+    Duration backoff(long excessFailures) {
+        long shift = Math.min(excessFailures - 1, 30);
+        Duration backoff = baseBackoff.multipliedBy(1L << shift);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private static List<String> backoffKeys(String clientIp, String username) {
+        return List.of("ip:" + clientIp, usernameKey(username));
+    }
+
+    private static String usernameKey(String username) {
+        return "user:" + (username == null ? "" : username.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Kinds of attempts, each one with its own IP buckets, failure counts and backoffs in Redis.
+     */
+    private enum Attempt {
+
+        LOGIN("rate-limit:auth:", "login"),
+        SIGNUP("rate-limit:signup:", "signup");
+
+        private final String keyPrefix;
+        private final String label;
+
+        Attempt(String keyPrefix, String label) {
+            this.keyPrefix = keyPrefix;
+            this.label = label;
+        }
+
+        String ipKey(String clientIp) {
+            return keyPrefix + "ip:" + clientIp;
+        }
+
+        String failuresKey(String key) {
+            return keyPrefix + "failures:" + key;
+        }
+
+        String blockKey(String key) {
+            return keyPrefix + "block:" + key;
+        }
+
+        RateLimitExceededException rejection(long retryAfterMillis) {
+            long retryAfterSeconds = Math.max(1, Math.ceilDiv(retryAfterMillis, 1000));
+            return new RateLimitExceededException(
+                    "Too many " + label + " attempts. Try again later.", retryAfterSeconds);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package br.com.soupaulodev.forumhub.security;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
+import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
+import br.com.soupaulodev.forumhub.security.utils.RefreshTokenClaims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Issues and rotates refresh tokens, keeping their families in Redis.
+ * <p>
+ * Every login starts a new family. A refresh token can be exchanged exactly once for a new access token and a
+ * new refresh token of the same family, and Redis only remembers the ID of the latest token of each family.
+ * If a token that was already exchanged is presented again, it has leaked, so the whole family is revoked.
+ * Renewing an access token only costs a JWT verification, a lookup of the user by its primary key and one Redis
+ * round trip: the password encoder is not involved.
+ * </p>
+ * <p>
+ * The families of each user are also listed in a sorted set scored by their expiry, so they can all be revoked at
+ * once when the user is deleted or changes their password.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final String FAMILY_KEY_PREFIX = "refresh-token:family:";
+    private static final String USER_FAMILIES_KEY_PREFIX = "refresh-token:user:";
+    private static final RedisScript<Long> ROTATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/refresh-token-rotate.lua"), Long.class);
+
+    private final JwtUtil jwtUtil;
+    private final StringRedisTemplate redisTemplate;
+    private final UserRepository userRepository;
+
+    /**
+     * Constructs a new {@link RefreshTokenService}.
+     *
+     * @param jwtUtil        the utility class used to sign and verify the tokens
+     * @param redisTemplate  the template used to store the token families
+     * @param userRepository the repository used to check that the user of a token still exists
+     */
+    public RefreshTokenService(JwtUtil jwtUtil, StringRedisTemplate redisTemplate, UserRepository userRepository) {
+        this.jwtUtil = jwtUtil;
+        this.redisTemplate = redisTemplate;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Starts a new refresh token family for a user that just logged in.
+     *
+     * @param userId   the ID of the user
+     * @param username the username of the user
+     * @return the first refresh token of the family
+     */
+    public String issue(String userId, String username) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+
+        Duration expiration = jwtUtil.getRefreshExpiration();
+        long now = System.currentTimeMillis();
+        String key = FAMILY_KEY_PREFIX + familyId;
+        String userKey = USER_FAMILIES_KEY_PREFIX + userId;
+        redisTemplate.opsForHash().putAll(key, Map.of("current", tokenId, "user", userId));
+        redisTemplate.expire(key, expiration);
+        redisTemplate.opsForZSet().removeRangeByScore(userKey, Double.NEGATIVE_INFINITY, now);
+        redisTemplate.opsForZSet().add(userKey, familyId, now + expiration.toMillis());
+        redisTemplate.expire(userKey, expiration);
+
+        return jwtUtil.generateRefreshToken(userId, username, familyId, tokenId);
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token of the same family.
+     *
+     * @param refreshToken the refresh token presented by the client
+     * @return the new pair of tokens
+     * @throws UnauthorizedException if the token is invalid, expired, revoked or was already exchanged, or if its
+     *                               user no longer exists
+     */
+    public TokenPair rotate(String refreshToken) {
+        RefreshTokenClaims claims = verify(refreshToken);
+        if (!userExists(claims.userId())) {
+            redisTemplate.delete(FAMILY_KEY_PREFIX + claims.familyId());
+            throw new UnauthorizedException("Unauthorized: User not found.");
+        }
+        String nextTokenId = UUID.randomUUID().toString();
+        long expiration = jwtUtil.getRefreshExpiration().toMillis();
+
+        Long result = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(FAMILY_KEY_PREFIX + claims.familyId(), USER_FAMILIES_KEY_PREFIX + claims.userId()),
+                claims.tokenId(),
+                nextTokenId,
+                String.valueOf(expiration),
+                claims.familyId(),
+                String.valueOf(System.currentTimeMillis() + expiration));
+
+        if (result == null || result == 0) {
+            throw new UnauthorizedException("Unauthorized: Refresh token revoked.");
+        }
+        if (result < 0) {
+            logger.warn("Refresh token reuse detected for user {}, family {} revoked", claims.userId(), claims.familyId());
+            throw new UnauthorizedException("Unauthorized: Refresh token reused.");
+        }
+
+        return new TokenPair(
+                jwtUtil.generateToken(claims.userId(), claims.username()),
+                jwtUtil.generateRefreshToken(claims.userId(), claims.username(), claims.familyId(), nextTokenId));
+    }
+
+    /**
+     * Revokes the family of the given refresh token, so none of its tokens can be exchanged anymore.
+     * Invalid tokens are ignored.
+     *
+     * @param refreshToken the refresh token presented by the client
+     */
+    public void revoke(String refreshToken) {
+        try {
+            RefreshTokenClaims claims = jwtUtil.verifyRefreshToken(refreshToken);
+            redisTemplate.delete(FAMILY_KEY_PREFIX + claims.familyId());
+            redisTemplate.opsForZSet().remove(USER_FAMILIES_KEY_PREFIX + claims.userId(), claims.familyId());
+        } catch (RuntimeException e) {
+            logger.debug("Refresh token not revoked: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Revokes every refresh token family of a user, so none of their sessions can be renewed anymore.
+     *
+     * @param userId the ID of the user
+     */
+    public void revokeAll(UUID userId) {
+        String userKey = USER_FAMILIES_KEY_PREFIX + userId;
+        Set<String> familyIds = redisTemplate.opsForZSet().range(userKey, 0, -1);
+        List<String> keys = new ArrayList<>();
+        if (familyIds != null) {
+            familyIds.forEach(familyId -> keys.add(FAMILY_KEY_PREFIX + familyId));
+        }
+        keys.add(userKey);
+        redisTemplate.delete(keys);
+        logger.info("Refresh tokens of user {} revoked", userId);
+    }
+
+    private boolean userExists(String userId) {
+        try {
+            return userRepository.existsById(UUID.fromString(userId));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private RefreshTokenClaims verify(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new UnauthorizedException("Unauthorized: Missing refresh token.");
+        }
+        try {
+            return jwtUtil.verifyRefreshToken(refreshToken);
+        } catch (RuntimeException e) {
+            throw new UnauthorizedException("Unauthorized: Invalid refresh token.");
+        }
+    }
+
+    /**
+     * Access token and refresh token issued by a rotation.
+     *
+     * @param accessToken  the new access token
+     * @param refreshToken the new refresh token, replacing the one that was presented
+     */
+    public record TokenPair(String accessToken, String refreshToken) {
+    }
+}
@@ -0,0 +1,216 @@
+package br.com.soupaulodev.forumhub.security;
+
+import br.com.soupaulodev.forumhub.security.utils.DigestBloomFilter;
+import br.com.soupaulodev.forumhub.security.utils.JwtClaims;
+import br.com.soupaulodev.forumhub.security.utils.TokenDigest;
+import br.com.soupaulodev.forumhub.security.utils.VerifiedTokenCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Revokes access tokens before they expire and tells whether a token was revoked.
+ * <p>
+ * A revoked token is stored in Redis under its {@link TokenDigest}, with a time to live equal to the remaining life
+ * of the token, so the deny list never outgrows the tokens that could still be used. The digest is also published on
+ * the {@value #CHANNEL} channel, and every node adds the digests it receives to a local {@link DigestBloomFilter}.
+ * Almost every request carries a token that was never revoked, and for those {@link #isRevoked(String)} answers from
+ * the Bloom filter without any network I/O. Only when the filter reports a possible match is Redis asked.
+ * </p>
+ * <p>
+ * Digests cannot be removed from a Bloom filter, so the filter is rebuilt periodically from the revocations still
+ * stored in Redis. The rebuild also seeds the filter of a node that just started.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class TokenRevocationService implements MessageListener {
+
+    /**
+     * Name of the Redis channel on which the digests of revoked tokens are published.
+     */
+    public static final String CHANNEL = "token-revocations";
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private static final String KEY_PREFIX = "revoked-token:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final long expectedRevocations;
+    private final double falsePositiveProbability;
+    private final Clock clock;
+
+    // Not a monitor: it is taken on the request threads, which may be virtual
+    private final ReentrantLock swapLock = new ReentrantLock();
+
+    private volatile DigestBloomFilter filter;
+    private DigestBloomFilter nextFilter;
+
+    /**
+     * Constructs a new {@link TokenRevocationService} and subscribes it to the {@value #CHANNEL} channel.
+     *
+     * @param redisTemplate            the template used to store the revoked tokens
+     * @param listenerContainer        the container delivering the revocations published by every node
+     * @param verifiedTokenCache       the cache of verified tokens, from which revoked tokens are evicted
+     * @param expectedRevocations      the number of live revocations the Bloom filter is sized for
+     * @param falsePositiveProbability the probability that a token that was never revoked is checked against Redis
+     */
+    @Autowired
+    public TokenRevocationService(StringRedisTemplate redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  VerifiedTokenCache verifiedTokenCache,
+                                  @Value("${jwt.revocation.expected-revocations}") long expectedRevocations,
+                                  @Value("${jwt.revocation.false-positive-probability}") double falsePositiveProbability) {
+        this(redisTemplate, listenerContainer, verifiedTokenCache, expectedRevocations, falsePositiveProbability,
+                Clock.systemUTC());
+    }
+
+    TokenRevocationService(StringRedisTemplate redisTemplate,
+                           RedisMessageListenerContainer listenerContainer,
+                           VerifiedTokenCache verifiedTokenCache,
+                           long expectedRevocations,
+                           double falsePositiveProbability,
+                           Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.clock = clock;
+        this.filter = new DigestBloomFilter(expectedRevocations, falsePositiveProbability);
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * Revokes an access token until it expires, on every node.
+     * Tokens that have already expired are not stored.
+     *
+     * @param token  the raw JWT token
+     * @param claims the verified claims of the token
+     */
+    public void revoke(String token, JwtClaims claims) {
+        String digest = TokenDigest.of(token);
+        Duration remaining = claims.expiresAt() == null
+                ? Duration.ZERO
+                : Duration.between(clock.instant(), claims.expiresAt());
+        // Stored before being added locally, so a rebuild starting in between finds it in Redis
+        if (remaining.isPositive()) {
+            try {
+                redisTemplate.opsForValue().set(KEY_PREFIX + digest, claims.userId(), remaining);
+                redisTemplate.convertAndSend(CHANNEL, digest);
+            } catch (DataAccessException e) {
+                logger.error("Token of user {} only revoked on this node: {}", claims.userId(), e.getMessage());
+            }
+        }
+        add(digest);
+    }
+
+    /**
+     * Checks whether a token was revoked.
+     * <p>
+     * When the Bloom filter reports a possible match but Redis cannot be reached, the token is considered revoked:
+     * the false positive probability is low, so the match most likely is a real revocation.
+     * </p>
+     *
+     * @param token the raw JWT token
+     * @return {@code true} if the token was revoked
+     */
+    public boolean isRevoked(String token) {
+        String digest = TokenDigest.of(token);
+        if (!filter.mightContain(digest)) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + digest));
+        } catch (DataAccessException e) {
+            logger.error("Token revocation check failed, rejecting the token: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * Receives the digests of the tokens revoked by any node.
+     *
+     * @param message the message carrying the digest
+     * @param pattern the pattern matching the channel
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String digest = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            add(digest);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Ignoring malformed token revocation: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Replaces the Bloom filter with one holding only the revocations still stored in Redis.
+     * <p>
+     * Revocations received while Redis is being scanned are added to both filters, and the swap is serialized with
+     * the additions, so none is lost by the swap. If Redis cannot be reached the current filter is kept.
+     * </p>
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.revocation.rebuild-interval}")
+    public void rebuild() {
+        DigestBloomFilter rebuilt = new DigestBloomFilter(expectedRevocations, falsePositiveProbability);
+        swap(filter, rebuilt);
+        long count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                rebuilt.put(keys.next().substring(KEY_PREFIX.length()));
+                count++;
+            }
+        } catch (DataAccessException | IllegalArgumentException e) {
+            swap(filter, null);
+            logger.error("Token revocation filter not rebuilt: {}", e.getMessage());
+            return;
+        }
+        swap(rebuilt, null);
+        if (count > expectedRevocations) {
+            logger.warn("{} revoked tokens exceed the {} the revocation filter is sized for", count, expectedRevocations);
+        }
+        logger.debug("Token revocation filter rebuilt with {} revoked tokens", count);
+    }
+
+    private void swap(DigestBloomFilter current, DigestBloomFilter next) {
+        swapLock.lock();
+        try {
+            filter = current;
+            nextFilter = next;
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    private void add(String digest) {
+        swapLock.lock();
+        try {
+            if (nextFilter != null) {
+                nextFilter.put(digest);
+            }
+            filter.put(digest);
+        } finally {
+            swapLock.unlock();
+        }
+        verifiedTokenCache.evictDigest(digest);
+    }
+}
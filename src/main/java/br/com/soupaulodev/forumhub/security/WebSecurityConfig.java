@@ -1,6 +1,7 @@
 package br.com.soupaulodev.forumhub.security;
 
 import br.com.soupaulodev.forumhub.security.filters.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -59,6 +60,12 @@ public class WebSecurityConfig {
     @Value("${cors.allowed.origins}")
     private String allowedOrigins;
 
+    @Value("${security.password-hashing.pool-size}")
+    private int passwordHashingPoolSize;
+
+    @Value("${security.password-hashing.queue-capacity}")
+    private int passwordHashingQueueCapacity;
+
     private final JwtAuthenticationFilter jwtRequestFilter;
     private final CustomUserDetailsService customUserDetailsService;
 
@@ -102,12 +109,21 @@ public class WebSecurityConfig {
 
     /**
      * Provides a {@link PasswordEncoder} for encoding passwords using BCrypt.
+     * <p>
+     * The hashing runs on the bounded worker pool of a {@link BoundedPasswordEncoder}, so login and signup
+     * bursts cannot take the CPU away from the other endpoints.
+     * </p>
      *
+     * @param meterRegistry The registry the hashing pool metrics are published to.
      * @return A {@link PasswordEncoder} instance.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(),
+                passwordHashingPoolSize,
+                passwordHashingQueueCapacity,
+                meterRegistry);
     }
 
     /**
@@ -1,9 +1,9 @@
 package br.com.soupaulodev.forumhub.security.filters;
 
-import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
+import br.com.soupaulodev.forumhub.security.utils.JwtClaims;
+import br.com.soupaulodev.forumhub.security.utils.JwtClaimsResolver;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
@@ -17,15 +17,18 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * This filter intercepts HTTP requests and processes JWT authentication.
- * It extracts the JWT token from the request's cookies, verifies its validity,
- * and if the token is valid, it sets the authentication information in the Spring Security context.
+ * It resolves the JWT claims of the request through the {@link JwtClaimsResolver}, which verifies the token
+ * from the request's cookies, and if the token is valid, it sets the authentication information in the
+ * Spring Security context.
  * <p>
  * The filter is used to ensure that incoming requests are authenticated via JWT tokens and that the user's
- * authentication is properly stored in the {@link SecurityContextHolder}.
+ * authentication is properly stored in the {@link SecurityContextHolder}. The verified claims stay available
+ * to later filters as a request attribute, so the token is verified only once per request.
  * </p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
@@ -36,21 +39,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     private final UserDetailsService userDetailsService;
-    private final JwtUtil jwtUtil;
+    private final JwtClaimsResolver jwtClaimsResolver;
 
     /**
      * Constructor to inject required dependencies.
      *
      * @param userDetailsService The service responsible for loading user details during authentication.
-     * @param jwtUtil The utility class used to handle JWT generation and validation.
+     * @param jwtClaimsResolver The resolver used to verify the request's JWT token once per request.
      */
-    public JwtAuthenticationFilter(UserDetailsService userDetailsService, JwtUtil jwtUtil) {
+    public JwtAuthenticationFilter(UserDetailsService userDetailsService, JwtClaimsResolver jwtClaimsResolver) {
         this.userDetailsService = userDetailsService;
-        this.jwtUtil = jwtUtil;
+        this.jwtClaimsResolver = jwtClaimsResolver;
     }
 
     /**
-     * Processes the incoming HTTP request, extracts the JWT token from the cookies, and sets the authentication
+     * Processes the incoming HTTP request, resolves the JWT claims from the cookies, and sets the authentication
      * information in the Spring Security context.
      *
      * @param request The HTTP request.
@@ -65,27 +68,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         logger.info("Processing authentication for request: {}", request.getRequestURI());
 
-        String jwt = extractJwtFromCookies(request);
-        if (jwt == null || jwt.trim().isEmpty()) {
-            logger.warn("JWT token not found in request");
+        Optional<JwtClaims> claims = jwtClaimsResolver.resolve(request);
+        if (claims.isEmpty()) {
+            logger.warn("Valid JWT token not found in request");
             chain.doFilter(request, response);
             return;
         }
 
         try {
-            String userId = jwtUtil.extractUserId(jwt);
+            String userId = claims.get().userId();
 
             if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                if (!jwtUtil.isTokenExpired(jwt)) {
-                    UsernamePasswordAuthenticationToken authenticationToken =
-                            new UsernamePasswordAuthenticationToken(
-                                    UUID.fromString(userId),
-                                    null,
-                                    Collections.emptyList());
-                    authenticationToken
-                            .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-                }
+                UsernamePasswordAuthenticationToken authenticationToken =
+                        new UsernamePasswordAuthenticationToken(
+                                UUID.fromString(userId),
+                                null,
+                                Collections.emptyList());
+                authenticationToken
+                        .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
             }
         } catch (Exception e) {
             logger.error("JWT authentication failed: {}", e.getMessage());
@@ -93,23 +94,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         chain.doFilter(request, response);
     }
-
-
-    /**
-     * Extracts the JWT token from the cookies in the HTTP request.
-     * Searches through the cookies for one named "JWT_TOKEN" and returns its value if found.
-     *
-     * @param request The HTTP request.
-     * @return The JWT token as a string, or null if the token is not found.
-     */
-    private String extractJwtFromCookies(HttpServletRequest request) {
-        if (request.getCookies() != null) {
-            for (Cookie cookie : request.getCookies()) {
-                if ("JWT_TOKEN".equals(cookie.getName())) {
-                    return cookie.getValue();
-                }
-            }
-        }
-        return null;
-    }
 }
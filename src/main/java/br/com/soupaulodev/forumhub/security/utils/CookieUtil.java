@@ -3,8 +3,11 @@ package br.com.soupaulodev.forumhub.security.utils;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.security.CustomUserDetailsService;
 import jakarta.servlet.http.Cookie;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * Utility class responsible for generating and managing cookies related to authentication.
  * <p>
@@ -15,7 +18,7 @@ import org.springframework.stereotype.Component;
  *
  * <p>
  * This class relies on the {@link CustomUserDetailsService} to generate the JWT token for the
- * user. The cookie is configured to be HTTP-only, secure, and have a maximum age of 7 days.
+ * user. The cookie is configured to be HTTP-only, secure, and to expire with the token it carries.
  * </p>
  *
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
@@ -23,15 +26,34 @@ import org.springframework.stereotype.Component;
 @Component
 public class CookieUtil {
 
+    /**
+     * Name of the cookie carrying the JWT token.
+     */
+    public static final String JWT_COOKIE_NAME = "JWT_TOKEN";
+
+    /**
+     * Name of the cookie carrying the refresh token.
+     */
+    public static final String REFRESH_COOKIE_NAME = "REFRESH_TOKEN";
+
+    /**
+     * Path of the refresh token cookie, so it is only sent to the authentication endpoints.
+     */
+    public static final String REFRESH_COOKIE_PATH = "/api/v1/auth";
+
     private final CustomUserDetailsService userDetailsService;
+    private final int jwtExpiration;
 
     /**
      * Constructs a new instance of the {@link CookieUtil} class.
      *
      * @param userDetailsService The service responsible for generating the JWT token for the user.
+     * @param jwtExpiration      How long the JWT token is valid, in seconds.
      */
-    public CookieUtil(CustomUserDetailsService userDetailsService) {
+    public CookieUtil(CustomUserDetailsService userDetailsService,
+                      @Value("${jwt.expiration}") int jwtExpiration) {
         this.userDetailsService = userDetailsService;
+        this.jwtExpiration = jwtExpiration;
     }
 
     /**
@@ -39,7 +61,7 @@ public class CookieUtil {
      * <p>
      * This method uses the {@link CustomUserDetailsService} to generate the JWT token for the user,
      * then creates a cookie with the token. The cookie is set to be HTTP-only, secure, and will expire
-     * after 7 days.
+     * along with the token.
      * </p>
      *
      * @param user The user for whom the JWT token is generated.
@@ -50,14 +72,43 @@ public class CookieUtil {
             throw new NullPointerException("User cannot be null");
         }
 
-        String jwt = userDetailsService.generateToken(user);
+        return generateCookieWithJwt(userDetailsService.generateToken(user));
+    }
 
-        Cookie cookie = new Cookie("JWT_TOKEN", jwt);
+    /**
+     * Generates a cookie containing the given JWT token.
+     *
+     * @param jwt The JWT token.
+     * @return A cookie containing the JWT token, configured with the appropriate security settings.
+     */
+    public Cookie generateCookieWithJwt(String jwt) {
+        Cookie cookie = new Cookie(JWT_COOKIE_NAME, jwt);
         cookie.setHttpOnly(true);
         cookie.setSecure(true);
-        cookie.setMaxAge(60 * 60 * 24 * 7);
+        cookie.setMaxAge(jwtExpiration);
         cookie.setPath("/");
 
         return cookie;
     }
+
+    /**
+     * Generates a cookie containing the given refresh token.
+     * <p>
+     * The cookie is HTTP-only, secure and only sent to the authentication endpoints, which are the only ones
+     * accepting refresh tokens.
+     * </p>
+     *
+     * @param refreshToken The refresh token.
+     * @param maxAge       How long the refresh token is valid.
+     * @return A cookie containing the refresh token.
+     */
+    public Cookie generateRefreshCookie(String refreshToken, Duration maxAge) {
+        Cookie cookie = new Cookie(REFRESH_COOKIE_NAME, refreshToken);
+        cookie.setHttpOnly(true);
+        cookie.setSecure(true);
+        cookie.setMaxAge((int) maxAge.toSeconds());
+        cookie.setPath(REFRESH_COOKIE_PATH);
+
+        return cookie;
+    }
 }
@@ -0,0 +1,97 @@
+package br.com.soupaulodev.forumhub.security.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter of {@link TokenDigest token digests}.
+ * <p>
+ * A digest that was added is always reported as possibly present, and a digest that was never added is reported
+ * as possibly present with a probability close to the configured false positive probability, as long as no more
+ * than the expected number of digests are added. The digests are already SHA-256 hashes, so the bit positions are
+ * derived from them by double hashing instead of hashing them again.
+ * </p>
+ * <p>
+ * Digests cannot be removed. The filter is meant to be replaced by a freshly built one once the digests it holds
+ * are no longer relevant.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public final class DigestBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Constructs an empty {@link DigestBloomFilter}.
+     *
+     * @param expectedInsertions       the number of digests the filter is sized for
+     * @param falsePositiveProbability the desired false positive probability, between 0 and 1 exclusive
+     */
+    public DigestBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive.");
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("False positive probability must be between 0 and 1.");
+        }
+        double ln2 = Math.log(2);
+        long words = Math.max(1, (long) Math.ceil(
+                -expectedInsertions * Math.log(falsePositiveProbability) / (ln2 * ln2) / Long.SIZE));
+        if (words > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom filter too large.");
+        }
+        this.bits = new AtomicLongArray((int) words);
+        this.bitCount = words * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+    }
+
+    /**
+     * Adds a digest to the filter.
+     *
+     * @param digest a digest computed by {@link TokenDigest#of(String)}
+     */
+    public void put(String digest) {
+        ByteBuffer hash = decode(digest);
+        long h1 = hash.getLong();
+        long h2 = hash.getLong();
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            long mask = 1L << index;
+            int word = (int) (index >>> 6);
+            if ((bits.get(word) & mask) == 0) {
+                bits.getAndUpdate(word, value -> value | mask);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a digest may have been added to the filter.
+     *
+     * @param digest a digest computed by {@link TokenDigest#of(String)}
+     * @return {@code false} if the digest was certainly never added, {@code true} otherwise
+     */
+    public boolean mightContain(String digest) {
+        ByteBuffer hash = decode(digest);
+        long h1 = hash.getLong();
+        long h2 = hash.getLong();
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ByteBuffer decode(String digest) {
+        byte[] hash = Base64.getUrlDecoder().decode(digest);
+        if (hash.length < 2 * Long.BYTES) {
+            throw new IllegalArgumentException("Digest too short.");
+        }
+        return ByteBuffer.wrap(hash);
+    }
+}
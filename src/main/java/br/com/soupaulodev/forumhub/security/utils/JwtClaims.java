@@ -0,0 +1,18 @@
+package br.com.soupaulodev.forumhub.security.utils;
+
+import java.time.Instant;
+
+/**
+ * Claims of a verified JWT token.
+ * <p>
+ * Instances are produced by {@link JwtUtil#verify(String)} once per request and shared with every later
+ * consumer through the {@link JwtClaimsResolver}, so the token never has to be verified twice.
+ * </p>
+ *
+ * @param userId    the user ID carried in the token subject
+ * @param username  the username claim
+ * @param expiresAt the expiration date of the token
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record JwtClaims(String userId, String username, Instant expiresAt) {
+}
@@ -0,0 +1,114 @@
+package br.com.soupaulodev.forumhub.security.utils;
+
+import br.com.soupaulodev.forumhub.security.TokenRevocationService;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Resolves the JWT claims of an HTTP request, verifying the token at most once per request.
+ * <p>
+ * The first consumer (usually the {@code JwtAuthenticationFilter}) reads the {@value CookieUtil#JWT_COOKIE_NAME}
+ * cookie, verifies it through {@link JwtUtil#verify(String)} and stores the outcome as a request attribute.
+ * Every later consumer, such as the rate limiter, reuses that outcome instead of parsing the token again.
+ * Missing, invalid and expired tokens are all stored as an empty result.
+ * </p>
+ * <p>
+ * Tokens verified by earlier requests are served from the {@link VerifiedTokenCache} without being verified again.
+ * Tokens revoked by a logout, on any node, are resolved as an empty result.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class JwtClaimsResolver {
+
+    /**
+     * Name of the request attribute holding the resolved {@link Optional} of {@link JwtClaims}.
+     */
+    public static final String CLAIMS_ATTRIBUTE = JwtClaimsResolver.class.getName() + ".CLAIMS";
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtClaimsResolver.class);
+
+    private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * Constructs a new {@link JwtClaimsResolver}.
+     *
+     * @param jwtUtil The utility class used to verify the tokens.
+     * @param verifiedTokenCache The cache of tokens verified by earlier requests.
+     * @param tokenRevocationService The service telling whether a token was revoked.
+     */
+    public JwtClaimsResolver(JwtUtil jwtUtil,
+                             VerifiedTokenCache verifiedTokenCache,
+                             TokenRevocationService tokenRevocationService) {
+        this.jwtUtil = jwtUtil;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    /**
+     * Returns the claims of the token sent with the request.
+     *
+     * @param request The HTTP request.
+     * @return The claims of the verified token, or an empty {@link Optional} if the token is missing or invalid.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<JwtClaims> resolve(HttpServletRequest request) {
+        Object resolved = request.getAttribute(CLAIMS_ATTRIBUTE);
+        if (resolved instanceof Optional<?> claims) {
+            return (Optional<JwtClaims>) claims;
+        }
+
+        Optional<JwtClaims> claims = extractJwtFromCookies(request).flatMap(this::verify);
+        request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+        return claims;
+    }
+
+    private Optional<JwtClaims> verify(String token) {
+        if (tokenRevocationService.isRevoked(token)) {
+            logger.warn("Rejected a revoked JWT token");
+            return Optional.empty();
+        }
+        Optional<JwtClaims> cached = verifiedTokenCache.get(token);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        try {
+            JwtClaims claims = jwtUtil.verify(token);
+            if (claims != null) {
+                verifiedTokenCache.put(token, claims);
+            }
+            return Optional.ofNullable(claims);
+        } catch (Exception e) {
+            logger.error("JWT verification failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Extracts the JWT token from the cookies in the HTTP request.
+     *
+     * @param request The HTTP request.
+     * @return The JWT token, or an empty {@link Optional} if the cookie is missing or blank.
+     */
+    private Optional<String> extractJwtFromCookies(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return Optional.empty();
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (CookieUtil.JWT_COOKIE_NAME.equals(cookie.getName())
+                    && cookie.getValue() != null
+                    && !cookie.getValue().isBlank()) {
+                return Optional.of(cookie.getValue());
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -28,8 +28,14 @@ import java.util.Date;
  * throwing a custom exception {@link TokenExpiredCustomException}.
  *
  * <p>
- * The JWT tokens generated include an expiration date, and the refresh token is configured with
- * a longer expiration time (30 days). The token is signed using the HMAC256 algorithm with a secret
+ * The signing {@link Algorithm} and the {@link JWTVerifier} are immutable and thread-safe, so they are built
+ * once and shared by every request instead of being recreated for each token.
+ * </p>
+ *
+ * <p>
+ * The access tokens are short-lived, with an expiration configured in seconds, and are renewed with
+ * refresh tokens, which live longer and carry the family and ID used for rotation. Refresh tokens are
+ * never accepted as access tokens. The tokens are signed using the HMAC256 algorithm with a secret
  * key defined in the application properties.
  * </p>
  *
@@ -40,6 +46,8 @@ public class JwtUtil {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
 
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
     @Value("${jwt.issuer}")
     private String issuer;
 
@@ -49,45 +57,122 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private int expirationDate;
 
+    @Value("${jwt.refresh.expiration}")
+    private Duration refreshExpiration;
+
+    private volatile Algorithm algorithm;
+    private volatile JWTVerifier verifier;
+
     /**
      * Generates a JWT token for the specified user.
      * <p>
      * The token contains the issuer, the user ID as the subject, the username as a custom claim,
-     * and an expiration date based on the configured expiration time (in days).
+     * and an expiration date based on the configured expiration time (in seconds).
      * </p>
      *
      * @param user The user for whom the token is generated.
      * @return The generated token as a string.
      */
     public String generateToken(UserEntity user) {
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
+        return generateToken(user.getId().toString(), user.getUsername());
+    }
+
+    /**
+     * Generates a JWT token for the specified user ID and username.
+     * <p>
+     * Used when renewing an access token from a refresh token, so the user does not have to be loaded.
+     * </p>
+     *
+     * @param userId   The ID of the user.
+     * @param username The username of the user.
+     * @return The generated token as a string.
+     */
+    public String generateToken(String userId, String username) {
         return JWT.create()
                 .withIssuer(issuer)
-                .withSubject(user.getId().toString())
-                .withClaim("username", user.getUsername())
+                .withSubject(userId)
+                .withClaim("username", username)
                 .withExpiresAt(generateExpirationDate())
-                .sign(algorithm);
+                .sign(algorithm());
     }
 
-
     /**
      * Generates a refresh token for the specified user.
      * <p>
-     * The refresh token contains the username as the subject, the issuer, and a longer
-     * expiration time of 30 days. It also includes a custom claim to indicate that the token is a refresh token.
+     * The refresh token contains the user ID as the subject, the username, the issuer, the configured
+     * refresh expiration, the family it belongs to and its own ID. It also includes a custom claim to
+     * indicate that the token is a refresh token.
      * </p>
      *
-     * @param user The user for whom the refresh token is generated.
+     * @param userId   The ID of the user.
+     * @param username The username of the user.
+     * @param familyId The ID of the refresh token family, shared by every rotation of a login.
+     * @param tokenId  The ID of this refresh token within its family.
      * @return The generated refresh token as a string.
      */
-    public String generateRefreshToken(UserEntity user) {
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
+    public String generateRefreshToken(String userId, String username, String familyId, String tokenId) {
         return JWT.create()
                 .withIssuer(issuer)
-                .withSubject(user.getUsername())
-                .withExpiresAt(Date.from(Instant.now().plus(Duration.ofDays(30)))) // 30 dias
-                .withClaim("type", "refresh")
-                .sign(algorithm);
+                .withSubject(userId)
+                .withClaim("username", username)
+                .withClaim("type", REFRESH_TOKEN_TYPE)
+                .withClaim("family", familyId)
+                .withJWTId(tokenId)
+                .withExpiresAt(Date.from(Instant.now().plus(refreshExpiration)))
+                .sign(algorithm());
+    }
+
+    /**
+     * Verifies the given refresh token and returns its claims.
+     *
+     * @param token The refresh token.
+     * @return The claims of the verified refresh token.
+     * @throws TokenExpiredCustomException If the token is expired.
+     * @throws IllegalArgumentException If the token is invalid or is not a refresh token.
+     */
+    public RefreshTokenClaims verifyRefreshToken(String token) {
+        DecodedJWT decodedJWT = decodeToken(token);
+        if (!REFRESH_TOKEN_TYPE.equals(decodedJWT.getClaim("type").asString())) {
+            throw new IllegalArgumentException("Invalid token.");
+        }
+        return new RefreshTokenClaims(
+                decodedJWT.getSubject(),
+                decodedJWT.getClaim("username").asString(),
+                decodedJWT.getClaim("family").asString(),
+                decodedJWT.getId(),
+                decodedJWT.getExpiresAtAsInstant());
+    }
+
+    /**
+     * Returns how long refresh tokens are valid.
+     *
+     * @return The refresh token expiration.
+     */
+    public Duration getRefreshExpiration() {
+        return refreshExpiration;
+    }
+
+    /**
+     * Verifies the given JWT token and returns its claims.
+     * <p>
+     * This is the single entry point used on the request path: the token is verified once and the returned
+     * {@link JwtClaims} hold everything later consumers need.
+     * </p>
+     *
+     * @param token The JWT token.
+     * @return The claims of the verified token.
+     * @throws TokenExpiredCustomException If the token is expired.
+     * @throws IllegalArgumentException If the token is invalid or is a refresh token.
+     */
+    public JwtClaims verify(String token) {
+        DecodedJWT decodedJWT = decodeToken(token);
+        if (REFRESH_TOKEN_TYPE.equals(decodedJWT.getClaim("type").asString())) {
+            throw new IllegalArgumentException("Invalid token.");
+        }
+        return new JwtClaims(
+                decodedJWT.getSubject(),
+                decodedJWT.getClaim("username").asString(),
+                decodedJWT.getExpiresAtAsInstant());
     }
 
     /**
@@ -131,11 +216,7 @@ public class JwtUtil {
      */
     private DecodedJWT decodeToken(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secretKey);
-            JWTVerifier verifier = JWT.require(algorithm)
-                    .withIssuer(issuer)
-                    .build();
-            return verifier.verify(token);
+            return verifier().verify(token);
         } catch (TokenExpiredException e) {
             logger.warn("Token expired: {}", token);
             throw new TokenExpiredCustomException("Token has expired. Please refresh.");
@@ -145,16 +226,46 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * Returns the shared signing algorithm, building it on first use.
+     *
+     * @return The HMAC256 algorithm for the configured secret.
+     */
+    private Algorithm algorithm() {
+        Algorithm current = algorithm;
+        if (current == null) {
+            current = Algorithm.HMAC256(secretKey);
+            algorithm = current;
+        }
+        return current;
+    }
+
+    /**
+     * Returns the shared token verifier, building it on first use.
+     *
+     * @return The verifier for the configured algorithm and issuer.
+     */
+    private JWTVerifier verifier() {
+        JWTVerifier current = verifier;
+        if (current == null) {
+            current = JWT.require(algorithm())
+                    .withIssuer(issuer)
+                    .build();
+            verifier = current;
+        }
+        return current;
+    }
+
     /**
      * Generates the expiration date for the JWT token.
      * <p>
-     * The expiration date is calculated based on the configured expiration time (in days).
+     * The expiration date is calculated based on the configured expiration time (in seconds).
      * </p>
      *
      * @return The expiration date of the token.
      */
     private Date generateExpirationDate() {
-        return Date.from(Instant.now().plus(Duration.ofDays(expirationDate)));
+        return Date.from(Instant.now().plus(Duration.ofSeconds(expirationDate)));
     }
 
     /**
@@ -0,0 +1,16 @@
+package br.com.soupaulodev.forumhub.security.utils;
+
+import java.time.Instant;
+
+/**
+ * Claims of a verified refresh token.
+ *
+ * @param userId    the user ID carried in the token subject
+ * @param username  the username claim
+ * @param familyId  the ID of the family the token belongs to, shared by every rotation of a login
+ * @param tokenId   the ID of the token within its family
+ * @param expiresAt the expiration date of the token
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public record RefreshTokenClaims(String userId, String username, String familyId, String tokenId, Instant expiresAt) {
+}
@@ -0,0 +1,36 @@
+package br.com.soupaulodev.forumhub.security.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Computes the digest identifying a JWT token without keeping the token itself.
+ * <p>
+ * The digest is the URL-safe Base64 encoding of the SHA-256 hash of the token. It is used as key by the
+ * {@link VerifiedTokenCache} and by the token revocation, so raw tokens never end up in memory caches or in Redis.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    /**
+     * Returns the digest of the given token.
+     *
+     * @param token the raw JWT token
+     * @return the URL-safe Base64 encoded SHA-256 hash of the token
+     */
+    public static String of(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.soupaulodev.forumhub.security.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Bounded cache of already verified JWT tokens.
+ * <p>
+ * Clients send the same token on every request of a session, so the claims produced by
+ * {@link JwtUtil#verify(String)} are kept here and repeat requests skip the HMAC verification and the
+ * Base64 and JSON parsing entirely. Entries are keyed by the {@link TokenDigest} of the token, so the raw
+ * tokens are never kept in memory, and each entry expires at the token's own {@code exp} claim. Tokens
+ * are evicted explicitly on logout.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Clock clock;
+    private final Cache<String, JwtClaims> cache;
+
+    /**
+     * Constructs a new {@link VerifiedTokenCache}.
+     *
+     * @param maximumSize the maximum number of tokens kept in the cache
+     */
+    @Autowired
+    public VerifiedTokenCache(@Value("${jwt.cache.maximum-size}") long maximumSize) {
+        this(maximumSize, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    VerifiedTokenCache(long maximumSize, Clock clock, Ticker ticker) {
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .ticker(ticker)
+                .expireAfter(Expiry.creating((String digest, JwtClaims claims) -> timeToLive(claims)))
+                .build();
+    }
+
+    /**
+     * Returns the claims of a previously verified token.
+     *
+     * @param token the raw JWT token
+     * @return the cached claims, or an empty {@link Optional} if the token was not verified yet or has expired
+     */
+    public Optional<JwtClaims> get(String token) {
+        return Optional.ofNullable(cache.getIfPresent(TokenDigest.of(token)));
+    }
+
+    /**
+     * Stores the claims of a verified token until the token expires.
+     * Tokens without an expiration or that have already expired are not cached.
+     *
+     * @param token  the raw JWT token
+     * @param claims the claims returned by {@link JwtUtil#verify(String)}
+     */
+    public void put(String token, JwtClaims claims) {
+        if (timeToLive(claims).isPositive()) {
+            cache.put(TokenDigest.of(token), claims);
+        }
+    }
+
+    /**
+     * Removes a token from the cache, forcing it to be verified again on its next use.
+     *
+     * @param token the raw JWT token
+     */
+    public void evict(String token) {
+        evictDigest(TokenDigest.of(token));
+    }
+
+    /**
+     * Removes a token from the cache by its digest, as computed by {@link TokenDigest#of(String)}.
+     *
+     * @param digest the digest of the token
+     */
+    public void evictDigest(String digest) {
+        cache.invalidate(digest);
+    }
+
+    private Duration timeToLive(JwtClaims claims) {
+        if (claims.expiresAt() == null) {
+            return Duration.ZERO;
+        }
+        Duration remaining = Duration.between(clock.instant(), claims.expiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+}
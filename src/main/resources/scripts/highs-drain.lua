@@ -0,0 +1,17 @@
+-- Moves the pending highs changes to the hash being reconciled, so new changes keep accumulating separately.
+--
+-- KEYS[1] hash of the pending changes
+-- KEYS[2] hash of the changes being reconciled
+--
+-- Returns 1 if there are changes to reconcile and 0 otherwise. Changes left over by a reconciliation that failed
+-- are returned again before any newer change, so they are always applied in order.
+
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    return 1
+end
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    redis.call('RENAME', KEYS[1], KEYS[2])
+    return 1
+end
+return 0
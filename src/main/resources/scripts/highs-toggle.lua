@@ -0,0 +1,28 @@
+-- Highs of an item stored as a Redis set of user IDs, with the changes not yet written to the database kept in a
+-- hash of { <target>:<item id>:<user id> = 1 (highed) | 0 (unhighed) }.
+--
+-- KEYS[1] set of the users who highed the item
+-- KEYS[2] hash of the pending changes
+-- KEYS[3] marker set once the sets were loaded from the database
+-- ARGV[1] ID of the user
+-- ARGV[2] field of the change in the pending changes hash
+-- ARGV[3] 1 to high the item, 0 to unhigh it
+--
+-- Returns 1 if the state changed, 0 if the item was already in the requested state and -1 if the sets are not
+-- loaded yet, in which case nothing is changed.
+
+if redis.call('EXISTS', KEYS[3]) == 0 then
+    return -1
+end
+
+local changed
+if ARGV[3] == '1' then
+    changed = redis.call('SADD', KEYS[1], ARGV[1])
+else
+    changed = redis.call('SREM', KEYS[1], ARGV[1])
+end
+
+if changed == 1 then
+    redis.call('HSET', KEYS[2], ARGV[2], ARGV[3])
+end
+return changed
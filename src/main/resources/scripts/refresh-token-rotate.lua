@@ -0,0 +1,31 @@
+-- Refresh token family stored as a Redis hash: { current = <token id>, user = <user id> }, and listed in a sorted
+-- set of the families of its user, scored by the time at which the family expires.
+--
+-- KEYS[1] family key
+-- KEYS[2] key of the families of the user
+-- ARGV[1] ID of the refresh token being presented
+-- ARGV[2] ID of the refresh token replacing it
+-- ARGV[3] family time to live in milliseconds
+-- ARGV[4] ID of the family
+-- ARGV[5] time at which the family expires, in epoch milliseconds
+--
+-- Returns 1 if the token was rotated, 0 if the family does not exist (expired or revoked) and -1 if the
+-- presented token was already rotated. A rotated token being presented again means it was stolen, so the
+-- whole family is revoked and neither the thief nor the legitimate client can renew it anymore.
+
+local current = redis.call('HGET', KEYS[1], 'current')
+if not current then
+    return 0
+end
+
+if current ~= ARGV[1] then
+    redis.call('DEL', KEYS[1])
+    redis.call('ZREM', KEYS[2], ARGV[4])
+    return -1
+end
+
+redis.call('HSET', KEYS[1], 'current', ARGV[2])
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+redis.call('ZADD', KEYS[2], ARGV[5], ARGV[4])
+redis.call('PEXPIRE', KEYS[2], ARGV[3])
+return 1
@@ -0,0 +1,46 @@
+-- Token bucket stored as a Redis hash: { tokens = <float>, ts = <millis> }.
+--
+-- KEYS[1] bucket key
+-- ARGV[1] bucket capacity
+-- ARGV[2] refill period in milliseconds (the whole capacity is refilled in this period)
+-- ARGV[3] number of tokens requested, a negative value gives tokens back to the bucket
+-- ARGV[4] minimum number of tokens to grant, defaults to ARGV[3] (all or nothing)
+--
+-- Returns { granted tokens, remaining tokens, milliseconds until the request could succeed }.
+-- Redis server time is used so that every application node agrees on the refill clock.
+
+local key = KEYS[1]
+local capacity = tonumber(ARGV[1])
+local refill_ms = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+local min_grant = tonumber(ARGV[4]) or requested
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', key, 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local ts = tonumber(bucket[2])
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+
+local elapsed = math.max(0, now - ts)
+tokens = math.min(capacity, tokens + (elapsed * capacity / refill_ms))
+
+local granted = 0
+local retry_after = 0
+if requested < 0 then
+    tokens = math.min(capacity, tokens - requested)
+elseif tokens >= min_grant then
+    granted = math.min(requested, math.floor(tokens))
+    tokens = tokens - granted
+else
+    retry_after = math.ceil((min_grant - tokens) * refill_ms / capacity)
+end
+
+redis.call('HSET', key, 'tokens', tostring(tokens), 'ts', tostring(now))
+redis.call('PEXPIRE', key, refill_ms * 2)
+
+return { granted, math.floor(tokens), retry_after }
@@ -0,0 +1,44 @@
+package br.com.soupaulodev.forumhub;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Starts the embedded Redis server of the {@code test} profile before the first test class using it, and keeps it
+ * running until the JVM exits, as long as the application contexts cached between the test classes.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+public class EmbeddedRedisExtension implements BeforeAllCallback {
+
+    /**
+     * Port of {@code spring.data.redis.port} in the {@code test} profile.
+     */
+    public static final int PORT = 6397;
+
+    private static RedisServer redisServer;
+
+    @Override
+    public void beforeAll(ExtensionContext context) throws IOException {
+        start();
+    }
+
+    private static synchronized void start() throws IOException {
+        if (redisServer != null) {
+            return;
+        }
+        redisServer = new RedisServer(PORT);
+        redisServer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                redisServer.stop();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+}
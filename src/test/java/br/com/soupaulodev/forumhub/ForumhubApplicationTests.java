@@ -1,8 +1,37 @@
 package br.com.soupaulodev.forumhub;
 
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounterBuffer;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
+import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @SpringBootTest
+@ActiveProfiles({"dev", "test"})
+@ExtendWith(EmbeddedRedisExtension.class)
 class ForumhubApplicationTests {
 
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private HighsCounterBuffer highsCounterBuffer;
+
+	@Test
+	void contextLoads() {
+	}
+
+	@Test
+	void loadedEntities_ShouldIncludeTheHighsStillBuffered() {
+		UserEntity user = userRepository.save(new UserEntity("Context", "context", "context@forumhub.com", "secret"));
+		highsCounterBuffer.add(HighsTarget.USER, user.getId(), 3);
+
+		assertEquals(3L, userRepository.findById(user.getId()).orElseThrow().getHighsCount());
+	}
 }
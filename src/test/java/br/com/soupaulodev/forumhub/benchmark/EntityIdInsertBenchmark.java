@@ -0,0 +1,118 @@
+package br.com.soupaulodev.forumhub.benchmark;
+
+import br.com.soupaulodev.forumhub.config.IdStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the insert throughput and the primary key index size of a comment-like table with random and time-ordered
+ * IDs, on PostgreSQL.
+ * <p>
+ * Each trial recreates the table and preloads it with {@code preloadedRows} rows before measuring batched inserts,
+ * so the index no longer fits the few pages a fresh table would keep hot. With random IDs every insert lands on a
+ * random leaf page of the index; with time-ordered IDs they all land on the rightmost one. The size of the table and
+ * of its primary key index is printed after each trial.
+ * </p>
+ * <p>
+ * It needs a PostgreSQL database, by default the one of the {@code dev} profile; another one can be set with the
+ * {@code benchmark.jdbc.url}, {@code benchmark.jdbc.username} and {@code benchmark.jdbc.password} system properties.
+ * Run it from the IDE through {@link #main(String[])}, or after {@code mvn test-compile} with
+ * {@code java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)"
+ * br.com.soupaulodev.forumhub.benchmark.EntityIdInsertBenchmark}.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class EntityIdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String INSERT = "INSERT INTO bench_comment (id, content) VALUES (?, ?)";
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    public IdStrategy strategy;
+
+    @Param({"5000000"})
+    public int preloadedRows;
+
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/forumhub"),
+                System.getProperty("benchmark.jdbc.username", "docker"),
+                System.getProperty("benchmark.jdbc.password", "docker"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_comment");
+            statement.execute("CREATE TABLE bench_comment (id uuid PRIMARY KEY, content varchar(500) NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement(INSERT);
+        for (int i = 0; i < preloadedRows; i += BATCH_SIZE) {
+            insertBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CHECKPOINT");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet sizes = statement.executeQuery("""
+                     SELECT count(*), pg_size_pretty(pg_relation_size('bench_comment')),
+                            pg_size_pretty(pg_relation_size('bench_comment_pkey'))
+                       FROM bench_comment
+                     """)) {
+            sizes.next();
+            System.out.printf("%n%s: %d rows, table %s, primary key index %s%n",
+                    strategy, sizes.getLong(1), sizes.getString(2), sizes.getString(3));
+            statement.execute("DROP TABLE bench_comment");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    /**
+     * Inserts and commits one batch of rows, the way the comments of a busy topic are written.
+     *
+     * @return the number of rows inserted
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, strategy.generate());
+            insert.setString(2, "Benchmark comment");
+            insert.addBatch();
+        }
+        int inserted = insert.executeBatch().length;
+        connection.commit();
+        return inserted;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(EntityIdInsertBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
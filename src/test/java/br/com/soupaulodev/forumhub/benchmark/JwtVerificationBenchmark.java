@@ -0,0 +1,85 @@
+package br.com.soupaulodev.forumhub.benchmark;
+
+import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import br.com.soupaulodev.forumhub.security.utils.JwtClaims;
+import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of authenticating a request before and after the single-parse JWT pipeline.
+ * <p>
+ * The {@code perCallVerifier} benchmark reproduces the previous request path: an {@link Algorithm} and a verifier
+ * were built on every call, and the token was verified three times (expiration check, user ID for the security
+ * context and user ID for the rate limiter). The {@code sharedVerifier} benchmark verifies the token once with the
+ * verifier cached by {@link JwtUtil}, as the {@code JwtClaimsResolver} does now.
+ * </p>
+ * <p>
+ * Run it from the IDE through {@link #main(String[])}, or after {@code mvn test-compile} with
+ * {@code java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)"
+ * br.com.soupaulodev.forumhub.benchmark.JwtVerificationBenchmark}.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String ISSUER = "benchmark-issuer";
+    private static final String SECRET = "benchmark-secret-key";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "issuer", ISSUER);
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expirationDate", 3600);
+
+        UserEntity user = new UserEntity();
+        user.setId(UUID.randomUUID());
+        user.setUsername("benchmark");
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String perCallVerifier() {
+        decodeWithNewVerifier(token).getExpiresAt();
+        decodeWithNewVerifier(token).getSubject();
+        return decodeWithNewVerifier(token).getSubject();
+    }
+
+    @Benchmark
+    public JwtClaims sharedVerifier() {
+        return jwtUtil.verify(token);
+    }
+
+    private static DecodedJWT decodeWithNewVerifier(String token) {
+        Algorithm algorithm = Algorithm.HMAC256(SECRET);
+        return JWT.require(algorithm).withIssuer(ISSUER).build().verify(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
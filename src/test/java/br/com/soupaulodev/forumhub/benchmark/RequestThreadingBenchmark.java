@@ -0,0 +1,158 @@
+package br.com.soupaulodev.forumhub.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares the throughput and the tail latency of the requests served on platform threads, as by default, and on
+ * virtual threads, as with the {@code virtual-threads} profile.
+ * <p>
+ * Each invocation serves a burst of {@value #REQUESTS} simulated requests. Every request makes a Redis round trip
+ * (rate limit, token revocation, cache), and one in {@value #QUERY_EVERY} also misses the caches and runs a query,
+ * holding one of the {@value #POOL_SIZE} connections of the pool, given up after
+ * {@value #CONNECTION_TIMEOUT_MILLIS} ms like the pool of the profile does. With {@code PLATFORM}, the requests run
+ * on {@value #PLATFORM_THREADS} threads like the ones of Tomcat, and the requests waiting for a connection hold
+ * threads the requests served from the caches are waiting for. With {@code VIRTUAL}, every request gets a thread and
+ * only the queries wait for the pool. With {@code pinnedQueries}, the queries run inside a {@code synchronized}
+ * block on their connection, pinning the carrier of the virtual thread while they wait, as the highs counter flush
+ * did.
+ * </p>
+ * <p>
+ * The throughput is counted in requests. The median and the 99th percentile of the request latencies, and the
+ * requests that gave up waiting for a connection, are printed after each iteration.
+ * </p>
+ * <p>
+ * Run it from the IDE through {@link #main(String[])}, or after {@code mvn test-compile} with
+ * {@code java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)"
+ * br.com.soupaulodev.forumhub.benchmark.RequestThreadingBenchmark}.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RequestThreadingBenchmark {
+
+    private static final int REQUESTS = 2000;
+    private static final int QUERY_EVERY = 5;
+    private static final int POOL_SIZE = 20;
+    private static final int PLATFORM_THREADS = 200;
+    private static final long CONNECTION_TIMEOUT_MILLIS = 2000;
+    private static final long ROUND_TRIP_MILLIS = 1;
+    private static final long QUERY_MILLIS = 5;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public String threads;
+
+    @Param({"false", "true"})
+    public boolean pinnedQueries;
+
+    private ExecutorService executor;
+    private Semaphore connectionPool;
+    private Object[] connectionLocks;
+    private final List<long[]> bursts = new ArrayList<>();
+    private final AtomicInteger timeouts = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        executor = threads.equals("VIRTUAL")
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_THREADS);
+        connectionPool = new Semaphore(POOL_SIZE, true);
+        connectionLocks = new Object[POOL_SIZE];
+        Arrays.setAll(connectionLocks, i -> new Object());
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+        bursts.clear();
+        timeouts.set(0);
+    }
+
+    @TearDown(Level.Iteration)
+    public void printLatencies() {
+        long[] latencies = bursts.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        if (latencies.length == 0) {
+            return;
+        }
+        System.out.printf("%n  p50 = %.1f ms, p99 = %.1f ms, connection timeouts = %d%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.99), timeouts.get());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public long[] burst() throws Exception {
+        long[] latencies = new long[REQUESTS];
+        List<Future<?>> requests = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            int request = i;
+            long submittedAt = System.nanoTime();
+            requests.add(executor.submit(() -> {
+                serve(request);
+                latencies[request] = System.nanoTime() - submittedAt;
+                return null;
+            }));
+        }
+        for (Future<?> request : requests) {
+            request.get();
+        }
+        bursts.add(latencies);
+        return latencies;
+    }
+
+    private void serve(int request) throws InterruptedException {
+        Thread.sleep(ROUND_TRIP_MILLIS);
+        if (request % QUERY_EVERY != 0) {
+            return;
+        }
+        if (!connectionPool.tryAcquire(CONNECTION_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            timeouts.incrementAndGet();
+            return;
+        }
+        try {
+            if (pinnedQueries) {
+                synchronized (connectionLocks[request / QUERY_EVERY % POOL_SIZE]) {
+                    Thread.sleep(QUERY_MILLIS);
+                }
+            } else {
+                Thread.sleep(QUERY_MILLIS);
+            }
+        } finally {
+            connectionPool.release();
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(RequestThreadingBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.soupaulodev.forumhub.benchmark;
+
+import br.com.soupaulodev.forumhub.config.UlidGenerator;
+import de.huxhorn.sulky.ulid.ULID;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares how ULID generation scales with the number of threads before and after the per-thread generator.
+ * <p>
+ * The {@code sharedInstance} benchmark reproduces the previous generator: one {@link ULID} instance shared by every
+ * thread, backed by a single {@link java.security.SecureRandom}. The other benchmarks use the {@link UlidGenerator},
+ * whose threads share no state. {@link #main(String[])} runs them with 1, 2, 4, 8, 16, 32 and 64 threads.
+ * </p>
+ * <p>
+ * Run it from the IDE through {@link #main(String[])}, or after {@code mvn test-compile} with
+ * {@code java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)"
+ * br.com.soupaulodev.forumhub.benchmark.UlidGeneratorBenchmark}.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UlidGeneratorBenchmark {
+
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    private final ULID sharedUlid = new ULID();
+
+    @Benchmark
+    public String sharedInstance() {
+        return sharedUlid.nextULID();
+    }
+
+    @Benchmark
+    public String perThreadText() {
+        return UlidGenerator.generate();
+    }
+
+    @Benchmark
+    public UUID perThreadUuid() {
+        return UlidGenerator.generateUuid();
+    }
+
+    @Benchmark
+    public byte[] perThreadBinary() {
+        return UlidGenerator.generateBytes();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREADS) {
+            Options options = new OptionsBuilder()
+                    .include(UlidGeneratorBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
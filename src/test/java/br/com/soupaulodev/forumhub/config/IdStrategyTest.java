@@ -0,0 +1,52 @@
+package br.com.soupaulodev.forumhub.config;
+
+import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link IdStrategy} enum.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class IdStrategyTest {
+
+    @AfterEach
+    void tearDown() {
+        IdStrategy.use(IdStrategy.TIME_ORDERED);
+    }
+
+    @Test
+    void timeOrdered_ShouldGenerateVersion7UuidsCarryingTheCurrentMillisecond() {
+        long before = System.currentTimeMillis();
+        UUID id = IdStrategy.TIME_ORDERED.generate();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        long timestamp = id.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= after);
+    }
+
+    @Test
+    void timeOrdered_ShouldSortIdsOfLaterMillisecondsAfter() throws InterruptedException {
+        UUID first = IdStrategy.TIME_ORDERED.generate();
+        Thread.sleep(2);
+        UUID second = IdStrategy.TIME_ORDERED.generate();
+
+        assertTrue(Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits()) < 0);
+    }
+
+    @Test
+    void use_ShouldChangeTheStrategyOfNewEntities() {
+        IdStrategy.use(IdStrategy.RANDOM);
+        assertEquals(4, new CommentEntity().getId().version());
+
+        IdStrategy.use(IdStrategy.TIME_ORDERED);
+        assertEquals(7, new CommentEntity().getId().version());
+    }
+}
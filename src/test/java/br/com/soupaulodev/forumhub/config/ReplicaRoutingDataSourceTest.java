@@ -0,0 +1,139 @@
+package br.com.soupaulodev.forumhub.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the {@link ReplicaRoutingDataSource} and the {@link ReplicaLagMonitor}, with in-memory databases
+ * standing in for the primary and the replicas.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaRoutingDataSource router;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        router = new ReplicaRoutingDataSource(primary, List.of(database("replica-0"), database("replica-1")));
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(router);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldReadFromTheReplicasInTurn_WhenTheRequestAllowsIt() {
+        ReplicaRoutingDataSource.allowReplicaReads();
+
+        assertEquals("replica-0", readOnly.execute(status -> database()));
+        assertEquals("replica-1", readOnly.execute(status -> database()));
+        assertEquals("replica-0", readOnly.execute(status -> database()));
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldReadFromThePrimary_WhenTheRequestDoesNotAllowIt() {
+        assertEquals("primary", readOnly.execute(status -> database()));
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldReadFromThePrimary_OutsideOfARequest() {
+        RequestContextHolder.resetRequestAttributes();
+
+        assertEquals("primary", readOnly.execute(status -> database()));
+    }
+
+    @Test
+    void callOnPrimary_ShouldReadFromThePrimaryAndThenAllowTheReplicasAgain() throws Exception {
+        ReplicaRoutingDataSource.allowReplicaReads();
+
+        assertEquals("primary", ReplicaRoutingDataSource.callOnPrimary(() -> readOnly.execute(status -> database())));
+        assertTrue(ReplicaRoutingDataSource.replicaReadsAllowed());
+        assertEquals("replica-0", readOnly.execute(status -> database()));
+    }
+
+    @Test
+    void callOnPrimary_ShouldNotAllowTheReplicas_WhenTheRequestDidNot() throws Exception {
+        assertEquals("primary", ReplicaRoutingDataSource.callOnPrimary(() -> readOnly.execute(status -> database())));
+        assertFalse(ReplicaRoutingDataSource.replicaReadsAllowed());
+    }
+
+    @Test
+    void readWriteTransactions_ShouldAlwaysUseThePrimary() {
+        ReplicaRoutingDataSource.allowReplicaReads();
+
+        assertEquals("primary", readWrite.execute(status -> database()));
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldSkipTheReplicasThatAreTooFarBehind() {
+        ReplicaLagMonitor monitor = spy(new ReplicaLagMonitor(router, new SimpleMeterRegistry(), Duration.ofSeconds(10)));
+        doReturn(30.0, 1.0).when(monitor).measureLag(any());
+        ReplicaRoutingDataSource.allowReplicaReads();
+
+        monitor.checkLag();
+
+        assertEquals(30.0, monitor.getLagSeconds(0));
+        assertEquals("replica-1", readOnly.execute(status -> database()));
+        assertEquals("replica-1", readOnly.execute(status -> database()));
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldFallBackToThePrimary_WhenNoReplicaCanBeReached() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(router, new SimpleMeterRegistry(), Duration.ofSeconds(10));
+        ReplicaRoutingDataSource.allowReplicaReads();
+
+        // The lag query only exists in PostgreSQL, so the in-memory replicas look unreachable
+        monitor.checkLag();
+
+        assertTrue(Double.isNaN(monitor.getLagSeconds(0)));
+        assertEquals("primary", readOnly.execute(status -> database()));
+    }
+
+    private String database() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(20))");
+        template.execute("DELETE FROM marker");
+        template.update("INSERT INTO marker VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,219 @@
+package br.com.soupaulodev.forumhub.config;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link TwoLevelCache} and the {@link TwoLevelCacheManager} against an embedded Redis server, with two
+ * managers standing in for two nodes of the application.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class TwoLevelCacheTest {
+
+    private static final int PORT = 6396;
+
+    private static RedisServer redisServer;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisMessageListenerContainer listenerContainer;
+    private TwoLevelCache node;
+    private TwoLevelCache otherNode;
+
+    private final UUID forumId = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = new RedisServer(PORT);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", PORT));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        connectionFactory.getConnection().serverCommands().flushAll();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        node = newNode();
+        otherNode = newNode();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        listenerContainer.destroy();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void get_ShouldLoadOnceAndServeTheNextReadsFromMemory() {
+        ForumResponseDTO forum = node.get(forumId, this::load);
+        redisTemplate.delete("cache:forums:" + forumId);
+
+        assertEquals(forum, node.get(forumId, this::load));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_ShouldServeTheOtherNodesFromRedis() {
+        ForumResponseDTO forum = node.get(forumId, this::load);
+
+        assertEquals(forum, otherNode.get(forumId, this::load));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_ShouldLoadFromThePrimary_WhenTheRequestMayReadFromAReplica() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            ReplicaRoutingDataSource.allowReplicaReads();
+
+            AtomicBoolean replicaReads = new AtomicBoolean(true);
+
+            node.get(forumId, () -> {
+                replicaReads.set(ReplicaRoutingDataSource.replicaReadsAllowed());
+                return load();
+            });
+
+            assertFalse(replicaReads.get());
+            assertTrue(ReplicaRoutingDataSource.replicaReadsAllowed());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    void get_ShouldShareOneLoadBetweenConcurrentMisses() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<ForumResponseDTO>> results = new ArrayList<>();
+        try {
+            results.add(executor.submit(() -> node.get(forumId, () -> {
+                loading.countDown();
+                release.await();
+                return load();
+            })));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> node.get(forumId, this::load)));
+            }
+            release.countDown();
+
+            for (Future<ForumResponseDTO> result : results) {
+                assertEquals(forumId, result.get(5, TimeUnit.SECONDS).id());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_ShouldNotCacheAFailedLoad() {
+        Cache.ValueRetrievalException exception = assertThrows(Cache.ValueRetrievalException.class,
+                () -> node.get(forumId, () -> {
+                    throw new ResourceNotFoundException("Forum not found.");
+                }));
+
+        assertInstanceOf(ResourceNotFoundException.class, exception.getCause());
+        assertNull(node.get(forumId));
+        assertNull(redisTemplate.opsForValue().get("cache:forums:" + forumId));
+    }
+
+    @Test
+    void evict_ShouldRemoveTheEntryFromEveryNode() throws InterruptedException {
+        node.get(forumId, this::load);
+        otherNode.get(forumId, this::load);
+
+        node.evict(forumId);
+
+        assertNull(redisTemplate.opsForValue().get("cache:forums:" + forumId));
+        awaitUntil(() -> otherNode.get(forumId) == null);
+        otherNode.get(forumId, this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void clear_ShouldRemoveEveryEntryFromEveryNode() throws InterruptedException {
+        UUID otherForumId = UUID.randomUUID();
+        node.get(forumId, this::load);
+        otherNode.get(otherForumId, this::load);
+
+        node.clear();
+
+        assertTrue(redisTemplate.keys("cache:forums:*").isEmpty());
+        awaitUntil(() -> otherNode.get(otherForumId) == null);
+    }
+
+    private TwoLevelCache newNode() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        TwoLevelCache cache = new TwoLevelCache(CacheConfig.FORUMS, ForumResponseDTO.class,
+                Caffeine.newBuilder().maximumSize(100).build(), redisTemplate, objectMapper, Duration.ofMinutes(1));
+        return new TwoLevelCacheManager(List.of(cache), listenerContainer).getTwoLevelCache(CacheConfig.FORUMS);
+    }
+
+    private ForumResponseDTO load() {
+        loads.incrementAndGet();
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        return new ForumResponseDTO(forumId, "Forum", "Description", UUID.randomUUID(), 0L, 1L, 0L, now, now);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met in time");
+            }
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.soupaulodev.forumhub.config;
+
+import de.huxhorn.sulky.ulid.ULID;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link UlidGenerator} class.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class UlidGeneratorTest {
+
+    @Test
+    void generate_ShouldProduceCanonicalUlidsOfTheCurrentMillisecond() {
+        long before = System.currentTimeMillis();
+        ULID.Value value = ULID.parseULID(UlidGenerator.generate());
+        long after = System.currentTimeMillis();
+
+        assertTrue(value.timestamp() >= before && value.timestamp() <= after);
+    }
+
+    @Test
+    void generate_ShouldBeStrictlyIncreasingWithinAThread() {
+        String previous = UlidGenerator.generate();
+        for (int i = 0; i < 100_000; i++) {
+            String next = UlidGenerator.generate();
+            assertTrue(next.compareTo(previous) > 0);
+            previous = next;
+        }
+    }
+
+    @Test
+    void generateUuid_ShouldBeStrictlyIncreasingVersion7Uuids() {
+        UUID previous = UlidGenerator.generateUuid();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UlidGenerator.generateUuid();
+            assertEquals(7, next.version());
+            assertEquals(2, next.variant());
+            assertTrue(Arrays.compareUnsigned(bytes(next), bytes(previous)) > 0);
+            previous = next;
+        }
+    }
+
+    @Test
+    void generateBytes_ShouldMatchTheTextForm() {
+        byte[] bytes = UlidGenerator.generateBytes();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        String text = new ULID.Value(buffer.getLong(), buffer.getLong()).toString();
+
+        assertEquals(16, bytes.length);
+        assertArrayEquals(bytes, ULID.parseULID(text).toBytes());
+        assertTrue(UlidGenerator.generate().compareTo(text) > 0);
+    }
+
+    @Test
+    void generate_ShouldNotRepeatAcrossThreads() throws InterruptedException {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    ids.add(UlidGenerator.generate());
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(80_000, ids.size());
+    }
+
+    private static byte[] bytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.soupaulodev.forumhub.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link VirtualThreadPinningMonitor} class.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class VirtualThreadPinningMonitorTest {
+
+    private final Object lock = new Object();
+
+    @Test
+    void pathOf_ShouldBeHibernate_WhenAHibernateFrameIsTheInnermost() {
+        assertEquals("hibernate", VirtualThreadPinningMonitor.pathOf(List.of(
+                "java.lang.Object",
+                "org.hibernate.engine.jdbc.internal.ResultSetReturnImpl",
+                "br.com.soupaulodev.forumhub.security.filters.JwtAuthenticationFilter")));
+    }
+
+    @Test
+    void pathOf_ShouldBeJwt_WhenATokenFrameIsTheInnermost() {
+        assertEquals("jwt", VirtualThreadPinningMonitor.pathOf(List.of(
+                "java.security.Signature",
+                "com.auth0.jwt.JWTVerifier",
+                "br.com.soupaulodev.forumhub.security.utils.JwtUtil")));
+        assertEquals("jwt", VirtualThreadPinningMonitor.pathOf(List.of(
+                "br.com.soupaulodev.forumhub.security.TokenRevocationService")));
+    }
+
+    @Test
+    void pathOf_ShouldBeOther_WhenNoFrameIsKnown() {
+        assertEquals("other", VirtualThreadPinningMonitor.pathOf(List.of(
+                "java.util.concurrent.ConcurrentHashMap",
+                "br.com.soupaulodev.forumhub.security.BoundedPasswordEncoder")));
+        assertEquals("other", VirtualThreadPinningMonitor.pathOf(List.of()));
+    }
+
+    @Test
+    void monitor_ShouldCountAVirtualThreadBlockingInsideAMonitor() throws InterruptedException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(10));
+        monitor.start();
+        try {
+            Thread.ofVirtual().start(() -> {
+                synchronized (lock) {
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }).join();
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            Counter counter;
+            while ((counter = meterRegistry.find("jvm.threads.virtual.pinned").tag("path", "other").counter()) == null) {
+                assertTrue(System.nanoTime() < deadline, "The pinned carrier was not reported in time");
+                Thread.sleep(50);
+            }
+            assertEquals(1.0, counter.count());
+        } finally {
+            monitor.close();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.soupaulodev.forumhub.filters;
+
+import br.com.soupaulodev.forumhub.EmbeddedRedisExtension;
+import br.com.soupaulodev.forumhub.security.utils.JwtClaimsResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for the filters registered by the {@link FilterConfig}, sending the requests to the embedded server so they
+ * go through the URL patterns of the registrations.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"dev", "test"})
+@ExtendWith(EmbeddedRedisExtension.class)
+class FilterConfigTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private NearCacheRateLimiter rateLimiter;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Value("${rate-limit.ip-limit}")
+    private int ipRateLimit;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter.flush();
+        redisTemplate.delete(redisTemplate.keys("rate-limit:*"));
+    }
+
+    @Test
+    void rateLimitFilter_ShouldRejectTheRequestsPastTheLimitOfTheIp() {
+        for (int i = 0; i < ipRateLimit; i++) {
+            assertEquals(HttpStatus.OK, restTemplate.getForEntity("/api/v1/forums/all", String.class).getStatusCode());
+        }
+
+        ResponseEntity<String> rejected = restTemplate.getForEntity("/api/v1/forums/all", String.class);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getStatusCode());
+        assertTrue(Long.parseLong(rejected.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)) >= 1);
+    }
+
+    @Test
+    void replicaRoutingFilter_ShouldSendTheReadsOfAClientThatWroteToThePrimary() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ResponseEntity<String> write = restTemplate.postForEntity(
+                "/api/v1/auth/login", new HttpEntity<>("{}", headers), String.class);
+
+        List<String> cookies = write.getHeaders().getOrEmpty(HttpHeaders.SET_COOKIE);
+        assertTrue(cookies.stream().anyMatch(cookie ->
+                cookie.startsWith(ReplicaRoutingFilter.READ_PRIMARY_COOKIE_NAME + "=")), cookies::toString);
+    }
+
+    @Test
+    void replicaRoutingFilterRegistration_ShouldFail_WhenTheWindowIsShorterThanTheStalenessOfTheReplicas() {
+        FilterConfig filterConfig = new FilterConfig(mock(JwtClaimsResolver.class), rateLimiter);
+
+        assertThrows(IllegalStateException.class, () -> filterConfig.replicaRoutingFilterRegistration(
+                Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(5)));
+        assertNotNull(filterConfig.replicaRoutingFilterRegistration(
+                Duration.ofSeconds(15), Duration.ofSeconds(10), Duration.ofSeconds(5)).getFilter());
+    }
+
+    @Test
+    void replicaRoutingFilter_ShouldNotMarkAClientThatOnlyReads() {
+        ResponseEntity<String> read = restTemplate.getForEntity("/api/v1/forums/all", String.class);
+
+        assertEquals(HttpStatus.OK, read.getStatusCode());
+        assertTrue(read.getHeaders().getOrEmpty(HttpHeaders.SET_COOKIE).stream().noneMatch(cookie ->
+                cookie.startsWith(ReplicaRoutingFilter.READ_PRIMARY_COOKIE_NAME + "=")));
+    }
+}
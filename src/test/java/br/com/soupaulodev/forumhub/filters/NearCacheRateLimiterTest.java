@@ -0,0 +1,160 @@
+package br.com.soupaulodev.forumhub.filters;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link NearCacheRateLimiter}.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class NearCacheRateLimiterTest {
+
+    private static final String KEY = "rate-limit:ip:127.0.0.1";
+    private static final Duration REFILL = Duration.ofMinutes(1);
+
+    private RedisRateLimiter redisRateLimiter;
+    private NearCacheRateLimiter nearCacheRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        redisRateLimiter = mock(RedisRateLimiter.class);
+        nearCacheRateLimiter = new NearCacheRateLimiter(
+                redisRateLimiter, true, 5, Duration.ofMinutes(5), 1_000, Runnable::run);
+    }
+
+    @Test
+    void tryConsume_ShouldServeBatchLocally() {
+        when(redisRateLimiter.claim(KEY, 100, REFILL, 5)).thenReturn(new RedisRateLimiter.Probe(5, 95, 0));
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(nearCacheRateLimiter.tryConsume(KEY, 100, REFILL).consumed());
+        }
+
+        verify(redisRateLimiter, times(1)).claim(KEY, 100, REFILL, 5);
+    }
+
+    @Test
+    void tryConsume_ShouldClaimNewBatch_WhenLocalBudgetIsExhausted() {
+        when(redisRateLimiter.claim(KEY, 100, REFILL, 5)).thenReturn(new RedisRateLimiter.Probe(5, 95, 0));
+
+        for (int i = 0; i < 6; i++) {
+            assertTrue(nearCacheRateLimiter.tryConsume(KEY, 100, REFILL).consumed());
+        }
+
+        verify(redisRateLimiter, times(2)).claim(KEY, 100, REFILL, 5);
+    }
+
+    @Test
+    void tryConsume_ShouldCacheRejection_UntilRetryAfter() {
+        when(redisRateLimiter.claim(KEY, 100, REFILL, 5)).thenReturn(new RedisRateLimiter.Probe(0, 0, 60_000));
+
+        RedisRateLimiter.Probe first = nearCacheRateLimiter.tryConsume(KEY, 100, REFILL);
+        RedisRateLimiter.Probe second = nearCacheRateLimiter.tryConsume(KEY, 100, REFILL);
+
+        assertFalse(first.consumed());
+        assertFalse(second.consumed());
+        assertTrue(second.retryAfterMillis() > 0);
+        verify(redisRateLimiter, times(1)).claim(KEY, 100, REFILL, 5);
+    }
+
+    @Test
+    void tryConsume_ShouldNotClaimMoreThanCapacity() {
+        when(redisRateLimiter.claim(KEY, 2, REFILL, 2)).thenReturn(new RedisRateLimiter.Probe(2, 0, 0));
+
+        assertTrue(nearCacheRateLimiter.tryConsume(KEY, 2, REFILL).consumed());
+
+        verify(redisRateLimiter).claim(KEY, 2, REFILL, 2);
+    }
+
+    @Test
+    void flush_ShouldGiveUnusedTokensBack() {
+        when(redisRateLimiter.claim(KEY, 100, REFILL, 5)).thenReturn(new RedisRateLimiter.Probe(5, 95, 0));
+
+        nearCacheRateLimiter.tryConsume(KEY, 100, REFILL);
+        nearCacheRateLimiter.flush();
+
+        verify(redisRateLimiter).refund(KEY, 100, REFILL, 4);
+    }
+
+    @Test
+    void tryConsume_ShouldNotHoldOtherKeys_WhileClaimingFromRedis() throws Exception {
+        // Keys with the same hash code, kept in the same bin of the local tier
+        String key = "rate-limit:ip:Aa";
+        String sameBinKey = "rate-limit:ip:BB";
+        CountDownLatch claiming = new CountDownLatch(1);
+        CountDownLatch redisAnswers = new CountDownLatch(1);
+        when(redisRateLimiter.claim(key, 100, REFILL, 5)).thenAnswer(invocation -> {
+            claiming.countDown();
+            assertTrue(redisAnswers.await(5, TimeUnit.SECONDS));
+            return new RedisRateLimiter.Probe(5, 95, 0);
+        });
+        when(redisRateLimiter.claim(sameBinKey, 100, REFILL, 5)).thenReturn(new RedisRateLimiter.Probe(5, 95, 0));
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<RedisRateLimiter.Probe> slow = executor.submit(() -> nearCacheRateLimiter.tryConsume(key, 100, REFILL));
+            assertTrue(claiming.await(5, TimeUnit.SECONDS));
+            Future<RedisRateLimiter.Probe> fast =
+                    executor.submit(() -> nearCacheRateLimiter.tryConsume(sameBinKey, 100, REFILL));
+
+            assertTrue(fast.get(1, TimeUnit.SECONDS).consumed());
+            redisAnswers.countDown();
+            assertTrue(slow.get(5, TimeUnit.SECONDS).consumed());
+        }
+    }
+
+    @Test
+    void tryConsume_ShouldShareOneClaim_BetweenConcurrentRequests() throws Exception {
+        CountDownLatch claiming = new CountDownLatch(1);
+        CountDownLatch redisAnswers = new CountDownLatch(1);
+        when(redisRateLimiter.claim(KEY, 100, REFILL, 5)).thenAnswer(invocation -> {
+            claiming.countDown();
+            assertTrue(redisAnswers.await(5, TimeUnit.SECONDS));
+            return new RedisRateLimiter.Probe(5, 95, 0);
+        });
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<RedisRateLimiter.Probe> first = executor.submit(() -> nearCacheRateLimiter.tryConsume(KEY, 100, REFILL));
+            assertTrue(claiming.await(5, TimeUnit.SECONDS));
+            Future<RedisRateLimiter.Probe> second = executor.submit(() -> nearCacheRateLimiter.tryConsume(KEY, 100, REFILL));
+            redisAnswers.countDown();
+
+            assertTrue(first.get(5, TimeUnit.SECONDS).consumed());
+            assertTrue(second.get(5, TimeUnit.SECONDS).consumed());
+        }
+        verify(redisRateLimiter, times(1)).claim(KEY, 100, REFILL, 5);
+    }
+
+    @Test
+    void tryConsume_ShouldGoToRedisEveryTime_WhenLocalTierIsDisabled() {
+        NearCacheRateLimiter disabled = new NearCacheRateLimiter(
+                redisRateLimiter, false, 5, Duration.ofMinutes(5), 1_000, Runnable::run);
+        when(redisRateLimiter.tryConsume(KEY, 100, REFILL, 1)).thenReturn(new RedisRateLimiter.Probe(1, 99, 0));
+
+        disabled.tryConsume(KEY, 100, REFILL);
+        disabled.tryConsume(KEY, 100, REFILL);
+
+        verify(redisRateLimiter, times(2)).tryConsume(KEY, 100, REFILL, 1);
+        verify(redisRateLimiter, never()).claim(eq(KEY), anyLong(), eq(REFILL), anyLong());
+    }
+
+    @Test
+    void tryConsume_ShouldPropagateRedisFailures() {
+        when(redisRateLimiter.claim(KEY, 100, REFILL, 5)).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThrows(RedisConnectionFailureException.class, () -> nearCacheRateLimiter.tryConsume(KEY, 100, REFILL));
+    }
+}
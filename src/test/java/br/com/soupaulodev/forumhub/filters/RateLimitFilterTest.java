@@ -0,0 +1,65 @@
+package br.com.soupaulodev.forumhub.filters;
+
+import br.com.soupaulodev.forumhub.security.utils.JwtClaimsResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link RateLimitFilter}.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class RateLimitFilterTest {
+
+    private static final String KEY = "rate-limit:ip:127.0.0.1";
+
+    private NearCacheRateLimiter rateLimiter;
+    private RateLimitFilter rateLimitFilter;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = mock(NearCacheRateLimiter.class);
+        rateLimitFilter = new RateLimitFilter(mock(JwtClaimsResolver.class), rateLimiter);
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void rateLimitCheck_ShouldLetTheRequestThrough_WhenATokenIsConsumed() throws IOException {
+        when(rateLimiter.tryConsume(eq(KEY), anyLong(), any(Duration.class)))
+                .thenReturn(new RedisRateLimiter.Probe(1, 9, 0));
+
+        assertFalse(rateLimitFilter.rateLimitCheck(KEY, 10, response));
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void rateLimitCheck_ShouldRoundTheRetryAfterUp() throws IOException {
+        when(rateLimiter.tryConsume(eq(KEY), anyLong(), any(Duration.class)))
+                .thenReturn(new RedisRateLimiter.Probe(0, 0, 5_001));
+
+        assertTrue(rateLimitFilter.rateLimitCheck(KEY, 10, response));
+        assertEquals(429, response.getStatus());
+        assertEquals("6", response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void rateLimitCheck_ShouldAskToRetryAfterOneSecondAtLeast() throws IOException {
+        when(rateLimiter.tryConsume(eq(KEY), anyLong(), any(Duration.class)))
+                .thenReturn(new RedisRateLimiter.Probe(0, 0, 0));
+
+        assertTrue(rateLimitFilter.rateLimitCheck(KEY, 10, response));
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+}
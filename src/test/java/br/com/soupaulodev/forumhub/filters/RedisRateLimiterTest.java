@@ -0,0 +1,152 @@
+package br.com.soupaulodev.forumhub.filters;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link RedisRateLimiter} against an embedded Redis server.
+ * <p>
+ * Each simulated node owns its own connection factory and limiter instance, so the tests show that the
+ * limits are enforced by the shared Redis state and not by anything held in the JVM.
+ * </p>
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class RedisRateLimiterTest {
+
+    private static final int PORT = 6390;
+    private static final int NODES = 4;
+
+    private static RedisServer redisServer;
+
+    private final List<LettuceConnectionFactory> connectionFactories = new ArrayList<>();
+    private final List<RedisRateLimiter> nodes = new ArrayList<>();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = new RedisServer(PORT);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < NODES; i++) {
+            LettuceConnectionFactory connectionFactory =
+                    new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", PORT));
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+            connectionFactories.add(connectionFactory);
+
+            StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+            nodes.add(new RedisRateLimiter(template));
+        }
+        connectionFactories.getFirst().getConnection().serverCommands().flushAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactories.forEach(LettuceConnectionFactory::destroy);
+        connectionFactories.clear();
+        nodes.clear();
+    }
+
+    @Test
+    void tryConsume_ShouldRejectWhenBucketIsEmpty() {
+        RedisRateLimiter limiter = nodes.getFirst();
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryConsume("rate-limit:ip:single", 3, Duration.ofHours(1), 1).consumed());
+        }
+        RedisRateLimiter.Probe probe = limiter.tryConsume("rate-limit:ip:single", 3, Duration.ofHours(1), 1);
+
+        assertFalse(probe.consumed());
+        assertEquals(0, probe.remainingTokens());
+        assertTrue(probe.retryAfterMillis() > 0);
+    }
+
+    @Test
+    void tryConsume_ShouldRefillOverTime() throws InterruptedException {
+        RedisRateLimiter limiter = nodes.getFirst();
+        Duration refillPeriod = Duration.ofMillis(200);
+
+        assertTrue(limiter.tryConsume("rate-limit:ip:refill", 1, refillPeriod, 1).consumed());
+        assertFalse(limiter.tryConsume("rate-limit:ip:refill", 1, refillPeriod, 1).consumed());
+
+        Thread.sleep(250);
+
+        assertTrue(limiter.tryConsume("rate-limit:ip:refill", 1, refillPeriod, 1).consumed());
+    }
+
+    @Test
+    void claim_ShouldGrantPartialBatchAndAcceptRefunds() {
+        RedisRateLimiter limiter = nodes.getFirst();
+        Duration refillPeriod = Duration.ofHours(1);
+
+        assertEquals(5, limiter.claim("rate-limit:ip:batch", 7, refillPeriod, 5).consumedTokens());
+        assertEquals(2, limiter.claim("rate-limit:ip:batch", 7, refillPeriod, 5).consumedTokens());
+        assertFalse(limiter.claim("rate-limit:ip:batch", 7, refillPeriod, 5).consumed());
+
+        limiter.refund("rate-limit:ip:batch", 7, refillPeriod, 3);
+
+        assertEquals(3, limiter.claim("rate-limit:ip:batch", 7, refillPeriod, 5).consumedTokens());
+    }
+
+    @Test
+    void tryConsume_ShouldShareQuotaAcrossNodesUnderConcurrency() throws Exception {
+        int capacity = 50;
+        int requestsPerNode = 100;
+        AtomicInteger consumed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(NODES * 4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (RedisRateLimiter node : nodes) {
+                for (int worker = 0; worker < 4; worker++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < requestsPerNode / 4; i++) {
+                            if (node.tryConsume("rate-limit:user:shared", capacity, Duration.ofHours(1), 1).consumed()) {
+                                consumed.incrementAndGet();
+                            }
+                        }
+                        return null;
+                    }));
+                }
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(capacity, consumed.get(), "Only the shared capacity should be consumed across all nodes");
+    }
+}
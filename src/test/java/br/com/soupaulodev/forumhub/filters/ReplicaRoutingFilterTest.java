@@ -0,0 +1,102 @@
+package br.com.soupaulodev.forumhub.filters;
+
+import br.com.soupaulodev.forumhub.config.ReplicaRoutingDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the {@link ReplicaRoutingFilter}.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class ReplicaRoutingFilterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private ReplicaRoutingFilter filter;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ReplicaRoutingFilter(Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC));
+        response = new MockHttpServletResponse();
+        chain = mock(FilterChain.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void doFilterInternal_ShouldAllowReplicaReads_ForGetRequests() throws ServletException, IOException {
+        MockHttpServletRequest request = request("GET");
+
+        filter.doFilterInternal(request, response, chain);
+
+        assertTrue(ReplicaRoutingDataSource.replicaReadsAllowed());
+        assertNull(response.getCookie(ReplicaRoutingFilter.READ_PRIMARY_COOKIE_NAME));
+        verify(chain).doFilter(request, response);
+    }
+
+    @Test
+    void doFilterInternal_ShouldMarkTheClient_WhenItWrites() throws ServletException, IOException {
+        MockHttpServletRequest request = request("POST");
+
+        filter.doFilterInternal(request, response, chain);
+
+        Cookie cookie = response.getCookie(ReplicaRoutingFilter.READ_PRIMARY_COOKIE_NAME);
+        assertNotNull(cookie);
+        assertEquals(String.valueOf(NOW.plusSeconds(5).toEpochMilli()), cookie.getValue());
+        assertEquals(5, cookie.getMaxAge());
+        assertTrue(cookie.isHttpOnly());
+        assertFalse(ReplicaRoutingDataSource.replicaReadsAllowed());
+        verify(chain).doFilter(request, response);
+    }
+
+    @Test
+    void doFilterInternal_ShouldReadFromThePrimary_RightAfterAWrite() throws ServletException, IOException {
+        MockHttpServletRequest request = request("GET");
+        request.setCookies(new Cookie(ReplicaRoutingFilter.READ_PRIMARY_COOKIE_NAME,
+                String.valueOf(NOW.plusSeconds(1).toEpochMilli())));
+
+        filter.doFilterInternal(request, response, chain);
+
+        assertFalse(ReplicaRoutingDataSource.replicaReadsAllowed());
+    }
+
+    @Test
+    void doFilterInternal_ShouldAllowReplicaReads_OnceTheWindowIsOver() throws ServletException, IOException {
+        MockHttpServletRequest request = request("GET");
+        request.setCookies(new Cookie(ReplicaRoutingFilter.READ_PRIMARY_COOKIE_NAME,
+                String.valueOf(NOW.minusSeconds(1).toEpochMilli())));
+
+        filter.doFilterInternal(request, response, chain);
+
+        assertTrue(ReplicaRoutingDataSource.replicaReadsAllowed());
+    }
+
+    private static MockHttpServletRequest request(String method) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v1/topics/all");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        return request;
+    }
+}
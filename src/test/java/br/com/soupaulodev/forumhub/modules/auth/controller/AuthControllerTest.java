@@ -3,6 +3,7 @@ package br.com.soupaulodev.forumhub.modules.auth.controller;
 import br.com.soupaulodev.forumhub.modules.auth.controller.dto.LoginRequestDTO;
 import br.com.soupaulodev.forumhub.modules.auth.usecase.LoginUseCase;
 import br.com.soupaulodev.forumhub.modules.auth.usecase.LogoutUseCase;
+import br.com.soupaulodev.forumhub.modules.auth.usecase.RefreshTokenUseCase;
 import br.com.soupaulodev.forumhub.modules.auth.usecase.SignUpUseCase;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.OwnerOfDTO;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.ParticipatesInDTO;
@@ -16,6 +17,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -27,6 +29,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 /**
@@ -52,6 +55,9 @@ class AuthControllerTest {
     @Mock
     private LogoutUseCase logoutUseCase;
 
+    @Mock
+    private RefreshTokenUseCase refreshTokenUseCase;
+
     @InjectMocks
     private AuthController authController;
 
@@ -69,11 +75,11 @@ class AuthControllerTest {
     void shouldLoginUserSuccessfully() {
         LoginRequestDTO loginRequestDTO = new LoginRequestDTO("username", "password");
         Cookie cookie = new Cookie("JWT_TOKEN", "mock-token");
-        when(loginUseCase.execute(any(LoginRequestDTO.class))).thenReturn(cookie);
+        when(loginUseCase.execute(any(LoginRequestDTO.class), eq("127.0.0.1"))).thenReturn(List.of(cookie));
 
         MockHttpServletResponse response = new MockHttpServletResponse();
 
-        ResponseEntity<String> result = authController.login(loginRequestDTO, response);
+        ResponseEntity<String> result = authController.login(loginRequestDTO, new MockHttpServletRequest(), response);
 
         assertEquals(200, result.getStatusCode().value(), "Response status should be 200 OK");
         assertTrue(response.containsHeader("Set-Cookie"), "Response should contain Set-Cookie header");
@@ -104,14 +110,15 @@ class AuthControllerTest {
         Cookie cookie = new Cookie("JWT_TOKEN", "mock-token");
         Map<String, Object> String = Map.of(
                 "user", userDetailsResponseDTO,
-                "cookie", cookie
+                "cookie", cookie,
+                "refreshCookie", new Cookie("REFRESH_TOKEN", "mock-refresh-token")
         );
 
-        when(signUpUseCase.execute(any(UserCreateRequestDTO.class))).thenReturn(String);
+        when(signUpUseCase.execute(any(UserCreateRequestDTO.class), eq("127.0.0.1"))).thenReturn(String);
 
         MockHttpServletResponse response = new MockHttpServletResponse();
 
-        ResponseEntity<UserDetailsResponseDTO> result = authController.signUp(requestDTO, response);
+        ResponseEntity<UserDetailsResponseDTO> result = authController.signUp(requestDTO, new MockHttpServletRequest(), response);
 
         assertEquals(200, result.getStatusCode().value(), "Response status should be 200 OK");
         assertTrue(response.containsHeader("Set-Cookie"), "Response should contain Set-Cookie header");
@@ -124,14 +131,29 @@ class AuthControllerTest {
     void shouldLogoutUserSuccessfully() {
         Cookie logoutCookie = new Cookie("JWT_TOKEN", null);
         logoutCookie.setMaxAge(0);
-        when(logoutUseCase.execute()).thenReturn(logoutCookie);
+        when(logoutUseCase.execute("valid-token", "refresh-token")).thenReturn(List.of(logoutCookie));
 
         MockHttpServletResponse response = new MockHttpServletResponse();
 
-        ResponseEntity<Void> result = authController.logout(response);
+        ResponseEntity<Void> result = authController.logout("valid-token", "refresh-token", response);
 
         assertEquals(200, result.getStatusCode().value(), "Response status should be 200 OK");
         assertTrue(response.containsHeader("Set-Cookie"), "Response should contain Set-Cookie header for logout");
         assertNull(Objects.requireNonNull(response.getCookie("JWT_TOKEN")).getValue(), "Logout cookie value should be null");
     }
+
+    @Test
+    void shouldRefreshTokenSuccessfully() {
+        Cookie jwtCookie = new Cookie("JWT_TOKEN", "new-token");
+        Cookie refreshCookie = new Cookie("REFRESH_TOKEN", "new-refresh-token");
+        when(refreshTokenUseCase.execute("refresh-token")).thenReturn(List.of(jwtCookie, refreshCookie));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ResponseEntity<Void> result = authController.refresh("refresh-token", response);
+
+        assertEquals(200, result.getStatusCode().value(), "Response status should be 200 OK");
+        assertEquals("new-token", Objects.requireNonNull(response.getCookie("JWT_TOKEN")).getValue());
+        assertEquals("new-refresh-token", Objects.requireNonNull(response.getCookie("REFRESH_TOKEN")).getValue());
+    }
 }
@@ -1,9 +1,13 @@
 package br.com.soupaulodev.forumhub.modules.auth.usecase;
 
 import br.com.soupaulodev.forumhub.modules.auth.controller.dto.LoginRequestDTO;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.RateLimitExceededException;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.security.LoginAttemptLimiter;
+import br.com.soupaulodev.forumhub.security.RefreshTokenService;
 import br.com.soupaulodev.forumhub.security.utils.CookieUtil;
+import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
 import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +20,8 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -42,6 +48,15 @@ class LoginUseCaseTest {
     @Mock
     private CookieUtil cookieUtil;
 
+    @Mock
+    private LoginAttemptLimiter loginAttemptLimiter;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
     @InjectMocks
     private LoginUseCase loginUseCase;
 
@@ -60,16 +75,23 @@ class LoginUseCaseTest {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(null);
         when(userRepository.findByUsername("validUser")).thenReturn(Optional.of(userEntity));
+        Cookie mockRefreshCookie = new Cookie("refresh", "mockRefreshToken");
         when(cookieUtil.generateCookieWithToken(userEntity)).thenReturn(mockCookie);
+        when(refreshTokenService.issue(userEntity.getId().toString(), "validUser")).thenReturn("mockRefreshToken");
+        when(jwtUtil.getRefreshExpiration()).thenReturn(Duration.ofDays(30));
+        when(cookieUtil.generateRefreshCookie("mockRefreshToken", Duration.ofDays(30))).thenReturn(mockRefreshCookie);
 
-        Cookie result = loginUseCase.execute(requestDTO);
+        List<Cookie> result = loginUseCase.execute(requestDTO, "127.0.0.1");
 
         assertNotNull(result);
-        assertEquals("auth", result.getName());
-        assertEquals("mockToken", result.getValue());
+        assertEquals(List.of(mockCookie, mockRefreshCookie), result);
+        assertEquals("auth", result.getFirst().getName());
+        assertEquals("mockToken", result.getFirst().getValue());
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(userRepository).findByUsername("validUser");
         verify(cookieUtil).generateCookieWithToken(userEntity);
+        verify(loginAttemptLimiter).checkAllowed("127.0.0.1", "validUser");
+        verify(loginAttemptLimiter).recordSuccess("validUser");
     }
 
     @Test
@@ -81,12 +103,29 @@ class LoginUseCaseTest {
 
         BadCredentialsException exception = assertThrows(
                 BadCredentialsException.class,
-                () -> loginUseCase.execute(requestDTO)
+                () -> loginUseCase.execute(requestDTO, "127.0.0.1")
         );
         assertEquals("Invalid username or password", exception.getMessage());
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(userRepository, never()).findByUsername(anyString());
         verify(cookieUtil, never()).generateCookieWithToken(any());
+        verify(loginAttemptLimiter).recordFailure("127.0.0.1", "invalidUser");
+        verify(loginAttemptLimiter, never()).recordSuccess(anyString());
+    }
+
+    @Test
+    void execute_TooManyAttempts_ThrowsRateLimitExceededBeforeAuthenticating() {
+        LoginRequestDTO requestDTO = new LoginRequestDTO("user", "password");
+
+        doThrow(new RateLimitExceededException("Too many login attempts. Try again later.", 4))
+                .when(loginAttemptLimiter).checkAllowed("127.0.0.1", "user");
+
+        RateLimitExceededException exception = assertThrows(
+                RateLimitExceededException.class,
+                () -> loginUseCase.execute(requestDTO, "127.0.0.1")
+        );
+        assertEquals(4, exception.getRetryAfterSeconds());
+        verify(authenticationManager, never()).authenticate(any());
     }
 
     @Test
@@ -99,7 +138,7 @@ class LoginUseCaseTest {
 
         UsernameNotFoundException exception = assertThrows(
                 UsernameNotFoundException.class,
-                () -> loginUseCase.execute(requestDTO)
+                () -> loginUseCase.execute(requestDTO, "127.0.0.1")
         );
         assertEquals("User not found", exception.getMessage());
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
@@ -116,7 +155,7 @@ class LoginUseCaseTest {
 
         BadCredentialsException exception = assertThrows(
                 BadCredentialsException.class,
-                () -> loginUseCase.execute(requestDTO)
+                () -> loginUseCase.execute(requestDTO, "127.0.0.1")
         );
         assertEquals("Invalid username or password", exception.getMessage());
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
@@ -1,10 +1,17 @@
 package br.com.soupaulodev.forumhub.modules.auth.usecase;
 
+import br.com.soupaulodev.forumhub.security.RefreshTokenService;
+import br.com.soupaulodev.forumhub.security.TokenRevocationService;
+import br.com.soupaulodev.forumhub.security.utils.JwtClaims;
+import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
 import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 /**
  * Test class for the LogoutUseCase class.
@@ -18,15 +25,21 @@ import static org.junit.jupiter.api.Assertions.*;
 class LogoutUseCaseTest {
 
     private LogoutUseCase logoutUseCase;
+    private JwtUtil jwtUtil;
+    private TokenRevocationService tokenRevocationService;
+    private RefreshTokenService refreshTokenService;
 
     @BeforeEach
     void setUp() {
-        logoutUseCase = new LogoutUseCase();
+        jwtUtil = mock(JwtUtil.class);
+        tokenRevocationService = mock(TokenRevocationService.class);
+        refreshTokenService = mock(RefreshTokenService.class);
+        logoutUseCase = new LogoutUseCase(jwtUtil, tokenRevocationService, refreshTokenService);
     }
 
     @Test
     void execute_ReturnsExpiredCookie() {
-        Cookie cookie = logoutUseCase.execute();
+        Cookie cookie = logoutUseCase.execute("valid-token", "refresh-token").getFirst();
 
         assertNotNull(cookie, "Cookie should not be null");
         assertEquals("JWT_TOKEN", cookie.getName(), "Cookie name should be JWT_TOKEN");
@@ -36,4 +49,47 @@ class LogoutUseCaseTest {
         assertTrue(cookie.getSecure(), "Cookie should have Secure flag set to true");
         assertEquals("/", cookie.getPath(), "Cookie should be accessible for the root path");
     }
+
+    @Test
+    void execute_ReturnsExpiredRefreshCookie() {
+        Cookie cookie = logoutUseCase.execute("valid-token", "refresh-token").get(1);
+
+        assertEquals("REFRESH_TOKEN", cookie.getName(), "Cookie name should be REFRESH_TOKEN");
+        assertNull(cookie.getValue(), "Cookie value should be null");
+        assertEquals(0, cookie.getMaxAge(), "Cookie should have max age set to 0 (expired)");
+        assertEquals("/api/v1/auth", cookie.getPath(), "Cookie path should match the refresh cookie path");
+    }
+
+    @Test
+    void execute_RevokesAccessToken() {
+        JwtClaims claims = new JwtClaims("12345", "testuser", Instant.now().plusSeconds(60));
+        when(jwtUtil.verify("valid-token")).thenReturn(claims);
+
+        logoutUseCase.execute("valid-token", null);
+
+        verify(tokenRevocationService).revoke("valid-token", claims);
+    }
+
+    @Test
+    void execute_WithInvalidToken_DoesNotRevokeIt() {
+        when(jwtUtil.verify("invalid-token")).thenThrow(new IllegalArgumentException("Invalid token."));
+
+        logoutUseCase.execute("invalid-token", null);
+
+        verifyNoInteractions(tokenRevocationService);
+    }
+
+    @Test
+    void execute_RevokesRefreshTokenFamily() {
+        logoutUseCase.execute(null, "refresh-token");
+
+        verify(refreshTokenService).revoke("refresh-token");
+    }
+
+    @Test
+    void execute_WithoutToken_RevokesNothing() {
+        logoutUseCase.execute(null, null);
+
+        verifyNoInteractions(jwtUtil, tokenRevocationService, refreshTokenService);
+    }
 }
@@ -0,0 +1,67 @@
+package br.com.soupaulodev.forumhub.modules.auth.usecase;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
+import br.com.soupaulodev.forumhub.security.RefreshTokenService;
+import br.com.soupaulodev.forumhub.security.utils.CookieUtil;
+import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the RefreshTokenUseCase class.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class RefreshTokenUseCaseTest {
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private CookieUtil cookieUtil;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @InjectMocks
+    private RefreshTokenUseCase refreshTokenUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void execute_ValidRefreshToken_ReturnsNewCookies() {
+        Cookie jwtCookie = new Cookie("JWT_TOKEN", "new-token");
+        Cookie refreshCookie = new Cookie("REFRESH_TOKEN", "new-refresh-token");
+        when(refreshTokenService.rotate("refresh-token"))
+                .thenReturn(new RefreshTokenService.TokenPair("new-token", "new-refresh-token"));
+        when(jwtUtil.getRefreshExpiration()).thenReturn(Duration.ofDays(30));
+        when(cookieUtil.generateCookieWithJwt("new-token")).thenReturn(jwtCookie);
+        when(cookieUtil.generateRefreshCookie("new-refresh-token", Duration.ofDays(30))).thenReturn(refreshCookie);
+
+        List<Cookie> result = refreshTokenUseCase.execute("refresh-token");
+
+        assertEquals(List.of(jwtCookie, refreshCookie), result);
+    }
+
+    @Test
+    void execute_ReusedRefreshToken_ThrowsUnauthorizedException() {
+        when(refreshTokenService.rotate("reused-token"))
+                .thenThrow(new UnauthorizedException("Unauthorized: Refresh token reused."));
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenUseCase.execute("reused-token"));
+        verifyNoInteractions(cookieUtil);
+    }
+}
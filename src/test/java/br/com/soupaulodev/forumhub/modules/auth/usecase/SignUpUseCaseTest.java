@@ -4,7 +4,10 @@ import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceAlreadyExis
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.security.LoginAttemptLimiter;
+import br.com.soupaulodev.forumhub.security.RefreshTokenService;
 import br.com.soupaulodev.forumhub.security.utils.CookieUtil;
+import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
 import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,9 +16,12 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -38,6 +44,15 @@ class SignUpUseCaseTest {
     @Mock
     private CookieUtil cookieUtil;
 
+    @Mock
+    private LoginAttemptLimiter loginAttemptLimiter;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
     @InjectMocks
     private SignUpUseCase signUpUseCase;
 
@@ -53,6 +68,10 @@ class SignUpUseCaseTest {
         when(userRepository.existsByUsername(requestDTO.username())).thenReturn(false);
         when(passwordEncoder.encode(requestDTO.password())).thenReturn("encodedPassword");
         when(cookieUtil.generateCookieWithToken(any(UserEntity.class))).thenReturn(new Cookie("token", "jwtToken"));
+        when(refreshTokenService.issue(anyString(), eq(requestDTO.username()))).thenReturn("refreshToken");
+        when(jwtUtil.getRefreshExpiration()).thenReturn(Duration.ofDays(30));
+        when(cookieUtil.generateRefreshCookie("refreshToken", Duration.ofDays(30)))
+                .thenReturn(new Cookie("refresh", "refreshToken"));
 
         UserEntity savedUser = new UserEntity();
         savedUser.setUsername(requestDTO.username());
@@ -60,11 +79,12 @@ class SignUpUseCaseTest {
         savedUser.setName(requestDTO.name());
         savedUser.setEmail(requestDTO.email());
 
-        Map<String, Object> result = signUpUseCase.execute(requestDTO);
+        Map<String, Object> result = signUpUseCase.execute(requestDTO, "127.0.0.1");
 
         assertNotNull(result);
         assertTrue(result.containsKey("user"));
         assertTrue(result.containsKey("cookie"));
+        assertTrue(result.containsKey("refreshCookie"));
 
         verify(userRepository, times(1)).save(any(UserEntity.class));
         verify(cookieUtil, times(1)).generateCookieWithToken(any(UserEntity.class));
@@ -77,12 +97,13 @@ class SignUpUseCaseTest {
         when(userRepository.existsByUsername(requestDTO.username())).thenReturn(true);
 
         ResourceAlreadyExistsException exception = assertThrows(ResourceAlreadyExistsException.class, () ->
-                signUpUseCase.execute(requestDTO)
+                signUpUseCase.execute(requestDTO, "127.0.0.1")
         );
 
         assertEquals("Username already exists", exception.getMessage());
 
         verify(userRepository, never()).save(any(UserEntity.class));
         verify(cookieUtil, never()).generateCookieWithToken(any(UserEntity.class));
+        verify(loginAttemptLimiter).recordSignupFailure("127.0.0.1", requestDTO.username());
     }
 }
@@ -4,10 +4,10 @@ import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentCreateR
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
 import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentUpdateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.comment.usecase.*;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.ResponseEntity;
@@ -52,12 +52,20 @@ class CommentControllerTest {
     @Mock
     private Authentication authentication;
 
-    @InjectMocks
+    private static final int MAX_PAGE_SIZE = 100;
+
     private CommentController commentController;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        commentController = new CommentController(createCommentUseCase,
+                                                  listCommentsUseCase,
+                                                  updateCommentUseCase,
+                                                  deleteCommentUseCase,
+                                                  highCommentUseCase,
+                                                  unHighCommentUseCase,
+                                                  MAX_PAGE_SIZE);
         SecurityContextHolder.setContext(securityContext);
         when(securityContext.getAuthentication()).thenReturn(authentication);
     }
@@ -115,13 +123,14 @@ class CommentControllerTest {
         );
 
         when(authentication.getPrincipal()).thenReturn(userId.toString());
-        when(listCommentsUseCase.execute(0, 10)).thenReturn(List.of(responseDTO));
+        CursorPage<CommentResponseDTO> page = new CursorPage<>(List.of(responseDTO), null);
+        when(listCommentsUseCase.execute(null, 10)).thenReturn(page);
 
-        ResponseEntity<List<CommentResponseDTO>> response = commentController.listComments(0, 10);
+        ResponseEntity<CursorPage<CommentResponseDTO>> response = commentController.listComments(null, 10);
 
         assertEquals(200, response.getStatusCode().value());
-        assertEquals(List.of(responseDTO), response.getBody());
-        verify(listCommentsUseCase, times(1)).execute(0, 10);
+        assertEquals(page, response.getBody());
+        verify(listCommentsUseCase, times(1)).execute(null, 10);
     }
 
     @Test
@@ -191,4 +200,13 @@ class CommentControllerTest {
         assertEquals(204, response.getStatusCode().value());
         verify(unHighCommentUseCase, times(1)).execute(commentId, userId);
     }
+
+    @Test
+    void listComments_ShouldReduceTheSizeToTheMaximum() {
+        when(listCommentsUseCase.execute(null, MAX_PAGE_SIZE)).thenReturn(new CursorPage<>(List.of(), null));
+
+        commentController.listComments(null, 1000);
+
+        verify(listCommentsUseCase).execute(null, MAX_PAGE_SIZE);
+    }
 }
@@ -0,0 +1,157 @@
+package br.com.soupaulodev.forumhub.modules.comment.repository;
+
+import br.com.soupaulodev.forumhub.config.HibernateCacheConfig;
+import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
+import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounterBuffer;
+import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
+import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the native queries of the {@link CommentRepository}, run against the H2 database of the {@code test}
+ * profile in PostgreSQL mode.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@DataJpaTest
+@ActiveProfiles({"dev", "test"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(HibernateCacheConfig.class)
+class CommentRepositoryTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private HighsCounterBuffer highsCounterBuffer;
+
+    private UserEntity user;
+    private TopicEntity topic;
+    private CommentEntity root;
+    private CommentEntity firstReply;
+    private CommentEntity secondReply;
+    private CommentEntity thirdReply;
+    private CommentEntity nestedReply;
+    private CommentEntity otherRoot;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(new UserEntity("Comments", "comments", "comments@forumhub.com", "secret"));
+        ForumEntity forum = entityManager.persist(new ForumEntity("Forum", "Description", user));
+        topic = entityManager.persist(new TopicEntity("Topic", "Content", user, forum));
+
+        root = comment(null);
+        firstReply = comment(root);
+        secondReply = comment(root);
+        thirdReply = comment(root);
+        nestedReply = comment(firstReply);
+        otherRoot = comment(null);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findThread_ShouldLoadEveryCommentOfTheTopicLevelByLevel() {
+        List<CommentRow> rows = commentRepository.findThread(topic.getId(), 20, 100);
+
+        assertEquals(ids(root, otherRoot, firstReply, secondReply, thirdReply, nestedReply), ids(rows));
+        CommentRow reply = rows.get(2);
+        assertEquals(root.getId(), reply.parentCommentId());
+        assertEquals(user.getId(), reply.userId());
+        assertEquals(topic.getId(), reply.topicId());
+        assertEquals("Comment", reply.content());
+        assertEquals(0L, reply.highs());
+        assertNotNull(reply.createdAt());
+        assertNotNull(reply.updatedAt());
+    }
+
+    @Test
+    void findThread_ShouldStopAtTheMaximumDepth() {
+        List<CommentRow> rows = commentRepository.findThread(topic.getId(), 1, 100);
+
+        assertEquals(ids(root, otherRoot, firstReply, secondReply, thirdReply), ids(rows));
+    }
+
+    @Test
+    void findThread_ShouldKeepOnlyTheOldestRepliesOfEachComment() {
+        List<CommentRow> rows = commentRepository.findThread(topic.getId(), 20, 2);
+
+        assertEquals(ids(root, otherRoot, firstReply, secondReply, nestedReply), ids(rows));
+    }
+
+    @Test
+    void findThread_ShouldKeepOnlyTheOldestRootComments() {
+        List<CommentRow> rows = commentRepository.findThread(topic.getId(), 20, 1);
+
+        assertEquals(ids(root, firstReply, nestedReply), ids(rows));
+    }
+
+    @Test
+    void findSubtree_ShouldLoadTheCommentAndItsReplies() {
+        List<CommentRow> rows = commentRepository.findSubtree(topic.getId(), firstReply.getId(), 20, 100);
+
+        assertEquals(ids(firstReply, nestedReply), ids(rows));
+    }
+
+    @Test
+    void findSubtree_ShouldBeEmpty_WhenTheCommentIsNotInTheTopic() {
+        assertTrue(commentRepository.findSubtree(UUID.randomUUID(), firstReply.getId(), 20, 100).isEmpty());
+    }
+
+    @Test
+    void findPagesOfTopic_ShouldPageTheRootCommentsWithTheirRepliesCount() {
+        List<RootCommentRow> firstPage = commentRepository.findFirstPageOfTopic(topic.getId(), Limit.of(1));
+        RootCommentRow last = firstPage.getLast();
+        List<RootCommentRow> nextPage = commentRepository.findPageOfTopicAfter(
+                topic.getId(), last.createdAt(), last.id(), Limit.of(1));
+
+        assertEquals(List.of(otherRoot.getId()), firstPage.stream().map(RootCommentRow::id).toList());
+        assertEquals(0L, last.repliesCount());
+        assertEquals(List.of(root.getId()), nextPage.stream().map(RootCommentRow::id).toList());
+        assertEquals(3L, nextPage.getFirst().repliesCount());
+    }
+
+    @Test
+    void findFirstRepliesOf_ShouldLoadTheOldestRepliesOfEachComment() {
+        List<CommentRow> rows = commentRepository.findFirstRepliesOf(
+                List.of(root.getId(), firstReply.getId(), otherRoot.getId()), 2);
+
+        assertEquals(ids(firstReply, secondReply, nestedReply), ids(rows));
+        CommentRow reply = rows.getFirst();
+        assertEquals(root.getId(), reply.parentCommentId());
+        assertEquals(user.getId(), reply.userId());
+        assertNotNull(reply.createdAt());
+        assertNotNull(reply.updatedAt());
+    }
+
+    private CommentEntity comment(CommentEntity parent) {
+        return entityManager.persist(new CommentEntity("Comment", user, topic, parent));
+    }
+
+    private static List<UUID> ids(CommentEntity... comments) {
+        return Arrays.stream(comments).map(CommentEntity::getId).toList();
+    }
+
+    private static List<UUID> ids(List<CommentRow> rows) {
+        return rows.stream().map(CommentRow::id).toList();
+    }
+}
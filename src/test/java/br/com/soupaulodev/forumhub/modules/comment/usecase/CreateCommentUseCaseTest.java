@@ -7,6 +7,8 @@ import br.com.soupaulodev.forumhub.modules.comment.mapper.CommentMapper;
 import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumParticipantRepository;
 import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
 import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
@@ -41,12 +43,19 @@ class CreateCommentUseCaseTest {
     @Mock
     private TopicRepository topicRepository;
 
+    @Mock
+    private ForumParticipantRepository forumParticipantRepository;
+
     @InjectMocks
     private CreateCommentUseCase createCommentUseCase;
 
+    private final UUID forumId = UUID.randomUUID();
+    private final ForumEntity forum = new ForumEntity();
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        forum.setId(forumId);
     }
 
     @Test
@@ -67,7 +76,8 @@ class CreateCommentUseCaseTest {
         when(comment.getId()).thenReturn(commentId);
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(topicRepository.findById(topicId)).thenReturn(Optional.of(topic));
-        when(user.participatingInForum(any())).thenReturn(true);
+        when(topic.getForum()).thenReturn(forum);
+        when(forumParticipantRepository.isParticipant(forumId, userId)).thenReturn(true);
         when(commentMapper.toEntity(requestDTO, user, topic, null)).thenReturn(comment);
         when(commentMapper.toResponseDTO(comment)).thenReturn(responseDTO);
 
@@ -114,7 +124,8 @@ class CreateCommentUseCaseTest {
         when(requestDTO.topicId()).thenReturn(topicId.toString());
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(topicRepository.findById(topicId)).thenReturn(Optional.of(topic));
-        when(user.participatingInForum(any())).thenReturn(false);
+        when(topic.getForum()).thenReturn(forum);
+        when(forumParticipantRepository.isParticipant(forumId, userId)).thenReturn(false);
 
         assertThrows(ForbiddenException.class, () -> createCommentUseCase.execute(requestDTO, userId));
     }
@@ -133,7 +144,8 @@ class CreateCommentUseCaseTest {
         when(requestDTO.parentCommentId()).thenReturn(parentCommentId.toString());
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(topicRepository.findById(topicId)).thenReturn(Optional.of(topic));
-        when(user.participatingInForum(any())).thenReturn(true);
+        when(topic.getForum()).thenReturn(forum);
+        when(forumParticipantRepository.isParticipant(forumId, userId)).thenReturn(true);
         when(commentRepository.findById(parentCommentId)).thenReturn(Optional.of(parentComment));
         when(parentComment.getTopic()).thenReturn(mock(TopicEntity.class));
 
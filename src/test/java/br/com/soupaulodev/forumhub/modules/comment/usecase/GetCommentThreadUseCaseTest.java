@@ -0,0 +1,98 @@
+package br.com.soupaulodev.forumhub.modules.comment.usecase;
+
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.mapper.CommentMapper;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRow;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounterBuffer;
+import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class GetCommentThreadUseCaseTest {
+
+    private static final int MAX_DEPTH = 5;
+    private static final int MAX_REPLIES = 2;
+
+    private CommentRepository commentRepository;
+    private HighsCounterBuffer highsCounterBuffer;
+    private TopicRepository topicRepository;
+    private GetCommentThreadUseCase getCommentThreadUseCase;
+
+    private final UUID topicId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        commentRepository = mock(CommentRepository.class);
+        highsCounterBuffer = mock(HighsCounterBuffer.class);
+        topicRepository = mock(TopicRepository.class);
+        getCommentThreadUseCase = new GetCommentThreadUseCase(
+                new CommentMapper(highsCounterBuffer), commentRepository, topicRepository, MAX_DEPTH, MAX_REPLIES);
+    }
+
+    @Test
+    void execute_ShouldAssembleTheWholeThreadFromASingleQuery() {
+        CommentRow root = row(null);
+        CommentRow otherRoot = row(null);
+        CommentRow reply = row(root.id());
+        CommentRow nestedReply = row(reply.id());
+        when(topicRepository.existsById(topicId)).thenReturn(true);
+        when(commentRepository.findThread(topicId, MAX_DEPTH, MAX_REPLIES)).thenReturn(List.of(root, otherRoot, reply, nestedReply));
+
+        List<CommentResponseDTO> thread = getCommentThreadUseCase.execute(topicId, null);
+
+        assertEquals(List.of(root.id(), otherRoot.id()), thread.stream().map(CommentResponseDTO::id).toList());
+        CommentResponseDTO replyDTO = thread.getFirst().replies().getFirst();
+        assertEquals(reply.id(), replyDTO.id());
+        assertEquals(nestedReply.id(), replyDTO.replies().getFirst().id());
+        assertTrue(thread.getLast().replies().isEmpty());
+        verify(commentRepository).findThread(topicId, MAX_DEPTH, MAX_REPLIES);
+        verifyNoMoreInteractions(commentRepository);
+    }
+
+    @Test
+    void execute_ShouldStartTheSubtreeAtTheGivenReply() {
+        CommentRow reply = row(UUID.randomUUID());
+        CommentRow nestedReply = row(reply.id());
+        when(commentRepository.findSubtree(topicId, reply.id(), MAX_DEPTH, MAX_REPLIES)).thenReturn(List.of(reply, nestedReply));
+
+        List<CommentResponseDTO> thread = getCommentThreadUseCase.execute(topicId, reply.id());
+
+        assertEquals(1, thread.size());
+        assertEquals(reply.id(), thread.getFirst().id());
+        assertEquals(nestedReply.id(), thread.getFirst().replies().getFirst().id());
+        verifyNoInteractions(topicRepository);
+    }
+
+    @Test
+    void execute_ShouldThrowResourceNotFoundException_WhenTheTopicDoesNotExist() {
+        when(topicRepository.existsById(topicId)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> getCommentThreadUseCase.execute(topicId, null));
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void execute_ShouldThrowResourceNotFoundException_WhenTheCommentIsNotInTheTopic() {
+        UUID commentId = UUID.randomUUID();
+        when(commentRepository.findSubtree(topicId, commentId, MAX_DEPTH, MAX_REPLIES)).thenReturn(List.of());
+
+        assertThrows(ResourceNotFoundException.class, () -> getCommentThreadUseCase.execute(topicId, commentId));
+    }
+
+    private CommentRow row(UUID parentCommentId) {
+        Instant now = Instant.now();
+        return new CommentRow(UUID.randomUUID(), "Comment", UUID.randomUUID(), topicId, 0L, parentCommentId, now, now);
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.soupaulodev.forumhub.modules.comment.usecase;
+
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.mapper.CommentMapper;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRow;
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounterBuffer;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class ListCommentsUseCaseTest {
+
+    private CommentRepository commentRepository;
+    private HighsCounterBuffer highsCounterBuffer;
+    private ListCommentsUseCase listCommentsUseCase;
+
+    private final UUID topicId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        commentRepository = mock(CommentRepository.class);
+        highsCounterBuffer = mock(HighsCounterBuffer.class);
+        listCommentsUseCase = new ListCommentsUseCase(
+                new CommentMapper(highsCounterBuffer), commentRepository);
+    }
+
+    @Test
+    void execute_ShouldLoadTheRepliesOneLevelAtATime() {
+        CommentRow root = row(null);
+        CommentRow reply = row(root.id());
+        CommentRow nestedReply = row(reply.id());
+        when(commentRepository.findFirstPage(Limit.of(11))).thenReturn(List.of(root));
+        when(commentRepository.findRepliesOf(List.of(root.id()))).thenReturn(List.of(reply));
+        when(commentRepository.findRepliesOf(List.of(reply.id()))).thenReturn(List.of(nestedReply));
+        when(commentRepository.findRepliesOf(List.of(nestedReply.id()))).thenReturn(List.of());
+
+        CursorPage<CommentResponseDTO> page = listCommentsUseCase.execute(null, 10);
+
+        CommentResponseDTO comment = page.content().getFirst();
+        assertEquals(root.id(), comment.id());
+        assertEquals(reply.id(), comment.replies().getFirst().id());
+        assertEquals(nestedReply.id(), comment.replies().getFirst().replies().getFirst().id());
+        assertEquals(root.id(), comment.replies().getFirst().parentCommentId());
+        verify(commentRepository, times(3)).findRepliesOf(any());
+    }
+
+    @Test
+    void execute_ShouldNotLoadRepliesOfTheExtraRootComment() {
+        CommentRow root = row(null);
+        CommentRow extraRoot = row(null);
+        when(commentRepository.findFirstPage(Limit.of(2))).thenReturn(List.of(root, extraRoot));
+        when(commentRepository.findRepliesOf(any())).thenReturn(List.of());
+
+        CursorPage<CommentResponseDTO> page = listCommentsUseCase.execute(null, 1);
+
+        assertEquals(1, page.content().size());
+        assertNotNull(page.nextCursor());
+        verify(commentRepository).findRepliesOf(List.of(root.id()));
+    }
+
+    @Test
+    void execute_ShouldNotQueryReplies_WhenThereAreNoComments() {
+        when(commentRepository.findFirstPage(Limit.of(11))).thenReturn(List.of());
+
+        CursorPage<CommentResponseDTO> page = listCommentsUseCase.execute(null, 10);
+
+        assertTrue(page.content().isEmpty());
+        verify(commentRepository, never()).findRepliesOf(any());
+    }
+
+    private CommentRow row(UUID parentCommentId) {
+        Instant now = Instant.now();
+        return new CommentRow(UUID.randomUUID(), "Comment", UUID.randomUUID(), topicId, 0L, parentCommentId, now, now);
+    }
+}
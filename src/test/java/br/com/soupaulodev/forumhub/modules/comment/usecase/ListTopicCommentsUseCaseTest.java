@@ -0,0 +1,127 @@
+package br.com.soupaulodev.forumhub.modules.comment.usecase;
+
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.TopicCommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.mapper.CommentMapper;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRepository;
+import br.com.soupaulodev.forumhub.modules.comment.repository.CommentRow;
+import br.com.soupaulodev.forumhub.modules.comment.repository.RootCommentRow;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounterBuffer;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
+import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class ListTopicCommentsUseCaseTest {
+
+    private static final int REPLIES_PER_COMMENT = 3;
+
+    private CommentRepository commentRepository;
+    private HighsCounterBuffer highsCounterBuffer;
+    private TopicRepository topicRepository;
+    private ListTopicCommentsUseCase listTopicCommentsUseCase;
+
+    private final UUID topicId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        commentRepository = mock(CommentRepository.class);
+        highsCounterBuffer = mock(HighsCounterBuffer.class);
+        topicRepository = mock(TopicRepository.class);
+        listTopicCommentsUseCase = new ListTopicCommentsUseCase(
+                new CommentMapper(highsCounterBuffer), commentRepository, topicRepository, REPLIES_PER_COMMENT);
+    }
+
+    @Test
+    void execute_ShouldLoadTheFirstRepliesOfThePageInOneQuery() {
+        RootCommentRow root = root(2L);
+        RootCommentRow rootWithoutReplies = root(0L);
+        CommentRow reply = reply(root.id());
+        CommentRow otherReply = reply(root.id());
+        when(commentRepository.findFirstPageOfTopic(topicId, Limit.of(11))).thenReturn(List.of(root, rootWithoutReplies));
+        when(commentRepository.findFirstRepliesOf(List.of(root.id()), REPLIES_PER_COMMENT))
+                .thenReturn(List.of(reply, otherReply));
+
+        CursorPage<TopicCommentResponseDTO> page = listTopicCommentsUseCase.execute(topicId, null, 10);
+
+        TopicCommentResponseDTO comment = page.content().getFirst();
+        assertEquals(2L, comment.repliesCount());
+        assertEquals(List.of(reply.id(), otherReply.id()), comment.replies().stream().map(CommentResponseDTO::id).toList());
+        assertTrue(page.content().getLast().replies().isEmpty());
+        assertNull(page.nextCursor());
+        verify(commentRepository, times(1)).findFirstRepliesOf(any(), anyInt());
+        verifyNoInteractions(topicRepository);
+    }
+
+    @Test
+    void execute_ShouldNotLoadRepliesOfTheExtraRootComment() {
+        RootCommentRow root = root(1L);
+        RootCommentRow extraRoot = root(1L);
+        when(commentRepository.findFirstPageOfTopic(topicId, Limit.of(2))).thenReturn(List.of(root, extraRoot));
+
+        CursorPage<TopicCommentResponseDTO> page = listTopicCommentsUseCase.execute(topicId, null, 1);
+
+        assertEquals(1, page.content().size());
+        assertNotNull(page.nextCursor());
+        verify(commentRepository).findFirstRepliesOf(List.of(root.id()), REPLIES_PER_COMMENT);
+    }
+
+    @Test
+    void execute_ShouldReturnAnEmptyPage_WhenTheTopicHasNoComments() {
+        when(commentRepository.findFirstPageOfTopic(topicId, Limit.of(11))).thenReturn(List.of());
+        when(topicRepository.existsById(topicId)).thenReturn(true);
+
+        CursorPage<TopicCommentResponseDTO> page = listTopicCommentsUseCase.execute(topicId, null, 10);
+
+        assertTrue(page.content().isEmpty());
+        assertNull(page.nextCursor());
+        verify(commentRepository, never()).findFirstRepliesOf(any(), anyInt());
+    }
+
+    @Test
+    void execute_ShouldThrowResourceNotFoundException_WhenTheTopicDoesNotExist() {
+        when(commentRepository.findFirstPageOfTopic(topicId, Limit.of(11))).thenReturn(List.of());
+        when(topicRepository.existsById(topicId)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> listTopicCommentsUseCase.execute(topicId, null, 10));
+    }
+
+    @Test
+    void execute_ShouldAddTheHighsNotFlushedYet() {
+        RootCommentRow root = root(1L);
+        CommentRow reply = reply(root.id());
+        when(commentRepository.findFirstPageOfTopic(topicId, Limit.of(11))).thenReturn(List.of(root));
+        when(commentRepository.findFirstRepliesOf(List.of(root.id()), REPLIES_PER_COMMENT)).thenReturn(List.of(reply));
+        when(highsCounterBuffer.pending(HighsTarget.COMMENT, root.id())).thenReturn(2L);
+        when(highsCounterBuffer.pending(HighsTarget.COMMENT, reply.id())).thenReturn(-1L);
+
+        TopicCommentResponseDTO comment = listTopicCommentsUseCase.execute(topicId, null, 10).content().getFirst();
+
+        assertEquals(2L, comment.highs());
+        assertEquals(-1L, comment.replies().getFirst().highs());
+    }
+
+    private RootCommentRow root(Long repliesCount) {
+        Instant now = Instant.now();
+        return new RootCommentRow(UUID.randomUUID(), "Comment", UUID.randomUUID(), topicId, 0L, repliesCount, now, now);
+    }
+
+    private CommentRow reply(UUID parentCommentId) {
+        Instant now = Instant.now();
+        return new CommentRow(UUID.randomUUID(), "Reply", UUID.randomUUID(), topicId, 0L, parentCommentId, now, now);
+    }
+}
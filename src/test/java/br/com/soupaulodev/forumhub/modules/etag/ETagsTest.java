@@ -0,0 +1,86 @@
+package br.com.soupaulodev.forumhub.modules.etag;
+
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.TopicCommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
+import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicDetailsResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ETags} class.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class ETagsTest {
+
+    private final UUID forumId = UUID.randomUUID();
+    private final Instant updatedAt = Instant.parse("2025-01-02T03:04:05.123456Z");
+
+    @Test
+    void of_ShouldGiveTheSameWeakTagToTheSameVersion() {
+        String tag = ETags.of(forum(updatedAt, 3L));
+
+        assertTrue(tag.matches("W/\"[0-9a-f]+\""));
+        assertEquals(tag, ETags.of(forum(updatedAt, 3L)));
+    }
+
+    @Test
+    void of_ShouldChangeTheTag_WhenTheItemIsUpdatedOrItsCountsChange() {
+        String tag = ETags.of(forum(updatedAt, 3L));
+
+        assertNotEquals(tag, ETags.of(forum(updatedAt.plusMillis(1), 3L)));
+        assertNotEquals(tag, ETags.of(forum(updatedAt, 4L)));
+    }
+
+    @Test
+    void of_ShouldChangeTheTagOfAPage_WhenAnItemChangesOrItGetsANextPage() {
+        String tag = ETags.of(new CursorPage<>(List.of(forum(updatedAt, 3L)), null));
+
+        assertNotEquals(tag, ETags.of(new CursorPage<>(List.of(forum(updatedAt, 4L)), null)));
+        assertNotEquals(tag, ETags.of(new CursorPage<>(List.of(forum(updatedAt, 3L)), "next")));
+    }
+
+    @Test
+    void of_ShouldChangeTheTagOfATopic_WhenOneOfItsCommentsIsUpdated() {
+        UUID commentId = UUID.randomUUID();
+
+        String tag = ETags.of(topic(comment(commentId, updatedAt)));
+
+        assertNotEquals(tag, ETags.of(topic(comment(commentId, updatedAt.plusSeconds(1)))));
+    }
+
+    @Test
+    void ok_ShouldTagTheResponseAndRequireRevalidation() {
+        ForumResponseDTO forum = forum(updatedAt, 3L);
+
+        ResponseEntity<ForumResponseDTO> response = ETags.ok(forum);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(forum, response.getBody());
+        assertEquals(ETags.of(forum), response.getHeaders().getETag());
+        assertEquals("no-cache", response.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL));
+    }
+
+    private ForumResponseDTO forum(Instant updatedAt, Long topicCount) {
+        return new ForumResponseDTO(forumId, "Forum", "Description", UUID.randomUUID(), 0L, 1L, topicCount,
+                this.updatedAt, updatedAt);
+    }
+
+    private TopicCommentResponseDTO comment(UUID id, Instant updatedAt) {
+        return new TopicCommentResponseDTO(id, "Comment", UUID.randomUUID(), UUID.randomUUID(), 0L, 0L, List.of(),
+                this.updatedAt, updatedAt);
+    }
+
+    private TopicDetailsResponseDTO topic(TopicCommentResponseDTO comment) {
+        return new TopicDetailsResponseDTO(UUID.nameUUIDFromBytes(new byte[]{1}), "Title", "Content", forumId,
+                UUID.randomUUID(), "creator", 0L, 1L, new CursorPage<>(List.of(comment), null), updatedAt, updatedAt);
+    }
+}
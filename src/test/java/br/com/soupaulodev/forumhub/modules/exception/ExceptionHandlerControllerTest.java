@@ -77,6 +77,27 @@ class ExceptionHandlerControllerTest {
         assertEquals("Too many requests", response.getBody());
     }
 
+    @Test
+    void shouldHandleRateLimitExceededExceptionWithRetryAfter() {
+        RateLimitExceededException exception = new RateLimitExceededException("Too many requests", 30);
+
+        ResponseEntity<?> response = exceptionHandlerController.handleRateLimitExceededException(exception);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("30", response.getHeaders().getFirst("Retry-After"));
+    }
+
+    @Test
+    void shouldHandleServiceOverloadedException() {
+        ServiceOverloadedException exception = new ServiceOverloadedException("Busy");
+
+        ResponseEntity<?> response = exceptionHandlerController.handleServiceOverloadedException(exception);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+        assertEquals("Busy", response.getBody());
+    }
+
     @Test
     void shouldHandleResourceAlreadyExistsException() {
         ResourceAlreadyExistsException exception = new ResourceAlreadyExistsException("Resource already exists");
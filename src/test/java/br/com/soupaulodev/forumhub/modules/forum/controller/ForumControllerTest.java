@@ -2,15 +2,16 @@ package br.com.soupaulodev.forumhub.modules.forum.controller;
 
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceAlreadyExistsException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.etag.ETags;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumUpdateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.forum.usecase.*;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.ResponseEntity;
@@ -54,12 +55,29 @@ class ForumControllerTest {
     @Mock
     private UnHighForumUseCase unHighForumUseCase;
 
-    @InjectMocks
+    @Mock
+    private JoinForumUseCase joinForumUseCase;
+
+    @Mock
+    private LeaveForumUseCase leaveForumUseCase;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
     private ForumController forumController;
 
     @BeforeEach
     void setUpd() {
         MockitoAnnotations.openMocks(this);
+        forumController = new ForumController(createForumUseCase,
+                                              listForumsUseCase,
+                                              getForumUseCase,
+                                              updateForumUseCase,
+                                              deleteForumUseCase,
+                                              highForumUseCase,
+                                              unHighForumUseCase,
+                                              joinForumUseCase,
+                                              leaveForumUseCase,
+                                              MAX_PAGE_SIZE);
     }
 
     @AfterEach
@@ -83,7 +101,7 @@ class ForumControllerTest {
                 "Description Example",
                 userId,
                 0L,
-                1,
+                1L,
                 0L,
                 now,
                 now);
@@ -114,7 +132,6 @@ class ForumControllerTest {
 
     @Test
     void shouldListForumsSuccessfully() {
-        int page = 0;
         int size = 2;
 
         UUID forumId = UUID.randomUUID();
@@ -126,7 +143,7 @@ class ForumControllerTest {
                         "Description Example",
                         UUID.randomUUID(),
                         0L,
-                        1,
+                        1L,
                         0L,
                         now,
                         now),
@@ -136,19 +153,20 @@ class ForumControllerTest {
                         "Description Example",
                         UUID.randomUUID(),
                         0L,
-                        1,
+                        1L,
                         0L,
                         now,
                         now));
 
-        when(listForumsUseCase.execute(page, size))
-                .thenReturn(responseDTOS);
+        CursorPage<ForumResponseDTO> page = new CursorPage<>(responseDTOS, "next-cursor");
+        when(listForumsUseCase.execute(null, size))
+                .thenReturn(page);
 
-        ResponseEntity<List<ForumResponseDTO>> response = forumController.listForums(page, size);
+        ResponseEntity<CursorPage<ForumResponseDTO>> response = forumController.listForums(null, size);
 
         assertEquals(200, response.getStatusCode().value());
-        assertEquals(responseDTOS, response.getBody());
-        assertEquals(2, Objects.requireNonNull(response.getBody()).size());
+        assertEquals(page, response.getBody());
+        assertEquals(2, Objects.requireNonNull(response.getBody()).content().size());
     }
 
     @Test
@@ -161,7 +179,7 @@ class ForumControllerTest {
                 "Description Example",
                 UUID.randomUUID(),
                 0L,
-                1,
+                1L,
                 0L,
                 now,
                 now);
@@ -172,6 +190,7 @@ class ForumControllerTest {
 
         assertEquals(200, response.getStatusCode().value());
         assertEquals(responseDTO, response.getBody());
+        assertEquals(ETags.of(responseDTO), response.getHeaders().getETag());
     }
 
     @Test
@@ -199,7 +218,7 @@ class ForumControllerTest {
                 "Description Example",
                 ownerId,
                 0L,
-                1,
+                1L,
                 0L,
                 now,
                 now);
@@ -309,4 +328,39 @@ class ForumControllerTest {
         assertEquals(204, response.getStatusCode().value());
         assertNull(response.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldJoinForumSuccessfully() {
+        UUID forumId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(userId, null));
+
+        ResponseEntity<Void> response = forumController.joinForum(forumId.toString());
+
+        assertEquals(204, response.getStatusCode().value());
+        verify(joinForumUseCase).execute(forumId, userId);
+    }
+
+    @Test
+    void shouldLeaveForumSuccessfully() {
+        UUID forumId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(userId, null));
+
+        ResponseEntity<Void> response = forumController.leaveForum(forumId.toString());
+
+        assertEquals(204, response.getStatusCode().value());
+        verify(leaveForumUseCase).execute(forumId, userId);
+    }
+
+    @Test
+    void listForums_ShouldReduceTheSizeToTheMaximum() {
+        when(listForumsUseCase.execute(null, MAX_PAGE_SIZE)).thenReturn(new CursorPage<>(List.of(), null));
+
+        forumController.listForums(null, 1000);
+
+        verify(listForumsUseCase).execute(null, MAX_PAGE_SIZE);
+    }
+}
@@ -6,7 +6,9 @@ import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumCreateReque
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
 import br.com.soupaulodev.forumhub.modules.forum.mapper.ForumMapper;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumParticipantRepository;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.pagination.ListHeadCache;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,12 +32,18 @@ class CreateForumUseCaseTest {
     @Mock
     private ForumRepository forumRepository;
 
+    @Mock
+    private ForumParticipantRepository forumParticipantRepository;
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
     private ForumMapper forumMapper;
 
+    @Mock
+    private ListHeadCache<ForumResponseDTO> forumsHeadCache;
+
     @InjectMocks
     private CreateForumUseCase createForumUseCase;
 
@@ -60,13 +68,14 @@ class CreateForumUseCaseTest {
 
         ForumEntity forumEntity = new ForumEntity();
         when(forumMapper.toEntity(requestDTO, mockUser)).thenReturn(forumEntity);
+        when(forumRepository.findById(forumEntity.getId())).thenReturn(Optional.of(forumEntity));
         ForumResponseDTO responseMock = new ForumResponseDTO(
                 UUID.randomUUID(),
                 "Test Forum",
                 "A test forum description",
                 authenticatedUserId,
                 0L,
-                1,
+                1L,
                 0L,
                 Instant.now(),
                 Instant.now()
@@ -81,7 +90,10 @@ class CreateForumUseCaseTest {
 
         verify(userRepository).findById(authenticatedUserId);
         verify(forumRepository).existsByName(requestDTO.name());
-        verify(userRepository).save(mockUser);
+        verify(userRepository).saveAndFlush(mockUser);
+        verify(forumParticipantRepository).insertIfAbsent(forumEntity.getId(), authenticatedUserId);
+        verify(forumsHeadCache).add(responseMock);
+        assertEquals(1L, forumEntity.getParticipantsCount());
     }
 
     @Test
@@ -92,7 +104,7 @@ class CreateForumUseCaseTest {
 
         verify(userRepository).findById(authenticatedUserId);
         verify(forumRepository, never()).existsByName(anyString());
-        verify(userRepository, never()).save(any(UserEntity.class));
+        verify(userRepository, never()).saveAndFlush(any(UserEntity.class));
     }
 
     @Test
@@ -104,6 +116,6 @@ class CreateForumUseCaseTest {
 
         verify(userRepository).findById(authenticatedUserId);
         verify(forumRepository).existsByName(requestDTO.name());
-        verify(userRepository, never()).save(any(UserEntity.class));
+        verify(userRepository, never()).saveAndFlush(any(UserEntity.class));
     }
 }
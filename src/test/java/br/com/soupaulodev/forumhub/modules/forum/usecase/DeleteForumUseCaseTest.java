@@ -2,18 +2,23 @@ package br.com.soupaulodev.forumhub.modules.forum.usecase;
 
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
 import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.pagination.ListHeadCache;
+import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -29,7 +34,12 @@ class DeleteForumUseCaseTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
+    @Mock
+    private ListHeadCache<ForumResponseDTO> forumsHeadCache;
+
+    @Mock
+    private ListHeadCache<TopicResponseDTO> topicsHeadCache;
+
     private DeleteForumUseCase deleteForumUseCase;
 
     private ForumEntity forumEntity;
@@ -40,6 +50,7 @@ class DeleteForumUseCaseTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        deleteForumUseCase = new DeleteForumUseCase(forumRepository, userRepository, forumsHeadCache, topicsHeadCache);
         forumId = UUID.randomUUID();
         userId = UUID.randomUUID();
 
@@ -62,7 +73,27 @@ class DeleteForumUseCaseTest {
         verify(userRepository).findById(userId);
         verify(forumRepository).delete(forumEntity);
         assertTrue(userEntity.getOwnedForums().isEmpty());
-        assertTrue(userEntity.getParticipatingForums().isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void execute_ShouldRemoveTheForumAndItsTopicsFromTheNewestItems() {
+        when(forumRepository.findById(forumId)).thenReturn(Optional.of(forumEntity));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(userEntity));
+        ArgumentCaptor<Predicate<ForumResponseDTO>> forums = ArgumentCaptor.forClass(Predicate.class);
+        ArgumentCaptor<Predicate<TopicResponseDTO>> topics = ArgumentCaptor.forClass(Predicate.class);
+
+        deleteForumUseCase.execute(forumId, userId);
+
+        verify(forumsHeadCache).removeIf(forums.capture());
+        verify(topicsHeadCache).removeIf(topics.capture());
+        Instant now = Instant.now();
+        assertTrue(forums.getValue().test(
+                new ForumResponseDTO(forumId, "Forum", "Description", userId, 0L, 1L, 0L, now, now)));
+        assertTrue(topics.getValue().test(new TopicResponseDTO(
+                UUID.randomUUID(), "Title", "Content", forumId, userId, "user", 0L, 0L, now, now)));
+        assertFalse(topics.getValue().test(new TopicResponseDTO(
+                UUID.randomUUID(), "Title", "Content", UUID.randomUUID(), userId, "user", 0L, 0L, now, now)));
     }
 
     @Test
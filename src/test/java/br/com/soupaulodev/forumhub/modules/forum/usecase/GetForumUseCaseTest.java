@@ -2,9 +2,9 @@ package br.com.soupaulodev.forumhub.modules.forum.usecase;
 
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
-import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
-import br.com.soupaulodev.forumhub.modules.forum.mapper.ForumMapper;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounterBuffer;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -27,60 +27,60 @@ class GetForumUseCaseTest {
     private ForumRepository forumRepository;
 
     @Mock
-    private ForumMapper forumMapper;
+    private HighsCounterBuffer highsCounterBuffer;
 
     @InjectMocks
     private GetForumUseCase getForumUseCase;
 
     private UUID forumId;
-    private ForumEntity mockForum;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         forumId = UUID.randomUUID();
-
-        mockForum = new ForumEntity();
-        mockForum.setId(forumId);
-        mockForum.setName("Test Forum");
-        mockForum.setDescription("A test forum description");
-        mockForum.setCreatedAt(Instant.now());
-        mockForum.setUpdatedAt(Instant.now());
     }
 
     @Test
     void execute_ShouldRetrieveForumSuccessfully() {
-        when(forumRepository.findById(forumId)).thenReturn(Optional.of(mockForum));
-
         ForumResponseDTO responseMock = new ForumResponseDTO(
                 forumId,
                 "Test Forum",
                 "A test forum description",
                 UUID.randomUUID(),
                 0L,
-                10,
+                10L,
                 5L,
                 Instant.now(),
                 Instant.now()
         );
-        when(forumMapper.toResponseDTO(mockForum)).thenReturn(responseMock);
+        when(forumRepository.findResponseById(forumId)).thenReturn(Optional.of(responseMock));
 
         ForumResponseDTO responseDTO = getForumUseCase.execute(forumId);
         assertNotNull(responseDTO);
         assertEquals("Test Forum", responseDTO.name());
         assertEquals("A test forum description", responseDTO.description());
 
-        verify(forumRepository).findById(forumId);
-        verify(forumMapper).toResponseDTO(mockForum);
+        verify(forumRepository).findResponseById(forumId);
+        verify(forumRepository, never()).findById(any());
+    }
+
+    @Test
+    void execute_ShouldAddTheHighsNotFlushedYet() {
+        ForumResponseDTO forum = new ForumResponseDTO(
+                forumId, "Test Forum", "A test forum description", UUID.randomUUID(), 3L, 10L, 5L,
+                Instant.now(), Instant.now());
+        when(forumRepository.findResponseById(forumId)).thenReturn(Optional.of(forum));
+        when(highsCounterBuffer.pending(HighsTarget.FORUM, forumId)).thenReturn(2L);
+
+        assertEquals(5L, getForumUseCase.execute(forumId).highs());
     }
 
     @Test
     void execute_ShouldThrowResourceNotFoundException_WhenForumNotFound() {
-        when(forumRepository.findById(forumId)).thenReturn(Optional.empty());
+        when(forumRepository.findResponseById(forumId)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> getForumUseCase.execute(forumId));
 
-        verify(forumRepository).findById(forumId);
-        verify(forumMapper, never()).toResponseDTO(any());
+        verify(forumRepository).findResponseById(forumId);
     }
 }
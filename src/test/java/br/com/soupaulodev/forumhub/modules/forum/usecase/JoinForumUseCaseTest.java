@@ -0,0 +1,71 @@
+package br.com.soupaulodev.forumhub.modules.forum.usecase;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumParticipantRepository;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class JoinForumUseCaseTest {
+
+    @Mock
+    private ForumParticipantRepository forumParticipantRepository;
+
+    @Mock
+    private ForumRepository forumRepository;
+
+    @InjectMocks
+    private JoinForumUseCase joinForumUseCase;
+
+    private UUID forumId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        forumId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void execute_ShouldCountAndInsertTheParticipation() {
+        when(forumRepository.addToParticipantsCount(forumId, 1)).thenReturn(1);
+        when(forumParticipantRepository.insertIfAbsent(forumId, userId)).thenReturn(1);
+
+        joinForumUseCase.execute(forumId, userId);
+
+        verify(forumRepository).addToParticipantsCount(forumId, 1);
+        verify(forumParticipantRepository).insertIfAbsent(forumId, userId);
+    }
+
+    @Test
+    void execute_ShouldThrowException_WhenAlreadyParticipating() {
+        when(forumRepository.addToParticipantsCount(forumId, 1)).thenReturn(1);
+        when(forumParticipantRepository.insertIfAbsent(forumId, userId)).thenReturn(0);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                joinForumUseCase.execute(forumId, userId));
+
+        assertEquals("You already participate in this forum.", exception.getMessage());
+    }
+
+    @Test
+    void execute_ShouldThrowException_WhenForumNotFound() {
+        when(forumRepository.addToParticipantsCount(forumId, 1)).thenReturn(0);
+
+        assertThrows(ResourceNotFoundException.class, () -> joinForumUseCase.execute(forumId, userId));
+
+        verifyNoInteractions(forumParticipantRepository);
+    }
+}
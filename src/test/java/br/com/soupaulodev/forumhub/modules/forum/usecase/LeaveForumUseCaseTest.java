@@ -0,0 +1,70 @@
+package br.com.soupaulodev.forumhub.modules.forum.usecase;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumParticipantRepository;
+import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class LeaveForumUseCaseTest {
+
+    @Mock
+    private ForumParticipantRepository forumParticipantRepository;
+
+    @Mock
+    private ForumRepository forumRepository;
+
+    @InjectMocks
+    private LeaveForumUseCase leaveForumUseCase;
+
+    private UUID forumId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        forumId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void execute_ShouldDeleteAndDiscountTheParticipation() {
+        when(forumParticipantRepository.deleteByIds(forumId, userId)).thenReturn(1);
+
+        leaveForumUseCase.execute(forumId, userId);
+
+        verify(forumRepository).addToParticipantsCount(forumId, -1);
+    }
+
+    @Test
+    void execute_ShouldThrowException_WhenNotParticipating() {
+        when(forumParticipantRepository.deleteByIds(forumId, userId)).thenReturn(0);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                leaveForumUseCase.execute(forumId, userId));
+
+        assertEquals("You do not participate in this forum.", exception.getMessage());
+        verify(forumRepository, never()).addToParticipantsCount(any(), anyLong());
+    }
+
+    @Test
+    void execute_ShouldThrowException_WhenUserIsTheOwner() {
+        when(forumRepository.isOwnedBy(forumId, userId)).thenReturn(true);
+
+        assertThrows(ForbiddenException.class, () -> leaveForumUseCase.execute(forumId, userId));
+
+        verifyNoInteractions(forumParticipantRepository);
+    }
+}
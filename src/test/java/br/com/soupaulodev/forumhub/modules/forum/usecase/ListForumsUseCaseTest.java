@@ -1,24 +1,26 @@
 package br.com.soupaulodev.forumhub.modules.forum.usecase;
 
 import br.com.soupaulodev.forumhub.modules.forum.controller.dto.ForumResponseDTO;
-import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
-import br.com.soupaulodev.forumhub.modules.forum.mapper.ForumMapper;
 import br.com.soupaulodev.forumhub.modules.forum.repository.ForumRepository;
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounterBuffer;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
+import br.com.soupaulodev.forumhub.modules.pagination.Cursor;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
+import br.com.soupaulodev.forumhub.modules.pagination.ListHeadCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Limit;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -30,69 +32,107 @@ class ListForumsUseCaseTest {
     private ForumRepository forumRepository;
 
     @Mock
-    private ForumMapper forumMapper;
+    private ListHeadCache<ForumResponseDTO> headCache;
+
+    @Mock
+    private HighsCounterBuffer highsCounterBuffer;
 
     @InjectMocks
     private ListForumsUseCase listForumsUseCase;
 
-    private ForumEntity forumEntity;
+    private ForumResponseDTO forum;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
 
-        forumEntity = new ForumEntity();
-        forumEntity.setId(UUID.randomUUID());
-        forumEntity.setName("Test Forum");
-        forumEntity.setDescription("A test forum description");
-        forumEntity.setCreatedAt(Instant.now());
-        forumEntity.setUpdatedAt(Instant.now());
+        forum = forumCreatedAt(Instant.now());
+        when(headCache.rows(any(), anyInt())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void execute_ShouldServeThePageFromTheNewestForums_WhenItFallsWithinThem() {
+        ForumResponseDTO olderForum = forumCreatedAt(forum.createdAt().minusSeconds(1));
+        when(headCache.rows(null, 1)).thenReturn(Optional.of(List.of(forum, olderForum)));
+
+        CursorPage<ForumResponseDTO> responsePage = listForumsUseCase.execute(null, 1);
+
+        assertEquals(List.of(forum), responsePage.content());
+        assertEquals(new Cursor(forum.createdAt(), forum.id()), Cursor.decode(responsePage.nextCursor()));
+        verifyNoInteractions(forumRepository);
     }
 
     @Test
     void execute_ShouldReturnListOfForums() {
-        PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<ForumEntity> forumPage = new PageImpl<>(List.of(forumEntity));
+        when(forumRepository.findFirstPage(Limit.of(11))).thenReturn(List.of(forum));
 
-        when(forumRepository.findAll(pageable)).thenReturn(forumPage);
+        CursorPage<ForumResponseDTO> responsePage = listForumsUseCase.execute(null, 10);
 
-        ForumResponseDTO responseMock = new ForumResponseDTO(
-                forumEntity.getId(),
-                forumEntity.getName(),
-                forumEntity.getDescription(),
-                UUID.randomUUID(),
-                0L,
-                10,
-                5L,
-                forumEntity.getCreatedAt(),
-                forumEntity.getUpdatedAt()
-        );
+        assertNotNull(responsePage);
+        assertEquals(List.of(forum), responsePage.content());
+        assertNull(responsePage.nextCursor());
 
-        when(forumMapper.toResponseDTO(forumEntity)).thenReturn(responseMock);
+        verify(forumRepository).findFirstPage(Limit.of(11));
+    }
 
-        List<ForumResponseDTO> responseList = listForumsUseCase.execute(0, 10);
+    @Test
+    void execute_ShouldSeekPastTheCursorAndReturnTheNextOne() {
+        Cursor previous = new Cursor(Instant.now(), UUID.randomUUID());
+        ForumResponseDTO olderForum = forumCreatedAt(forum.createdAt().minusSeconds(1));
+
+        when(forumRepository.findPageAfter(previous.createdAt(), previous.id(), Limit.of(2)))
+                .thenReturn(List.of(forum, olderForum));
 
-        assertNotNull(responseList);
-        assertEquals(1, responseList.size());
-        assertEquals("Test Forum", responseList.getFirst().name());
+        CursorPage<ForumResponseDTO> responsePage = listForumsUseCase.execute(previous.encode(), 1);
 
-        verify(forumRepository).findAll(pageable);
-        verify(forumMapper).toResponseDTO(forumEntity);
+        assertEquals(List.of(forum), responsePage.content());
+        assertEquals(new Cursor(forum.createdAt(), forum.id()), Cursor.decode(responsePage.nextCursor()));
+    }
+
+    @Test
+    void execute_ShouldAddTheHighsNotFlushedYet() {
+        when(headCache.rows(null, 10)).thenReturn(Optional.of(List.of(forum)));
+        when(highsCounterBuffer.pending(HighsTarget.FORUM, forum.id())).thenReturn(2L);
+
+        CursorPage<ForumResponseDTO> responsePage = listForumsUseCase.execute(null, 10);
+
+        assertEquals(2L, responsePage.content().getFirst().highs());
+        assertEquals(0L, forum.highs(), "The cached row should be left unchanged");
+    }
+
+    @Test
+    void execute_ShouldRejectAnInvalidCursor() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> listForumsUseCase.execute("not-a-cursor", 10));
+
+        assertEquals("Invalid cursor", exception.getMessage());
+        verifyNoInteractions(forumRepository);
     }
 
     @Test
     void execute_ShouldReturnEmptyList_WhenNoForumsExist() {
-        PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<ForumEntity> emptyPage = new PageImpl<>(List.of());
+        when(forumRepository.findFirstPage(Limit.of(11))).thenReturn(List.of());
 
-        when(forumRepository.findAll(pageable)).thenReturn(emptyPage);
+        CursorPage<ForumResponseDTO> responsePage = listForumsUseCase.execute(null, 10);
 
-        List<ForumResponseDTO> responseList = listForumsUseCase.execute(0, 10);
+        assertNotNull(responsePage);
+        assertTrue(responsePage.content().isEmpty());
+        assertNull(responsePage.nextCursor());
 
-        assertNotNull(responseList);
-        assertTrue(responseList.isEmpty());
+        verify(forumRepository).findFirstPage(Limit.of(11));
+    }
 
-        verify(forumRepository).findAll(pageable);
-        verify(forumMapper, never()).toResponseDTO(any());
+    private ForumResponseDTO forumCreatedAt(Instant createdAt) {
+        return new ForumResponseDTO(
+                UUID.randomUUID(),
+                "Test Forum",
+                "A test forum description",
+                UUID.randomUUID(),
+                0L,
+                10L,
+                5L,
+                createdAt,
+                createdAt
+        );
     }
 }
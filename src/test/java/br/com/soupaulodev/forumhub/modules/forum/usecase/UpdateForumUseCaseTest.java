@@ -67,7 +67,7 @@ class UpdateForumUseCaseTest {
                 "Updated Description",
                 authenticatedUserId,
                 0L,
-                10,
+                10L,
                 5L,
                 forumEntity.getCreatedAt(),
                 Instant.now()
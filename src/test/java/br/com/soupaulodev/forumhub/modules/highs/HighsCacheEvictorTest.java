@@ -0,0 +1,72 @@
+package br.com.soupaulodev.forumhub.modules.highs;
+
+import br.com.soupaulodev.forumhub.config.CacheConfig;
+import br.com.soupaulodev.forumhub.config.TwoLevelCache;
+import br.com.soupaulodev.forumhub.config.TwoLevelCacheManager;
+import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
+import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link HighsCacheEvictor} class.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class HighsCacheEvictorTest {
+
+    private TwoLevelCacheManager cacheManager;
+    private Cache entityCache;
+    private HighsCacheEvictor evictor;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = mock(TwoLevelCacheManager.class);
+        entityCache = mock(Cache.class);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.getCache()).thenReturn(entityCache);
+        evictor = new HighsCacheEvictor(cacheManager, entityManagerFactory);
+    }
+
+    @Test
+    void onHighsCountsFlushed_ShouldEvictTheDetailsAndTheEntities() {
+        TwoLevelCache forums = mock(TwoLevelCache.class);
+        TwoLevelCache users = mock(TwoLevelCache.class);
+        when(cacheManager.getTwoLevelCache(CacheConfig.FORUMS)).thenReturn(forums);
+        when(cacheManager.getTwoLevelCache(CacheConfig.USERS)).thenReturn(users);
+        UUID forumId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        evictor.onHighsCountsFlushed(new HighsCountsFlushed(Map.of(
+                HighsTarget.FORUM, Set.of(forumId),
+                HighsTarget.USER, Set.of(userId))));
+
+        verify(forums).evictAll(Set.of(forumId));
+        verify(users).evictAll(Set.of(userId));
+        verify(entityCache).evict(ForumEntity.class, forumId);
+        verify(entityCache).evict(UserEntity.class, userId);
+    }
+
+    @Test
+    void onHighsCountsFlushed_ShouldNotEvictEntitiesOfTopicsAndComments() {
+        TwoLevelCache topicDetails = mock(TwoLevelCache.class);
+        when(cacheManager.getTwoLevelCache(CacheConfig.TOPIC_DETAILS)).thenReturn(topicDetails);
+        UUID topicId = UUID.randomUUID();
+
+        evictor.onHighsCountsFlushed(new HighsCountsFlushed(Map.of(
+                HighsTarget.TOPIC, Set.of(topicId),
+                HighsTarget.COMMENT, Set.of(UUID.randomUUID()))));
+
+        verify(topicDetails).evictAll(Set.of(topicId));
+        verify(entityCache, never()).evict(any(), any());
+    }
+}
@@ -0,0 +1,148 @@
+package br.com.soupaulodev.forumhub.modules.highs;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link HighsCounterBuffer} class.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class HighsCounterBufferTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ApplicationEventPublisher eventPublisher;
+    private SimpleMeterRegistry meterRegistry;
+    private HighsCounterBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        buffer = new HighsCounterBuffer(jdbcTemplate, TransactionOperations.withoutTransaction(), eventPublisher, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void flush_ShouldWriteOneBatchedUpdatePerTarget() {
+        UUID forumId = UUID.randomUUID();
+        UUID topicId = UUID.randomUUID();
+        buffer.add(HighsTarget.FORUM, forumId, 1);
+        buffer.add(HighsTarget.FORUM, forumId, 1);
+        buffer.add(HighsTarget.TOPIC, topicId, -1);
+
+        buffer.flush();
+
+        List<Object[]> forumArgs = capturedArgs("tb_forum");
+        assertEquals(1, forumArgs.size());
+        assertArrayEquals(new Object[]{2L, forumId}, forumArgs.getFirst());
+        assertArrayEquals(new Object[]{-1L, topicId}, capturedArgs("tb_topic").getFirst());
+        assertEquals(0, buffer.pending(HighsTarget.FORUM, forumId));
+        verify(eventPublisher).publishEvent(new HighsCountsFlushed(
+                Map.of(HighsTarget.FORUM, Set.of(forumId), HighsTarget.TOPIC, Set.of(topicId))));
+    }
+
+    @Test
+    void flush_ShouldSkipItemsWhoseDeltasCancelOut() {
+        UUID forumId = UUID.randomUUID();
+        buffer.add(HighsTarget.FORUM, forumId, 1);
+        buffer.add(HighsTarget.FORUM, forumId, -1);
+
+        buffer.flush();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void flush_ShouldKeepDeltasWhenTheWriteFails() {
+        UUID forumId = UUID.randomUUID();
+        buffer.add(HighsTarget.FORUM, forumId, 3);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+        buffer.flush();
+
+        assertEquals(3, buffer.pending(HighsTarget.FORUM, forumId));
+        assertEquals(1, meterRegistry.counter("highs.counter.flush.failures").count());
+        assertTrue(meterRegistry.get("highs.counter.lag").gauge().value() >= 0);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void add_ShouldNotLoseConcurrentDeltas() throws InterruptedException {
+        UUID forumId = UUID.randomUUID();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 10_000; i++) {
+            executor.execute(() -> buffer.add(HighsTarget.FORUM, forumId, 1));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(10_000, buffer.pending(HighsTarget.FORUM, forumId));
+        assertTrue(meterRegistry.get("highs.counter.pending").gauge().value() >= 1);
+    }
+
+    @Test
+    void add_ShouldWaitForTheTransactionToCommit() {
+        UUID forumId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        buffer.add(HighsTarget.FORUM, forumId, 1);
+        assertEquals(0, buffer.pending(HighsTarget.FORUM, forumId));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, buffer.pending(HighsTarget.FORUM, forumId));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pendingHighsListener_ShouldMergePendingDeltasIntoLoadedEntities() {
+        UUID forumId = UUID.randomUUID();
+        HighsCounted entity = mock(HighsCounted.class);
+        when(entity.getId()).thenReturn(forumId);
+        when(entity.getHighsTarget()).thenReturn(HighsTarget.FORUM);
+        buffer.add(HighsTarget.FORUM, forumId, 2);
+
+        ObjectProvider<HighsCounterBuffer> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(buffer);
+
+        new PendingHighsListener(provider).mergePendingHighs(entity);
+
+        verify(entity).addToHighsCount(2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> capturedArgs(String table) {
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE " + table + " "), args.capture());
+        return args.getValue();
+    }
+}
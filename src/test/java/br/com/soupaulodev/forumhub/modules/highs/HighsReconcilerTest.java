@@ -0,0 +1,142 @@
+package br.com.soupaulodev.forumhub.modules.highs;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionOperations;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the {@link HighsReconciler} against an embedded Redis server, with the database mocked.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class HighsReconcilerTest {
+
+    private static final int PORT = 6395;
+
+    private static RedisServer redisServer;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private HighsCounterBuffer highsCounterBuffer;
+    private HighsStore highsStore;
+    private HighsReconciler reconciler;
+
+    private final UUID forumId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = new RedisServer(PORT);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", PORT));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        connectionFactory.getConnection().serverCommands().flushAll();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        jdbcTemplate = mock(JdbcTemplate.class);
+        highsCounterBuffer = mock(HighsCounterBuffer.class);
+        highsStore = new HighsStore(redisTemplate);
+        reconciler = new HighsReconciler(redisTemplate, jdbcTemplate, TransactionOperations.withoutTransaction(),
+                highsCounterBuffer, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void reconcile_ShouldLoadTheSetsFromTheDatabaseAfterAColdStart() throws Exception {
+        ResultSet row = mock(ResultSet.class);
+        when(row.getString(1)).thenReturn(forumId.toString());
+        when(row.getString(2)).thenReturn(userId.toString());
+        doAnswer(invocation -> {
+            invocation.getArgument(1, RowCallbackHandler.class).processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(eq("SELECT forum_id, user_id FROM tb_forum_highs"), any(RowCallbackHandler.class));
+
+        reconciler.reconcile();
+
+        assertTrue(redisTemplate.hasKey(HighsStore.READY_KEY));
+        assertFalse(highsStore.high(HighsTarget.FORUM, forumId, userId));
+    }
+
+    @Test
+    void reconcile_ShouldWriteTheChangesAndCountOnlyTheRowsThatChanged() {
+        redisTemplate.opsForValue().set(HighsStore.READY_KEY, "1");
+        UUID otherUserId = UUID.randomUUID();
+        highsStore.high(HighsTarget.FORUM, forumId, userId);
+        highsStore.high(HighsTarget.FORUM, forumId, otherUserId);
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO tb_forum_highs"), anyList())).thenReturn(new int[]{1, 0});
+
+        reconciler.reconcile();
+
+        verify(highsCounterBuffer, times(1)).add(HighsTarget.FORUM, forumId, 1);
+        assertFalse(redisTemplate.hasKey(HighsStore.CHANGES_KEY));
+        assertFalse(redisTemplate.hasKey(HighsStore.RECONCILING_KEY));
+    }
+
+    @Test
+    void reconcile_ShouldDeleteUnhighedRows() {
+        redisTemplate.opsForValue().set(HighsStore.READY_KEY, "1");
+        redisTemplate.opsForSet().add(HighsStore.setKey(HighsTarget.FORUM, forumId.toString()), userId.toString());
+        highsStore.unhigh(HighsTarget.FORUM, forumId, userId);
+        when(jdbcTemplate.batchUpdate(startsWith("DELETE FROM tb_forum_highs"), anyList())).thenReturn(new int[]{1});
+
+        reconciler.reconcile();
+
+        verify(jdbcTemplate).batchUpdate(startsWith("DELETE FROM tb_forum_highs"),
+                argThat((List<Object[]> args) -> args.size() == 1 && args.getFirst()[1].equals(userId)));
+        verify(highsCounterBuffer).add(HighsTarget.FORUM, forumId, -1);
+    }
+
+    @Test
+    void reconcile_ShouldKeepTheChangesWhenTheWriteFails() {
+        redisTemplate.opsForValue().set(HighsStore.READY_KEY, "1");
+        highsStore.high(HighsTarget.FORUM, forumId, userId);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(new int[]{1});
+
+        reconciler.reconcile();
+
+        assertTrue(redisTemplate.hasKey(HighsStore.RECONCILING_KEY));
+        verifyNoInteractions(highsCounterBuffer);
+
+        reconciler.reconcile();
+
+        assertFalse(redisTemplate.hasKey(HighsStore.RECONCILING_KEY));
+        verify(highsCounterBuffer).add(HighsTarget.FORUM, forumId, 1);
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.soupaulodev.forumhub.modules.highs;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ServiceOverloadedException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link HighsStore} against an embedded Redis server.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class HighsStoreTest {
+
+    private static final int PORT = 6394;
+
+    private static RedisServer redisServer;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private HighsStore highsStore;
+
+    private final UUID forumId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = new RedisServer(PORT);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", PORT));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        connectionFactory.getConnection().serverCommands().flushAll();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.opsForValue().set(HighsStore.READY_KEY, "1");
+        highsStore = new HighsStore(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void high_ShouldAddUserToTheSetOfTheItemOnlyOnce() {
+        assertTrue(highsStore.high(HighsTarget.FORUM, forumId, userId));
+        assertFalse(highsStore.high(HighsTarget.FORUM, forumId, userId));
+
+        String key = HighsStore.setKey(HighsTarget.FORUM, forumId.toString());
+        assertEquals(Boolean.TRUE, redisTemplate.opsForSet().isMember(key, userId.toString()));
+        assertEquals(1, redisTemplate.opsForSet().size(key));
+    }
+
+    @Test
+    void unhigh_ShouldOnlyRemoveExistingHighs() {
+        assertFalse(highsStore.unhigh(HighsTarget.FORUM, forumId, userId));
+
+        highsStore.high(HighsTarget.FORUM, forumId, userId);
+
+        assertTrue(highsStore.unhigh(HighsTarget.FORUM, forumId, userId));
+        assertFalse(redisTemplate.hasKey(HighsStore.setKey(HighsTarget.FORUM, forumId.toString())));
+    }
+
+    @Test
+    void toggle_ShouldRecordOnlyTheLatestStateOfEachChange() {
+        String field = HighsStore.changeField(HighsTarget.FORUM, forumId.toString(), userId.toString());
+
+        highsStore.high(HighsTarget.FORUM, forumId, userId);
+        assertEquals("1", redisTemplate.opsForHash().get(HighsStore.CHANGES_KEY, field));
+
+        highsStore.unhigh(HighsTarget.FORUM, forumId, userId);
+        assertEquals("0", redisTemplate.opsForHash().get(HighsStore.CHANGES_KEY, field));
+
+        highsStore.unhigh(HighsTarget.FORUM, forumId, userId);
+        assertEquals(1, redisTemplate.opsForHash().size(HighsStore.CHANGES_KEY));
+    }
+
+    @Test
+    void high_ShouldBeRejectedUntilTheSetsAreLoaded() {
+        redisTemplate.delete(HighsStore.READY_KEY);
+
+        assertThrows(ServiceOverloadedException.class, () -> highsStore.high(HighsTarget.FORUM, forumId, userId));
+        assertFalse(redisTemplate.hasKey(HighsStore.CHANGES_KEY));
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.soupaulodev.forumhub.modules.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link CursorPage} and {@link Cursor} records.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class CursorPageTest {
+
+    @Test
+    void cursor_ShouldSurviveAnEncodeDecodeRoundTrip() {
+        Cursor cursor = new Cursor(Instant.parse("2025-01-02T03:04:05.123456Z"), UUID.randomUUID());
+
+        assertEquals(cursor, Cursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void cursor_ShouldRejectTamperedValues() {
+        assertThrows(IllegalArgumentException.class, () -> Cursor.decode("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> Cursor.decode("bm90LWEtY3Vyc29y"));
+    }
+
+    @Test
+    void of_ShouldDropTheExtraRowAndPointToTheLastItemKept() {
+        List<Cursor> rows = List.of(
+                new Cursor(Instant.parse("2025-01-03T00:00:00Z"), UUID.randomUUID()),
+                new Cursor(Instant.parse("2025-01-02T00:00:00Z"), UUID.randomUUID()),
+                new Cursor(Instant.parse("2025-01-01T00:00:00Z"), UUID.randomUUID()));
+
+        CursorPage<UUID> page = CursorPage.of(rows, 2, row -> row, Cursor::id);
+
+        assertEquals(List.of(rows.get(0).id(), rows.get(1).id()), page.content());
+        assertEquals(rows.get(1), Cursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    void of_ShouldHaveNoNextCursorOnTheLastPage() {
+        List<Cursor> rows = List.of(new Cursor(Instant.now(), UUID.randomUUID()));
+
+        CursorPage<UUID> page = CursorPage.of(rows, 2, row -> row, Cursor::id);
+
+        assertEquals(1, page.content().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void limit_ShouldFetchOneMoreRowThanThePageSize() {
+        assertEquals(11, CursorPage.limit(10).max());
+    }
+
+    @Test
+    void limit_ShouldRejectSizesThatAreNotPositiveOrLeaveNoRoomForTheExtraRow() {
+        assertThrows(IllegalArgumentException.class, () -> CursorPage.limit(0));
+        assertThrows(IllegalArgumentException.class, () -> CursorPage.limit(-1));
+        assertThrows(IllegalArgumentException.class, () -> CursorPage.limit(Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,181 @@
+package br.com.soupaulodev.forumhub.modules.pagination;
+
+import br.com.soupaulodev.forumhub.config.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ListHeadCache} class.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class ListHeadCacheTest {
+
+    private static final int MAX_ITEMS = 5;
+
+    private final List<Item> database = new CopyOnWriteArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Instant start = Instant.parse("2025-01-02T03:04:05Z");
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 8; i++) {
+            insert(itemCreatedAt(start.plusSeconds(i)));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void rows_ShouldServeEveryPageWithinTheHeadFromASingleLoad() {
+        ListHeadCache<Item> cache = newCache(Duration.ofMinutes(1));
+
+        assertEquals(Optional.of(database.subList(0, 3)), cache.rows(null, 2));
+        assertEquals(Optional.of(database.subList(2, 5)), cache.rows(cursorOf(database.get(1)), 2));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void rows_ShouldLoadTheHeadFromThePrimary_WhenTheRequestMayReadFromAReplica() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            ReplicaRoutingDataSource.allowReplicaReads();
+            AtomicBoolean replicaReads = new AtomicBoolean(true);
+            ListHeadCache<Item> cache = new ListHeadCache<>(limit -> {
+                replicaReads.set(ReplicaRoutingDataSource.replicaReadsAllowed());
+                return firstRows(limit);
+            }, ListHeadCacheTest::cursorOf, MAX_ITEMS, Duration.ofMinutes(1), Duration.ofMinutes(5));
+
+            assertEquals(Optional.of(database.subList(0, 3)), cache.rows(null, 2));
+            assertFalse(replicaReads.get());
+            assertTrue(ReplicaRoutingDataSource.replicaReadsAllowed());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    void rows_ShouldBeEmpty_WhenThePageGoesPastTheHead() {
+        ListHeadCache<Item> cache = newCache(Duration.ofMinutes(1));
+
+        assertTrue(cache.rows(null, 5).isEmpty());
+        assertTrue(cache.rows(cursorOf(database.get(2)), 2).isEmpty());
+        assertTrue(cache.rows(cursorOf(database.get(6)), 1).isEmpty());
+    }
+
+    @Test
+    void rows_ShouldServeTheLastPage_WhenTheHeadIsTheWholeList() {
+        database.subList(3, database.size()).clear();
+        ListHeadCache<Item> cache = newCache(Duration.ofMinutes(1));
+
+        assertEquals(Optional.of(database.subList(2, 3)), cache.rows(cursorOf(database.get(1)), 10));
+    }
+
+    @Test
+    void add_ShouldPutTheNewestRowFirstOnceTheTransactionCommits() {
+        ListHeadCache<Item> cache = newCache(Duration.ofMinutes(1));
+        cache.rows(null, 1);
+        Item created = itemCreatedAt(start.plusSeconds(60));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.add(created);
+        assertNotEquals(created, cache.rows(null, 1).orElseThrow().getFirst());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(List.of(created, database.getFirst()), cache.rows(null, 1).orElseThrow());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void add_ShouldIgnoreARowFallingPastTheHead() {
+        ListHeadCache<Item> cache = newCache(Duration.ofMinutes(1));
+        cache.rows(null, 1);
+
+        cache.add(itemCreatedAt(start.minusSeconds(60)));
+
+        assertEquals(Optional.of(database.subList(0, 4)), cache.rows(null, 3));
+        assertTrue(cache.rows(cursorOf(database.get(3)), 1).isEmpty());
+    }
+
+    @Test
+    void removeIf_ShouldDropTheDeletedRows() {
+        ListHeadCache<Item> cache = newCache(Duration.ofMinutes(1));
+        cache.rows(null, 1);
+        Item deleted = database.get(1);
+
+        cache.removeIf(item -> item.id().equals(deleted.id()));
+
+        assertEquals(List.of(database.get(0), database.get(2)), cache.rows(null, 1).orElseThrow());
+        assertTrue(cache.rows(cursorOf(deleted), 1).isEmpty());
+    }
+
+    @Test
+    void rows_ShouldReloadInTheBackground_WhenTheHeadIsOld() throws InterruptedException {
+        ListHeadCache<Item> cache = newCache(Duration.ofMillis(50));
+        cache.rows(null, 1);
+        Thread.sleep(100);
+        Item created = itemCreatedAt(start.plusSeconds(60));
+        insert(created);
+
+        assertNotEquals(created, cache.rows(null, 1).orElseThrow().getFirst());
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!created.equals(cache.rows(null, 1).orElseThrow().getFirst())) {
+            assertTrue(System.nanoTime() < deadline, "The head was not reloaded in time");
+            Thread.sleep(10);
+        }
+    }
+
+    private ListHeadCache<Item> newCache(Duration refreshAfter) {
+        return new ListHeadCache<>(this::firstRows, ListHeadCacheTest::cursorOf, MAX_ITEMS,
+                refreshAfter, Duration.ofMinutes(5));
+    }
+
+    private List<Item> firstRows(Limit limit) {
+        loads.incrementAndGet();
+        return new ArrayList<>(database.subList(0, Math.min(limit.max(), database.size())));
+    }
+
+    private void insert(Item item) {
+        List<Item> rows = new ArrayList<>(database);
+        rows.add(item);
+        rows.sort(Comparator.comparing(Item::createdAt).reversed());
+        database.clear();
+        database.addAll(rows);
+    }
+
+    private static Item itemCreatedAt(Instant createdAt) {
+        return new Item(UUID.randomUUID(), createdAt);
+    }
+
+    private static Cursor cursorOf(Item item) {
+        return new Cursor(item.createdAt(), item.id());
+    }
+
+    private record Item(UUID id, Instant createdAt) {
+    }
+}
@@ -1,7 +1,14 @@
 package br.com.soupaulodev.forumhub.modules.topic.controller;
 
+import br.com.soupaulodev.forumhub.config.IdStrategy;
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.TopicCommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.usecase.GetCommentThreadUseCase;
+import br.com.soupaulodev.forumhub.modules.comment.usecase.ListTopicCommentsUseCase;
+import br.com.soupaulodev.forumhub.modules.exception.ExceptionHandlerController;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicCreateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicDetailsResponseDTO;
 import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
@@ -10,16 +17,18 @@ import br.com.soupaulodev.forumhub.modules.topic.usecase.*;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.net.URI;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -28,6 +37,10 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
  * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
@@ -55,7 +68,14 @@ class TopicControllerTest {
     @Mock
     private UnHighTopicUseCase unHighTopicUseCase;
 
-    @InjectMocks
+    @Mock
+    private GetCommentThreadUseCase getCommentThreadUseCase;
+
+    @Mock
+    private ListTopicCommentsUseCase listTopicCommentsUseCase;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
     private TopicController topicController;
 
     private final UUID userId = UUID.randomUUID();
@@ -65,6 +85,16 @@ class TopicControllerTest {
         SecurityContextHolder.getContext()
                 .setAuthentication(new UsernamePasswordAuthenticationToken(userId, null));
         MockitoAnnotations.openMocks(this);
+        topicController = new TopicController(createTopicUseCase,
+                                              listTopicsUseCase,
+                                              getTopicDetailsUseCase,
+                                              updateTopicUseCase,
+                                              deleteTopicUseCase,
+                                              highTopicUseCase,
+                                              unHighTopicUseCase,
+                                              getCommentThreadUseCase,
+                                              listTopicCommentsUseCase,
+                                              MAX_PAGE_SIZE);
     }
 
     @AfterEach
@@ -138,7 +168,7 @@ class TopicControllerTest {
 
     @Test
     void shouldListTopicsSuccessfully() {
-        int Page = 0;
+        String cursor = "cursor";
         int Size = 10;
 
         List<TopicResponseDTO> topics = List.of(
@@ -156,13 +186,13 @@ class TopicControllerTest {
                 )
         );
 
-        when(listTopicsUseCase.execute(Page, Size)).thenReturn(topics);
+        when(listTopicsUseCase.execute(cursor, Size)).thenReturn(new CursorPage<>(topics, null));
 
-        ResponseEntity<List<TopicResponseDTO>> listedTopics = topicController.listForumsPageable(Page, Size);
+        ResponseEntity<CursorPage<TopicResponseDTO>> listedTopics = topicController.listForumsPageable(cursor, Size);
 
         assertEquals(200, listedTopics.getStatusCode().value());
-        assertEquals(topics, listedTopics.getBody());
-        assertEquals(topics.size(), Objects.requireNonNull(listedTopics.getBody()).size());
+        assertEquals(topics, Objects.requireNonNull(listedTopics.getBody()).content());
+        assertNull(listedTopics.getBody().nextCursor());
     }
 
     @Test
@@ -179,7 +209,7 @@ class TopicControllerTest {
                 "creatorUsernameExample",
                 0L,
                 0L,
-                new ArrayList<>(),
+                new CursorPage<>(List.of(), null),
                 now,
                 now
         );
@@ -201,6 +231,37 @@ class TopicControllerTest {
         assertThrows(ResourceNotFoundException.class, () -> topicController.getTopicDetails(topicId.toString()));
     }
 
+    @Test
+    void shouldGetCommentThreadSuccessfully() {
+        UUID topicId = UUID.randomUUID();
+        UUID commentId = UUID.randomUUID();
+        Instant now = Instant.now();
+        List<CommentResponseDTO> thread = List.of(new CommentResponseDTO(
+                commentId, "Comment", userId, topicId, 0L, null, List.of(), now, now));
+
+        when(getCommentThreadUseCase.execute(topicId, null)).thenReturn(thread);
+        when(getCommentThreadUseCase.execute(topicId, commentId)).thenReturn(thread);
+
+        assertEquals(thread, topicController.getCommentThread(topicId.toString(), null).getBody());
+        assertEquals(thread, topicController.getCommentThread(topicId.toString(), commentId.toString()).getBody());
+    }
+
+    @Test
+    void shouldListTopicCommentsSuccessfully() {
+        UUID topicId = UUID.randomUUID();
+        Instant now = Instant.now();
+        CursorPage<TopicCommentResponseDTO> page = new CursorPage<>(List.of(new TopicCommentResponseDTO(
+                UUID.randomUUID(), "Comment", userId, topicId, 0L, 0L, List.of(), now, now)), "next");
+
+        when(listTopicCommentsUseCase.execute(topicId, null, 10)).thenReturn(page);
+
+        ResponseEntity<CursorPage<TopicCommentResponseDTO>> response =
+                topicController.listTopicComments(topicId.toString(), null, 10);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(page, response.getBody());
+    }
+
     @Test
     void shouldUpdateTopicSuccessfully() {
         UUID topicId = UUID.randomUUID();
@@ -355,4 +416,73 @@ class TopicControllerTest {
         assertEquals(204, response.getStatusCode().value());
         assertNull(response.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    void createTopic_ShouldAcceptTheTimeOrderedIdOfAForum() throws Exception {
+        UUID forumId = IdStrategy.TIME_ORDERED.generate();
+        Instant now = Instant.now();
+        when(createTopicUseCase.execute(any(TopicCreateRequestDTO.class), eq(userId))).thenReturn(new TopicResponseDTO(
+                UUID.randomUUID(), "Topic Example", "Description Example", forumId, userId, "creator", 0L, 0L, now, now));
+
+        mockMvc().perform(post("/api/v1/topics")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"title": "Topic Example", "content": "Content Example", "forumId": "%s"}
+                                """.formatted(forumId)))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void highTopic_ShouldAcceptATimeOrderedId() throws Exception {
+        UUID topicId = IdStrategy.TIME_ORDERED.generate();
+
+        mockMvc().perform(post("/api/v1/topics/high/{id}", topicId))
+                .andExpect(status().isNoContent());
+
+        verify(highTopicUseCase).execute(topicId, userId);
+    }
+
+    @Test
+    void highTopic_ShouldRejectAnIdThatIsNotAUuid() throws Exception {
+        mockMvc().perform(post("/api/v1/topics/high/{id}", "not-a-uuid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$[0].field").value("topicId"));
+
+        verifyNoInteractions(highTopicUseCase);
+    }
+
+    @Test
+    void listTopics_ShouldReduceTheSizeToTheMaximum() throws Exception {
+        when(listTopicsUseCase.execute(null, MAX_PAGE_SIZE)).thenReturn(new CursorPage<>(List.of(), null));
+
+        mockMvc().perform(get("/api/v1/topics/all").param("size", String.valueOf(Integer.MAX_VALUE)))
+                .andExpect(status().isOk());
+
+        verify(listTopicsUseCase).execute(null, MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void listTopics_ShouldRejectASizeBelowOne() throws Exception {
+        mockMvc().perform(get("/api/v1/topics/all").param("size", "0"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(listTopicsUseCase);
+    }
+
+    @Test
+    void listTopicComments_ShouldReduceTheSizeToTheMaximum() throws Exception {
+        UUID topicId = IdStrategy.TIME_ORDERED.generate();
+        when(listTopicCommentsUseCase.execute(topicId, null, MAX_PAGE_SIZE)).thenReturn(new CursorPage<>(List.of(), null));
+
+        mockMvc().perform(get("/api/v1/topics/{id}/comments", topicId).param("size", "1000"))
+                .andExpect(status().isOk());
+
+        verify(listTopicCommentsUseCase).execute(topicId, null, MAX_PAGE_SIZE);
+    }
+
+    private MockMvc mockMvc() {
+        return MockMvcBuilders.standaloneSetup(topicController)
+                .setControllerAdvice(new ExceptionHandlerController(new StaticMessageSource()))
+                .build();
+    }
+}
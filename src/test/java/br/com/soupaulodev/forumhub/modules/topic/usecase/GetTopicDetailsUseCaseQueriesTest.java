@@ -0,0 +1,98 @@
+package br.com.soupaulodev.forumhub.modules.topic.usecase;
+
+import br.com.soupaulodev.forumhub.config.HibernateCacheConfig;
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.CommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.TopicCommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.entity.CommentEntity;
+import br.com.soupaulodev.forumhub.modules.comment.mapper.CommentMapper;
+import br.com.soupaulodev.forumhub.modules.comment.usecase.ListTopicCommentsUseCase;
+import br.com.soupaulodev.forumhub.modules.forum.entity.ForumEntity;
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounterBuffer;
+import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicDetailsResponseDTO;
+import br.com.soupaulodev.forumhub.modules.topic.entity.TopicEntity;
+import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link GetTopicDetailsUseCase} class running its queries against the H2 database of the {@code test}
+ * profile in PostgreSQL mode.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+@DataJpaTest
+@ActiveProfiles({"dev", "test"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({HibernateCacheConfig.class, GetTopicDetailsUseCase.class, ListTopicCommentsUseCase.class, CommentMapper.class})
+class GetTopicDetailsUseCaseQueriesTest {
+
+    @Autowired
+    private GetTopicDetailsUseCase getTopicDetailsUseCase;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private HighsCounterBuffer highsCounterBuffer;
+
+    private UserEntity user;
+    private TopicEntity topic;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(new UserEntity("Details", "details", "details@forumhub.com", "secret"));
+        ForumEntity forum = entityManager.persist(new ForumEntity("Forum", "Description", user));
+        topic = entityManager.persist(new TopicEntity("Topic", "Content", user, forum));
+    }
+
+    @Test
+    void execute_ShouldEmbedTheRootCommentsWithTheirFirstReplies() {
+        CommentEntity root = comment(null);
+        CommentEntity reply = comment(root);
+        entityManager.flush();
+        entityManager.clear();
+
+        TopicDetailsResponseDTO details = getTopicDetailsUseCase.execute(topic.getId());
+
+        assertEquals(topic.getId(), details.id());
+        assertEquals("details", details.creatorUsername());
+        assertEquals(2L, details.commentCount());
+        List<TopicCommentResponseDTO> comments = details.comments().content();
+        assertEquals(1, comments.size());
+        assertEquals(root.getId(), comments.getFirst().id());
+        assertEquals(1L, comments.getFirst().repliesCount());
+        List<CommentResponseDTO> replies = comments.getFirst().replies();
+        assertEquals(1, replies.size());
+        assertEquals(reply.getId(), replies.getFirst().id());
+        assertEquals(root.getId(), replies.getFirst().parentCommentId());
+        assertNotNull(replies.getFirst().createdAt());
+    }
+
+    @Test
+    void execute_ShouldNotEmbedComments_WhenTheTopicHasNone() {
+        entityManager.flush();
+        entityManager.clear();
+
+        TopicDetailsResponseDTO details = getTopicDetailsUseCase.execute(topic.getId());
+
+        assertEquals(0L, details.commentCount());
+        assertTrue(details.comments().content().isEmpty());
+        assertNull(details.comments().nextCursor());
+    }
+
+    private CommentEntity comment(CommentEntity parent) {
+        topic.incrementComments();
+        return entityManager.persist(new CommentEntity("Comment", user, topic, parent));
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.soupaulodev.forumhub.modules.topic.usecase;
+
+import br.com.soupaulodev.forumhub.modules.comment.controller.dto.TopicCommentResponseDTO;
+import br.com.soupaulodev.forumhub.modules.comment.usecase.ListTopicCommentsUseCase;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounterBuffer;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
+import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicDetailsResponseDTO;
+import br.com.soupaulodev.forumhub.modules.topic.controller.dto.TopicResponseDTO;
+import br.com.soupaulodev.forumhub.modules.topic.repository.TopicRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class GetTopicDetailsUseCaseTest {
+
+    private static final int COMMENTS_PAGE_SIZE = 10;
+
+    private TopicRepository topicRepository;
+    private ListTopicCommentsUseCase listTopicCommentsUseCase;
+    private HighsCounterBuffer highsCounterBuffer;
+    private GetTopicDetailsUseCase getTopicDetailsUseCase;
+
+    private final UUID topicId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        topicRepository = mock(TopicRepository.class);
+        listTopicCommentsUseCase = mock(ListTopicCommentsUseCase.class);
+        highsCounterBuffer = mock(HighsCounterBuffer.class);
+        getTopicDetailsUseCase = new GetTopicDetailsUseCase(
+                topicRepository, listTopicCommentsUseCase, highsCounterBuffer, COMMENTS_PAGE_SIZE);
+    }
+
+    @Test
+    void execute_ShouldEmbedTheFirstPageOfComments() {
+        Instant now = Instant.now();
+        CursorPage<TopicCommentResponseDTO> comments = new CursorPage<>(List.of(new TopicCommentResponseDTO(
+                UUID.randomUUID(), "Comment", UUID.randomUUID(), topicId, 0L, 0L, List.of(), now, now)), "next");
+        when(topicRepository.findResponseById(topicId)).thenReturn(Optional.of(topic(1L)));
+        when(listTopicCommentsUseCase.execute(topicId, null, COMMENTS_PAGE_SIZE)).thenReturn(comments);
+
+        TopicDetailsResponseDTO details = getTopicDetailsUseCase.execute(topicId);
+
+        assertEquals(topicId, details.id());
+        assertEquals(comments, details.comments());
+    }
+
+    @Test
+    void execute_ShouldNotQueryComments_WhenTheTopicHasNone() {
+        when(topicRepository.findResponseById(topicId)).thenReturn(Optional.of(topic(0L)));
+
+        TopicDetailsResponseDTO details = getTopicDetailsUseCase.execute(topicId);
+
+        assertTrue(details.comments().content().isEmpty());
+        assertNull(details.comments().nextCursor());
+        verifyNoInteractions(listTopicCommentsUseCase);
+    }
+
+    @Test
+    void execute_ShouldAddTheHighsNotFlushedYet() {
+        when(topicRepository.findResponseById(topicId)).thenReturn(Optional.of(topic(0L)));
+        when(highsCounterBuffer.pending(HighsTarget.TOPIC, topicId)).thenReturn(4L);
+
+        assertEquals(4L, getTopicDetailsUseCase.execute(topicId).highs());
+    }
+
+    @Test
+    void execute_ShouldThrowResourceNotFoundException_WhenTheTopicDoesNotExist() {
+        when(topicRepository.findResponseById(topicId)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> getTopicDetailsUseCase.execute(topicId));
+        verify(listTopicCommentsUseCase, never()).execute(any(), any(), anyInt());
+    }
+
+    private TopicResponseDTO topic(Long commentCount) {
+        Instant now = Instant.now();
+        return new TopicResponseDTO(topicId, "Topic", "Content", UUID.randomUUID(), UUID.randomUUID(), "creator",
+                0L, commentCount, now, now);
+    }
+}
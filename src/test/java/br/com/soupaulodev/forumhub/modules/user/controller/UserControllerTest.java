@@ -2,13 +2,13 @@ package br.com.soupaulodev.forumhub.modules.user.controller;
 
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserUpdateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.user.usecase.*;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.ResponseEntity;
@@ -62,7 +62,8 @@ class UserControllerTest {
     @Mock
     private UnHighUserUseCase unHighUserUseCase;
 
-    @InjectMocks
+    private static final int MAX_PAGE_SIZE = 100;
+
     private UserController userController;
 
     private final UUID userId = UUID.randomUUID();
@@ -70,6 +71,13 @@ class UserControllerTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        userController = new UserController(listUsersUseCase,
+                                            getUserDetailsUseCase,
+                                            updateUserUseCase,
+                                            deleteUserUseCase,
+                                            highUserUseCase,
+                                            unHighUserUseCase,
+                                            MAX_PAGE_SIZE);
         SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(userId, null));
     }
 
@@ -84,61 +92,58 @@ class UserControllerTest {
         List<UserResponseDTO> responseDTO = List.of(
                 new UserResponseDTO(userId, "test-name", "test-username", 0L, now, now),
                 new UserResponseDTO(UUID.randomUUID(), "test-name", "test-username",0L, now, now));
-        int page = 0;
         int size = 10;
 
-        when(listUsersUseCase.execute(page, size)).thenReturn(responseDTO);
+        when(listUsersUseCase.execute(null, size)).thenReturn(new CursorPage<>(responseDTO, "next-cursor"));
 
-        ResponseEntity<List<UserResponseDTO>> response = userController.listUsers(page, size);
+        ResponseEntity<CursorPage<UserResponseDTO>> response = userController.listUsers(null, size);
 
         assertEquals(200, response.getStatusCode().value());
-        assertEquals(responseDTO, response.getBody());
-        assertEquals(responseDTO.size(), Objects.requireNonNull(response.getBody()).size());
+        assertEquals(responseDTO, Objects.requireNonNull(response.getBody()).content());
+        assertEquals("next-cursor", response.getBody().nextCursor());
     }
 
     @Test
     void testGetAllUsers_shouldReturnVoidListWhenNoUsersFound() {
         List<UserResponseDTO> responseDTO = List.of();
-        int page = 0;
         int size = 10;
 
-        when(listUsersUseCase.execute(page, size)).thenReturn(responseDTO);
+        when(listUsersUseCase.execute(null, size)).thenReturn(new CursorPage<>(responseDTO, null));
 
-        ResponseEntity<List<UserResponseDTO>> response = userController.listUsers(page, size);
+        ResponseEntity<CursorPage<UserResponseDTO>> response = userController.listUsers(null, size);
 
         assertEquals(200, response.getStatusCode().value());
-        assertEquals(responseDTO, response.getBody());
-        assertEquals(0, Objects.requireNonNull(response.getBody()).size());
+        assertEquals(responseDTO, Objects.requireNonNull(response.getBody()).content());
+        assertEquals(0, response.getBody().content().size());
     }
 
     @Test
-    void testGetUserDetails_shouldReturnVoidListWhenPageIsNegative() {
+    void testGetAllUsers_shouldForwardTheCursorOfThePreviousPage() {
         List<UserResponseDTO> responseDTO = List.of();
-        int page = -1;
+        String cursor = "previous-cursor";
         int size = 10;
 
-        when(listUsersUseCase.execute(page, size)).thenReturn(responseDTO);
+        when(listUsersUseCase.execute(cursor, size)).thenReturn(new CursorPage<>(responseDTO, null));
 
-        ResponseEntity<List<UserResponseDTO>> response = userController.listUsers(page, size);
+        ResponseEntity<CursorPage<UserResponseDTO>> response = userController.listUsers(cursor, size);
 
         assertEquals(200, response.getStatusCode().value());
-        assertEquals(responseDTO, response.getBody());
-        assertEquals(0, response.getBody().size());
+        assertEquals(responseDTO, response.getBody().content());
+        verify(listUsersUseCase).execute(cursor, size);
     }
 
     @Test
     void testGetUserDetails_shouldReturnVoidListWhenSizeIsNegative() {
         List<UserResponseDTO> responseDTO = List.of();
-        int page = 0;
         int size = -1;
 
-        when(listUsersUseCase.execute(page, size)).thenReturn(responseDTO);
+        when(listUsersUseCase.execute(null, size)).thenReturn(new CursorPage<>(responseDTO, null));
 
-        ResponseEntity<List<UserResponseDTO>> response = userController.listUsers(page, size);
+        ResponseEntity<CursorPage<UserResponseDTO>> response = userController.listUsers(null, size);
 
         assertEquals(200, response.getStatusCode().value());
-        assertEquals(responseDTO, response.getBody());
-        assertEquals(0, response.getBody().size());
+        assertEquals(responseDTO, response.getBody().content());
+        assertEquals(0, response.getBody().content().size());
     }
 
     @Test
@@ -359,4 +364,13 @@ class UserControllerTest {
 
         assertThrows(UnauthorizedException.class, () -> userController.unHighUser(UUID.randomUUID().toString()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void listUsers_ShouldReduceTheSizeToTheMaximum() {
+        when(listUsersUseCase.execute(null, MAX_PAGE_SIZE)).thenReturn(new CursorPage<>(List.of(), null));
+
+        userController.listUsers(null, 1000);
+
+        verify(listUsersUseCase).execute(null, MAX_PAGE_SIZE);
+    }
+}
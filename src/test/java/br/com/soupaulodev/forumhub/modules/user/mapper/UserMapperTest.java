@@ -102,7 +102,7 @@ class UserMapperTest {
 
     @Test
     void testToResponseDTO_shouldConvertUserEntityToDetailedUserResponseDTO() {
-        UserDetailsResponseDTO result = UserMapper.toDetailsResponseDTO(userEntity);
+        UserDetailsResponseDTO result = UserMapper.toDetailsResponseDTO(userEntity, detailsResponseDTO.participatesIn());
 
         assertEquals(detailsResponseDTO.id(), result.id());
         assertEquals(detailsResponseDTO.name(), result.name());
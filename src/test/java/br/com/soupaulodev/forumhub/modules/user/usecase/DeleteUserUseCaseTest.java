@@ -4,6 +4,7 @@ import br.com.soupaulodev.forumhub.modules.exception.usecase.ForbiddenException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.security.RefreshTokenService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,9 @@ class DeleteUserUseCaseTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @InjectMocks
     private DeleteUserUseCase deleteUserUseCase;
 
@@ -58,6 +62,7 @@ class DeleteUserUseCaseTest {
         deleteUserUseCase.execute(userId, userId);
 
         verify(userRepository, times(1)).delete(userEntity);
+        verify(refreshTokenService).revokeAll(userId);
     }
 
     @Test
@@ -74,5 +79,6 @@ class DeleteUserUseCaseTest {
         when(userRepository.findById(userId)).thenReturn(Optional.of(userEntity));
 
         assertThrows(ForbiddenException.class, () -> deleteUserUseCase.execute(userId, userId));
+        verifyNoInteractions(refreshTokenService);
     }
 }
\ No newline at end of file
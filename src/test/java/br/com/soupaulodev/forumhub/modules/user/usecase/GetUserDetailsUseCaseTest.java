@@ -1,5 +1,7 @@
 package br.com.soupaulodev.forumhub.modules.user.usecase;
 
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounterBuffer;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.mapper.UserMapper;
@@ -10,6 +12,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -25,6 +28,9 @@ class GetUserDetailsUseCaseTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private HighsCounterBuffer highsCounterBuffer;
+
     @InjectMocks
     private GetUserDetailsUseCase getUserDetailsUseCase;
 
@@ -45,18 +51,27 @@ class GetUserDetailsUseCaseTest {
                 "password");
         UserResponseDTO responseDTO = UserMapper.toResponseDTO(userEntity);
 
-        when(userRepository.findById(userId))
-                .thenReturn(Optional.of(userEntity));
+        when(userRepository.findResponseById(userId))
+                .thenReturn(Optional.of(responseDTO));
 
         UserResponseDTO result = getUserDetailsUseCase.execute(userId);
 
-        verify(userRepository).findById(userId);
+        verify(userRepository).findResponseById(userId);
         assertEquals(responseDTO, result);
     }
 
+    @Test
+    void testExecute_ShouldAddTheHighsNotFlushedYet() {
+        UserResponseDTO user = new UserResponseDTO(userId, "John Doe", "johndoe", 1L, Instant.now(), Instant.now());
+        when(userRepository.findResponseById(userId)).thenReturn(Optional.of(user));
+        when(highsCounterBuffer.pending(HighsTarget.USER, userId)).thenReturn(-1L);
+
+        assertEquals(0L, getUserDetailsUseCase.execute(userId).highs());
+    }
+
     @Test
     void testExecute_ShouldThrowResourceNotFoundException_WhenUserNotFound() {
-        when(userRepository.findById(userId))
+        when(userRepository.findResponseById(userId))
                 .thenReturn(Optional.empty());
 
         try {
@@ -65,6 +80,6 @@ class GetUserDetailsUseCaseTest {
             assertEquals("User with ID " + userId + " not found.", e.getMessage());
         }
 
-        verify(userRepository).findById(userId);
+        verify(userRepository).findResponseById(userId);
     }
 }
\ No newline at end of file
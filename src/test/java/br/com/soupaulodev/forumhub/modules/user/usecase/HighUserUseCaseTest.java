@@ -3,9 +3,8 @@ package br.com.soupaulodev.forumhub.modules.user.usecase;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceAlreadyExistsException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserHighsEntity;
-import br.com.soupaulodev.forumhub.modules.user.repository.UserHighsRepository;
+import br.com.soupaulodev.forumhub.modules.highs.HighsStore;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,7 +14,6 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -28,10 +26,10 @@ import static org.mockito.Mockito.*;
 class HighUserUseCaseTest {
 
     @Mock
-    private UserHighsRepository userHighsRepository;
+    private UserRepository userRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private HighsStore highsStore;
 
     @InjectMocks
     private HighUserUseCase highUserUseCase;
@@ -52,34 +50,27 @@ class HighUserUseCaseTest {
 
     @Test
     void testExecute_shouldHighUserSuccessfully() {
-        when(userHighsRepository.findByHighedUser_IdAndHighingUser_Id(highedUser, authenticatedUserId))
-                .thenReturn(Optional.empty());
-        when(userRepository.findById(highedUser)).thenReturn(Optional.of(new UserEntity()));
-        when(userRepository.findById(authenticatedUserId)).thenReturn(Optional.of(new UserEntity()));
-        when(userHighsRepository.save(new UserHighsEntity(new UserEntity(), new UserEntity()))).thenReturn(new UserHighsEntity());
+        when(userRepository.existsById(highedUser)).thenReturn(true);
+        when(highsStore.high(HighsTarget.USER, highedUser, authenticatedUserId)).thenReturn(true);
 
         highUserUseCase.execute(highedUser, authenticatedUserId);
 
-        verify(userHighsRepository, times(1)).findByHighedUser_IdAndHighingUser_Id(highedUser, authenticatedUserId);
+        verify(highsStore, times(1)).high(HighsTarget.USER, highedUser, authenticatedUserId);
     }
 
     @Test
     void testExecute_shouldThrowIllegalArgumentException_whenHighedUserIsEqualToAuthenticatedUserId() {
-        when(userHighsRepository.findByHighedUser_IdAndHighingUser_Id(highedUser, authenticatedUserId))
-                .thenReturn(Optional.empty());
-        when(userRepository.findById(highedUser)).thenReturn(Optional.of(new UserEntity()));
-        when(userRepository.findById(authenticatedUserId)).thenReturn(Optional.of(new UserEntity()));
-
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> highUserUseCase.execute(authenticatedUserId, authenticatedUserId));
 
         assertEquals("User cannot high himself", exception.getMessage());
+        verifyNoInteractions(userRepository, highsStore);
     }
 
     @Test
     void testExecute_shouldThrowIllegalArgumentException_whenUserAlreadyHighed() {
-        when(userHighsRepository.findByHighedUser_IdAndHighingUser_Id(highedUser, authenticatedUserId))
-                .thenReturn(Optional.of(new UserHighsEntity()));
+        when(userRepository.existsById(highedUser)).thenReturn(true);
+        when(highsStore.high(HighsTarget.USER, highedUser, authenticatedUserId)).thenReturn(false);
 
         ResourceAlreadyExistsException exception = assertThrows(ResourceAlreadyExistsException.class,
                 () -> highUserUseCase.execute(highedUser, authenticatedUserId));
@@ -89,27 +80,13 @@ class HighUserUseCaseTest {
 
     @Test
     void testExecute_shouldThrowIllegalArgumentException_whenHighedUserNotFound() {
-        when(userHighsRepository.findByHighedUser_IdAndHighingUser_Id(highedUser, authenticatedUserId))
-                .thenReturn(Optional.empty());
-        when(userRepository.findById(highedUser)).thenReturn(Optional.empty());
-
-        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
-                () -> highUserUseCase.execute(highedUser, authenticatedUserId));
-
-        assertEquals("User not found", exception.getMessage());
-    }
-
-    @Test
-    void testExecute_shouldThrowU_whenAuthenticatedUserNotFound() {
-        when(userHighsRepository.findByHighedUser_IdAndHighingUser_Id(highedUser, authenticatedUserId))
-                .thenReturn(Optional.empty());
-        when(userRepository.findById(highedUser)).thenReturn(Optional.of(new UserEntity()));
-        when(userRepository.findById(authenticatedUserId)).thenReturn(Optional.empty());
+        when(userRepository.existsById(highedUser)).thenReturn(false);
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
                 () -> highUserUseCase.execute(highedUser, authenticatedUserId));
 
         assertEquals("User not found", exception.getMessage());
+        verifyNoInteractions(highsStore);
     }
 
     @Test
@@ -1,5 +1,7 @@
 package br.com.soupaulodev.forumhub.modules.user.usecase;
 
+import br.com.soupaulodev.forumhub.modules.highs.HighsCounterBuffer;
+import br.com.soupaulodev.forumhub.modules.pagination.CursorPage;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.mapper.UserMapper;
@@ -9,12 +11,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.domain.*;
+import org.springframework.data.domain.Limit;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.when;
 
 /**
@@ -25,6 +27,9 @@ class ListUsersUseCaseTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private HighsCounterBuffer highsCounterBuffer;
+
     @InjectMocks
     private ListUsersUseCase listUsersUseCase;
 
@@ -41,59 +46,48 @@ class ListUsersUseCaseTest {
                 "johndoe@mail.com",
                 "password");
 
-        Page<UserEntity> userEntities = new PageImpl<>(List.of(userEntity, userEntity, userEntity));
+        UserResponseDTO user = UserMapper.toResponseDTO(userEntity);
+        List<UserResponseDTO> usersDTOs = List.of(user, user, user);
 
-        List<UserResponseDTO> usersDTOs = new ArrayList<>();
-        for(int i = 0; i < 3; i++) {
-            usersDTOs.add(UserMapper.toResponseDTO(userEntities.getContent().get(i)));
-        }
-
-        int pageNumber = 0;
         int pageSize = 3;
-        Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        when(userRepository.findAll(pageable)).thenReturn(userEntities);
+        when(userRepository.findFirstPage(Limit.of(pageSize + 1))).thenReturn(usersDTOs);
 
-        List<UserResponseDTO> result = listUsersUseCase.execute(pageNumber, pageSize);
+        CursorPage<UserResponseDTO> result = listUsersUseCase.execute(null, pageSize);
 
-        assertEquals(usersDTOs, result);
-        assertEquals(usersDTOs.size(), result.size());
+        assertEquals(usersDTOs, result.content());
+        assertEquals(usersDTOs.size(), result.content().size());
+        assertNull(result.nextCursor());
     }
 
     @Test
     void testExecute_shouldReturnEmptyList() {
-        Page<UserEntity> userEntities = new PageImpl<>(List.of());
-
-        int pageNumber = 0;
         int pageSize = 3;
-        Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        when(userRepository.findAll(pageable)).thenReturn(userEntities);
+        when(userRepository.findFirstPage(Limit.of(pageSize + 1))).thenReturn(List.of());
 
-        List<UserResponseDTO> result = listUsersUseCase.execute(pageNumber, pageSize);
+        CursorPage<UserResponseDTO> result = listUsersUseCase.execute(null, pageSize);
 
-        assertEquals(0, result.size());
+        assertEquals(0, result.content().size());
     }
 
     @Test
-    void testExecute_shouldThrowIllegalArgumentException_whenPageIsNegative() {
-        int pageNumber = -1;
+    void testExecute_shouldThrowIllegalArgumentException_whenCursorIsInvalid() {
         int pageSize = 3;
 
         IllegalArgumentException exception = org.junit.jupiter.api.Assertions.assertThrows(IllegalArgumentException.class,
-                () -> listUsersUseCase.execute(pageNumber, pageSize));
+                () -> listUsersUseCase.execute("invalid", pageSize));
 
-        assertEquals("Page and size must be positive numbers.", exception.getMessage());
+        assertEquals("Invalid cursor", exception.getMessage());
     }
 
     @Test
     void testExecute_shouldThrowIllegalArgumentException_whenSizeIsZero() {
-        int pageNumber = 0;
         int pageSize = 0;
 
         IllegalArgumentException exception = org.junit.jupiter.api.Assertions.assertThrows(IllegalArgumentException.class,
-                () -> listUsersUseCase.execute(pageNumber, pageSize));
+                () -> listUsersUseCase.execute(null, pageSize));
 
-        assertEquals("Page and size must be positive numbers.", exception.getMessage());
+        assertEquals("Size must be a positive number.", exception.getMessage());
     }
 }
\ No newline at end of file
@@ -2,10 +2,8 @@ package br.com.soupaulodev.forumhub.modules.user.usecase;
 
 import br.com.soupaulodev.forumhub.modules.exception.usecase.ResourceNotFoundException;
 import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
-import br.com.soupaulodev.forumhub.modules.user.entity.UserHighsEntity;
-import br.com.soupaulodev.forumhub.modules.user.repository.UserHighsRepository;
-import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.modules.highs.HighsStore;
+import br.com.soupaulodev.forumhub.modules.highs.HighsTarget;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,7 +12,6 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -26,10 +23,7 @@ import static org.mockito.Mockito.*;
 class UnHighUserUseCaseTest {
 
     @Mock
-    private UserHighsRepository userHighsRepository;
-
-    @Mock
-    private UserRepository userRepository;
+    private HighsStore highsStore;
 
     @InjectMocks
     private UnHighUserUseCase unHighUserUseCase;
@@ -50,17 +44,12 @@ class UnHighUserUseCaseTest {
 
     @Test
     void testExecute_shouldUnHighUserSuccessfully() {
-        UserHighsEntity userHighsEntity = mock(UserHighsEntity.class);
-        when(userHighsRepository.findByHighedUser_IdAndHighingUser_Id(unHighedUser, authenticatedUserId))
-                .thenReturn(Optional.of(userHighsEntity));
-        when(userRepository.findById(authenticatedUserId)).thenReturn(Optional.of(new UserEntity()));
+        when(highsStore.unhigh(HighsTarget.USER, unHighedUser, authenticatedUserId)).thenReturn(true);
 
         unHighUserUseCase.execute(unHighedUser, authenticatedUserId);
 
-        verify(userHighsRepository, times(1))
-                .findByHighedUser_IdAndHighingUser_Id(unHighedUser, authenticatedUserId);
-        verify(userHighsRepository, times(1)).delete(userHighsEntity);
-        verifyNoMoreInteractions(userHighsRepository);
+        verify(highsStore, times(1)).unhigh(HighsTarget.USER, unHighedUser, authenticatedUserId);
+        verifyNoMoreInteractions(highsStore);
     }
 
     @Test
@@ -69,7 +58,7 @@ class UnHighUserUseCaseTest {
                         unHighUserUseCase.execute(unHighedUser, null),
                 "User not authenticated");
 
-        verifyNoInteractions(userHighsRepository);
+        verifyNoInteractions(highsStore);
     }
 
     @Test
@@ -78,20 +67,18 @@ class UnHighUserUseCaseTest {
                         unHighUserUseCase.execute(authenticatedUserId, authenticatedUserId),
                 "User cannot unhigh himself");
 
-        verifyNoInteractions(userHighsRepository);
+        verifyNoInteractions(highsStore);
     }
 
     @Test
     void testExecute_shouldThrowExceptionWhenUserNotHighed() {
-        when(userHighsRepository.findByHighedUser_IdAndHighingUser_Id(unHighedUser, authenticatedUserId))
-                .thenReturn(Optional.empty());
+        when(highsStore.unhigh(HighsTarget.USER, unHighedUser, authenticatedUserId)).thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class, () ->
                         unHighUserUseCase.execute(unHighedUser, authenticatedUserId),
                 "User not highed");
 
-        verify(userHighsRepository, times(1))
-                .findByHighedUser_IdAndHighingUser_Id(unHighedUser, authenticatedUserId);
-        verifyNoMoreInteractions(userHighsRepository);
+        verify(highsStore, times(1)).unhigh(HighsTarget.USER, unHighedUser, authenticatedUserId);
+        verifyNoMoreInteractions(highsStore);
     }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserResponseDTO;
 import br.com.soupaulodev.forumhub.modules.user.controller.dto.UserUpdateRequestDTO;
 import br.com.soupaulodev.forumhub.modules.user.entity.UserEntity;
 import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.security.RefreshTokenService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,8 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -37,6 +40,9 @@ class UpdateUserUseCaseTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @InjectMocks
     private UpdateUserUseCase updateUserUseCase;
 
@@ -85,6 +91,20 @@ class UpdateUserUseCaseTest {
                 result.updatedAt());
 
         assertThat(result).isEqualTo(expectedResponse);
+        verify(refreshTokenService).revokeAll(userId);
+    }
+
+    @Test
+    void testExecute_shouldKeepTheRefreshTokens_WhenThePasswordIsNotChanged() {
+        userEntity.setId(userId);
+        UserUpdateRequestDTO requestDTO = new UserUpdateRequestDTO("John Doe Updated", null, null, null);
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(userEntity));
+        when(userRepository.save(userEntity)).thenReturn(userEntity);
+
+        updateUserUseCase.execute(userId, requestDTO, userId);
+
+        verifyNoInteractions(refreshTokenService);
     }
 
     @Test
@@ -0,0 +1,139 @@
+package br.com.soupaulodev.forumhub.security;
+
+import br.com.soupaulodev.forumhub.filters.RedisRateLimiter;
+import br.com.soupaulodev.forumhub.modules.exception.usecase.RateLimitExceededException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link LoginAttemptLimiter} against an embedded Redis server.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class LoginAttemptLimiterTest {
+
+    private static final int PORT = 6391;
+
+    private static RedisServer redisServer;
+
+    private LettuceConnectionFactory connectionFactory;
+    private LoginAttemptLimiter limiter;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = new RedisServer(PORT);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", PORT));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        connectionFactory.getConnection().serverCommands().flushAll();
+
+        StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+        limiter = new LoginAttemptLimiter(new RedisRateLimiter(template), template);
+        ReflectionTestUtils.setField(limiter, "ipLimit", 5);
+        ReflectionTestUtils.setField(limiter, "freeAttempts", 2);
+        ReflectionTestUtils.setField(limiter, "baseBackoff", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(limiter, "maxBackoff", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(limiter, "failureWindow", Duration.ofMinutes(15));
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void checkAllowed_ShouldLimitAttemptsPerIp() {
+        for (int i = 0; i < 5; i++) {
+            limiter.checkAllowed("10.0.0.1", "user" + i);
+        }
+
+        assertThrows(RateLimitExceededException.class, () -> limiter.checkAllowed("10.0.0.1", "another"));
+        assertDoesNotThrow(() -> limiter.checkAllowed("10.0.0.2", "another"));
+    }
+
+    @Test
+    void recordFailure_ShouldBlockUsernameAfterFreeAttemptsFromAnyIp() {
+        limiter.recordFailure("10.0.0.1", "victim");
+        limiter.recordFailure("10.0.0.2", "victim");
+        assertDoesNotThrow(() -> limiter.checkAllowed("10.0.0.3", "victim"));
+
+        limiter.recordFailure("10.0.0.3", "Victim");
+
+        RateLimitExceededException exception =
+                assertThrows(RateLimitExceededException.class, () -> limiter.checkAllowed("10.0.0.4", "victim"));
+        assertTrue(exception.getRetryAfterSeconds() > 0 && exception.getRetryAfterSeconds() <= 10);
+    }
+
+    @Test
+    void recordFailure_ShouldBlockIpAfterFreeAttemptsOnAnyUsername() {
+        limiter.recordFailure("10.0.0.1", "user1");
+        limiter.recordFailure("10.0.0.1", "user2");
+        limiter.recordFailure("10.0.0.1", "user3");
+
+        assertThrows(RateLimitExceededException.class, () -> limiter.checkAllowed("10.0.0.1", "user4"));
+    }
+
+    @Test
+    void recordSuccess_ShouldClearUsernameBackoff() {
+        for (int i = 1; i <= 3; i++) {
+            limiter.recordFailure("10.0.0." + i, "user");
+        }
+
+        limiter.recordSuccess("user");
+
+        assertDoesNotThrow(() -> limiter.checkAllowed("10.0.0.9", "user"));
+    }
+
+    @Test
+    void recordSignupFailure_ShouldNotDelayTheLoginsOfTheUsername() {
+        for (int i = 1; i <= 3; i++) {
+            limiter.recordSignupFailure("10.0.0." + i, "taken");
+        }
+
+        RateLimitExceededException exception =
+                assertThrows(RateLimitExceededException.class, () -> limiter.checkSignupAllowed("10.0.0.9", "taken"));
+        assertEquals("Too many signup attempts. Try again later.", exception.getMessage());
+        assertDoesNotThrow(() -> limiter.checkAllowed("10.0.0.9", "taken"));
+    }
+
+    @Test
+    void checkSignupAllowed_ShouldNotUseTheLoginBucketOfTheIp() {
+        for (int i = 0; i < 5; i++) {
+            limiter.checkAllowed("10.0.0.1", "user" + i);
+        }
+
+        assertDoesNotThrow(() -> limiter.checkSignupAllowed("10.0.0.1", "newcomer"));
+    }
+
+    @Test
+    void backoff_ShouldGrowExponentiallyUpToMaximum() {
+        assertEquals(Duration.ofSeconds(10), limiter.backoff(1));
+        assertEquals(Duration.ofSeconds(20), limiter.backoff(2));
+        assertEquals(Duration.ofSeconds(40), limiter.backoff(3));
+        assertEquals(Duration.ofMinutes(1), limiter.backoff(4));
+        assertEquals(Duration.ofMinutes(1), limiter.backoff(100));
+    }
+}
@@ -0,0 +1,170 @@
+package br.com.soupaulodev.forumhub.security;
+
+import br.com.soupaulodev.forumhub.modules.exception.usecase.UnauthorizedException;
+import br.com.soupaulodev.forumhub.modules.user.repository.UserRepository;
+import br.com.soupaulodev.forumhub.security.utils.JwtClaims;
+import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the {@link RefreshTokenService} against an embedded Redis server.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class RefreshTokenServiceTest {
+
+    private static final int PORT = 6392;
+    private static final UUID USER = UUID.randomUUID();
+    private static final String USER_ID = USER.toString();
+
+    private static RedisServer redisServer;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private UserRepository userRepository;
+    private JwtUtil jwtUtil;
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = new RedisServer(PORT);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", PORT));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        connectionFactory.getConnection().serverCommands().flushAll();
+
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "issuer", "test-issuer");
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", "test-secret-key");
+        ReflectionTestUtils.setField(jwtUtil, "expirationDate", 900);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", Duration.ofDays(30));
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        userRepository = mock(UserRepository.class);
+        when(userRepository.existsById(any())).thenReturn(true);
+
+        refreshTokenService = new RefreshTokenService(jwtUtil, redisTemplate, userRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void rotate_ShouldIssueNewAccessAndRefreshTokens() {
+        String refreshToken = refreshTokenService.issue(USER_ID, "testuser");
+
+        RefreshTokenService.TokenPair tokens = refreshTokenService.rotate(refreshToken);
+
+        JwtClaims claims = jwtUtil.verify(tokens.accessToken());
+        assertEquals(USER_ID, claims.userId());
+        assertEquals("testuser", claims.username());
+        assertNotEquals(refreshToken, tokens.refreshToken());
+        assertEquals(
+                jwtUtil.verifyRefreshToken(refreshToken).familyId(),
+                jwtUtil.verifyRefreshToken(tokens.refreshToken()).familyId(),
+                "The new refresh token should belong to the same family");
+    }
+
+    @Test
+    void rotate_ShouldRevokeFamily_WhenRotatedTokenIsReused() {
+        String stolen = refreshTokenService.issue(USER_ID, "testuser");
+        String legitimate = refreshTokenService.rotate(stolen).refreshToken();
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(stolen));
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(legitimate),
+                "Reuse should revoke every token of the family");
+    }
+
+    @Test
+    void rotate_ShouldReject_WhenFamilyIsRevoked() {
+        String refreshToken = refreshTokenService.issue(USER_ID, "testuser");
+
+        refreshTokenService.revoke(refreshToken);
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(refreshToken));
+    }
+
+    @Test
+    void rotate_ShouldReject_AccessTokensAndMissingTokens() {
+        String accessToken = jwtUtil.generateToken(USER_ID, "testuser");
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(accessToken));
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(null));
+    }
+
+    @Test
+    void issue_ShouldStartIndependentFamilies() {
+        String first = refreshTokenService.issue(USER_ID, "testuser");
+        String second = refreshTokenService.issue(USER_ID, "testuser");
+
+        refreshTokenService.revoke(first);
+
+        assertDoesNotThrow(() -> refreshTokenService.rotate(second));
+    }
+
+    @Test
+    void rotate_ShouldReject_WhenTheUserNoLongerExists() {
+        String refreshToken = refreshTokenService.issue(USER_ID, "testuser");
+        when(userRepository.existsById(USER)).thenReturn(false);
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(refreshToken));
+
+        when(userRepository.existsById(USER)).thenReturn(true);
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(refreshToken),
+                "The family of a deleted user should be revoked");
+    }
+
+    @Test
+    void revokeAll_ShouldRevokeEveryFamilyOfTheUserOnly() {
+        String first = refreshTokenService.issue(USER_ID, "testuser");
+        String second = refreshTokenService.rotate(refreshTokenService.issue(USER_ID, "testuser")).refreshToken();
+        String other = refreshTokenService.issue(UUID.randomUUID().toString(), "otheruser");
+
+        refreshTokenService.revokeAll(USER);
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(first));
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(second));
+        assertDoesNotThrow(() -> refreshTokenService.rotate(other));
+        assertEquals(Boolean.FALSE, redisTemplate.hasKey("refresh-token:user:" + USER_ID));
+    }
+
+    @Test
+    void issue_ShouldDropTheExpiredFamiliesFromTheListOfTheUser() {
+        redisTemplate.opsForZSet().add("refresh-token:user:" + USER_ID, "expired", 1);
+
+        refreshTokenService.issue(USER_ID, "testuser");
+
+        assertNull(redisTemplate.opsForZSet().score("refresh-token:user:" + USER_ID, "expired"));
+        assertEquals(1L, redisTemplate.opsForZSet().size("refresh-token:user:" + USER_ID));
+    }
+}
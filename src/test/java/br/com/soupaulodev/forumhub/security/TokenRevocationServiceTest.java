@@ -0,0 +1,175 @@
+package br.com.soupaulodev.forumhub.security;
+
+import br.com.soupaulodev.forumhub.security.utils.JwtClaims;
+import br.com.soupaulodev.forumhub.security.utils.VerifiedTokenCache;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the {@link TokenRevocationService} against an embedded Redis server.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class TokenRevocationServiceTest {
+
+    private static final int PORT = 6393;
+
+    private static RedisServer redisServer;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisMessageListenerContainer listenerContainer;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = new RedisServer(PORT);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", PORT));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        connectionFactory.getConnection().serverCommands().flushAll();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        listenerContainer.destroy();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void isRevoked_ShouldBeFalseForTokensNeverRevoked() {
+        TokenRevocationService service = newService(new VerifiedTokenCache(100));
+
+        assertFalse(service.isRevoked("active-token"));
+    }
+
+    @Test
+    void revoke_ShouldStoreTokenUntilItExpires() {
+        TokenRevocationService service = newService(new VerifiedTokenCache(100));
+
+        service.revoke("stolen-token", claimsExpiringIn(Duration.ofMinutes(10)));
+
+        assertTrue(service.isRevoked("stolen-token"));
+        String key = redisTemplate.keys("revoked-token:*").iterator().next();
+        Long ttl = redisTemplate.getExpire(key);
+        assertNotNull(ttl);
+        assertTrue(ttl > 0 && ttl <= 600, "TTL: " + ttl);
+    }
+
+    @Test
+    void revoke_ShouldNotStoreExpiredTokens() {
+        TokenRevocationService service = newService(new VerifiedTokenCache(100));
+
+        service.revoke("expired-token", claimsExpiringIn(Duration.ofMinutes(-1)));
+
+        assertTrue(redisTemplate.keys("revoked-token:*").isEmpty());
+    }
+
+    @Test
+    void revoke_ShouldReachOtherNodesThroughPubSub() throws InterruptedException {
+        VerifiedTokenCache otherNodeCache = new VerifiedTokenCache(100);
+        JwtClaims claims = claimsExpiringIn(Duration.ofMinutes(10));
+        otherNodeCache.put("stolen-token", claims);
+        TokenRevocationService node = newService(new VerifiedTokenCache(100));
+        TokenRevocationService otherNode = newService(otherNodeCache);
+
+        node.revoke("stolen-token", claims);
+
+        awaitUntil(() -> otherNodeCache.get("stolen-token").isEmpty());
+        assertTrue(otherNode.isRevoked("stolen-token"));
+    }
+
+    @Test
+    void rebuild_ShouldSeedFilterFromRedis() {
+        newService(new VerifiedTokenCache(100)).revoke("stolen-token", claimsExpiringIn(Duration.ofMinutes(10)));
+        TokenRevocationService startingNode = newService(new VerifiedTokenCache(100));
+
+        startingNode.rebuild();
+
+        assertTrue(startingNode.isRevoked("stolen-token"));
+    }
+
+    @Test
+    void rebuild_ShouldDropRevocationsOfExpiredTokens() {
+        TokenRevocationService service = newService(new VerifiedTokenCache(100));
+        service.revoke("stolen-token", claimsExpiringIn(Duration.ofMinutes(10)));
+        redisTemplate.delete(redisTemplate.keys("revoked-token:*"));
+
+        service.rebuild();
+
+        assertFalse(service.isRevoked("stolen-token"));
+    }
+
+    @Test
+    void rebuild_ShouldKeepARevocationMadeWhileItRuns() {
+        StringRedisTemplate rebuildingTemplate = spy(redisTemplate);
+        ValueOperations<String, String> valueOperations = spy(redisTemplate.opsForValue());
+        doReturn(valueOperations).when(rebuildingTemplate).opsForValue();
+        AtomicReference<TokenRevocationService> service = new AtomicReference<>();
+        doAnswer(invocation -> {
+            service.get().rebuild();
+            return invocation.callRealMethod();
+        }).when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        service.set(new TokenRevocationService(
+                rebuildingTemplate, listenerContainer, new VerifiedTokenCache(100), 1_000, 0.001, Clock.systemUTC()));
+
+        service.get().revoke("stolen-token", claimsExpiringIn(Duration.ofMinutes(10)));
+
+        assertTrue(service.get().isRevoked("stolen-token"));
+    }
+
+    private TokenRevocationService newService(VerifiedTokenCache verifiedTokenCache) {
+        return new TokenRevocationService(
+                redisTemplate, listenerContainer, verifiedTokenCache, 1_000, 0.001, Clock.systemUTC());
+    }
+
+    private static JwtClaims claimsExpiringIn(Duration duration) {
+        return new JwtClaims("12345", "testuser", Instant.now().plus(duration));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met in time");
+            }
+            Thread.sleep(20);
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package br.com.soupaulodev.forumhub.security.filters;
 
+import br.com.soupaulodev.forumhub.security.utils.JwtClaims;
+import br.com.soupaulodev.forumhub.security.TokenRevocationService;
+import br.com.soupaulodev.forumhub.security.utils.JwtClaimsResolver;
 import br.com.soupaulodev.forumhub.security.utils.JwtUtil;
+import br.com.soupaulodev.forumhub.security.utils.VerifiedTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -13,9 +17,12 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -35,7 +42,7 @@ class JwtAuthenticationFilterTest {
     void setUp() {
         jwtUtil = mock(JwtUtil.class);
         UserDetailsService userDetailsService = mock(UserDetailsService.class);
-        filter = new JwtAuthenticationFilter(userDetailsService, jwtUtil);
+        filter = new JwtAuthenticationFilter(userDetailsService, new JwtClaimsResolver(jwtUtil, new VerifiedTokenCache(100), mock(TokenRevocationService.class)));
         request = mock(HttpServletRequest.class);
         response = mock(HttpServletResponse.class);
         chain = mock(FilterChain.class);
@@ -46,8 +53,8 @@ class JwtAuthenticationFilterTest {
     void testDoFilterInternal_SuccessfulAuthentication() throws ServletException, IOException {
         Cookie jwtCookie = new Cookie("JWT_TOKEN", "valid-token");
         when(request.getCookies()).thenReturn(new Cookie[]{jwtCookie});
-        when(jwtUtil.extractUserId("valid-token")).thenReturn(UUID.randomUUID().toString());
-        when(jwtUtil.isTokenExpired("valid-token")).thenReturn(false);
+        when(jwtUtil.verify("valid-token"))
+                .thenReturn(new JwtClaims(UUID.randomUUID().toString(), "user", Instant.now().plusSeconds(60)));
 
         filter.doFilterInternal(request, response, chain);
 
@@ -60,7 +67,7 @@ class JwtAuthenticationFilterTest {
     void testDoFilterInternal_ExpiredToken() throws ServletException, IOException {
         Cookie jwtCookie = new Cookie("JWT_TOKEN", "expired-token");
         when(request.getCookies()).thenReturn(new Cookie[]{jwtCookie});
-        when(jwtUtil.extractUsername("expired-token")).thenThrow(new RuntimeException("Token expired"));
+        when(jwtUtil.verify("expired-token")).thenThrow(new RuntimeException("Token expired"));
 
         filter.doFilterInternal(request, response, chain);
 
@@ -82,7 +89,7 @@ class JwtAuthenticationFilterTest {
     void testDoFilterInternal_InvalidToken() throws ServletException, IOException {
         Cookie jwtCookie = new Cookie("JWT_TOKEN", "invalid-token");
         when(request.getCookies()).thenReturn(new Cookie[]{jwtCookie});
-        when(jwtUtil.extractUsername("invalid-token")).thenThrow(new IllegalArgumentException("Invalid token"));
+        when(jwtUtil.verify("invalid-token")).thenThrow(new IllegalArgumentException("Invalid token"));
 
         filter.doFilterInternal(request, response, chain);
 
@@ -94,11 +101,23 @@ class JwtAuthenticationFilterTest {
     void testDoFilterInternal_ExceptionHandling() throws ServletException, IOException {
         Cookie jwtCookie = new Cookie("JWT_TOKEN", "valid-token");
         when(request.getCookies()).thenReturn(new Cookie[]{jwtCookie});
-        when(jwtUtil.extractUsername("valid-token")).thenThrow(new RuntimeException("Unexpected error"));
+        when(jwtUtil.verify("valid-token")).thenThrow(new RuntimeException("Unexpected error"));
 
         filter.doFilterInternal(request, response, chain);
 
         verify(chain).doFilter(request, response);
         assertNull(SecurityContextHolder.getContext().getAuthentication(), "Authentication should not be set when an exception occurs");
     }
+
+    @Test
+    void testDoFilterInternal_ShouldShareVerifiedClaimsThroughRequestAttribute() throws ServletException, IOException {
+        Cookie jwtCookie = new Cookie("JWT_TOKEN", "valid-token");
+        when(request.getCookies()).thenReturn(new Cookie[]{jwtCookie});
+        when(jwtUtil.verify("valid-token"))
+                .thenReturn(new JwtClaims(UUID.randomUUID().toString(), "user", Instant.now().plusSeconds(60)));
+
+        filter.doFilterInternal(request, response, chain);
+
+        verify(request).setAttribute(eq(JwtClaimsResolver.CLAIMS_ATTRIBUTE), any());
+    }
 }
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -20,7 +21,7 @@ class CookieUtilTest {
     @BeforeEach
     void setUp() {
         userDetailsService = Mockito.mock(CustomUserDetailsService.class);
-        cookieUtil = new CookieUtil(userDetailsService);
+        cookieUtil = new CookieUtil(userDetailsService, 900);
     }
 
     @Test
@@ -40,7 +41,7 @@ class CookieUtilTest {
         assertEquals(fakeJwtToken, cookie.getValue(), "Cookie value should match the generated JWT token");
         assertTrue(cookie.isHttpOnly(), "Cookie should be HTTP-only");
         assertTrue(cookie.getSecure(), "Cookie should be secure");
-        assertEquals(60 * 60 * 24 * 7, cookie.getMaxAge(), "Cookie max age should be 7 days in seconds");
+        assertEquals(900, cookie.getMaxAge(), "Cookie max age should match the JWT expiration");
         assertEquals("/", cookie.getPath(), "Cookie path should be set to root");
 
         verify(userDetailsService, times(1)).generateToken(user);
@@ -68,9 +69,21 @@ class CookieUtilTest {
         assertEquals("", cookie.getValue(), "Cookie value should be empty");
         assertTrue(cookie.isHttpOnly(), "Cookie should be HTTP-only");
         assertTrue(cookie.getSecure(), "Cookie should be secure");
-        assertEquals(60 * 60 * 24 * 7, cookie.getMaxAge(), "Cookie max age should be 7 days in seconds");
+        assertEquals(900, cookie.getMaxAge(), "Cookie max age should match the JWT expiration");
         assertEquals("/", cookie.getPath(), "Cookie path should be set to root");
 
         verify(userDetailsService, times(1)).generateToken(user);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGenerateRefreshCookie_Success() {
+        Cookie cookie = cookieUtil.generateRefreshCookie("refresh-token", Duration.ofDays(30));
+
+        assertEquals("REFRESH_TOKEN", cookie.getName(), "Cookie name should be REFRESH_TOKEN");
+        assertEquals("refresh-token", cookie.getValue(), "Cookie value should match the refresh token");
+        assertTrue(cookie.isHttpOnly(), "Cookie should be HTTP-only");
+        assertTrue(cookie.getSecure(), "Cookie should be secure");
+        assertEquals(60 * 60 * 24 * 30, cookie.getMaxAge(), "Cookie max age should match the refresh expiration");
+        assertEquals("/api/v1/auth", cookie.getPath(), "Cookie should only be sent to the authentication endpoints");
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.soupaulodev.forumhub.security.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link DigestBloomFilter} class.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class DigestBloomFilterTest {
+
+    @Test
+    void mightContain_ShouldReportEveryAddedDigest() {
+        DigestBloomFilter filter = new DigestBloomFilter(1_000, 0.001);
+        List<String> digests = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            String digest = TokenDigest.of("revoked-" + i);
+            digests.add(digest);
+            filter.put(digest);
+        }
+
+        digests.forEach(digest -> assertTrue(filter.mightContain(digest)));
+    }
+
+    @Test
+    void mightContain_ShouldKeepFalsePositivesNearConfiguredProbability() {
+        DigestBloomFilter filter = new DigestBloomFilter(10_000, 0.001);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(TokenDigest.of("revoked-" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(TokenDigest.of("active-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 300, "False positives: " + falsePositives);
+    }
+
+    @Test
+    void mightContain_ShouldBeFalseForEmptyFilter() {
+        DigestBloomFilter filter = new DigestBloomFilter(100, 0.01);
+
+        assertFalse(filter.mightContain(TokenDigest.of("token")));
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidProbability() {
+        assertThrows(IllegalArgumentException.class, () -> new DigestBloomFilter(100, 1));
+        assertThrows(IllegalArgumentException.class, () -> new DigestBloomFilter(0, 0.01));
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.soupaulodev.forumhub.security.utils;
+
+import br.com.soupaulodev.forumhub.security.TokenRevocationService;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link JwtClaimsResolver} class.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class JwtClaimsResolverTest {
+
+    private JwtUtil jwtUtil;
+    private TokenRevocationService tokenRevocationService;
+    private JwtClaimsResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = mock(JwtUtil.class);
+        tokenRevocationService = mock(TokenRevocationService.class);
+        resolver = new JwtClaimsResolver(jwtUtil, new VerifiedTokenCache(100), tokenRevocationService);
+    }
+
+    @Test
+    void resolve_ShouldVerifyTokenOnlyOncePerRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(CookieUtil.JWT_COOKIE_NAME, "valid-token"));
+        JwtClaims claims = new JwtClaims("12345", "testuser", Instant.now().plusSeconds(60));
+        when(jwtUtil.verify("valid-token")).thenReturn(claims);
+
+        Optional<JwtClaims> first = resolver.resolve(request);
+        Optional<JwtClaims> second = resolver.resolve(request);
+
+        assertEquals(Optional.of(claims), first);
+        assertEquals(first, second);
+        verify(jwtUtil, times(1)).verify("valid-token");
+    }
+
+    @Test
+    void resolve_ShouldCacheInvalidTokenAsEmpty() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(CookieUtil.JWT_COOKIE_NAME, "invalid-token"));
+        when(jwtUtil.verify("invalid-token")).thenThrow(new IllegalArgumentException("Invalid token."));
+
+        assertTrue(resolver.resolve(request).isEmpty());
+        assertTrue(resolver.resolve(request).isEmpty());
+
+        verify(jwtUtil, times(1)).verify("invalid-token");
+    }
+
+    @Test
+    void resolve_ShouldIgnoreOtherCookies() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("Authorization", "valid-token"));
+
+        assertTrue(resolver.resolve(request).isEmpty());
+
+        verifyNoInteractions(jwtUtil);
+    }
+
+    @Test
+    void resolve_ShouldSkipVerificationForTokensVerifiedByEarlierRequests() {
+        JwtClaims claims = new JwtClaims("12345", "testuser", Instant.now().plusSeconds(60));
+        when(jwtUtil.verify("valid-token")).thenReturn(claims);
+
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setCookies(new Cookie(CookieUtil.JWT_COOKIE_NAME, "valid-token"));
+            assertEquals(Optional.of(claims), resolver.resolve(request));
+        }
+
+        verify(jwtUtil, times(1)).verify("valid-token");
+    }
+
+    @Test
+    void resolve_ShouldRejectRevokedTokenEvenWhenCached() {
+        JwtClaims claims = new JwtClaims("12345", "testuser", Instant.now().plusSeconds(60));
+        when(jwtUtil.verify("valid-token")).thenReturn(claims);
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        first.setCookies(new Cookie(CookieUtil.JWT_COOKIE_NAME, "valid-token"));
+        assertEquals(Optional.of(claims), resolver.resolve(first));
+
+        when(tokenRevocationService.isRevoked("valid-token")).thenReturn(true);
+        MockHttpServletRequest second = new MockHttpServletRequest();
+        second.setCookies(new Cookie(CookieUtil.JWT_COOKIE_NAME, "valid-token"));
+
+        assertTrue(resolver.resolve(second).isEmpty());
+    }
+}
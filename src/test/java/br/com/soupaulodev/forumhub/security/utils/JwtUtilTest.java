@@ -9,6 +9,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.UUID;
@@ -35,6 +36,7 @@ class JwtUtilTest {
         ReflectionTestUtils.setField(jwtUtil, "issuer", "test-issuer");
         ReflectionTestUtils.setField(jwtUtil, "secretKey", "test-secret-key");
         ReflectionTestUtils.setField(jwtUtil, "expirationDate", 7);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", Duration.ofDays(30));
     }
 
     @Test
@@ -55,17 +57,49 @@ class JwtUtilTest {
 
     @Test
     void testGenerateRefreshToken_Success() {
-        UserEntity user = new UserEntity();
-        user.setUsername("testuser");
-
-        String refreshToken = jwtUtil.generateRefreshToken(user);
+        String refreshToken = jwtUtil.generateRefreshToken("12345", "testuser", "family-id", "token-id");
 
         assertNotNull(refreshToken, "Refresh token should not be null");
         DecodedJWT decodedJWT = JWT.decode(refreshToken);
         assertEquals("test-issuer", decodedJWT.getIssuer(), "Issuer should match");
-        assertEquals("testuser", decodedJWT.getSubject(), "Subject should match username");
+        assertEquals("12345", decodedJWT.getSubject(), "Subject should match user ID");
+        assertEquals("testuser", decodedJWT.getClaim("username").asString(), "Username should match");
         assertEquals("refresh", decodedJWT.getClaim("type").asString(), "Token type should be refresh");
-        assertTrue(decodedJWT.getExpiresAt().after(new Date()), "Token expiration date should be in the future");
+        assertEquals("family-id", decodedJWT.getClaim("family").asString(), "Family should match");
+        assertEquals("token-id", decodedJWT.getId(), "Token ID should match");
+        assertTrue(decodedJWT.getExpiresAt().after(Date.from(Instant.now().plus(Duration.ofDays(29)))),
+                "Refresh token should live as long as configured");
+    }
+
+    @Test
+    void testVerifyRefreshToken_Success() {
+        String refreshToken = jwtUtil.generateRefreshToken("12345", "testuser", "family-id", "token-id");
+
+        RefreshTokenClaims claims = jwtUtil.verifyRefreshToken(refreshToken);
+
+        assertEquals("12345", claims.userId(), "User ID should match");
+        assertEquals("testuser", claims.username(), "Username should match");
+        assertEquals("family-id", claims.familyId(), "Family should match");
+        assertEquals("token-id", claims.tokenId(), "Token ID should match");
+    }
+
+    @Test
+    void testVerifyRefreshToken_RejectsAccessToken() {
+        UserEntity user = new UserEntity();
+        user.setUsername("testuser");
+
+        String token = jwtUtil.generateToken(user);
+
+        assertThrows(IllegalArgumentException.class, () -> jwtUtil.verifyRefreshToken(token),
+                "Access tokens should not be accepted as refresh tokens");
+    }
+
+    @Test
+    void testVerify_RejectsRefreshToken() {
+        String refreshToken = jwtUtil.generateRefreshToken("12345", "testuser", "family-id", "token-id");
+
+        assertThrows(IllegalArgumentException.class, () -> jwtUtil.verify(refreshToken),
+                "Refresh tokens should not be accepted as access tokens");
     }
 
     @Test
@@ -165,4 +199,21 @@ class JwtUtilTest {
 
         assertEquals("Invalid token.", exception.getMessage(), "Exception message should match");
     }
+
+    @Test
+    void testVerify_ShouldReturnAllClaimsFromSingleVerification() {
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        String token = JWT.create()
+                .withIssuer("test-issuer")
+                .withSubject("12345")
+                .withClaim("username", "testuser")
+                .withExpiresAt(Date.from(expiresAt))
+                .sign(Algorithm.HMAC256("test-secret-key"));
+
+        JwtClaims claims = jwtUtil.verify(token);
+
+        assertEquals("12345", claims.userId(), "User ID should match");
+        assertEquals("testuser", claims.username(), "Username should match");
+        assertEquals(expiresAt.getEpochSecond(), claims.expiresAt().getEpochSecond(), "Expiration should match");
+    }
 }
@@ -0,0 +1,70 @@
+package br.com.soupaulodev.forumhub.security.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link VerifiedTokenCache} class.
+ *
+ * @author <a href="https://soupaulodev.com.br">soupaulodev</a>
+ */
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private AtomicLong ticker;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        ticker = new AtomicLong();
+        cache = new VerifiedTokenCache(100, Clock.fixed(NOW, ZoneOffset.UTC), ticker::get);
+    }
+
+    @Test
+    void get_ShouldReturnCachedClaims() {
+        JwtClaims claims = new JwtClaims("12345", "testuser", NOW.plusSeconds(60));
+
+        cache.put("token", claims);
+
+        assertEquals(claims, cache.get("token").orElseThrow());
+        assertTrue(cache.get("other-token").isEmpty());
+    }
+
+    @Test
+    void get_ShouldExpireEntryAtTokenExpiration() {
+        cache.put("token", new JwtClaims("12345", "testuser", NOW.plusSeconds(60)));
+
+        ticker.addAndGet(Duration.ofSeconds(59).toNanos());
+        assertTrue(cache.get("token").isPresent());
+
+        ticker.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertTrue(cache.get("token").isEmpty());
+    }
+
+    @Test
+    void put_ShouldIgnoreExpiredTokens() {
+        cache.put("token", new JwtClaims("12345", "testuser", NOW.minusSeconds(1)));
+        cache.put("no-exp", new JwtClaims("12345", "testuser", null));
+
+        assertTrue(cache.get("token").isEmpty());
+        assertTrue(cache.get("no-exp").isEmpty());
+    }
+
+    @Test
+    void evict_ShouldRemoveToken() {
+        cache.put("token", new JwtClaims("12345", "testuser", NOW.plusSeconds(60)));
+
+        cache.evict("token");
+
+        assertTrue(cache.get("token").isEmpty());
+    }
+}